@@ -0,0 +1,478 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bellman-Ford algorithm graph. Supports negative edge weights.
+ * Calculates shortest paths in a graph from a starting vertex, or detects a negative cycle
+ * reachable from the starting vertex. Two modes are available:
+ * <ul>
+ * <li>{@link BellmanFord.Mode#QUEUE}: only the vertices whose cost was lowered are scanned
+ * again (known as SPFA). A negative cycle is detected as soon as the shortest paths
+ * tree contains a cycle.</li>
+ * <li>{@link BellmanFord.Mode#PARALLEL}: all the edges are relaxed in rounds. In each round,
+ * the incoming edges of every vertex are relaxed in parallel against the costs of
+ * the previous round.</li>
+ * </ul>
+ * Both modes stop as soon as a relaxation round lowers no cost.
+ * Unreachable vertices have an infinite cost. Costs and paths are not available if
+ * a negative cycle is detected: an {@link IllegalStateException} is thrown instead.
+ *
+ * @since 0.1
+ */
+public final class BellmanFord implements Shortest {
+
+    /**
+     * Calculated shortest paths.
+     */
+    private final Tree tree;
+
+    /**
+     * Indexed graph.
+     */
+    private final Indexed csr;
+
+    /**
+     * Indices of the vertices forming the detected negative cycle, empty if none.
+     */
+    private final int[] loop;
+
+    /**
+     * Constructor. Builds a Bellman-Ford algorithm of a graph in queue mode.
+     * @param graph Graph to analyze
+     * @param start Starting vertex
+     */
+    public BellmanFord(final Graph graph, final Vertex start) {
+        this(graph, start, BellmanFord.Mode.QUEUE);
+    }
+
+    /**
+     * Constructor. Builds a Bellman-Ford algorithm of a graph.
+     * @param graph Graph to analyze
+     * @param start Starting vertex
+     * @param mode Relaxation mode
+     */
+    public BellmanFord(final Graph graph, final Vertex start, final BellmanFord.Mode mode) {
+        this(new Indexed(graph), start, mode);
+    }
+
+    /**
+     * Constructor.
+     * @param graph Indexed graph to analyze
+     * @param start Starting vertex
+     * @param mode Relaxation mode
+     */
+    private BellmanFord(final Indexed graph, final Vertex start, final BellmanFord.Mode mode) {
+        this(graph, mode, BellmanFord.source(graph, start));
+    }
+
+    /**
+     * Constructor. Builds a Bellman-Ford algorithm starting from several vertices at once.
+     * @param graph Indexed graph to analyze
+     * @param mode Relaxation mode
+     * @param sources Starting vertices indices
+     */
+    BellmanFord(final Indexed graph, final BellmanFord.Mode mode, final int... sources) {
+        this(graph, BellmanFord.relax(graph, mode, sources));
+    }
+
+    /**
+     * Constructor.
+     * @param graph Indexed graph
+     * @param labels Relaxed labels
+     */
+    private BellmanFord(final Indexed graph, final BellmanFord.Labels labels) {
+        this.csr = graph;
+        this.tree = new Tree(graph, labels.dist, labels.parent, Double.POSITIVE_INFINITY);
+        this.loop = labels.cycle();
+    }
+
+    @Override
+    public double cost(final Vertex vtx) {
+        this.acyclic();
+        return this.tree.cost(vtx);
+    }
+
+    @Override
+    public List<Vertex> path(final Vertex vtx) {
+        this.acyclic();
+        return this.tree.path(vtx);
+    }
+
+    @Override
+    public Map<Vertex, Double> costs() {
+        this.acyclic();
+        return this.tree.costs();
+    }
+
+    /**
+     * Gives the detected negative cycle.
+     * @return The vertices forming the cycle, in the edges order (the last vertex leads
+     *  to the first one), or an empty list if no negative cycle is reachable
+     */
+    public List<Vertex> cycle() {
+        final List<Vertex> result = new ArrayList<>(this.loop.length);
+        for (final int idx : this.loop) {
+            result.add(this.csr.vertex(idx));
+        }
+        return result;
+    }
+
+    /**
+     * Gives the shortest paths costs by vertex index.
+     * @return Costs array, which must not be modified
+     */
+    double[] distances() {
+        this.acyclic();
+        return this.tree.distances();
+    }
+
+    /**
+     * Ensures that no negative cycle was detected.
+     */
+    private void acyclic() {
+        if (this.loop.length > 0) {
+            throw new IllegalStateException(
+                String.format("Negative cycle detected: %s", this.cycle())
+            );
+        }
+    }
+
+    /**
+     * Gives the index of the starting vertex.
+     * @param graph Indexed graph
+     * @param start Starting vertex
+     * @return Array holding the starting vertex index
+     */
+    private static int[] source(final Indexed graph, final Vertex start) {
+        final int idx = graph.index(start);
+        if (idx < 0) {
+            throw new IllegalArgumentException(
+                String.format("Starting vertex %s must be part of the graph", start)
+            );
+        }
+        return new int[] {idx};
+    }
+
+    /**
+     * Relaxes the graph edges.
+     * @param graph Indexed graph
+     * @param mode Relaxation mode
+     * @param sources Starting vertices indices
+     * @return Relaxed labels
+     */
+    private static BellmanFord.Labels relax(final Indexed graph, final BellmanFord.Mode mode,
+        final int... sources) {
+        final BellmanFord.Labels result = new BellmanFord.Labels(graph);
+        if (mode == BellmanFord.Mode.PARALLEL) {
+            result.rounds(sources);
+        } else {
+            result.queue(sources);
+        }
+        return result;
+    }
+
+    /**
+     * Relaxation mode.
+     * @since 0.1
+     */
+    public enum Mode {
+        /**
+         * Scans again only the vertices whose cost was lowered.
+         */
+        QUEUE,
+
+        /**
+         * Relaxes all the edges in parallel rounds.
+         */
+        PARALLEL
+    }
+
+    /**
+     * Vertices costs and preceding vertices in the shortest paths being relaxed.
+     * @since 0.1
+     */
+    private static final class Labels {
+
+        /**
+         * Indexed graph.
+         */
+        private final Indexed csr;
+
+        /**
+         * Cost by vertex index.
+         */
+        private final double[] dist;
+
+        /**
+         * Preceding vertex index by vertex index.
+         */
+        private final int[] parent;
+
+        /**
+         * Constructor. Builds labels where all vertices are unreachable.
+         * @param graph Indexed graph
+         */
+        Labels(final Indexed graph) {
+            this.csr = graph;
+            this.dist = Labels.infinite(graph.size());
+            this.parent = Labels.orphans(graph.size());
+        }
+
+        /**
+         * Relaxes the edges of the vertices whose cost was lowered, in first in first out
+         * order, until no cost can be lowered or a negative cycle appears. Relaxation
+         * stops as soon as the cycle appears, so that it is kept in the preceding vertices.
+         * @param sources Starting vertices indices
+         */
+        public void queue(final int... sources) {
+            final int size = this.csr.size();
+            final BellmanFord.Fifo fifo = new BellmanFord.Fifo(size);
+            final int[] lowered = new int[size];
+            for (final int src : sources) {
+                this.dist[src] = 0;
+                fifo.push(src);
+            }
+            boolean cyclic = false;
+            while (!fifo.isEmpty() && !cyclic) {
+                final int vtx = fifo.pop();
+                final int last = this.csr.offset(vtx + 1);
+                for (int pos = this.csr.offset(vtx); pos < last && !cyclic; ++pos) {
+                    final int next = this.csr.target(pos);
+                    final double cost = this.dist[vtx] + this.csr.weight(pos);
+                    if (cost < this.dist[next]) {
+                        this.dist[next] = cost;
+                        this.parent[next] = vtx;
+                        ++lowered[next];
+                        fifo.push(next);
+                    }
+                    if (lowered[next] == size) {
+                        lowered[next] = 0;
+                        cyclic = this.cycle().length > 0;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Relaxes all the edges in rounds until no cost can be lowered. Each round relaxes
+         * in parallel the incoming edges of every vertex against the costs of the previous
+         * round. If costs are still lowered after as many rounds as vertices, a negative
+         * cycle exists, and it is located by relaxing in queue mode.
+         * @param sources Starting vertices indices
+         */
+        public void rounds(final int... sources) {
+            final int size = this.csr.size();
+            final Indexed incoming = this.csr.transposed();
+            final double[] costs = Arrays.copyOf(this.dist, size);
+            final int[] parents = Arrays.copyOf(this.parent, size);
+            for (final int src : sources) {
+                this.dist[src] = 0;
+            }
+            final AtomicBoolean changed = new AtomicBoolean(true);
+            for (int round = 1; changed.get(); ++round) {
+                if (round > size) {
+                    Arrays.fill(this.dist, Double.POSITIVE_INFINITY);
+                    Arrays.fill(this.parent, -1);
+                    this.queue(sources);
+                    break;
+                }
+                changed.set(false);
+                new Range(
+                    0, size, vtx -> this.pull(incoming, vtx, costs, parents, changed)
+                ).invoke();
+                System.arraycopy(costs, 0, this.dist, 0, size);
+                System.arraycopy(parents, 0, this.parent, 0, size);
+            }
+        }
+
+        /**
+         * Finds a cycle in the shortest paths tree. Such a cycle is necessarily a negative
+         * cycle.
+         * @return Indices of the vertices forming the cycle in the edges order,
+         *  or an empty array if the shortest paths tree has no cycle
+         */
+        public int[] cycle() {
+            final int[] walk = new int[this.parent.length];
+            int[] result = new int[0];
+            for (int start = 0; start < walk.length && result.length == 0; ++start) {
+                int vtx = start;
+                while (vtx >= 0 && walk[vtx] == 0) {
+                    walk[vtx] = start + 1;
+                    vtx = this.parent[vtx];
+                }
+                if (vtx >= 0 && walk[vtx] == start + 1) {
+                    result = this.loop(vtx);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Relaxes the incoming edges of a vertex against the costs of the previous round.
+         * @param incoming Transposed indexed graph
+         * @param vtx Vertex index
+         * @param costs Costs of the current round
+         * @param parents Preceding vertices of the current round
+         * @param changed Flag set if the vertex cost is lowered
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        private void pull(final Indexed incoming, final int vtx, final double[] costs,
+            final int[] parents, final AtomicBoolean changed) {
+            double best = this.dist[vtx];
+            int from = this.parent[vtx];
+            for (int pos = incoming.offset(vtx); pos < incoming.offset(vtx + 1); ++pos) {
+                final int prev = incoming.target(pos);
+                final double cost = this.dist[prev] + incoming.weight(pos);
+                if (cost < best) {
+                    best = cost;
+                    from = prev;
+                }
+            }
+            costs[vtx] = best;
+            parents[vtx] = from;
+            if (best < this.dist[vtx]) {
+                changed.set(true);
+            }
+        }
+
+        /**
+         * Lists the vertices of a cycle in the shortest paths tree.
+         * @param member Index of a vertex in the cycle
+         * @return Indices of the cycle vertices in the edges order
+         */
+        private int[] loop(final int member) {
+            final List<Integer> result = new ArrayList<>(1);
+            int vtx = member;
+            do {
+                result.add(vtx);
+                vtx = this.parent[vtx];
+            } while (vtx != member);
+            Collections.reverse(result);
+            return result.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        /**
+         * Builds an array of infinite costs.
+         * @param size Vertices count
+         * @return Costs array
+         */
+        private static double[] infinite(final int size) {
+            final double[] result = new double[size];
+            Arrays.fill(result, Double.POSITIVE_INFINITY);
+            return result;
+        }
+
+        /**
+         * Builds an array of absent preceding vertices.
+         * @param size Vertices count
+         * @return Preceding vertices array
+         */
+        private static int[] orphans(final int size) {
+            final int[] result = new int[size];
+            Arrays.fill(result, -1);
+            return result;
+        }
+    }
+
+    /**
+     * First in first out queue of vertices indices, holding each vertex at most once.
+     * @since 0.1
+     */
+    private static final class Fifo {
+
+        /**
+         * Circular array of queued vertices.
+         */
+        private final int[] items;
+
+        /**
+         * Flags of queued vertices.
+         */
+        private final boolean[] queued;
+
+        /**
+         * Position of the queue head.
+         */
+        private int head;
+
+        /**
+         * Count of queued vertices.
+         */
+        private int count;
+
+        /**
+         * Constructor. Builds an empty queue.
+         * @param size Vertices count
+         */
+        Fifo(final int size) {
+            this.items = new int[Math.max(1, size)];
+            this.queued = new boolean[size];
+            this.head = 0;
+            this.count = 0;
+        }
+
+        /**
+         * Appends a vertex at the end of the queue, if it is not already queued.
+         * @param vtx Vertex index
+         */
+        public void push(final int vtx) {
+            if (!this.queued[vtx]) {
+                this.queued[vtx] = true;
+                this.items[(this.head + this.count) % this.items.length] = vtx;
+                ++this.count;
+            }
+        }
+
+        /**
+         * Removes the vertex at the head of the queue.
+         * @return Vertex index
+         */
+        public int pop() {
+            final int result = this.items[this.head];
+            this.head = (this.head + 1) % this.items.length;
+            --this.count;
+            this.queued[result] = false;
+            return result;
+        }
+
+        /**
+         * Checks if the queue is empty.
+         * @return True if no vertex is queued
+         */
+        public boolean isEmpty() {
+            return this.count == 0;
+        }
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Versioned;
+import com.aqueduct.graph.Vertex;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Cache of shortest paths between pairs of vertices, in front of a shortest paths engine.
+ * Cached paths are tagged with the version of the graph they were calculated on: as soon
+ * as the graph is modified, all the cached paths are discarded.
+ * Paths are held compactly as arrays of vertices indices. The cache is bounded by the total
+ * count of held path vertices: the least recently used paths are evicted first. A vertex
+ * is indexed as long as a cached path goes through it, and its index is reused once
+ * the paths going through it are evicted, so that the indexed vertices are bounded too.
+ * Hits and misses are counted. The cache can be used concurrently from several threads,
+ * the engine being called outside of any lock.
+ * @since 0.1
+ */
+public final class Cache {
+
+    /**
+     * Initial capacity of the cached paths map.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Load factor of the cached paths map.
+     */
+    private static final float LOAD = 0.75f;
+
+    /**
+     * Graph on which the paths are calculated.
+     */
+    private final Versioned graph;
+
+    /**
+     * Shortest paths engine, giving the shortest paths from a starting vertex
+     * to an ending vertex.
+     */
+    private final BiFunction<Vertex, Vertex, Shortest> engine;
+
+    /**
+     * Maximal count of held path vertices.
+     */
+    private final long capacity;
+
+    /**
+     * Cached paths by (start, end) pair, in access order.
+     */
+    private final Map<List<Vertex>, Cache.Entry> entries;
+
+    /**
+     * Indices of the vertices of the cached paths.
+     */
+    private final Map<Vertex, Integer> ids;
+
+    /**
+     * Vertices of the cached paths by index, null for free indices.
+     */
+    private final List<Vertex> dictionary;
+
+    /**
+     * Free indices, of vertices no cached path goes through anymore.
+     */
+    private final Deque<Integer> free;
+
+    /**
+     * Count of cached paths vertices having each index.
+     */
+    private int[] uses;
+
+    /**
+     * Graph version of the cached paths.
+     */
+    private long version;
+
+    /**
+     * Count of held path vertices.
+     */
+    private long weight;
+
+    /**
+     * Hits count.
+     */
+    private long hit;
+
+    /**
+     * Misses count.
+     */
+    private long miss;
+
+    /**
+     * Constructor. Calculates paths with {@link Dijkstra} algorithm, stopping
+     * at the ending vertex.
+     * @param graph Graph on which the paths are calculated
+     * @param capacity Maximal count of held path vertices
+     * @throws IllegalArgumentException If the capacity is not positive
+     */
+    public Cache(final Versioned graph, final long capacity) {
+        this(graph, capacity, (start, end) -> new Dijkstra(graph, start, end));
+    }
+
+    /**
+     * Constructor.
+     * @param graph Graph on which the paths are calculated
+     * @param capacity Maximal count of held path vertices
+     * @param engine Shortest paths engine, giving the shortest paths from a starting vertex
+     *  (first argument) to an ending vertex (second argument)
+     * @throws IllegalArgumentException If the capacity is not positive
+     */
+    public Cache(final Versioned graph, final long capacity,
+        final BiFunction<Vertex, Vertex, Shortest> engine) {
+        this.graph = graph;
+        this.capacity = Cache.positive(capacity);
+        this.engine = engine;
+        this.entries = new LinkedHashMap<>(Cache.CAPACITY, Cache.LOAD, true);
+        this.ids = new HashMap<>();
+        this.dictionary = new ArrayList<>(0);
+        this.free = new ArrayDeque<>();
+        this.uses = new int[0];
+        this.version = graph.version();
+    }
+
+    /**
+     * Gives the shortest path between two vertices, calculating it with the engine
+     * if it is not cached for the current graph version.
+     * @param start Starting vertex
+     * @param end Ending vertex
+     * @return Shortest path, with the cost given by the engine
+     */
+    public Route route(final Vertex start, final Vertex end) {
+        final List<Vertex> key = Arrays.asList(start, end);
+        final long current = this.graph.version();
+        Route result = this.cached(key, current);
+        if (result == null) {
+            final Shortest shortest = this.engine.apply(start, end);
+            result = new Route(shortest.path(end), shortest.cost(end));
+            this.store(key, current, result);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the count of routes found in the cache.
+     * @return Hits count
+     */
+    public long hits() {
+        synchronized (this.entries) {
+            return this.hit;
+        }
+    }
+
+    /**
+     * Gives the count of routes that were calculated by the engine.
+     * @return Misses count
+     */
+    public long misses() {
+        synchronized (this.entries) {
+            return this.miss;
+        }
+    }
+
+    /**
+     * Gives the count of cached routes.
+     * @return Cache size
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Looks up a cached route, and counts the hit or the miss.
+     * @param key Starting and ending vertices
+     * @param current Current graph version
+     * @return Cached route, or null if it is not cached
+     */
+    private Route cached(final List<Vertex> key, final long current) {
+        synchronized (this.entries) {
+            this.refresh(current);
+            final Cache.Entry entry = this.entries.get(key);
+            Route result = null;
+            if (entry == null) {
+                this.miss += 1;
+            } else {
+                this.hit += 1;
+                final List<Vertex> vertices = new ArrayList<>(entry.length());
+                for (int pos = 0; pos < entry.length(); ++pos) {
+                    vertices.add(this.dictionary.get(entry.vertex(pos)));
+                }
+                result = new Route(vertices, entry.cost());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Caches a calculated route, unless the graph was modified meanwhile, and evicts
+     * the least recently used routes if the cache gets too big.
+     * @param key Starting and ending vertices
+     * @param calculated Graph version on which the route was calculated
+     * @param route Calculated route
+     */
+    private void store(final List<Vertex> key, final long calculated,
+        final Route route) {
+        synchronized (this.entries) {
+            this.refresh(calculated);
+            if (this.version == calculated && !this.entries.containsKey(key)) {
+                final int[] path = new int[route.vertices().size()];
+                for (int pos = 0; pos < path.length; ++pos) {
+                    path[pos] = this.intern(route.vertices().get(pos));
+                }
+                final Cache.Entry entry = new Cache.Entry(path, route.cost());
+                this.entries.put(key, entry);
+                this.weight += entry.weight();
+                final Iterator<Cache.Entry> eldest = this.entries.values().iterator();
+                while (this.weight > this.capacity && eldest.hasNext()) {
+                    final Cache.Entry evicted = eldest.next();
+                    this.weight -= evicted.weight();
+                    this.release(evicted);
+                    eldest.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards all the cached routes if the graph version changed. Routes calculated on
+     * an older version than the cached ones are never cached.
+     * @param current Graph version
+     */
+    private void refresh(final long current) {
+        if (current > this.version) {
+            this.entries.clear();
+            this.ids.clear();
+            this.dictionary.clear();
+            this.free.clear();
+            this.uses = new int[0];
+            this.weight = 0;
+            this.version = current;
+        }
+    }
+
+    /**
+     * Gives the index of a vertex of a cached path, indexing it if needed, and counts
+     * the use of the index.
+     * @param vtx Vertex
+     * @return Vertex index
+     */
+    private int intern(final Vertex vtx) {
+        Integer result = this.ids.get(vtx);
+        if (result == null) {
+            result = this.free.poll();
+            if (result == null) {
+                result = this.dictionary.size();
+                this.dictionary.add(vtx);
+                if (result == this.uses.length) {
+                    this.uses = Arrays.copyOf(this.uses, Math.max(1, result * 2));
+                }
+            } else {
+                this.dictionary.set(result, vtx);
+            }
+            this.ids.put(vtx, result);
+        }
+        this.uses[result] += 1;
+        return result;
+    }
+
+    /**
+     * Releases the indices of the vertices of an evicted path, freeing the indices
+     * no cached path uses anymore.
+     * @param entry Evicted path
+     */
+    private void release(final Cache.Entry entry) {
+        for (int pos = 0; pos < entry.length(); ++pos) {
+            final int idx = entry.vertex(pos);
+            this.uses[idx] -= 1;
+            if (this.uses[idx] == 0) {
+                this.ids.remove(this.dictionary.get(idx));
+                this.dictionary.set(idx, null);
+                this.free.push(idx);
+            }
+        }
+    }
+
+    /**
+     * Ensures the capacity of the cache is positive.
+     * @param capacity Maximal count of held path vertices
+     * @return The capacity
+     * @throws IllegalArgumentException If the capacity is not positive
+     */
+    private static long positive(final long capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                String.format("Cache capacity %d must be positive", capacity)
+            );
+        }
+        return capacity;
+    }
+
+    /**
+     * Cached route, as an array of vertices indices and a cost.
+     * @since 0.1
+     */
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+    private static final class Entry {
+
+        /**
+         * Vertices indices.
+         */
+        private final int[] path;
+
+        /**
+         * Route cost.
+         */
+        private final double total;
+
+        /**
+         * Constructor.
+         * @param vertices Vertices indices
+         * @param cost Route cost
+         */
+        Entry(final int[] vertices, final double cost) {
+            this.path = vertices;
+            this.total = cost;
+        }
+
+        /**
+         * Gives the count of vertices of the route.
+         * @return Route length
+         */
+        public int length() {
+            return this.path.length;
+        }
+
+        /**
+         * Gives a vertex of the route.
+         * @param pos Position in the route
+         * @return Vertex index
+         */
+        public int vertex(final int pos) {
+            return this.path[pos];
+        }
+
+        /**
+         * Gives the route cost.
+         * @return Cost
+         */
+        public double cost() {
+            return this.total;
+        }
+
+        /**
+         * Gives the weight of the route in the cache, which is its count of vertices
+         * (at least one, so that unreachable routes are also accounted).
+         * @return Weight
+         */
+        public int weight() {
+            return Math.max(1, this.path.length);
+        }
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Delta-stepping single source shortest paths algorithm. Assumes all edge weights are
+ * positive. Vertices are kept in buckets of width delta according to their tentative
+ * distance. Buckets are processed in increasing order: the light edges (cost lower or equal
+ * to delta) of the bucket vertices are relaxed in parallel until the bucket gets empty, then
+ * the heavy edges of all the vertices settled by the bucket are relaxed in parallel.
+ * Tentative distances are held in a primitive array and lowered with atomic compare and set
+ * operations. Relaxations run in the fork/join pool the algorithm is built from, or in the
+ * common pool if it is not built from a fork/join task. If not given, delta is the maximum
+ * edge cost divided by the average vertex degree.
+ * Calculated costs are the same as the ones calculated by {@link Dijkstra}, and are
+ * returned in constant time. Unreachable vertices have a cost of -1.
+ *
+ * @since 0.1
+ */
+public final class DeltaStepping implements Shortest {
+
+    /**
+     * Calculated shortest paths.
+     */
+    private final Tree tree;
+
+    /**
+     * Constructor. Builds a delta-stepping algorithm of a graph with a delta chosen from the
+     * graph edges.
+     * @param graph Graph to analyze
+     * @param start Starting vertex
+     */
+    public DeltaStepping(final Graph graph, final Vertex start) {
+        this(new Indexed(graph), start);
+    }
+
+    /**
+     * Constructor. Builds a delta-stepping algorithm of a graph.
+     * @param graph Graph to analyze
+     * @param start Starting vertex
+     * @param delta Buckets width
+     */
+    public DeltaStepping(final Graph graph, final Vertex start, final double delta) {
+        this(new Indexed(graph), start, delta);
+    }
+
+    /**
+     * Constructor.
+     * @param csr Indexed graph to analyze
+     * @param start Starting vertex
+     */
+    private DeltaStepping(final Indexed csr, final Vertex start) {
+        this(csr, start, DeltaStepping.auto(csr));
+    }
+
+    /**
+     * Constructor.
+     * @param csr Indexed graph to analyze
+     * @param start Starting vertex
+     * @param delta Buckets width
+     */
+    private DeltaStepping(final Indexed csr, final Vertex start, final double delta) {
+        this.tree = DeltaStepping.calculate(csr, start, delta);
+    }
+
+    @Override
+    public double cost(final Vertex vtx) {
+        return this.tree.cost(vtx);
+    }
+
+    @Override
+    public List<Vertex> path(final Vertex vtx) {
+        return this.tree.path(vtx);
+    }
+
+    @Override
+    public Map<Vertex, Double> costs() {
+        return this.tree.costs();
+    }
+
+    /**
+     * Calculates the shortest paths tree.
+     * @param csr Indexed graph to analyze
+     * @param start Starting vertex
+     * @param delta Buckets width
+     * @return Shortest paths tree
+     */
+    private static Tree calculate(final Indexed csr, final Vertex start, final double delta) {
+        final int source = csr.index(start);
+        if (source < 0) {
+            throw new IllegalArgumentException(
+                String.format("Starting vertex %s must be part of the graph", start)
+            );
+        }
+        if (delta <= 0 || Double.isNaN(delta)) {
+            throw new IllegalArgumentException(
+                String.format("Delta must be strictly positive, got %f", delta)
+            );
+        }
+        for (int pos = 0; pos < csr.offset(csr.size()); ++pos) {
+            if (csr.weight(pos) < 0) {
+                throw new IllegalArgumentException(
+                    String.format("Negative edge cost %f is not supported", csr.weight(pos))
+                );
+            }
+        }
+        final double[] dist = new DeltaStepping.Stepping(csr, delta).run(source);
+        return new Tree(csr, dist, DeltaStepping.parents(csr, dist, source), -1);
+    }
+
+    /**
+     * Chooses a delta as the maximum edge cost divided by the average vertex degree.
+     * @param csr Indexed graph
+     * @return Buckets width
+     */
+    private static double auto(final Indexed csr) {
+        final int edges = csr.offset(csr.size());
+        double max = 0;
+        for (int pos = 0; pos < edges; ++pos) {
+            max = Math.max(max, csr.weight(pos));
+        }
+        double result = 1;
+        if (max > 0) {
+            result = max / Math.max(1, (double) edges / Math.max(1, csr.size()));
+        }
+        return result;
+    }
+
+    /**
+     * Builds a shortest paths tree from final distances, by traversing breadth first
+     * the edges whose cost equals the difference of their extremities distances.
+     * @param csr Indexed graph
+     * @param dist Shortest paths costs
+     * @param source Starting vertex index
+     * @return Preceding vertex index by vertex index
+     */
+    private static int[] parents(final Indexed csr, final double[] dist, final int source) {
+        final int[] result = new int[csr.size()];
+        Arrays.fill(result, -1);
+        final boolean[] reached = new boolean[csr.size()];
+        final int[] queue = new int[csr.size()];
+        queue[0] = source;
+        reached[source] = true;
+        int tail = 1;
+        for (int head = 0; head < tail; ++head) {
+            final int vtx = queue[head];
+            for (int pos = csr.offset(vtx); pos < csr.offset(vtx + 1); ++pos) {
+                final int next = csr.target(pos);
+                if (!reached[next]
+                    && Double.compare(dist[vtx] + csr.weight(pos), dist[next]) == 0) {
+                    reached[next] = true;
+                    result[next] = vtx;
+                    queue[tail] = next;
+                    ++tail;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Buckets processing state.
+     * @since 0.1
+     */
+    private static final class Stepping {
+
+        /**
+         * Indexed graph.
+         */
+        private final Indexed csr;
+
+        /**
+         * Buckets width.
+         */
+        private final double delta;
+
+        /**
+         * Tentative distances.
+         */
+        private final Tentative dist;
+
+        /**
+         * Last relaxation phase in which each vertex distance was lowered.
+         */
+        private final AtomicIntegerArray claimed;
+
+        /**
+         * Vertices whose distance was lowered during the current relaxation phase.
+         */
+        private final int[] lowered;
+
+        /**
+         * Count of vertices whose distance was lowered during the current phase.
+         */
+        private final AtomicInteger count;
+
+        /**
+         * Last stamp with which each vertex was collected from a bucket.
+         */
+        private final int[] marks;
+
+        /**
+         * Last stamp with which each vertex was settled by a bucket.
+         */
+        private final int[] settled;
+
+        /**
+         * Non empty buckets by index.
+         */
+        private final NavigableMap<Long, Ints> buckets;
+
+        /**
+         * Current relaxation phase.
+         */
+        private int phase;
+
+        /**
+         * Current collection stamp.
+         */
+        private int stamp;
+
+        /**
+         * Constructor.
+         * @param graph Indexed graph
+         * @param width Buckets width
+         */
+        Stepping(final Indexed graph, final double width) {
+            this.csr = graph;
+            this.delta = width;
+            this.dist = new Tentative(graph.size());
+            this.claimed = new AtomicIntegerArray(graph.size());
+            this.lowered = new int[graph.size()];
+            this.count = new AtomicInteger();
+            this.marks = new int[graph.size()];
+            this.settled = new int[graph.size()];
+            this.buckets = new TreeMap<>();
+            this.phase = 0;
+            this.stamp = 0;
+        }
+
+        /**
+         * Runs the algorithm.
+         * @param source Starting vertex index
+         * @return Shortest paths costs by vertex index
+         */
+        public double[] run(final int source) {
+            this.dist.lower(source, 0);
+            this.bucket(source);
+            while (!this.buckets.isEmpty()) {
+                final long current = this.buckets.firstKey();
+                ++this.stamp;
+                final int round = this.stamp;
+                final Ints heavy = new Ints();
+                while (this.buckets.containsKey(current)) {
+                    final int[] frontier = this.collect(current);
+                    for (final int vtx : frontier) {
+                        if (this.settled[vtx] != round) {
+                            this.settled[vtx] = round;
+                            heavy.add(vtx);
+                        }
+                    }
+                    this.relax(frontier, true);
+                }
+                this.relax(heavy.toArray(), false);
+            }
+            return this.dist.values();
+        }
+
+        /**
+         * Removes a bucket and gives its distinct vertices still belonging to it.
+         * @param current Bucket index
+         * @return Vertices indices
+         */
+        private int[] collect(final long current) {
+            final Ints bucket = this.buckets.remove(current);
+            ++this.stamp;
+            final Ints result = new Ints(bucket.size());
+            for (int pos = 0; pos < bucket.size(); ++pos) {
+                final int vtx = bucket.get(pos);
+                if (this.marks[vtx] != this.stamp && this.index(vtx) == current) {
+                    this.marks[vtx] = this.stamp;
+                    result.add(vtx);
+                }
+            }
+            return result.toArray();
+        }
+
+        /**
+         * Relaxes in parallel the light or heavy edges of the passed vertices, then puts
+         * the vertices whose distance was lowered in their buckets.
+         * @param vertices Vertices indices
+         * @param light True to relax light edges, false to relax heavy ones
+         */
+        private void relax(final int[] vertices, final boolean light) {
+            ++this.phase;
+            this.count.set(0);
+            new Range(0, vertices.length, pos -> this.relax(vertices[pos], light)).invoke();
+            for (int pos = 0; pos < this.count.get(); ++pos) {
+                this.bucket(this.lowered[pos]);
+            }
+        }
+
+        /**
+         * Relaxes the light or heavy edges of a vertex.
+         * @param vtx Vertex index
+         * @param light True to relax light edges, false to relax heavy ones
+         */
+        private void relax(final int vtx, final boolean light) {
+            final double base = this.dist.get(vtx);
+            for (int pos = this.csr.offset(vtx); pos < this.csr.offset(vtx + 1); ++pos) {
+                final double weight = this.csr.weight(pos);
+                final int next = this.csr.target(pos);
+                if (weight <= this.delta == light && this.dist.lower(next, base + weight)
+                    && this.claimed.getAndSet(next, this.phase) != this.phase) {
+                    this.lowered[this.count.getAndIncrement()] = next;
+                }
+            }
+        }
+
+        /**
+         * Puts a vertex in the bucket matching its tentative distance.
+         * @param vtx Vertex index
+         */
+        private void bucket(final int vtx) {
+            this.buckets.computeIfAbsent(this.index(vtx), key -> new Ints()).add(vtx);
+        }
+
+        /**
+         * Gives the index of the bucket matching a vertex tentative distance.
+         * @param vtx Vertex index
+         * @return Bucket index
+         */
+        private long index(final int vtx) {
+            return (long) Math.floor(this.dist.get(vtx) / this.delta);
+        }
+    }
+}
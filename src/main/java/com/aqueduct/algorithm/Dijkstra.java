@@ -26,31 +26,48 @@ package com.aqueduct.algorithm;
 import com.aqueduct.graph.Edge;
 import com.aqueduct.graph.Graph;
 import com.aqueduct.graph.Vertex;
+import com.aqueduct.heap.Node;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 
 /**
  * Dijkstra algorithm graph. Assumes all edge weights are positive.
  * Calculates shortest path in a graph from a starting vertex to optionally an ending vertex.
  * Provides total cost as well as traversed vertices for the shortest path.
+ * Unreachable vertices have a cost of -1. Costs of the settled vertices are held in
+ * a primitive array, so that a cost is given in constant time, and a path in a time
+ * proportional to its length. All the costs are given at once in increasing
+ * cost order.
+ * The search can start from several vertices at once (each starting vertex having
+ * a cost of 0), and can be restricted by {@link Limit}s, so that only the needed region of
+ * the graph is explored. Vertices that are not settled because of the limits are
+ * considered unreachable.
  *
  * @since 0.1
  */
-public final class Dijkstra {
+public final class Dijkstra implements Shortest {
 
     /**
-     * Starting vertex.
+     * Starting vertices.
      */
-    private final Vertex begin;
+    private final Set<Vertex> begin;
 
     /**
-     * Map holding preceding edge in the shortest path to arrive to a vertex.
+     * Explored region of the graph, holding the settled vertices costs and preceding
+     * vertices in primitive arrays.
      */
-    private final Map<Vertex, Edge> precedent;
+    private final Dijkstra.Search explored;
 
     /**
      * Constructor. Builds a Dijkstra algorithm of a graph and stops when
@@ -60,7 +77,7 @@ public final class Dijkstra {
      * @param end Ending vertex
      */
     public Dijkstra(final Graph graph, final Vertex start, final Vertex end) {
-        this(graph, start, Optional.ofNullable(end));
+        this(graph, Collections.singleton(start), Dijkstra.limit(end));
     }
 
     /**
@@ -70,119 +87,291 @@ public final class Dijkstra {
      * @param start Starting vertex
      */
     public Dijkstra(final Graph graph, final Vertex start) {
-        this(graph, start, Optional.empty());
+        this(graph, Collections.singleton(start));
     }
 
     /**
-     * Constructor. Builds a Dijkstra algorithm of a graph and stops when
-     * the passed ending vertex is reached if given.
+     * Constructor. Builds a Dijkstra algorithm of a graph starting from several vertices,
+     * and stops when all reachable vertices are reached. The shortest path to a vertex
+     * starts from the nearest starting vertex.
      * @param graph Graph to analyze
-     * @param start Starting vertex
-     * @param end Optionally an ending vertex
+     * @param starts Starting vertices
      */
-    private Dijkstra(final Graph graph, final Vertex start, final Optional<Vertex> end) {
-        this.begin = start;
-        this.precedent = Dijkstra.calculate(graph, start, end);
+    public Dijkstra(final Graph graph, final Collection<Vertex> starts) {
+        this(graph, starts, new Limit());
     }
 
     /**
-     * Calculates the cost needed for the shortest path, to get from the starting vertex
-     * to the passed vertex.
-     * @param vtx Vertex to get to
-     * @return Total cost of the shortest path
+     * Constructor. Builds a Dijkstra algorithm of a graph starting from several vertices,
+     * and stops when one of the passed limits is reached. The shortest path to a vertex
+     * starts from the nearest starting vertex.
+     * @param graph Graph to analyze
+     * @param starts Starting vertices
+     * @param limit Search limits
      */
+    public Dijkstra(final Graph graph, final Collection<Vertex> starts, final Limit limit) {
+        this.begin = new HashSet<>(starts);
+        this.explored = new Dijkstra.Search(graph, limit).calculate(this.begin);
+    }
+
+    @Override
     public double cost(final Vertex vtx) {
-        double result = 0;
-        if (this.precedent.containsKey(vtx)) {
-            Vertex current = vtx;
-            while (!current.equals(this.begin)) {
-                final Edge edge = this.precedent.get(current);
-                current = edge.start();
-                result += edge.cost();
-            }
-        } else {
-            if (this.begin.equals(vtx)) {
-                result = 0;
-            } else {
-                result = -1;
-            }
+        double result = this.explored.cost(vtx);
+        if (result < 0 && this.begin.contains(vtx)) {
+            result = 0;
         }
         return result;
     }
 
-    /**
-     * Calculates the vertices forming the shortest path from the starting vertex
-     * to the passed vertex.
-     * @param vtx Vertex to get to
-     * @return A list of vertices forming the shortest path
-     */
+    @Override
     public List<Vertex> path(final Vertex vtx) {
-        final List<Vertex> result = new ArrayList<>(this.precedent.size());
-        if (this.begin.equals(vtx)) {
-            result.add(vtx);
-        }
-        if (this.precedent.containsKey(vtx)) {
-            result.add(vtx);
-            Vertex current = vtx;
-            while (!current.equals(this.begin)) {
-                final Edge edge = this.precedent.get(current);
-                result.add(0, edge.start());
-                current = edge.start();
-            }
+        List<Vertex> result = this.explored.path(vtx);
+        if (result.isEmpty() && this.begin.contains(vtx)) {
+            result = Collections.singletonList(vtx);
         }
         return result;
     }
 
+    @Override
+    public Map<Vertex, Double> costs() {
+        return this.explored.costs();
+    }
+
     /**
-     * Calculates the precedence map in which each vertex is associated to the edge leading to it
-     * in the shortest path starting from starting vertex.
-     * @param graph Graph to analyze
-     * @param start Starting vertex
-     * @param end Optionally an ending vertex where to stop
-     * @return A map associating each vertex to the edge leading to it
-     *  in the calculated shortest path.
+     * Builds the limits stopping the search at the passed vertex, if given.
+     * @param end Ending vertex, or null
+     * @return Search limits
      */
-    private static Map<Vertex, Edge> calculate(final Graph graph, final Vertex start,
-        final Optional<Vertex> end) {
-        final Map<Vertex, Edge> result = new HashMap<>();
-        final Map<Vertex, Double> visited = new HashMap<>();
-        visited.put(start, 0d);
-        Optional<Edge> edge = Dijkstra.optimal(graph, visited);
-        while (edge.isPresent()) {
-            final Edge optimal = edge.get();
-            final Vertex added = optimal.end();
-            visited.put(added, optimal.cost() + visited.get(optimal.start()));
-            result.put(added, optimal);
-            if (added.equals(end.orElse(null))) {
-                break;
-            }
-            edge = Dijkstra.optimal(graph, visited);
+    private static Limit limit(final Vertex end) {
+        Limit result = new Limit();
+        if (end != null) {
+            result = result.until(end);
         }
         return result;
     }
 
     /**
-     * Calculates the optimal edge for the current step giving the visited vertices.
-     * @param graph Graph to analyze
-     * @param visited Visited vertices
-     * @return Optimal edge
+     * Search state. Every reached vertex is given a dense index, used to hold its tentative
+     * cost and its preceding vertex in primitive arrays. Vertices are settled in increasing
+     * cost order thanks to a priority queue of tentative costs. A vertex may be queued
+     * several times if its tentative cost is lowered: only its lowest cost entry
+     * is processed.
+     * @since 0.1
      */
-    private static Optional<Edge> optimal(final Graph graph, final Map<Vertex, Double> visited) {
-        Optional<Edge> edge = Optional.empty();
-        Double min = 0d;
-        for (final Map.Entry<Vertex, Double> source : visited.entrySet()) {
-            final Set<Edge> edges = graph.connectedEdges(source.getKey());
-            if (edges == null) {
-                continue;
+    @SuppressWarnings("PMD.TooManyMethods")
+    private static final class Search {
+
+        /**
+         * Initial capacity of the arrays.
+         */
+        private static final int CAPACITY = 16;
+
+        /**
+         * Graph to analyze.
+         */
+        private final Graph graph;
+
+        /**
+         * Search limits.
+         */
+        private final Limit limit;
+
+        /**
+         * Indices of the reached vertices.
+         */
+        private final Map<Vertex, Integer> ids;
+
+        /**
+         * Reached vertices by index.
+         */
+        private final List<Vertex> vertices;
+
+        /**
+         * Indices of the settled vertices, in settling order.
+         */
+        private final Ints order;
+
+        /**
+         * Reached vertices indices queued by tentative cost.
+         */
+        private final Queue<Node<Integer>> queue;
+
+        /**
+         * Tentative cost by vertex index. Final for settled vertices.
+         */
+        private double[] dist;
+
+        /**
+         * Preceding vertex index by vertex index, or -1 for starting vertices.
+         */
+        private int[] parent;
+
+        /**
+         * Settled flag by vertex index.
+         */
+        private boolean[] settled;
+
+        /**
+         * Constructor.
+         * @param grph Graph to analyze
+         * @param limits Search limits
+         */
+        Search(final Graph grph, final Limit limits) {
+            this.graph = grph;
+            this.limit = limits;
+            this.ids = new HashMap<>();
+            this.vertices = new ArrayList<>(Search.CAPACITY);
+            this.order = new Ints();
+            this.queue = new PriorityQueue<>(Comparator.comparingDouble(Node::value));
+            this.dist = new double[Search.CAPACITY];
+            this.parent = new int[Search.CAPACITY];
+            this.settled = new boolean[Search.CAPACITY];
+        }
+
+        /**
+         * Settles the vertices reachable from the starting vertices, in increasing cost
+         * order, until one of the limits is reached.
+         * @param starts Starting vertices
+         * @return This search
+         */
+        public Dijkstra.Search calculate(final Collection<Vertex> starts) {
+            for (final Vertex start : starts) {
+                this.reach(start, 0, -1);
             }
-            for (final Edge edg : edges) {
-                if (!visited.containsKey(edg.end())
-                    && (!edge.isPresent() || edg.cost() + source.getValue() < min)) {
-                    edge = Optional.of(edg);
-                    min = edg.cost() + source.getValue();
+            int remaining = this.limit.targets();
+            while (!this.queue.isEmpty()) {
+                final Node<Integer> node = this.queue.poll();
+                final int vtx = node.element();
+                if (this.settled[vtx] || node.value() > this.dist[vtx]) {
+                    continue;
+                }
+                if (!this.limit.covers(node.value())
+                    || !this.limit.allows(this.order.size())) {
+                    break;
+                }
+                this.settled[vtx] = true;
+                this.order.add(vtx);
+                if (this.limit.target(this.vertices.get(vtx))) {
+                    --remaining;
+                    if (remaining == 0) {
+                        break;
+                    }
                 }
+                this.relax(vtx);
+            }
+            return this;
+        }
+
+        /**
+         * Gives the cost of a settled vertex in constant time.
+         * @param vtx Vertex
+         * @return Shortest path cost, or -1 if the vertex is not settled
+         */
+        public double cost(final Vertex vtx) {
+            final int idx = this.index(vtx);
+            double result = -1;
+            if (idx >= 0) {
+                result = this.dist[idx];
+            }
+            return result;
+        }
+
+        /**
+         * Gives the shortest path to a settled vertex, in a time proportional to
+         * the path length.
+         * @param vtx Vertex
+         * @return Vertices forming the shortest path, or an empty list if the vertex
+         *  is not settled
+         */
+        public List<Vertex> path(final Vertex vtx) {
+            final List<Vertex> result = new ArrayList<>(0);
+            for (int idx = this.index(vtx); idx >= 0; idx = this.parent[idx]) {
+                result.add(this.vertices.get(idx));
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        /**
+         * Gives the costs of all the settled vertices, in settling order.
+         * @return Map associating each settled vertex to its shortest path cost
+         */
+        public Map<Vertex, Double> costs() {
+            final Map<Vertex, Double> result = new LinkedHashMap<>(this.order.size() * 2);
+            for (int pos = 0; pos < this.order.size(); ++pos) {
+                final int idx = this.order.get(pos);
+                result.put(this.vertices.get(idx), this.dist[idx]);
+            }
+            return result;
+        }
+
+        /**
+         * Gives the index of a vertex if it is settled.
+         * @param vtx Vertex
+         * @return Vertex index, or -1 if the vertex is not settled
+         */
+        private int index(final Vertex vtx) {
+            final Integer idx = this.ids.get(vtx);
+            int result = -1;
+            if (idx != null && this.settled[idx]) {
+                result = idx;
+            }
+            return result;
+        }
+
+        /**
+         * Relaxes the outgoing edges of a settled vertex. An edge not starting from
+         * the vertex, as an undirected edge stored under its ending vertex, reaches its
+         * starting vertex, as in an {@link com.aqueduct.graph.Indexed} snapshot.
+         * @param vtx Settled vertex index
+         */
+        private void relax(final int vtx) {
+            final Vertex from = this.vertices.get(vtx);
+            final Set<Edge> edges = this.graph.connectedEdges(from);
+            if (edges != null) {
+                for (final Edge edge : edges) {
+                    Vertex end = edge.end();
+                    if (!edge.start().equals(from)) {
+                        end = edge.start();
+                    }
+                    this.reach(end, this.dist[vtx] + edge.cost(), vtx);
+                }
+            }
+        }
+
+        /**
+         * Reaches a vertex, and queues it if its tentative cost is lowered.
+         * @param vtx Reached vertex
+         * @param cost Cost of the path reaching the vertex
+         * @param from Index of the preceding vertex in the path, or -1
+         */
+        private void reach(final Vertex vtx, final double cost, final int from) {
+            Integer idx = this.ids.get(vtx);
+            if (idx == null) {
+                idx = this.vertices.size();
+                this.grow(idx + 1);
+                this.ids.put(vtx, idx);
+                this.vertices.add(vtx);
+                this.dist[idx] = Double.POSITIVE_INFINITY;
+            }
+            if (!this.settled[idx] && cost < this.dist[idx]) {
+                this.dist[idx] = cost;
+                this.parent[idx] = from;
+                this.queue.add(new Node<>(idx, cost));
+            }
+        }
+
+        /**
+         * Ensures that the arrays can hold the passed count of vertices.
+         * @param count Vertices count
+         */
+        private void grow(final int count) {
+            if (count > this.dist.length) {
+                final int size = Math.max(count, this.dist.length * 2);
+                this.dist = Arrays.copyOf(this.dist, size);
+                this.parent = Arrays.copyOf(this.parent, size);
+                this.settled = Arrays.copyOf(this.settled, size);
             }
         }
-        return edge;
     }
 }
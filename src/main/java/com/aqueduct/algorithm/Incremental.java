@@ -0,0 +1,570 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import com.aqueduct.heap.IntHeap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shortest paths tree from a starting vertex, maintained incrementally while edge costs
+ * change (in the spirit of Ramalingam and Reps algorithm). Assumes all edge weights
+ * are positive.
+ * When an edge cost is lowered, only the vertices whose cost is lowered through the edge
+ * are settled again, starting from the edge end. When the cost of an edge of the tree
+ * is raised, the subtree hanging from the edge is detached, each of its vertices is given
+ * the best cost through its incoming edges from the rest of the tree, and the subtree is
+ * settled again. Raising the cost of an edge out of the tree changes nothing.
+ * The graph is indexed at construction: edge costs must be updated through this object,
+ * and later modifications of the graph itself are not taken into account. When the graph
+ * gives edges from both their extremities (as undirected graphs do), updating an edge
+ * updates it in both directions.
+ * Unreachable vertices have a cost of -1.
+ * @since 0.1
+ */
+public final class Incremental implements Shortest {
+
+    /**
+     * Indexed graph.
+     */
+    private final Indexed csr;
+
+    /**
+     * Maintained shortest paths tree.
+     */
+    private final Incremental.Labels labels;
+
+    /**
+     * Whether the indexed graph holds each edge from both its extremities.
+     */
+    private final boolean twinned;
+
+    /**
+     * Constructor.
+     * @param graph Graph to analyze
+     * @param start Starting vertex
+     * @throws IllegalArgumentException If the starting vertex is not part of the graph, or
+     *  if an edge has a negative cost
+     */
+    public Incremental(final Graph graph, final Vertex start) {
+        this(new Indexed(graph), start, Incremental.undirected(graph));
+    }
+
+    /**
+     * Constructor.
+     * @param graph Indexed graph to analyze
+     * @param start Starting vertex
+     * @param twins Whether the indexed graph holds each edge from both its extremities
+     */
+    private Incremental(final Indexed graph, final Vertex start, final boolean twins) {
+        this.csr = graph;
+        this.twinned = twins;
+        this.labels = new Incremental.Labels(graph, new Incremental.Incoming(graph))
+            .settle(Incremental.index(graph, start));
+    }
+
+    /**
+     * Changes the cost of the edges going from a vertex to another, and repairs
+     * the shortest paths tree. In an undirected graph, the edges going the other way are
+     * the same edges, and are changed too.
+     * @param start Edges starting vertex
+     * @param end Edges ending vertex
+     * @param cost New edges cost
+     * @return Count of vertices whose shortest path was calculated again
+     * @throws IllegalArgumentException If the cost is negative, or if there is no such edge
+     */
+    public int update(final Vertex start, final Vertex end, final double cost) {
+        Incremental.check(cost);
+        final int from = Incremental.index(this.csr, start);
+        final int next = Incremental.index(this.csr, end);
+        int result = this.change(from, next, cost);
+        if (result < 0) {
+            throw new IllegalArgumentException(
+                String.format("There is no edge from %s to %s", start, end)
+            );
+        }
+        if (this.twinned && from != next) {
+            result += Math.max(this.change(next, from, cost), 0);
+        }
+        return result;
+    }
+
+    @Override
+    public double cost(final Vertex vtx) {
+        return this.labels.tree().cost(vtx);
+    }
+
+    @Override
+    public List<Vertex> path(final Vertex vtx) {
+        return this.labels.tree().path(vtx);
+    }
+
+    @Override
+    public Map<Vertex, Double> costs() {
+        return this.labels.tree().costs();
+    }
+
+    /**
+     * Changes the cost of the indexed edges going from a vertex to another.
+     * @param from Starting vertex index
+     * @param next Ending vertex index
+     * @param cost New edges cost
+     * @return Count of vertices whose shortest path was calculated again, or -1 if there
+     *  is no such edge
+     */
+    private int change(final int from, final int next, final double cost) {
+        int result = -1;
+        for (int pos = this.csr.offset(from); pos < this.csr.offset(from + 1); ++pos) {
+            if (this.csr.target(pos) == next) {
+                result = Math.max(result, 0) + this.labels.update(pos, cost);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tells whether a graph gives some edges from their ending vertex, as undirected
+     * graphs do, so that its indexed snapshot holds them from both their extremities.
+     * @param graph Graph
+     * @return True if an edge is given from its ending vertex
+     */
+    private static boolean undirected(final Graph graph) {
+        boolean result = false;
+        for (final Vertex vtx : graph.vertices()) {
+            final Set<Edge> edges = graph.connectedEdges(vtx);
+            if (edges == null) {
+                continue;
+            }
+            for (final Edge edge : edges) {
+                if (!edge.start().equals(vtx)) {
+                    result = true;
+                    break;
+                }
+            }
+            if (result) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks that an edge cost is not negative.
+     * @param cost Edge cost
+     * @throws IllegalArgumentException If the cost is negative
+     */
+    private static void check(final double cost) {
+        if (cost < 0 || Double.isNaN(cost)) {
+            throw new IllegalArgumentException(
+                String.format("Edge cost %s must not be negative", cost)
+            );
+        }
+    }
+
+    /**
+     * Gives the index of a vertex.
+     * @param graph Indexed graph
+     * @param vtx Vertex
+     * @return Vertex index
+     * @throws IllegalArgumentException If the vertex is not part of the graph
+     */
+    private static int index(final Indexed graph, final Vertex vtx) {
+        final int result = graph.index(vtx);
+        if (result < 0) {
+            throw new IllegalArgumentException(
+                String.format("Vertex %s must be part of the graph", vtx)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Incoming edges of each vertex of an indexed graph.
+     * @since 0.1
+     */
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+    private static final class Incoming {
+
+        /**
+         * Starting vertex index by edge index.
+         */
+        private final int[] origins;
+
+        /**
+         * Offsets in the incoming edges array by vertex index.
+         */
+        private final int[] offsets;
+
+        /**
+         * Incoming edges indices, grouped by ending vertex.
+         */
+        private final int[] edges;
+
+        /**
+         * Constructor.
+         * @param graph Indexed graph
+         */
+        Incoming(final Indexed graph) {
+            this(graph, Incoming.count(graph));
+        }
+
+        /**
+         * Constructor.
+         * @param graph Indexed graph
+         * @param offsets Offsets in the incoming edges array by vertex index
+         */
+        private Incoming(final Indexed graph, final int[] offsets) {
+            this.origins = Incoming.sources(graph);
+            this.offsets = offsets;
+            this.edges = Incoming.group(graph, offsets);
+        }
+
+        /**
+         * Gives the starting vertex of an edge.
+         * @param edge Edge index
+         * @return Starting vertex index
+         */
+        public int origin(final int edge) {
+            return this.origins[edge];
+        }
+
+        /**
+         * Gives the position of the first incoming edge of a vertex.
+         * @param vtx Vertex index
+         * @return Position in the incoming edges
+         */
+        public int offset(final int vtx) {
+            return this.offsets[vtx];
+        }
+
+        /**
+         * Gives an incoming edge.
+         * @param pos Position in the incoming edges
+         * @return Edge index
+         */
+        public int edge(final int pos) {
+            return this.edges[pos];
+        }
+
+        /**
+         * Builds the starting vertex index by edge index.
+         * @param graph Indexed graph
+         * @return Starting vertices indices
+         */
+        private static int[] sources(final Indexed graph) {
+            final int[] result = new int[graph.offset(graph.size())];
+            for (int vtx = 0; vtx < graph.size(); ++vtx) {
+                Arrays.fill(result, graph.offset(vtx), graph.offset(vtx + 1), vtx);
+            }
+            return result;
+        }
+
+        /**
+         * Builds the incoming edges offsets, by counting the incoming edges of each vertex.
+         * @param graph Indexed graph
+         * @return Offsets by vertex index
+         */
+        private static int[] count(final Indexed graph) {
+            final int[] result = new int[graph.size() + 1];
+            for (int pos = 0; pos < graph.offset(graph.size()); ++pos) {
+                result[graph.target(pos) + 1] += 1;
+            }
+            for (int vtx = 0; vtx < graph.size(); ++vtx) {
+                result[vtx + 1] += result[vtx];
+            }
+            return result;
+        }
+
+        /**
+         * Builds the incoming edges array.
+         * @param graph Indexed graph
+         * @param offsets Offsets by vertex index
+         * @return Incoming edges indices, grouped by ending vertex
+         */
+        private static int[] group(final Indexed graph, final int... offsets) {
+            final int[] fill = Arrays.copyOf(offsets, graph.size());
+            final int[] result = new int[graph.offset(graph.size())];
+            for (int pos = 0; pos < result.length; ++pos) {
+                final int vtx = graph.target(pos);
+                result[fill[vtx]] = pos;
+                fill[vtx] += 1;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Shortest paths tree labels: costs, preceding vertices and preceding edges,
+     * repaired on edge costs changes.
+     * @since 0.1
+     */
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+    private static final class Labels {
+
+        /**
+         * Indexed graph.
+         */
+        private final Indexed csr;
+
+        /**
+         * Incoming edges.
+         */
+        private final Incremental.Incoming incoming;
+
+        /**
+         * Current cost by edge index.
+         */
+        private final double[] weights;
+
+        /**
+         * Shortest path cost by vertex index.
+         */
+        private final double[] dist;
+
+        /**
+         * Preceding vertex index by vertex index.
+         */
+        private final int[] parent;
+
+        /**
+         * Preceding edge index by vertex index.
+         */
+        private final int[] via;
+
+        /**
+         * Vertices being settled, queued by tentative cost.
+         */
+        private final IntHeap heap;
+
+        /**
+         * Shortest paths tree view over the labels.
+         */
+        private final Tree view;
+
+        /**
+         * Constructor.
+         * @param graph Indexed graph
+         * @param edges Incoming edges of the graph
+         */
+        Labels(final Indexed graph, final Incremental.Incoming edges) {
+            this(graph, edges, Labels.infinite(graph.size()), Labels.absent(graph.size()));
+        }
+
+        /**
+         * Constructor.
+         * @param graph Indexed graph
+         * @param edges Incoming edges of the graph
+         * @param costs Cost by vertex index
+         * @param parents Preceding vertex index by vertex index
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        private Labels(final Indexed graph, final Incremental.Incoming edges,
+            final double[] costs, final int[] parents) {
+            this.csr = graph;
+            this.incoming = edges;
+            this.weights = Labels.copy(graph);
+            this.dist = costs;
+            this.parent = parents;
+            this.via = Labels.absent(graph.size());
+            this.heap = new IntHeap(graph.size());
+            this.view = new Tree(graph, costs, parents, -1);
+        }
+
+        /**
+         * Calculates the shortest paths tree from a starting vertex.
+         * @param start Starting vertex index
+         * @return These labels
+         */
+        public Incremental.Labels settle(final int start) {
+            this.dist[start] = 0;
+            this.heap.insert(start, 0);
+            this.propagate();
+            return this;
+        }
+
+        /**
+         * Gives the shortest paths tree view over the labels.
+         * @return Shortest paths tree
+         */
+        public Tree tree() {
+            return this.view;
+        }
+
+        /**
+         * Changes the cost of an edge, and repairs the shortest paths tree.
+         * @param edge Edge index
+         * @param cost New edge cost
+         * @return Count of vertices whose shortest path was calculated again
+         */
+        public int update(final int edge, final double cost) {
+            final double old = this.weights[edge];
+            this.weights[edge] = cost;
+            int result = 0;
+            if (cost < old) {
+                result = this.lower(edge);
+            } else if (cost > old && this.via[this.csr.target(edge)] == edge) {
+                result = this.raise(this.csr.target(edge));
+            }
+            return result;
+        }
+
+        /**
+         * Repairs the tree after the cost of an edge is lowered.
+         * @param edge Edge index
+         * @return Count of vertices settled again
+         */
+        private int lower(final int edge) {
+            final int from = this.incoming.origin(edge);
+            final int next = this.csr.target(edge);
+            int result = 0;
+            if (this.dist[from] + this.weights[edge] < this.dist[next]) {
+                this.reach(next, this.dist[from] + this.weights[edge], edge);
+                result = this.propagate();
+            }
+            return result;
+        }
+
+        /**
+         * Repairs the tree after the cost of the edge preceding a vertex is raised.
+         * @param root Vertex whose preceding edge cost is raised
+         * @return Count of vertices in the subtree hanging from the vertex
+         */
+        private int raise(final int root) {
+            final Ints subtree = this.subtree(root);
+            for (int idx = 0; idx < subtree.size(); ++idx) {
+                final int vtx = subtree.get(idx);
+                this.dist[vtx] = Double.POSITIVE_INFINITY;
+                this.parent[vtx] = -1;
+                this.via[vtx] = -1;
+            }
+            for (int idx = 0; idx < subtree.size(); ++idx) {
+                final int vtx = subtree.get(idx);
+                for (int pos = this.incoming.offset(vtx); pos < this.incoming.offset(vtx + 1);
+                    ++pos) {
+                    final int edge = this.incoming.edge(pos);
+                    final double cost = this.dist[this.incoming.origin(edge)] + this.weights[edge];
+                    if (cost < this.dist[vtx]) {
+                        this.reach(vtx, cost, edge);
+                    }
+                }
+            }
+            this.propagate();
+            return subtree.size();
+        }
+
+        /**
+         * Collects the vertices of the subtree hanging from a vertex.
+         * @param root Subtree root
+         * @return Subtree vertices indices
+         */
+        private Ints subtree(final int root) {
+            final Ints result = new Ints();
+            result.add(root);
+            for (int idx = 0; idx < result.size(); ++idx) {
+                final int vtx = result.get(idx);
+                for (int pos = this.csr.offset(vtx); pos < this.csr.offset(vtx + 1); ++pos) {
+                    if (this.via[this.csr.target(pos)] == pos) {
+                        result.add(this.csr.target(pos));
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Settles the queued vertices, lowering the costs of their successors.
+         * @return Count of settled vertices
+         */
+        private int propagate() {
+            int result = 0;
+            while (!this.heap.isEmpty()) {
+                final int vtx = this.heap.pop();
+                result += 1;
+                for (int pos = this.csr.offset(vtx); pos < this.csr.offset(vtx + 1); ++pos) {
+                    final double cost = this.dist[vtx] + this.weights[pos];
+                    if (cost < this.dist[this.csr.target(pos)]) {
+                        this.reach(this.csr.target(pos), cost, pos);
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Lowers the cost of a vertex, and queues it.
+         * @param vtx Vertex index
+         * @param cost New cost
+         * @param edge Preceding edge index
+         */
+        private void reach(final int vtx, final double cost, final int edge) {
+            this.dist[vtx] = cost;
+            this.parent[vtx] = this.incoming.origin(edge);
+            this.via[vtx] = edge;
+            this.heap.insert(vtx, cost);
+        }
+
+        /**
+         * Copies the edges costs, checking that they are not negative.
+         * @param graph Indexed graph
+         * @return Cost by edge index
+         * @throws IllegalArgumentException If an edge has a negative cost
+         */
+        private static double[] copy(final Indexed graph) {
+            final double[] result = new double[graph.offset(graph.size())];
+            for (int pos = 0; pos < result.length; ++pos) {
+                result[pos] = graph.weight(pos);
+                Incremental.check(result[pos]);
+            }
+            return result;
+        }
+
+        /**
+         * Builds an array of infinite costs.
+         * @param size Array size
+         * @return Costs array
+         */
+        private static double[] infinite(final int size) {
+            final double[] result = new double[size];
+            Arrays.fill(result, Double.POSITIVE_INFINITY);
+            return result;
+        }
+
+        /**
+         * Builds an array of absent indices.
+         * @param size Array size
+         * @return Indices array filled with -1
+         */
+        private static int[] absent(final int size) {
+            final int[] result = new int[size];
+            Arrays.fill(result, -1);
+            return result;
+        }
+    }
+}
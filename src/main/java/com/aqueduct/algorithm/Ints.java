@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive integers.
+ * @since 0.1
+ */
+final class Ints {
+
+    /**
+     * Default initial capacity.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Internal array.
+     */
+    private int[] values;
+
+    /**
+     * Actual count of integers.
+     */
+    private int count;
+
+    /**
+     * Constructor. Builds an empty list.
+     */
+    Ints() {
+        this(Ints.CAPACITY);
+    }
+
+    /**
+     * Constructor. Builds an empty list with the given initial capacity.
+     * @param capacity Initial capacity
+     */
+    Ints(final int capacity) {
+        this.values = new int[Math.max(1, capacity)];
+        this.count = 0;
+    }
+
+    /**
+     * Appends an integer.
+     * @param value Integer to append
+     */
+    public void add(final int value) {
+        if (this.count == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.count * 2);
+        }
+        this.values[this.count] = value;
+        ++this.count;
+    }
+
+    /**
+     * Gives an integer.
+     * @param pos Integer position
+     * @return The integer
+     */
+    public int get(final int pos) {
+        return this.values[pos];
+    }
+
+    /**
+     * Integers count.
+     * @return The count of integers in the list
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Copies the integers into an array.
+     * @return Integers array
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(this.values, this.count);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Johnson algorithm for all pairs shortest paths. Supports negative edge weights, as long
+ * as the graph has no negative cycle, and is suited for sparse graphs.
+ * A single Bellman-Ford pass, starting from all the vertices at once, calculates a potential
+ * for every vertex. Edges are reweighted with these potentials so that no edge cost is
+ * negative, which allows running Dijkstra algorithm from every vertex. Calculated costs are
+ * corrected back to the original edge costs.
+ * Shortest paths from a vertex are only calculated when requested, so that callers can
+ * process them source by source without holding the costs of all the pairs at once.
+ * Unreachable vertices have an infinite cost.
+ *
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+public final class Johnson {
+
+    /**
+     * Indexed graph with reweighted (non negative) edge costs.
+     */
+    private final Indexed csr;
+
+    /**
+     * Potential by vertex index.
+     */
+    private final double[] potential;
+
+    /**
+     * Constructor. Builds a Johnson algorithm of a graph.
+     * @param graph Graph to analyze
+     * @throws IllegalArgumentException If the graph has a negative cycle
+     */
+    public Johnson(final Graph graph) {
+        this(new Indexed(graph));
+    }
+
+    /**
+     * Constructor.
+     * @param graph Indexed graph to analyze
+     */
+    private Johnson(final Indexed graph) {
+        this(graph, Johnson.potentials(graph));
+    }
+
+    /**
+     * Constructor.
+     * @param graph Indexed graph to analyze
+     * @param potentials Potential by vertex index
+     */
+    private Johnson(final Indexed graph, final double... potentials) {
+        this.csr = graph.reweighted(potentials);
+        this.potential = potentials;
+    }
+
+    /**
+     * Calculates the shortest paths from a vertex.
+     * @param source Starting vertex
+     * @return Shortest paths from the starting vertex
+     */
+    public Shortest from(final Vertex source) {
+        final int idx = this.csr.index(source);
+        if (idx < 0) {
+            throw new IllegalArgumentException(
+                String.format("Starting vertex %s must be part of the graph", source)
+            );
+        }
+        return this.tree(idx);
+    }
+
+    /**
+     * Calculates in parallel the shortest paths from every vertex, and passes them to
+     * an action as soon as they are calculated. Shortest paths are not retained once
+     * the action returns. The action may be called concurrently by several threads.
+     * @param action Action receiving each starting vertex and its shortest paths
+     */
+    public void each(final BiConsumer<Vertex, Shortest> action) {
+        IntStream.range(0, this.csr.size()).parallel().forEach(
+            idx -> action.accept(this.csr.vertex(idx), this.tree(idx))
+        );
+    }
+
+    /**
+     * Calculates the shortest paths from a vertex, with costs corrected back
+     * to the original edge costs.
+     * @param source Starting vertex index
+     * @return Shortest paths tree
+     */
+    private Tree tree(final int source) {
+        final double[] dist = new double[this.csr.size()];
+        final int[] parent = new int[this.csr.size()];
+        new Search(this.csr).run(source, dist, parent);
+        for (int idx = 0; idx < dist.length; ++idx) {
+            dist[idx] += this.potential[idx] - this.potential[source];
+        }
+        return new Tree(this.csr, dist, parent, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Calculates the vertices potentials, as the shortest paths costs from a virtual vertex
+     * linked to every vertex with an edge of cost 0.
+     * @param graph Indexed graph
+     * @return Potential by vertex index
+     */
+    private static double[] potentials(final Indexed graph) {
+        final BellmanFord bellman = new BellmanFord(
+            graph, BellmanFord.Mode.QUEUE, IntStream.range(0, graph.size()).toArray()
+        );
+        if (!bellman.cycle().isEmpty()) {
+            throw new IllegalArgumentException(
+                String.format("Negative cycle detected: %s", bellman.cycle())
+            );
+        }
+        return bellman.distances();
+    }
+}
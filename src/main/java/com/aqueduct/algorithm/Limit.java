@@ -0,0 +1,154 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Vertex;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Limits of a shortest paths search, so that it only explores the region of the graph
+ * that matters. A search stops settling vertices as soon as:
+ * <ul>
+ * <li>the next vertex to settle is farther than the radius,</li>
+ * <li>or the maximum count of settled vertices is reached,</li>
+ * <li>or all the targets are settled, if targets are given.</li>
+ * </ul>
+ * Limits are immutable: each restriction builds new limits. Default limits do not
+ * restrict the search.
+ * @since 0.1
+ */
+public final class Limit {
+
+    /**
+     * Maximum cost of a settled vertex.
+     */
+    private final double radius;
+
+    /**
+     * Maximum count of settled vertices.
+     */
+    private final int count;
+
+    /**
+     * Vertices after which settling the search stops. Empty if none.
+     */
+    private final Set<Vertex> goals;
+
+    /**
+     * Constructor. Builds limits that do not restrict the search.
+     */
+    public Limit() {
+        this(Double.POSITIVE_INFINITY, Integer.MAX_VALUE, Collections.emptySet());
+    }
+
+    /**
+     * Constructor.
+     * @param cost Maximum cost of a settled vertex
+     * @param settled Maximum count of settled vertices
+     * @param targets Vertices after which settling the search stops
+     */
+    private Limit(final double cost, final int settled, final Set<Vertex> targets) {
+        this.radius = cost;
+        this.count = settled;
+        this.goals = targets;
+    }
+
+    /**
+     * Builds limits where vertices farther than the passed cost are not settled.
+     * @param cost Maximum cost of a settled vertex
+     * @return New limits
+     */
+    public Limit within(final double cost) {
+        return new Limit(cost, this.count, this.goals);
+    }
+
+    /**
+     * Builds limits where no more than the passed count of vertices are settled.
+     * Starting vertices are counted as settled vertices.
+     * @param settled Maximum count of settled vertices
+     * @return New limits
+     */
+    public Limit atMost(final int settled) {
+        return new Limit(this.radius, settled, this.goals);
+    }
+
+    /**
+     * Builds limits where the search stops once all the passed vertices are settled.
+     * @param targets Vertices to reach
+     * @return New limits
+     */
+    public Limit until(final Vertex... targets) {
+        return this.until(Arrays.asList(targets));
+    }
+
+    /**
+     * Builds limits where the search stops once all the passed vertices are settled.
+     * @param targets Vertices to reach
+     * @return New limits
+     */
+    public Limit until(final Collection<Vertex> targets) {
+        return new Limit(
+            this.radius, this.count, Collections.unmodifiableSet(new HashSet<>(targets))
+        );
+    }
+
+    /**
+     * Checks if a vertex at the passed cost can be settled.
+     * @param cost Cost of the vertex
+     * @return True if the cost is within the radius
+     */
+    public boolean covers(final double cost) {
+        return cost <= this.radius;
+    }
+
+    /**
+     * Checks if a vertex can be settled after the passed count of settled vertices.
+     * @param settled Count of already settled vertices
+     * @return True if the maximum count of settled vertices is not reached
+     */
+    public boolean allows(final int settled) {
+        return settled < this.count;
+    }
+
+    /**
+     * Checks if a vertex is a target.
+     * @param vtx Vertex
+     * @return True if the vertex is a target
+     */
+    public boolean target(final Vertex vtx) {
+        return this.goals.contains(vtx);
+    }
+
+    /**
+     * Gives the count of targets.
+     * @return Targets count, 0 if the search does not stop on targets
+     */
+    public int targets() {
+        return this.goals.size();
+    }
+}
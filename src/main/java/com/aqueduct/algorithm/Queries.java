@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shortest path queries engine, answering many (source, target) queries on the same graph.
+ * Assumes all edge weights are positive.
+ * The graph is indexed once, and each thread owns a {@link Workspace} of primitive arrays
+ * reused by all its queries, so that a query does not allocate and only touches the
+ * vertices it reaches. Each query stops as soon as its target is settled.
+ * Queries can be run concurrently from several threads. Later modifications of the graph
+ * are not taken into account. Unreachable vertices have a cost of -1.
+ * @since 0.1
+ */
+public final class Queries {
+
+    /**
+     * Indexed graph.
+     */
+    private final Indexed csr;
+
+    /**
+     * Workspace of each querying thread.
+     */
+    private final ThreadLocal<Workspace> local;
+
+    /**
+     * Constructor.
+     * @param graph Graph to query
+     */
+    public Queries(final Graph graph) {
+        this(new Indexed(graph));
+    }
+
+    /**
+     * Constructor. Uses an already indexed graph, such as one loaded at once with
+     * a {@link com.aqueduct.graph.Bulk} builder.
+     * @param graph Indexed graph to query
+     */
+    public Queries(final Indexed graph) {
+        this.csr = graph;
+        this.local = ThreadLocal.withInitial(() -> new Workspace(graph));
+    }
+
+    /**
+     * Calculates the cost of the shortest path between two vertices.
+     * @param source Starting vertex
+     * @param target Ending vertex
+     * @return Shortest path cost, or -1 if the ending vertex is unreachable
+     * @throws IllegalArgumentException If a vertex is not part of the graph
+     */
+    public double cost(final Vertex source, final Vertex target) {
+        final int end = this.index(target);
+        final Workspace work = this.search(source, end);
+        double result = work.cost(end);
+        if (result == Double.POSITIVE_INFINITY) {
+            result = -1;
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the shortest path between two vertices.
+     * @param source Starting vertex
+     * @param target Ending vertex
+     * @return Vertices forming the shortest path, or an empty list if the ending vertex
+     *  is unreachable
+     * @throws IllegalArgumentException If a vertex is not part of the graph
+     */
+    public List<Vertex> path(final Vertex source, final Vertex target) {
+        final int end = this.index(target);
+        final Workspace work = this.search(source, end);
+        final List<Vertex> result = new ArrayList<>(0);
+        if (work.cost(end) != Double.POSITIVE_INFINITY) {
+            for (int vtx = end; vtx >= 0; vtx = work.parent(vtx)) {
+                result.add(this.csr.vertex(vtx));
+            }
+            Collections.reverse(result);
+        }
+        return result;
+    }
+
+    /**
+     * Runs a search in the workspace of the current thread.
+     * @param source Starting vertex
+     * @param end Ending vertex index
+     * @return Workspace holding the search results
+     */
+    private Workspace search(final Vertex source, final int end) {
+        final Workspace work = this.local.get();
+        work.search(this.index(source), end);
+        return work;
+    }
+
+    /**
+     * Gives the index of a vertex.
+     * @param vtx Vertex
+     * @return Vertex index
+     * @throws IllegalArgumentException If the vertex is not part of the graph
+     */
+    private int index(final Vertex vtx) {
+        final int result = this.csr.index(vtx);
+        if (result < 0) {
+            throw new IllegalArgumentException(
+                String.format("Vertex %s must be part of the graph", vtx)
+            );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Fork/join action applying an operation on every integer of a range. The range is split
+ * in halves until it is small enough to be processed sequentially.
+ * @since 0.1
+ */
+final class Range extends RecursiveAction {
+
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Maximum count of integers processed sequentially.
+     */
+    private static final int GRAIN = 512;
+
+    /**
+     * First integer (inclusive).
+     */
+    private final int from;
+
+    /**
+     * Last integer (exclusive).
+     */
+    private final int until;
+
+    /**
+     * Operation to apply.
+     */
+    private final transient IntConsumer operation;
+
+    /**
+     * Constructor.
+     * @param first First integer (inclusive)
+     * @param last Last integer (exclusive)
+     * @param action Operation to apply on each integer
+     */
+    Range(final int first, final int last, final IntConsumer action) {
+        super();
+        this.from = first;
+        this.until = last;
+        this.operation = action;
+    }
+
+    @Override
+    public void compute() {
+        if (this.until - this.from <= Range.GRAIN) {
+            for (int idx = this.from; idx < this.until; ++idx) {
+                this.operation.accept(idx);
+            }
+        } else {
+            final int middle = (this.from + this.until) >>> 1;
+            RecursiveAction.invokeAll(
+                new Range(this.from, middle, this.operation),
+                new Range(middle, this.until, this.operation)
+            );
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Vertex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Path in a graph, with its total cost.
+ * @since 0.1
+ */
+public final class Route {
+
+    /**
+     * Traversed vertices, from the starting vertex to the ending vertex.
+     */
+    private final List<Vertex> traversed;
+
+    /**
+     * Total cost.
+     */
+    private final double total;
+
+    /**
+     * Constructor.
+     * @param vertices Traversed vertices, from the starting vertex to the ending vertex
+     * @param cost Total cost
+     */
+    public Route(final List<Vertex> vertices, final double cost) {
+        this.traversed = Collections.unmodifiableList(new ArrayList<>(vertices));
+        this.total = cost;
+    }
+
+    /**
+     * Gives the traversed vertices.
+     * @return Vertices from the starting vertex to the ending vertex
+     */
+    public List<Vertex> vertices() {
+        return this.traversed;
+    }
+
+    /**
+     * Gives the total cost.
+     * @return Sum of the traversed edges costs
+     */
+    public double cost() {
+        return this.total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s)", this.traversed, this.total);
+    }
+}
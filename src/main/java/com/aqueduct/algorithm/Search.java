@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.heap.IntHeap;
+import java.util.Arrays;
+
+/**
+ * Dijkstra algorithm running on an indexed graph, with a binary heap over primitive arrays.
+ * Assumes all edge weights are positive.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.UseVarargs")
+final class Search {
+
+    /**
+     * Indexed graph.
+     */
+    private final Indexed csr;
+
+    /**
+     * Constructor.
+     * @param graph Indexed graph to search
+     */
+    Search(final Indexed graph) {
+        this.csr = graph;
+    }
+
+    /**
+     * Calculates the shortest paths from a starting vertex.
+     * @param source Starting vertex index
+     * @param dist Array receiving the costs by vertex index (infinite if unreachable)
+     * @param parent Array receiving the preceding vertex index by vertex index
+     *  (-1 for the starting vertex and unreachable vertices)
+     */
+    public void run(final int source, final double[] dist, final int[] parent) {
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(parent, -1);
+        final IntHeap heap = new IntHeap(this.csr.size());
+        final boolean[] settled = new boolean[this.csr.size()];
+        dist[source] = 0;
+        heap.insert(source, 0);
+        while (!heap.isEmpty()) {
+            final int vtx = heap.pop();
+            settled[vtx] = true;
+            for (int pos = this.csr.offset(vtx); pos < this.csr.offset(vtx + 1); ++pos) {
+                final int next = this.csr.target(pos);
+                final double cost = dist[vtx] + this.csr.weight(pos);
+                if (!settled[next] && cost < dist[next]) {
+                    dist[next] = cost;
+                    parent[next] = vtx;
+                    heap.insert(next, cost);
+                }
+            }
+        }
+    }
+}
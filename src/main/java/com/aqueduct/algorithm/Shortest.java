@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Vertex;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shortest paths calculated from a starting vertex.
+ * @since 0.1
+ */
+public interface Shortest {
+
+    /**
+     * Calculates the cost needed for the shortest path, to get from the starting vertex
+     * to the passed vertex.
+     * @param vtx Vertex to get to
+     * @return Total cost of the shortest path. The value returned for an unreachable
+     *  vertex depends on the implementation.
+     */
+    double cost(Vertex vtx);
+
+    /**
+     * Calculates the vertices forming the shortest path from the starting vertex
+     * to the passed vertex.
+     * @param vtx Vertex to get to
+     * @return A list of vertices forming the shortest path, or an empty list if the vertex
+     *  is unreachable
+     */
+    List<Vertex> path(Vertex vtx);
+
+    /**
+     * Gives at once the costs of the shortest paths to all the reachable vertices.
+     * @return Map associating each reachable vertex to its shortest path cost
+     */
+    Map<Vertex, Double> costs();
+
+}
@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tentative distances that can be lowered concurrently. Each distance is held as the bits
+ * of a double in a primitive array, and is updated with atomic compare and set operations.
+ * @since 0.1
+ */
+final class Tentative {
+
+    /**
+     * Distances bits.
+     */
+    private final AtomicLongArray bits;
+
+    /**
+     * Constructor. Builds tentative distances that are all infinite.
+     * @param size Distances count
+     */
+    Tentative(final int size) {
+        this(Tentative.infinite(size));
+    }
+
+    /**
+     * Constructor.
+     * @param values Distances bits
+     */
+    private Tentative(final AtomicLongArray values) {
+        this.bits = values;
+    }
+
+    /**
+     * Gives a distance.
+     * @param idx Vertex index
+     * @return Current distance
+     */
+    public double get(final int idx) {
+        return Double.longBitsToDouble(this.bits.get(idx));
+    }
+
+    /**
+     * Lowers a distance if the passed value is lower than the current distance.
+     * @param idx Vertex index
+     * @param value Candidate distance
+     * @return True if the distance was lowered
+     */
+    public boolean lower(final int idx, final double value) {
+        final long candidate = Double.doubleToLongBits(value);
+        boolean lowered = false;
+        long current = this.bits.get(idx);
+        while (value < Double.longBitsToDouble(current)) {
+            if (this.bits.compareAndSet(idx, current, candidate)) {
+                lowered = true;
+                break;
+            }
+            current = this.bits.get(idx);
+        }
+        return lowered;
+    }
+
+    /**
+     * Copies the distances into a primitive array.
+     * @return Distances
+     */
+    public double[] values() {
+        final double[] result = new double[this.bits.length()];
+        for (int idx = 0; idx < result.length; ++idx) {
+            result[idx] = this.get(idx);
+        }
+        return result;
+    }
+
+    /**
+     * Builds an array of infinite distances bits.
+     * @param size Distances count
+     * @return Distances bits
+     */
+    private static AtomicLongArray infinite(final int size) {
+        final AtomicLongArray result = new AtomicLongArray(size);
+        final long inf = Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+        for (int idx = 0; idx < size; ++idx) {
+            result.set(idx, inf);
+        }
+        return result;
+    }
+}
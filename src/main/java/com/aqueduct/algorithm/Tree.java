@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shortest paths tree held in primitive arrays indexed by an {@link Indexed} snapshot.
+ * Costs are given in constant time, and paths in a time proportional to their length.
+ * @since 0.1
+ */
+@SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.MethodReturnsInternalArray"})
+final class Tree implements Shortest {
+
+    /**
+     * Indexed graph.
+     */
+    private final Indexed csr;
+
+    /**
+     * Shortest path cost by vertex index. Unreachable vertices have an infinite cost.
+     */
+    private final double[] dist;
+
+    /**
+     * Preceding vertex index in the shortest path by vertex index, or -1 for
+     * starting and unreachable vertices.
+     */
+    private final int[] parent;
+
+    /**
+     * Cost returned for unreachable vertices.
+     */
+    private final double absent;
+
+    /**
+     * Constructor.
+     * @param graph Indexed graph
+     * @param costs Shortest path cost by vertex index
+     * @param parents Preceding vertex index by vertex index
+     * @param unreachable Cost returned for unreachable vertices
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Tree(final Indexed graph, final double[] costs, final int[] parents,
+        final double unreachable) {
+        this.csr = graph;
+        this.dist = costs;
+        this.parent = parents;
+        this.absent = unreachable;
+    }
+
+    @Override
+    public double cost(final Vertex vtx) {
+        final int idx = this.csr.index(vtx);
+        double result = this.absent;
+        if (idx >= 0 && this.dist[idx] != Double.POSITIVE_INFINITY) {
+            result = this.dist[idx];
+        }
+        return result;
+    }
+
+    @Override
+    public List<Vertex> path(final Vertex vtx) {
+        final int idx = this.csr.index(vtx);
+        final List<Vertex> result = new ArrayList<>(0);
+        if (idx >= 0 && this.dist[idx] != Double.POSITIVE_INFINITY) {
+            for (int current = idx; current >= 0; current = this.parent[current]) {
+                result.add(this.csr.vertex(current));
+            }
+            Collections.reverse(result);
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Vertex, Double> costs() {
+        final Map<Vertex, Double> result = new LinkedHashMap<>();
+        for (int idx = 0; idx < this.dist.length; ++idx) {
+            if (this.dist[idx] != Double.POSITIVE_INFINITY) {
+                result.put(this.csr.vertex(idx), this.dist[idx]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gives the shortest paths costs by vertex index.
+     * @return Costs array, which must not be modified
+     */
+    double[] distances() {
+        return this.dist;
+    }
+}
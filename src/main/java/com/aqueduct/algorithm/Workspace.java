@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.heap.IntHeap;
+import java.util.Arrays;
+
+/**
+ * Scratch arrays of a Dijkstra search on an indexed graph, meant to be reused across
+ * searches. Costs and preceding vertices are only valid for the vertices stamped with
+ * the current search generation, so that starting a new search does not need to clear
+ * the arrays: only the vertices left in the heap by the previous search are discarded.
+ * Vertices and edges can also be masked for a search, with the same generation stamps,
+ * so that a search can run on a subgraph without copying the graph.
+ * Not thread safe: each thread must use its own workspace.
+ * @since 0.1
+ */
+final class Workspace {
+
+    /**
+     * Indexed graph to search.
+     */
+    private final Indexed csr;
+
+    /**
+     * Tentative cost by vertex index.
+     */
+    private final double[] dist;
+
+    /**
+     * Preceding vertex index by vertex index.
+     */
+    private final int[] previous;
+
+    /**
+     * Generation of the search that last reached a vertex, by vertex index.
+     */
+    private final int[] stamp;
+
+    /**
+     * Generation of the search that masked a vertex, by vertex index.
+     */
+    private final int[] blocked;
+
+    /**
+     * Generation of the search that masked an edge, by edge index.
+     */
+    private final int[] removed;
+
+    /**
+     * Reached vertices queued by tentative cost.
+     */
+    private final IntHeap heap;
+
+    /**
+     * Current search generation.
+     */
+    private int generation;
+
+    /**
+     * Constructor.
+     * @param graph Indexed graph to search
+     */
+    Workspace(final Indexed graph) {
+        this.csr = graph;
+        this.dist = new double[graph.size()];
+        this.previous = new int[graph.size()];
+        this.stamp = new int[graph.size()];
+        this.blocked = new int[graph.size()];
+        this.removed = new int[graph.offset(graph.size())];
+        this.heap = new IntHeap(graph.size());
+        this.generation = 0;
+    }
+
+    /**
+     * Calculates the shortest paths from a starting vertex, until a target vertex is settled.
+     * Assumes all edge weights are positive.
+     * @param source Starting vertex index
+     * @param target Target vertex index, or -1 to settle all the reachable vertices
+     */
+    public void search(final int source, final int target) {
+        this.reset();
+        this.explore(source, target);
+    }
+
+    /**
+     * Starts a new search generation, discarding the previous search results and masks.
+     * Vertices and edges can then be masked before exploring.
+     */
+    public void reset() {
+        this.heap.clear();
+        if (this.generation == Integer.MAX_VALUE) {
+            Arrays.fill(this.stamp, 0);
+            Arrays.fill(this.blocked, 0);
+            Arrays.fill(this.removed, 0);
+            this.generation = 0;
+        }
+        this.generation += 1;
+    }
+
+    /**
+     * Masks a vertex for the current search generation.
+     * @param vtx Vertex index
+     */
+    public void block(final int vtx) {
+        this.blocked[vtx] = this.generation;
+    }
+
+    /**
+     * Masks an edge for the current search generation.
+     * @param edge Edge index
+     */
+    public void cut(final int edge) {
+        this.removed[edge] = this.generation;
+    }
+
+    /**
+     * Calculates the shortest paths from a starting vertex in the current search generation,
+     * ignoring masked vertices and edges, until a target vertex is settled.
+     * Assumes all edge weights are positive.
+     * @param source Starting vertex index
+     * @param target Target vertex index, or -1 to settle all the reachable vertices
+     */
+    public void explore(final int source, final int target) {
+        this.reach(source, 0, -1);
+        while (!this.heap.isEmpty()) {
+            final int vtx = this.heap.pop();
+            if (vtx == target) {
+                break;
+            }
+            for (int pos = this.csr.offset(vtx); pos < this.csr.offset(vtx + 1); ++pos) {
+                final int next = this.csr.target(pos);
+                if (this.removed[pos] != this.generation
+                    && this.blocked[next] != this.generation) {
+                    this.reach(next, this.dist[vtx] + this.csr.weight(pos), vtx);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gives the cost of a vertex calculated by the last search.
+     * @param vtx Vertex index
+     * @return Cost, or infinity if the vertex was not reached
+     */
+    public double cost(final int vtx) {
+        double result = Double.POSITIVE_INFINITY;
+        if (this.stamp[vtx] == this.generation) {
+            result = this.dist[vtx];
+        }
+        return result;
+    }
+
+    /**
+     * Gives the preceding vertex of a vertex calculated by the last search.
+     * @param vtx Vertex index
+     * @return Preceding vertex index, or -1 for the starting vertex and
+     *  the vertices that were not reached
+     */
+    public int parent(final int vtx) {
+        int result = -1;
+        if (this.stamp[vtx] == this.generation) {
+            result = this.previous[vtx];
+        }
+        return result;
+    }
+
+    /**
+     * Reaches a vertex, and queues it if its tentative cost is lowered.
+     * @param vtx Reached vertex index
+     * @param cost Cost of the path reaching the vertex
+     * @param from Preceding vertex index, or -1
+     */
+    private void reach(final int vtx, final double cost, final int from) {
+        if (this.stamp[vtx] != this.generation || cost < this.dist[vtx]) {
+            this.stamp[vtx] = this.generation;
+            this.dist[vtx] = cost;
+            this.previous[vtx] = from;
+            this.heap.insert(vtx, cost);
+        }
+    }
+}
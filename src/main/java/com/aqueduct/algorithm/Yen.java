@@ -0,0 +1,314 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Yen algorithm calculating the k shortest loopless paths between two vertices.
+ * Assumes all edge weights are positive.
+ * Each new path deviates from the previous one at a spur vertex: the shortest spur path
+ * is searched with the vertices of the root path (before the spur vertex) masked, as well
+ * as the edges leaving the spur vertex along the already found paths sharing the same root.
+ * Masks are applied on reusable {@link Workspace}s instead of copying the graph, and
+ * the spur searches of a path being independent, they run in parallel (in the caller
+ * fork/join pool, or the common pool).
+ * The graph is indexed at construction: later modifications are not taken into account.
+ * @since 0.1
+ */
+public final class Yen {
+
+    /**
+     * Indexed graph.
+     */
+    private final Indexed csr;
+
+    /**
+     * Workspace of each searching thread.
+     */
+    private final ThreadLocal<Workspace> local;
+
+    /**
+     * Constructor.
+     * @param graph Graph to analyze
+     */
+    public Yen(final Graph graph) {
+        this(new Indexed(graph));
+    }
+
+    /**
+     * Constructor. Uses an already indexed graph, such as one loaded at once with
+     * a {@link com.aqueduct.graph.Bulk} builder.
+     * @param graph Indexed graph to analyze
+     */
+    public Yen(final Indexed graph) {
+        this.csr = graph;
+        this.local = ThreadLocal.withInitial(() -> new Workspace(graph));
+    }
+
+    /**
+     * Calculates the shortest loopless paths between two vertices, by increasing cost.
+     * @param source Starting vertex
+     * @param target Ending vertex
+     * @param count Maximal count of paths
+     * @return Shortest paths, fewer than the passed count if there is not enough
+     *  loopless paths
+     * @throws IllegalArgumentException If a vertex is not part of the graph, or if
+     *  the count is not positive
+     */
+    public List<Route> paths(final Vertex source, final Vertex target, final int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Paths count %d must be positive", count)
+            );
+        }
+        final int end = this.index(target);
+        final List<Yen.Candidate> found = new ArrayList<>(count);
+        final Yen.Candidate root = new Yen.Candidate(
+            new int[] {this.index(source)}, new double[] {0}
+        );
+        final Yen.Candidate first = this.spur(Collections.emptyList(), root, 0, end);
+        if (first != null) {
+            found.add(first);
+        }
+        final Queue<Yen.Candidate> pending = new PriorityQueue<>(
+            Comparator.comparingDouble(Yen.Candidate::cost)
+        );
+        final Set<Yen.Candidate> known = new HashSet<>(found);
+        while (!found.isEmpty() && found.size() < count) {
+            for (final Yen.Candidate candidate : this.deviations(found, end)) {
+                if (known.add(candidate)) {
+                    pending.add(candidate);
+                }
+            }
+            if (pending.isEmpty()) {
+                break;
+            }
+            found.add(pending.poll());
+        }
+        return found.stream().map(this::route).collect(Collectors.toList());
+    }
+
+    /**
+     * Calculates in parallel the paths deviating from the last found path
+     * at each of its vertices.
+     * @param found Paths already found
+     * @param end Ending vertex index
+     * @return Deviating paths
+     */
+    private List<Yen.Candidate> deviations(final List<Yen.Candidate> found, final int end) {
+        final Yen.Candidate last = found.get(found.size() - 1);
+        return IntStream.range(0, last.length() - 1).parallel()
+            .mapToObj(idx -> this.spur(found, last, idx, end))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Calculates the shortest path deviating from a path at a spur vertex.
+     * @param found Paths already found
+     * @param last Path to deviate from
+     * @param idx Position of the spur vertex in the path
+     * @param end Ending vertex index
+     * @return Deviating path, or null if there is none
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Yen.Candidate spur(final List<Yen.Candidate> found, final Yen.Candidate last,
+        final int idx, final int end) {
+        final Workspace work = this.local.get();
+        work.reset();
+        for (int pos = 0; pos < idx; ++pos) {
+            work.block(last.vertex(pos));
+        }
+        for (final Yen.Candidate path : found) {
+            if (path.shares(last, idx)) {
+                this.cut(work, path.vertex(idx), path.vertex(idx + 1));
+            }
+        }
+        work.explore(last.vertex(idx), end);
+        Yen.Candidate result = null;
+        if (work.cost(end) != Double.POSITIVE_INFINITY) {
+            result = last.join(idx, work, end);
+        }
+        return result;
+    }
+
+    /**
+     * Masks all the edges going from a vertex to another.
+     * @param work Workspace
+     * @param from Starting vertex index
+     * @param next Ending vertex index
+     */
+    private void cut(final Workspace work, final int from, final int next) {
+        for (int pos = this.csr.offset(from); pos < this.csr.offset(from + 1); ++pos) {
+            if (this.csr.target(pos) == next) {
+                work.cut(pos);
+            }
+        }
+    }
+
+    /**
+     * Builds the route of a path.
+     * @param path Path
+     * @return Route
+     */
+    private Route route(final Yen.Candidate path) {
+        final List<Vertex> vertices = new ArrayList<>(path.length());
+        for (int pos = 0; pos < path.length(); ++pos) {
+            vertices.add(this.csr.vertex(path.vertex(pos)));
+        }
+        return new Route(vertices, path.cost());
+    }
+
+    /**
+     * Gives the index of a vertex.
+     * @param vtx Vertex
+     * @return Vertex index
+     * @throws IllegalArgumentException If the vertex is not part of the graph
+     */
+    private int index(final Vertex vtx) {
+        final int result = this.csr.index(vtx);
+        if (result < 0) {
+            throw new IllegalArgumentException(
+                String.format("Vertex %s must be part of the graph", vtx)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Path given by its vertices indices and the cost of each of its prefixes.
+     * @since 0.1
+     */
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+    private static final class Candidate {
+
+        /**
+         * Vertices indices.
+         */
+        private final int[] path;
+
+        /**
+         * Cost of the path up to each vertex.
+         */
+        private final double[] prefix;
+
+        /**
+         * Constructor.
+         * @param vertices Vertices indices
+         * @param costs Cost of the path up to each vertex
+         */
+        Candidate(final int[] vertices, final double[] costs) {
+            this.path = vertices;
+            this.prefix = costs;
+        }
+
+        /**
+         * Gives the count of vertices.
+         * @return Path length
+         */
+        public int length() {
+            return this.path.length;
+        }
+
+        /**
+         * Gives a vertex of the path.
+         * @param pos Position in the path
+         * @return Vertex index
+         */
+        public int vertex(final int pos) {
+            return this.path[pos];
+        }
+
+        /**
+         * Gives the total cost of the path.
+         * @return Path cost
+         */
+        public double cost() {
+            return this.prefix[this.prefix.length - 1];
+        }
+
+        /**
+         * Checks if this path starts with the same vertices as another one, up to
+         * a position (inclusive), and goes on after it.
+         * @param other Other path
+         * @param idx Position
+         * @return True if both paths share the same root
+         */
+        public boolean shares(final Yen.Candidate other, final int idx) {
+            return this.path.length > idx + 1
+                && Arrays.equals(
+                    Arrays.copyOf(this.path, idx + 1), Arrays.copyOf(other.path, idx + 1)
+                );
+        }
+
+        /**
+         * Builds the path made of the root of this path up to a spur vertex, followed by
+         * the spur path found by a search from the spur vertex.
+         * @param idx Position of the spur vertex
+         * @param work Workspace holding the spur search results
+         * @param end Ending vertex index
+         * @return Joined path
+         */
+        public Yen.Candidate join(final int idx, final Workspace work, final int end) {
+            final Ints spur = new Ints();
+            for (int vtx = end; vtx >= 0; vtx = work.parent(vtx)) {
+                spur.add(vtx);
+            }
+            final int size = idx + spur.size();
+            final int[] vertices = Arrays.copyOf(this.path, size);
+            final double[] costs = Arrays.copyOf(this.prefix, size);
+            for (int pos = idx; pos < size; ++pos) {
+                vertices[pos] = spur.get(size - pos - 1);
+                costs[pos] = this.prefix[idx] + work.cost(vertices[pos]);
+            }
+            return new Yen.Candidate(vertices, costs);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Yen.Candidate
+                && Arrays.equals(this.path, ((Yen.Candidate) obj).path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.path);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Read only set view of a list whose elements may be equal. Every element of the list
+ * is given while iterating and counted in the size, so that edges only becoming equal
+ * once built from distinct edges, as in a contraction, are all kept. Membership is
+ * checked by value, through a hash set of the distinct elements built on first use.
+ * @param <T> Elements type
+ * @since 0.1
+ */
+final class Bag<T> extends AbstractSet<T> {
+
+    /**
+     * Elements.
+     */
+    private final List<T> items;
+
+    /**
+     * Distinct elements, or null until membership is checked.
+     */
+    private Set<T> distinct;
+
+    /**
+     * Constructor.
+     * @param elements Elements
+     */
+    Bag(final List<T> elements) {
+        this.items = elements;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Collections.unmodifiableList(this.items).iterator();
+    }
+
+    @Override
+    public boolean contains(final Object obj) {
+        if (this.distinct == null) {
+            this.distinct = new HashSet<>(this.items);
+        }
+        return this.distinct.contains(obj);
+    }
+
+    @Override
+    public int size() {
+        return this.items.size();
+    }
+}
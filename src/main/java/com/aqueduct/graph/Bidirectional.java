@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.Set;
+
+/**
+ * Graph giving access to the incoming edges of its vertices as well as to their
+ * outgoing edges, so that it can be traversed backwards without being copied.
+ * @since 0.1
+ */
+public interface Bidirectional extends Graph {
+
+    /**
+     * Gets the vertices having an edge to a given vertex. As for
+     * {@link Graph#connected(Vertex)}, the set may stop being updated once edges are removed.
+     * @param vtx Vertex to get predecessors for
+     * @return The set of predecessors
+     */
+    Set<Vertex> predecessors(Vertex vtx);
+
+    /**
+     * Gets the incoming edges to a given vertex. As for
+     * {@link Graph#connectedEdges(Vertex)}, the set may stop being updated once edges are
+     * removed.
+     * @param vtx Vertex to get edges for
+     * @return The set of incoming edges
+     */
+    Set<Edge> incomingEdges(Vertex vtx);
+
+    /**
+     * Tells whether the incoming edges are kept alongside the outgoing ones, so that they
+     * are given in a time proportional to their count. Otherwise they are found by scanning
+     * the graph, and a {@link Reversed} copy is better suited to traverse it backwards.
+     * @return True if the incoming edges are kept
+     */
+    default boolean backward() {
+        return true;
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.Arrays;
+
+/**
+ * Growable stream of bits, written from the most significant bit of each word.
+ * Positive integers are written with Elias gamma codes: the count of significant
+ * bits minus one as zeros, followed by the significant bits, so that small values
+ * take a few bits.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+final class Bits {
+
+    /**
+     * Bits count of a word.
+     */
+    private static final int WORD = 64;
+
+    /**
+     * Shift giving the word holding a bit.
+     */
+    private static final int SHIFT = 6;
+
+    /**
+     * Mask giving the offset of a bit in its word.
+     */
+    private static final int MASK = 63;
+
+    /**
+     * Initial capacity in words.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Written words.
+     */
+    private long[] words;
+
+    /**
+     * Written bits count.
+     */
+    private long count;
+
+    /**
+     * Constructor. Builds an empty stream.
+     */
+    Bits() {
+        this.words = new long[Bits.CAPACITY];
+        this.count = 0;
+    }
+
+    /**
+     * Writes the lowest bits of a value.
+     * @param value Value, having no bit set above the written ones
+     * @param width Count of bits to write, from 1 to 64
+     */
+    public void write(final long value, final int width) {
+        this.reserve(width);
+        final int word = (int) (this.count >>> Bits.SHIFT);
+        final int free = Bits.WORD - (int) (this.count & Bits.MASK);
+        if (width <= free) {
+            this.words[word] |= value << free - width;
+        } else {
+            final int rest = width - free;
+            this.words[word] |= value >>> rest;
+            this.words[word + 1] |= value << Bits.WORD - rest;
+        }
+        this.count += width;
+    }
+
+    /**
+     * Writes a positive value with an Elias gamma code.
+     * @param value Value, greater than 0
+     */
+    public void gamma(final long value) {
+        final int width = Bits.WORD - Long.numberOfLeadingZeros(value);
+        this.reserve(width - 1);
+        this.count += width - 1;
+        this.write(value, width);
+    }
+
+    /**
+     * Gives the written bits count.
+     * @return Bits count
+     */
+    public long size() {
+        return this.count;
+    }
+
+    /**
+     * Gives the written words.
+     * @return Words holding the written bits
+     */
+    public long[] array() {
+        return Arrays.copyOf(this.words, (int) (this.count + Bits.MASK >>> Bits.SHIFT));
+    }
+
+    /**
+     * Gives the length of the Elias gamma code of a value.
+     * @param value Value, greater than 0
+     * @return Code length in bits
+     */
+    static int length(final long value) {
+        return 2 * (Bits.WORD - Long.numberOfLeadingZeros(value)) - 1;
+    }
+
+    /**
+     * Makes room for bits to write.
+     * @param width Count of bits to write
+     */
+    private void reserve(final int width) {
+        final long needed = this.count + width + Bits.MASK >>> Bits.SHIFT;
+        if (needed > this.words.length) {
+            this.words = Arrays.copyOf(
+                this.words, (int) Math.max(needed, this.words.length * 2L)
+            );
+        }
+    }
+
+    /**
+     * Reader of bits written to a stream.
+     * @since 0.1
+     */
+    static final class Reader {
+
+        /**
+         * Written words.
+         */
+        private final long[] words;
+
+        /**
+         * Position of the next bit to read.
+         */
+        private long position;
+
+        /**
+         * Constructor.
+         * @param words Written words
+         * @param position Position of the first bit to read
+         */
+        Reader(final long[] words, final long position) {
+            this.words = words;
+            this.position = position;
+        }
+
+        /**
+         * Gives the position of the next bit to read.
+         * @return Bit position
+         */
+        public long position() {
+            return this.position;
+        }
+
+        /**
+         * Reads bits.
+         * @param width Count of bits to read, from 1 to 64
+         * @return Read bits, as the lowest bits of the result
+         */
+        public long read(final int width) {
+            final int word = (int) (this.position >>> Bits.SHIFT);
+            final int offset = (int) (this.position & Bits.MASK);
+            long result = this.words[word] << offset >>> Bits.WORD - width;
+            final int rest = width - Bits.WORD + offset;
+            if (rest > 0) {
+                result |= this.words[word + 1] >>> Bits.WORD - rest;
+            }
+            this.position += width;
+            return result;
+        }
+
+        /**
+         * Reads a value written with an Elias gamma code.
+         * @return Value
+         */
+        public long gamma() {
+            int zeros = 0;
+            boolean found = false;
+            while (!found) {
+                final int offset = (int) (this.position & Bits.MASK);
+                final int lead = Long.numberOfLeadingZeros(
+                    this.words[(int) (this.position >>> Bits.SHIFT)] << offset
+                );
+                final int free = Bits.WORD - offset;
+                found = lead < free;
+                final int skipped = Math.min(lead, free);
+                zeros += skipped;
+                this.position += skipped;
+            }
+            return this.read(zeros + 1);
+        }
+    }
+}
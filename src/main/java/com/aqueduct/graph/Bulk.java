@@ -0,0 +1,481 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Builder loading a large graph at once. Edges are appended to primitive buffers, without
+ * any hashing nor allocation per edge, and the final adjacency is laid out in a single
+ * pass: edges are grouped by starting vertex with a counting sort, then the edges of each
+ * vertex are sorted by ending vertex and cost and deduplicated in parallel. Parallel edges
+ * are kept or merged according to a {@link Multiedge} policy, in the same pass, as a graph
+ * applying the same policy would do. When all of them are kept, equal edges (having
+ * the same extremities and the same cost) are adjacent once sorted, so that they are loaded
+ * once whatever their order. The builder emits either an {@link Indexed} snapshot, where
+ * no edge object is ever created, a {@link Frozen} graph, or a {@link Symmetric} graph
+ * where edges are considered as undirected. Vertices can be registered once and then
+ * referred to by their index, so that loaders do not have to build a vertex per edge
+ * extremity.
+ * @since 0.1
+ */
+@SuppressWarnings(
+    {"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs", "PMD.TooManyMethods"}
+)
+public final class Bulk {
+
+    /**
+     * Initial capacity of the edges buffers.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Mask giving the lower half of a long.
+     */
+    private static final long LOWER = 0xFFFFFFFFL;
+
+    /**
+     * Bits count of an int.
+     */
+    private static final int BITS = 32;
+
+    /**
+     * Indices by vertex.
+     */
+    private final Map<Vertex, Integer> ids;
+
+    /**
+     * Vertices by index.
+     */
+    private final List<Vertex> order;
+
+    /**
+     * Edges buffers.
+     */
+    private final Bulk.Buffers buffers;
+
+    /**
+     * Constructor. Builds an empty builder keeping all the parallel edges.
+     */
+    public Bulk() {
+        this(Multiedge.ALL);
+    }
+
+    /**
+     * Constructor. Builds an empty builder applying a policy to parallel edges.
+     * @param policy Policy applied to parallel edges
+     */
+    public Bulk(final Multiedge policy) {
+        this.ids = new HashMap<>();
+        this.order = new ArrayList<>(Bulk.CAPACITY);
+        this.buffers = new Bulk.Buffers(policy);
+    }
+
+    /**
+     * Registers a vertex, if not already registered.
+     * @param vtx Vertex
+     * @return Vertex index
+     */
+    public int vertex(final Vertex vtx) {
+        return this.ids.computeIfAbsent(
+            vtx, key -> {
+                this.order.add(key);
+                return this.order.size() - 1;
+            }
+        );
+    }
+
+    /**
+     * Appends an edge between two registered vertices.
+     * @param start Starting vertex index
+     * @param end Ending vertex index
+     * @param cost Edge cost
+     */
+    public void edge(final int start, final int end, final double cost) {
+        if (start < 0 || start >= this.order.size() || end < 0 || end >= this.order.size()) {
+            throw new IllegalArgumentException(
+                String.format("Vertices %d and %d must be registered", start, end)
+            );
+        }
+        this.buffers.append(start, end, cost);
+    }
+
+    /**
+     * Appends an edge, registering its extremities if needed.
+     * @param start Starting vertex
+     * @param end Ending vertex
+     * @param cost Edge cost
+     */
+    public void edge(final Vertex start, final Vertex end, final double cost) {
+        this.edge(this.vertex(start), this.vertex(end), cost);
+    }
+
+    /**
+     * Builds an indexed snapshot of the loaded graph. Vertices are indexed in their
+     * registration order, and the outgoing edges of each vertex are ordered by ending vertex.
+     * @return Indexed snapshot
+     */
+    public Indexed indexed() {
+        final Bulk.Layout layout = this.layout();
+        return new Indexed(
+            this.order.toArray(new Vertex[0]), layout.offsets, layout.targets, layout.weights
+        );
+    }
+
+    /**
+     * Builds an immutable graph from the loaded vertices and edges.
+     * @return Immutable graph
+     */
+    public Frozen frozen() {
+        final Bulk.Layout layout = this.layout();
+        return new Frozen(
+            this.order.toArray(new Vertex[0]), layout.offsets, layout.targets, layout.weights
+        );
+    }
+
+    /**
+     * Builds an undirected graph from the loaded vertices and edges, storing each edge
+     * once. Edges are laid out from their extremity having the lowest index, so that
+     * an edge and its reverse are considered as parallel edges.
+     * @return Undirected graph
+     */
+    public Symmetric symmetric() {
+        final Bulk.Layout layout = this.layout(this.buffers.upper());
+        return new Symmetric(
+            this.order.toArray(new Vertex[0]), layout.offsets, layout.targets, layout.weights
+        );
+    }
+
+    /**
+     * Lays out the buffered edges in compressed sparse rows.
+     * @return Compressed sparse rows
+     */
+    private Bulk.Layout layout() {
+        return this.layout(this.buffers);
+    }
+
+    /**
+     * Lays out edges in compressed sparse rows.
+     * @param edges Edges buffers
+     * @return Compressed sparse rows
+     */
+    private Bulk.Layout layout(final Bulk.Buffers edges) {
+        final int size = this.order.size();
+        final int[] offsets = Bulk.offsets(size, edges);
+        final int[] positions = Bulk.positions(offsets, edges);
+        final int[] lengths = new int[size];
+        final double[] costs = new double[positions.length];
+        IntStream.range(0, size).parallel().forEach(
+            idx -> {
+                lengths[idx] = edges.arrange(
+                    positions, costs, offsets[idx], offsets[idx + 1]
+                );
+            }
+        );
+        final int[] compact = new int[size + 1];
+        for (int idx = 0; idx < size; ++idx) {
+            compact[idx + 1] = compact[idx] + lengths[idx];
+        }
+        final Bulk.Layout result = new Bulk.Layout(compact);
+        IntStream.range(0, size).parallel().forEach(
+            idx -> result.copy(edges, positions, costs, offsets[idx], idx)
+        );
+        return result;
+    }
+
+    /**
+     * Counts the edges starting from each vertex, giving the position of the first edge
+     * of each vertex once edges are grouped by starting vertex.
+     * @param size Vertices count
+     * @param buffers Edges buffers
+     * @return Position of the first edge of each vertex, followed by the edges count
+     */
+    private static int[] offsets(final int size, final Bulk.Buffers buffers) {
+        final int[] result = new int[size + 1];
+        for (int pos = 0; pos < buffers.count; ++pos) {
+            ++result[buffers.start(pos) + 1];
+        }
+        for (int idx = 0; idx < size; ++idx) {
+            result[idx + 1] += result[idx];
+        }
+        return result;
+    }
+
+    /**
+     * Groups the edge positions by starting vertex, keeping their insertion order.
+     * @param offsets Position of the first edge of each vertex
+     * @param buffers Edges buffers
+     * @return Edge positions grouped by starting vertex
+     */
+    private static int[] positions(final int[] offsets, final Bulk.Buffers buffers) {
+        final int[] cursor = Arrays.copyOf(offsets, offsets.length - 1);
+        final int[] result = new int[buffers.count];
+        for (int pos = 0; pos < buffers.count; ++pos) {
+            final int start = buffers.start(pos);
+            result[cursor[start]] = pos;
+            ++cursor[start];
+        }
+        return result;
+    }
+
+    /**
+     * Growable primitive buffers holding the edges in their insertion order.
+     * @since 0.1
+     */
+    private static final class Buffers {
+
+        /**
+         * Starting vertex index of each edge.
+         */
+        private int[] sources;
+
+        /**
+         * Ending vertex index of each edge.
+         */
+        private int[] targets;
+
+        /**
+         * Cost of each edge.
+         */
+        private double[] weights;
+
+        /**
+         * Edges count.
+         */
+        private int count;
+
+        /**
+         * Policy applied to parallel edges.
+         */
+        private final Multiedge policy;
+
+        /**
+         * Whether edges are seen from their extremity having the lowest index.
+         */
+        private final boolean canonical;
+
+        /**
+         * Constructor. Builds empty buffers.
+         * @param policy Policy applied to parallel edges
+         */
+        Buffers(final Multiedge policy) {
+            this(
+                policy, new int[Bulk.CAPACITY], new int[Bulk.CAPACITY],
+                new double[Bulk.CAPACITY], 0, false
+            );
+        }
+
+        /**
+         * Constructor.
+         * @param policy Policy applied to parallel edges
+         * @param sources Starting vertex index of each edge
+         * @param targets Ending vertex index of each edge
+         * @param weights Cost of each edge
+         * @param count Edges count
+         * @param canonical Whether edges are seen from their extremity having the lowest index
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        private Buffers(final Multiedge policy, final int[] sources, final int[] targets,
+            final double[] weights, final int count, final boolean canonical) {
+            this.policy = policy;
+            this.sources = sources;
+            this.targets = targets;
+            this.weights = weights;
+            this.count = count;
+            this.canonical = canonical;
+        }
+
+        /**
+         * Appends an edge.
+         * @param start Starting vertex index
+         * @param end Ending vertex index
+         * @param cost Edge cost
+         */
+        public void append(final int start, final int end, final double cost) {
+            if (this.count == this.sources.length) {
+                final int capacity = this.count * 2;
+                this.sources = Arrays.copyOf(this.sources, capacity);
+                this.targets = Arrays.copyOf(this.targets, capacity);
+                this.weights = Arrays.copyOf(this.weights, capacity);
+            }
+            this.sources[this.count] = start;
+            this.targets[this.count] = end;
+            this.weights[this.count] = cost;
+            ++this.count;
+        }
+
+        /**
+         * Gives a read only view of the buffered edges, where each edge starts from
+         * its extremity having the lowest index.
+         * @return Edges view
+         */
+        public Bulk.Buffers upper() {
+            return new Bulk.Buffers(
+                this.policy, this.sources, this.targets, this.weights, this.count, true
+            );
+        }
+
+        /**
+         * Gives the starting vertex index of an edge.
+         * @param pos Edge position
+         * @return Starting vertex index
+         */
+        public int start(final int pos) {
+            int result = this.sources[pos];
+            if (this.canonical) {
+                result = Math.min(result, this.targets[pos]);
+            }
+            return result;
+        }
+
+        /**
+         * Gives the ending vertex index of an edge.
+         * @param pos Edge position
+         * @return Ending vertex index
+         */
+        public int end(final int pos) {
+            int result = this.targets[pos];
+            if (this.canonical) {
+                result = Math.max(result, this.sources[pos]);
+            }
+            return result;
+        }
+
+        /**
+         * Sorts a range of edge positions by ending vertex and cost, and either removes
+         * the duplicate edges, each being compared to the previous edge only, when all
+         * the parallel edges are kept, or merges the parallel edges. The kept positions are
+         * moved to the beginning of the range, and their costs are put at the same
+         * positions.
+         * @param positions Edge positions
+         * @param costs Kept edges costs
+         * @param from Range start (inclusive)
+         * @param until Range end (exclusive)
+         * @return Count of kept positions
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        int arrange(final int[] positions, final double[] costs, final int from,
+            final int until) {
+            final long[] keys = new long[until - from];
+            for (int idx = 0; idx < keys.length; ++idx) {
+                keys[idx] = (long) this.end(positions[from + idx]) << Bulk.BITS | idx;
+            }
+            Arrays.sort(keys);
+            final int[] segment = Arrays.copyOfRange(positions, from, until);
+            final double[] sorted = this.sorted(keys, segment);
+            int kept = 0;
+            for (int idx = 0; idx < keys.length; ++idx) {
+                final boolean first = idx == 0
+                    || keys[idx] >>> Bulk.BITS != keys[idx - 1] >>> Bulk.BITS;
+                if (first || this.policy == Multiedge.ALL
+                    && Double.compare(sorted[idx], sorted[idx - 1]) != 0) {
+                    positions[from + kept] = segment[(int) (keys[idx] & Bulk.LOWER)];
+                    costs[from + kept] = sorted[idx];
+                    ++kept;
+                } else if (this.policy != Multiedge.ALL) {
+                    costs[from + kept - 1] = this.policy.merge(
+                        costs[from + kept - 1], sorted[idx]
+                    );
+                }
+            }
+            return kept;
+        }
+
+        /**
+         * Gives the costs of edges sorted by ending vertex, each group of edges having
+         * the same ending vertex being sorted by cost.
+         * @param keys Ending vertex and rank of each edge, sorted by ending vertex
+         * @param segment Edge positions by rank
+         * @return Costs, in the order of the keys once each group is sorted
+         */
+        private double[] sorted(final long[] keys, final int[] segment) {
+            final double[] result = new double[keys.length];
+            int first = 0;
+            for (int idx = 0; idx < keys.length; ++idx) {
+                result[idx] = this.weights[segment[(int) (keys[idx] & Bulk.LOWER)]];
+                if (keys[idx] >>> Bulk.BITS != keys[first] >>> Bulk.BITS) {
+                    Arrays.sort(result, first, idx);
+                    first = idx;
+                }
+            }
+            Arrays.sort(result, first, keys.length);
+            return result;
+        }
+    }
+
+    /**
+     * Compressed sparse rows being filled.
+     * @since 0.1
+     */
+    private static final class Layout {
+
+        /**
+         * Position of the first outgoing edge of each vertex.
+         */
+        private final int[] offsets;
+
+        /**
+         * Ending vertex index of each edge.
+         */
+        private final int[] targets;
+
+        /**
+         * Cost of each edge.
+         */
+        private final double[] weights;
+
+        /**
+         * Constructor.
+         * @param offsets Position of the first outgoing edge of each vertex
+         */
+        Layout(final int[] offsets) {
+            this.offsets = offsets;
+            this.targets = new int[offsets[offsets.length - 1]];
+            this.weights = new double[this.targets.length];
+        }
+
+        /**
+         * Copies the kept edges of a vertex into its row.
+         * @param buffers Edges buffers
+         * @param positions Kept edge positions
+         * @param costs Kept edges costs
+         * @param from Position of the first kept edge
+         * @param vertex Vertex index
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        void copy(final Bulk.Buffers buffers, final int[] positions, final double[] costs,
+            final int from, final int vertex) {
+            final int row = this.offsets[vertex];
+            for (int idx = 0; idx < this.offsets[vertex + 1] - row; ++idx) {
+                this.targets[row + idx] = buffers.end(positions[from + idx]);
+                this.weights[row + idx] = costs[from + idx];
+            }
+        }
+    }
+}
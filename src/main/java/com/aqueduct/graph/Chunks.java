@@ -0,0 +1,241 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Fixed length array of primitive values held outside of the Java heap, in direct
+ * buffers. The array is split in chunks having a power of two length, so that it can
+ * hold more than the 2 GB a single buffer is limited to. Values are stored in the
+ * native byte order. Releasing the array frees the memory of its chunks at once, through
+ * the cleaner the JDK attaches to direct buffers, instead of waiting for the buffers to be
+ * collected: the array must not be read anymore from then on.
+ * @since 0.1
+ */
+final class Chunks {
+
+    /**
+     * Default count of bits giving the position of a value in its chunk: chunks hold
+     * 2^27 values, that is 1 GB of longs or doubles.
+     */
+    static final int SHIFT = 27;
+
+    /**
+     * Chunks.
+     */
+    private final ByteBuffer[] buffers;
+
+    /**
+     * Bytes count of a value.
+     */
+    private final int width;
+
+    /**
+     * Count of bits giving the position of a value in its chunk.
+     */
+    private final int shift;
+
+    /**
+     * Constructor. Allocates a zeroed array.
+     * @param length Values count
+     * @param width Bytes count of a value
+     * @param shift Count of bits giving the position of a value in its chunk
+     */
+    Chunks(final long length, final int width, final int shift) {
+        this.buffers = Chunks.allocate(length, width, shift);
+        this.width = width;
+        this.shift = shift;
+    }
+
+    /**
+     * Reads an int.
+     * @param idx Value index
+     * @return Value
+     */
+    public int getInt(final long idx) {
+        return this.buffers[(int) (idx >>> this.shift)].getInt(this.offset(idx));
+    }
+
+    /**
+     * Writes an int.
+     * @param idx Value index
+     * @param value Value
+     */
+    public void putInt(final long idx, final int value) {
+        this.buffers[(int) (idx >>> this.shift)].putInt(this.offset(idx), value);
+    }
+
+    /**
+     * Reads a long.
+     * @param idx Value index
+     * @return Value
+     */
+    public long getLong(final long idx) {
+        return this.buffers[(int) (idx >>> this.shift)].getLong(this.offset(idx));
+    }
+
+    /**
+     * Writes a long.
+     * @param idx Value index
+     * @param value Value
+     */
+    public void putLong(final long idx, final long value) {
+        this.buffers[(int) (idx >>> this.shift)].putLong(this.offset(idx), value);
+    }
+
+    /**
+     * Reads a double.
+     * @param idx Value index
+     * @return Value
+     */
+    public double getDouble(final long idx) {
+        return this.buffers[(int) (idx >>> this.shift)].getDouble(this.offset(idx));
+    }
+
+    /**
+     * Writes a double.
+     * @param idx Value index
+     * @param value Value
+     */
+    public void putDouble(final long idx, final double value) {
+        this.buffers[(int) (idx >>> this.shift)].putDouble(this.offset(idx), value);
+    }
+
+    /**
+     * Frees the memory of the chunks. If the running JDK gives no access to the cleaner
+     * of direct buffers, the chunks are only dropped, and their memory is released once
+     * they are collected. The array can not be used anymore.
+     */
+    public void release() {
+        for (final ByteBuffer buffer : this.buffers) {
+            if (buffer != null) {
+                Chunks.Cleaner.INSTANCE.clean(buffer);
+            }
+        }
+        Arrays.fill(this.buffers, null);
+    }
+
+    /**
+     * Gives the position of a value in its chunk.
+     * @param idx Value index
+     * @return Byte position
+     */
+    private int offset(final long idx) {
+        return (int) (idx & (1L << this.shift) - 1) * this.width;
+    }
+
+    /**
+     * Allocates the chunks of an array.
+     * @param length Values count
+     * @param width Bytes count of a value
+     * @param shift Count of bits giving the position of a value in its chunk
+     * @return Chunks, the last one being only as long as needed
+     */
+    private static ByteBuffer[] allocate(final long length, final int width, final int shift) {
+        final long size = 1L << shift;
+        final ByteBuffer[] result = new ByteBuffer[(int) ((length + size - 1) / size)];
+        for (int idx = 0; idx < result.length; ++idx) {
+            final long values = Math.min(size, length - idx * size);
+            result[idx] = ByteBuffer.allocateDirect((int) (values * width))
+                .order(ByteOrder.nativeOrder());
+        }
+        return result;
+    }
+
+    /**
+     * Frees the memory of direct buffers. Java 9 and later expose the cleaner through
+     * {@code sun.misc.Unsafe.invokeCleaner}, and Java 8 through the {@code cleaner} method
+     * of direct buffers, both being looked up reflectively.
+     * @since 0.1
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private enum Cleaner {
+
+        /**
+         * Single instance.
+         */
+        INSTANCE;
+
+        /**
+         * Unsafe instance, or null if it is not available.
+         */
+        private final Object unsafe;
+
+        /**
+         * Method freeing a direct buffer from the unsafe instance, or null if it is not
+         * available.
+         */
+        private final Method invoke;
+
+        /**
+         * Constructor. Looks the unsafe cleaner up.
+         */
+        Cleaner() {
+            Object instance;
+            Method method;
+            try {
+                final Class<?> type = Class.forName("sun.misc.Unsafe");
+                method = type.getMethod("invokeCleaner", ByteBuffer.class);
+                final Field field = type.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                instance = field.get(null);
+            } catch (final ReflectiveOperationException | RuntimeException ex) {
+                instance = null;
+                method = null;
+            }
+            this.unsafe = instance;
+            this.invoke = method;
+        }
+
+        /**
+         * Frees the memory of a direct buffer, if the running JDK allows it.
+         * @param buffer Direct buffer
+         * @return True if the memory was freed
+         */
+        public boolean clean(final ByteBuffer buffer) {
+            boolean result = true;
+            try {
+                if (this.invoke == null) {
+                    final Method accessor = buffer.getClass().getMethod("cleaner");
+                    accessor.setAccessible(true);
+                    final Object cleaner = accessor.invoke(buffer);
+                    result = cleaner != null;
+                    if (result) {
+                        cleaner.getClass().getMethod("clean").invoke(cleaner);
+                    }
+                } else {
+                    this.invoke.invoke(this.unsafe, buffer);
+                }
+            } catch (final ReflectiveOperationException | RuntimeException ex) {
+                result = false;
+            }
+            return result;
+        }
+    }
+}
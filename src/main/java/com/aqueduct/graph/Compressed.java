@@ -0,0 +1,519 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compressed immutable graph, for graphs too large to be held in compressed sparse rows.
+ * The outgoing edges of every vertex are sorted by ending vertex and written as gaps
+ * with variable length codes, optionally copying the targets of a similar previous list
+ * (see {@link Lists}). Graphs having locality, where vertices mostly lead to vertices
+ * having close indices, take a few bits per edge. An index gives the position of the
+ * list of every vertex, so that lists are decoded on demand, one target at a time:
+ * {@link #successors(int)} iterates the targets while decoding them, without building
+ * any array, vertex or edge. The views are built over the compressed lists, and decode
+ * them while being iterated. They check whether they hold a vertex or an edge by decoding
+ * the list until its ending vertex, without building the edges. Edge costs are only
+ * stored if they are not all equal. Vertices are indexed as in the {@link Indexed}
+ * snapshot the graph is built from, and indices should follow the graph locality for
+ * the compression to be effective. As for directed graphs, {@link #connected(Vertex)}
+ * and {@link #connectedEdges(Vertex)} give null for vertices having no outgoing edges.
+ * Trying to modify the graph throws an {@link UnsupportedOperationException}.
+ * @since 0.1
+ */
+@SuppressWarnings(
+    {"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs", "PMD.TooManyMethods"}
+)
+public final class Compressed implements Graph {
+
+    /**
+     * Error message for modification attempts.
+     */
+    private static final String READ_ONLY = "Compressed graph can not be modified";
+
+    /**
+     * Vertices by index.
+     */
+    private final Vertex[] vtxs;
+
+    /**
+     * Indices by vertex.
+     */
+    private final Map<Vertex, Integer> ids;
+
+    /**
+     * Compressed adjacency lists.
+     */
+    private final Lists lists;
+
+    /**
+     * Cost of every edge, in the order of the sorted lists, or the common cost
+     * of all the edges.
+     */
+    private final double[] costs;
+
+    /**
+     * Position of the cost of the first edge of each vertex, or nothing if all
+     * the edges have the same cost.
+     */
+    private final int[] offsets;
+
+    /**
+     * Constructor. Builds a compressed copy of a graph, indexing its vertices
+     * as {@link Indexed} does, that is in no particular order: the lists only take a few
+     * bits per edge if the vertices are first ordered so that linked vertices have close
+     * indices (for example in a breadth first order), and the graph then compressed
+     * through an {@link Indexed} snapshot following that order, as {@link Bulk} gives.
+     * @param graph Graph to compress
+     */
+    public Compressed(final Graph graph) {
+        this(new Indexed(graph));
+    }
+
+    /**
+     * Constructor. Builds a compressed copy of an indexed snapshot, keeping the vertices
+     * indices.
+     * @param indexed Indexed snapshot to compress
+     */
+    public Compressed(final Indexed indexed) {
+        this(indexed.vertices(), Compressed.encode(indexed), indexed);
+    }
+
+    /**
+     * Constructor.
+     * @param order Vertices by index
+     * @param adjacency Compressed adjacency lists
+     * @param indexed Indexed snapshot to take costs from
+     */
+    private Compressed(final Vertex[] order, final Lists adjacency, final Indexed indexed) {
+        this(order, adjacency, Compressed.weights(indexed), Compressed.positions(indexed));
+    }
+
+    /**
+     * Constructor.
+     * @param order Vertices by index
+     * @param adjacency Compressed adjacency lists
+     * @param weights Edge costs
+     * @param positions Position of the cost of the first edge of each vertex
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Compressed(final Vertex[] order, final Lists adjacency, final double[] weights,
+        final int[] positions) {
+        this.vtxs = order;
+        this.ids = Indexed.dictionary(order);
+        this.lists = adjacency;
+        this.costs = weights;
+        this.offsets = positions;
+    }
+
+    /**
+     * Vertices count.
+     * @return The number of vertices
+     */
+    public int size() {
+        return this.vtxs.length;
+    }
+
+    /**
+     * Gives the index of a vertex.
+     * @param vtx Vertex
+     * @return The vertex index, or -1 if the vertex is not part of the graph
+     */
+    public int index(final Vertex vtx) {
+        return this.ids.getOrDefault(vtx, -1);
+    }
+
+    /**
+     * Gives the vertex associated to an index.
+     * @param idx Vertex index
+     * @return The vertex
+     */
+    public Vertex vertex(final int idx) {
+        return this.vtxs[idx];
+    }
+
+    /**
+     * Counts the outgoing edges of a vertex.
+     * @param idx Vertex index
+     * @return Outgoing edges count
+     */
+    public int degree(final int idx) {
+        return this.lists.degree(idx);
+    }
+
+    /**
+     * Iterates the indices of the vertices the outgoing edges of a vertex lead to,
+     * in increasing order. A vertex is given once per edge leading to it.
+     * @param idx Vertex index
+     * @return Decoding iterator
+     */
+    public PrimitiveIterator.OfInt successors(final int idx) {
+        return this.lists.targets(idx);
+    }
+
+    /**
+     * Gives the size of the compressed adjacency lists, without the index nor the costs.
+     * @return Bits count
+     */
+    public long bits() {
+        return this.lists.bits();
+    }
+
+    @Override
+    public void addVertices(final Vertex... vtx) {
+        throw new UnsupportedOperationException(Compressed.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Edge edge) {
+        throw new UnsupportedOperationException(Compressed.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Vertex start, final Vertex end, final double cost) {
+        throw new UnsupportedOperationException(Compressed.READ_ONLY);
+    }
+
+    @Override
+    public Set<Vertex> vertices() {
+        return Collections.unmodifiableSet(this.ids.keySet());
+    }
+
+    @Override
+    public Set<Edge> edges() {
+        return new Compressed.Edges(this);
+    }
+
+    @Override
+    public Set<Vertex> connected(final Vertex vtx) {
+        final int idx = this.index(vtx);
+        Set<Vertex> result = null;
+        if (idx >= 0 && this.lists.distinct(idx) > 0) {
+            result = new Compressed.Neighbors(this, idx);
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Edge> connectedEdges(final Vertex vtx) {
+        final int idx = this.index(vtx);
+        Set<Edge> result = null;
+        if (idx >= 0 && this.lists.distinct(idx) > 0) {
+            result = new Compressed.Outgoing(this, idx);
+        }
+        return result;
+    }
+
+    /**
+     * Builds the outgoing edges of a vertex, while decoding its list. The stream is
+     * sequential.
+     * @param idx Vertex index
+     * @return Outgoing edges, ordered by ending vertex
+     */
+    private Stream<Edge> outgoing(final int idx) {
+        final PrimitiveIterator.OfInt targets = this.successors(idx);
+        return IntStream.range(0, this.degree(idx)).mapToObj(
+            rank -> new Edge(this.vtxs[idx], this.vtxs[targets.nextInt()], this.cost(idx, rank))
+        );
+    }
+
+    /**
+     * Checks if an object is an outgoing edge of a vertex, decoding the list until
+     * the ending vertex of the edge, then comparing the costs of the edges leading to it.
+     * @param idx Vertex index
+     * @param obj Object to look for
+     * @return True if the object is an outgoing edge of the vertex
+     */
+    private boolean holds(final int idx, final Object obj) {
+        boolean result = false;
+        if (obj instanceof Edge && this.vtxs[idx].equals(((Edge) obj).start())) {
+            final Edge edge = (Edge) obj;
+            final int target = this.index(edge.end());
+            final PrimitiveIterator.OfInt targets = this.successors(idx);
+            for (int rank = 0; targets.hasNext() && !result; ++rank) {
+                final int next = targets.nextInt();
+                if (next > target) {
+                    break;
+                }
+                result = next == target
+                    && Double.compare(this.cost(idx, rank), edge.cost()) == 0;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gives the cost of an outgoing edge of a vertex.
+     * @param idx Vertex index
+     * @param rank Rank of the edge in the sorted outgoing edges
+     * @return Edge cost
+     */
+    private double cost(final int idx, final int rank) {
+        double result = this.costs[0];
+        if (this.offsets.length > 0) {
+            result = this.costs[this.offsets[idx] + rank];
+        }
+        return result;
+    }
+
+    /**
+     * Compresses the outgoing edges of a snapshot.
+     * @param indexed Indexed snapshot
+     * @return Compressed adjacency lists
+     */
+    private static Lists encode(final Indexed indexed) {
+        final Lists.Writer writer = new Lists.Writer(indexed.size());
+        for (int idx = 0; idx < indexed.size(); ++idx) {
+            final int[] sorted = Compressed.sorted(indexed, idx);
+            final int[] targets = new int[sorted.length];
+            for (int rank = 0; rank < sorted.length; ++rank) {
+                targets[rank] = indexed.target(sorted[rank]);
+            }
+            writer.add(targets);
+        }
+        return writer.lists();
+    }
+
+    /**
+     * Gives the costs of the edges of a snapshot, in the order of the sorted lists.
+     * @param indexed Indexed snapshot
+     * @return Edge costs, or the common cost of all the edges
+     */
+    private static double[] weights(final Indexed indexed) {
+        final int count = indexed.offset(indexed.size());
+        double[] result = new double[1];
+        if (Compressed.uniform(indexed)) {
+            if (count > 0) {
+                result[0] = indexed.weight(0);
+            }
+        } else {
+            result = new double[count];
+            int pos = 0;
+            for (int idx = 0; idx < indexed.size(); ++idx) {
+                for (final int edge : Compressed.sorted(indexed, idx)) {
+                    result[pos] = indexed.weight(edge);
+                    ++pos;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gives the position of the cost of the first edge of each vertex.
+     * @param indexed Indexed snapshot
+     * @return Positions, or nothing if all the edges have the same cost
+     */
+    private static int[] positions(final Indexed indexed) {
+        int[] result = new int[0];
+        if (!Compressed.uniform(indexed)) {
+            result = new int[indexed.size() + 1];
+            for (int idx = 0; idx < result.length; ++idx) {
+                result[idx] = indexed.offset(idx);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if all the edges of a snapshot have the same cost.
+     * @param indexed Indexed snapshot
+     * @return True if edge costs are all equal
+     */
+    private static boolean uniform(final Indexed indexed) {
+        boolean result = true;
+        for (int pos = 1; pos < indexed.offset(indexed.size()) && result; ++pos) {
+            result = Double.compare(indexed.weight(pos), indexed.weight(0)) == 0;
+        }
+        return result;
+    }
+
+    /**
+     * Sorts the outgoing edges of a vertex by ending vertex.
+     * @param indexed Indexed snapshot
+     * @param idx Vertex index
+     * @return Positions of the outgoing edges, sorted by ending vertex
+     */
+    private static int[] sorted(final Indexed indexed, final int idx) {
+        final int from = indexed.offset(idx);
+        return IntStream.range(from, indexed.offset(idx + 1)).boxed()
+            .sorted((left, right) -> Integer.compare(indexed.target(left), indexed.target(right)))
+            .mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Read only view of the edges of a compressed graph.
+     * @since 0.1
+     */
+    private static final class Edges extends AbstractSet<Edge> {
+
+        /**
+         * Compressed graph.
+         */
+        private final Compressed graph;
+
+        /**
+         * Constructor.
+         * @param graph Compressed graph
+         */
+        Edges(final Compressed graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public Iterator<Edge> iterator() {
+            return IntStream.range(0, this.graph.size()).boxed()
+                .flatMap(this.graph::outgoing).iterator();
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            boolean result = false;
+            if (obj instanceof Edge) {
+                final int idx = this.graph.index(((Edge) obj).start());
+                result = idx >= 0 && this.graph.holds(idx, obj);
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            int result = 0;
+            for (int idx = 0; idx < this.graph.size(); ++idx) {
+                result += this.graph.degree(idx);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Read only view of the distinct vertices the outgoing edges of a vertex lead to.
+     * @since 0.1
+     */
+    private static final class Neighbors extends AbstractSet<Vertex> {
+
+        /**
+         * Compressed graph.
+         */
+        private final Compressed graph;
+
+        /**
+         * Vertex index.
+         */
+        private final int idx;
+
+        /**
+         * Constructor.
+         * @param graph Compressed graph
+         * @param idx Vertex index
+         */
+        Neighbors(final Compressed graph, final int idx) {
+            this.graph = graph;
+            this.idx = idx;
+        }
+
+        @Override
+        public Iterator<Vertex> iterator() {
+            return StreamSupport.intStream(
+                Spliterators.spliterator(
+                    this.graph.lists.neighbors(this.idx), this.size(), Spliterator.ORDERED
+                ),
+                false
+            ).mapToObj(this.graph::vertex).iterator();
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            boolean result = false;
+            if (obj instanceof Vertex) {
+                final int target = this.graph.index((Vertex) obj);
+                final PrimitiveIterator.OfInt targets = this.graph.lists.neighbors(this.idx);
+                int next = -1;
+                while (next < target && targets.hasNext()) {
+                    next = targets.nextInt();
+                }
+                result = target >= 0 && next == target;
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return this.graph.lists.distinct(this.idx);
+        }
+    }
+
+    /**
+     * Read only view of the outgoing edges of a vertex.
+     * @since 0.1
+     */
+    private static final class Outgoing extends AbstractSet<Edge> {
+
+        /**
+         * Compressed graph.
+         */
+        private final Compressed graph;
+
+        /**
+         * Vertex index.
+         */
+        private final int idx;
+
+        /**
+         * Constructor.
+         * @param graph Compressed graph
+         * @param idx Vertex index
+         */
+        Outgoing(final Compressed graph, final int idx) {
+            this.graph = graph;
+            this.idx = idx;
+        }
+
+        @Override
+        public Iterator<Edge> iterator() {
+            return this.graph.outgoing(this.idx).iterator();
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            return this.graph.holds(this.idx, obj);
+        }
+
+        @Override
+        public int size() {
+            return this.graph.degree(this.idx);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Represents a directed graph that can be modified and read concurrently by several threads.
+ * Vertices and edges are held in concurrent sets, and the outgoing and incoming edges of each
+ * vertex in an append only buffer having its own lock, so that threads adding edges only
+ * contend when they add edges to the same vertex. Readers never lock: the adjacency of
+ * a vertex is given as an unmodifiable snapshot holding the edges added before the call.
+ * The vertices and edges sets are unmodifiable live views, whose iterators are weakly
+ * consistent.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Concurrent implements Bidirectional {
+
+    /**
+     * Graph vertices.
+     */
+    private final Set<Vertex> vertex;
+
+    /**
+     * Graph edges.
+     */
+    private final Set<Edge> edge;
+
+    /**
+     * Outgoing edges buffer by vertex.
+     */
+    private final Map<Vertex, Concurrent.Buffer> outgoing;
+
+    /**
+     * Incoming edges buffer by vertex.
+     */
+    private final Map<Vertex, Concurrent.Buffer> incoming;
+
+    /**
+     * Constructor. Builds an empty concurrent directed graph.
+     */
+    public Concurrent() {
+        this.vertex = ConcurrentHashMap.newKeySet();
+        this.edge = ConcurrentHashMap.newKeySet();
+        this.outgoing = new ConcurrentHashMap<>();
+        this.incoming = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void addVertices(final Vertex... vtx) {
+        this.vertex.addAll(Arrays.asList(vtx));
+    }
+
+    @Override
+    public void addEdge(final Edge edg) {
+        if (this.edge.add(edg)) {
+            this.outgoing.computeIfAbsent(edg.start(), vtx -> new Concurrent.Buffer()).add(edg);
+            this.incoming.computeIfAbsent(edg.end(), vtx -> new Concurrent.Buffer()).add(edg);
+        }
+    }
+
+    @Override
+    public void addEdge(final Vertex start, final Vertex end, final double cost) {
+        this.addVertices(start, end);
+        this.addEdge(new Edge(start, end, cost));
+    }
+
+    @Override
+    public Set<Vertex> vertices() {
+        return Collections.unmodifiableSet(this.vertex);
+    }
+
+    @Override
+    public Set<Edge> edges() {
+        return Collections.unmodifiableSet(this.edge);
+    }
+
+    @Override
+    public Set<Vertex> connected(final Vertex vtx) {
+        return Concurrent.ends(this.connectedEdges(vtx), true);
+    }
+
+    @Override
+    public Set<Edge> connectedEdges(final Vertex vtx) {
+        return Concurrent.snapshot(this.outgoing.get(vtx));
+    }
+
+    @Override
+    public Set<Vertex> predecessors(final Vertex vtx) {
+        return Concurrent.ends(this.incomingEdges(vtx), false);
+    }
+
+    @Override
+    public Set<Edge> incomingEdges(final Vertex vtx) {
+        return Concurrent.snapshot(this.incoming.get(vtx));
+    }
+
+    /**
+     * Takes a snapshot of a buffer, if any.
+     * @param buffer Edges buffer, or null
+     * @return Edges snapshot, or null
+     */
+    private static Set<Edge> snapshot(final Concurrent.Buffer buffer) {
+        Set<Edge> result = null;
+        if (buffer != null) {
+            result = buffer.snapshot();
+        }
+        return result;
+    }
+
+    /**
+     * Gives the ending or starting vertices of edges, if any.
+     * @param edges Edges, or null
+     * @param end True to give the ending vertices, false to give the starting vertices
+     * @return Vertices, or null
+     */
+    private static Set<Vertex> ends(final Set<Edge> edges, final boolean end) {
+        Set<Vertex> result = null;
+        if (edges != null) {
+            final Set<Vertex> vertices = new LinkedHashSet<>(edges.size() * 2);
+            for (final Edge edg : edges) {
+                if (end) {
+                    vertices.add(edg.end());
+                } else {
+                    vertices.add(edg.start());
+                }
+            }
+            result = Collections.unmodifiableSet(vertices);
+        }
+        return result;
+    }
+
+    /**
+     * Append only edges buffer. Writers are serialized by the buffer lock, and publish
+     * each edge by increasing the buffer count after storing the edge, so that readers see
+     * all the edges below the count they read without locking.
+     * @since 0.1
+     */
+    private static final class Buffer {
+
+        /**
+         * Initial buffer capacity.
+         */
+        private static final int CAPACITY = 4;
+
+        /**
+         * Edges storage.
+         */
+        private final AtomicReference<Edge[]> items;
+
+        /**
+         * Count of published edges.
+         */
+        private final AtomicInteger count;
+
+        /**
+         * Writers lock.
+         */
+        private final Object lock;
+
+        /**
+         * Constructor.
+         */
+        Buffer() {
+            this.items = new AtomicReference<>(new Edge[Buffer.CAPACITY]);
+            this.count = new AtomicInteger();
+            this.lock = new Object();
+        }
+
+        /**
+         * Appends an edge.
+         * @param edg Edge
+         */
+        public void add(final Edge edg) {
+            synchronized (this.lock) {
+                Edge[] storage = this.items.get();
+                final int size = this.count.get();
+                if (size == storage.length) {
+                    storage = Arrays.copyOf(storage, size * 2);
+                    this.items.set(storage);
+                }
+                storage[size] = edg;
+                this.count.set(size + 1);
+            }
+        }
+
+        /**
+         * Takes a snapshot of the published edges.
+         * @return Unmodifiable set of edges
+         */
+        public Set<Edge> snapshot() {
+            final int size = this.count.get();
+            final Edge[] storage = this.items.get();
+            return Collections.unmodifiableSet(
+                new LinkedHashSet<>(Arrays.asList(storage).subList(0, size))
+            );
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import com.aqueduct.graph.util.UnionFind;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * View of a graph where vertices can be contracted repeatedly. A contraction of two vertices
+ * replaces them with a single vertex, and removes every edge linking them.
+ * Unlike {@link Contraction}, the graph is not copied: merged vertices are tracked with
+ * a {@link UnionFind} forest and a circular list of the members of each merged vertex, so
+ * that a contraction runs in nearly constant time. The adjacency of a merged vertex is
+ * resolved on demand from the adjacency of its members in the original graph.
+ * Edges becoming parallel once their extremities are merged are handled by the policy of
+ * the original graph: they are all kept under {@link Multiedge#ALL}, even when they become
+ * equal, and merged into a single edge otherwise.
+ * A merged vertex is named after one of its members (its representative).
+ * The view is built from the vertices of the original graph at construction time, and
+ * can not be modified by adding vertices or edges.
+ * @since 0.1
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.ArrayIsStoredDirectly"})
+public final class Contracted implements Graph {
+
+    /**
+     * Message of the errors raised on modifications.
+     */
+    private static final String READ_ONLY = "Contracted graph view can not be modified";
+
+    /**
+     * Original graph.
+     */
+    private final Graph graph;
+
+    /**
+     * Policy applied to parallel edges of the original graph.
+     */
+    private final Multiedge policy;
+
+    /**
+     * Original vertices by index.
+     */
+    private final Vertex[] members;
+
+    /**
+     * Original vertices indices.
+     */
+    private final Map<Vertex, Integer> ids;
+
+    /**
+     * Merged vertices forest.
+     */
+    private final UnionFind forest;
+
+    /**
+     * Next member index in the circular list of the members of each merged vertex.
+     */
+    private final int[] next;
+
+    /**
+     * Current vertices (representatives of the merged vertices).
+     */
+    private final Set<Vertex> current;
+
+    /**
+     * Constructor.
+     * @param origin Original graph
+     */
+    public Contracted(final Graph origin) {
+        this(origin, origin.vertices().toArray(new Vertex[0]));
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original graph
+     * @param vertices Original vertices
+     */
+    private Contracted(final Graph origin, final Vertex... vertices) {
+        this.graph = origin;
+        this.policy = origin.multiedge();
+        this.members = vertices;
+        this.ids = Contracted.index(vertices);
+        this.forest = new UnionFind(vertices.length);
+        this.next = Contracted.loops(vertices.length);
+        this.current = new LinkedHashSet<>(origin.vertices());
+    }
+
+    /**
+     * Contracts two vertices.
+     * @param first First vertex (or any vertex merged into it)
+     * @param second Second vertex (or any vertex merged into it)
+     * @return Resulting merged vertex
+     * @throws IllegalArgumentException If a vertex is not part of the original graph
+     */
+    public Vertex contract(final Vertex first, final Vertex second) {
+        final int one = this.forest.find(this.locate(first));
+        final int two = this.forest.find(this.locate(second));
+        if (this.forest.union(one, two)) {
+            final int swap = this.next[one];
+            this.next[one] = this.next[two];
+            this.next[two] = swap;
+            final int root = this.forest.find(one);
+            this.current.remove(this.members[one + two - root]);
+        }
+        return this.members[this.forest.find(one)];
+    }
+
+    /**
+     * Gives the vertex that an original vertex was merged into.
+     * @param vtx Original vertex
+     * @return Merged vertex, or the vertex itself if it is not part of the original graph
+     */
+    public Vertex representative(final Vertex vtx) {
+        final Integer idx = this.ids.get(vtx);
+        Vertex result = vtx;
+        if (idx != null) {
+            result = this.members[this.forest.find(idx)];
+        }
+        return result;
+    }
+
+    @Override
+    public void addVertices(final Vertex... vtx) {
+        throw new UnsupportedOperationException(Contracted.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Edge edg) {
+        throw new UnsupportedOperationException(Contracted.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Vertex start, final Vertex end, final double cost) {
+        throw new UnsupportedOperationException(Contracted.READ_ONLY);
+    }
+
+    @Override
+    public Set<Vertex> vertices() {
+        return Collections.unmodifiableSet(this.current);
+    }
+
+    @Override
+    public Set<Edge> edges() {
+        final List<Edge> result = new ArrayList<>();
+        for (final Vertex vertex : this.current) {
+            final Set<Edge> edges = this.connectedEdges(vertex);
+            if (edges != null) {
+                result.addAll(edges);
+            }
+        }
+        return new Bag<>(result);
+    }
+
+    @Override
+    public Set<Vertex> connected(final Vertex vtx) {
+        final Set<Edge> edges = this.connectedEdges(vtx);
+        Set<Vertex> result = null;
+        if (edges != null) {
+            result = new HashSet<>();
+            for (final Edge edge : edges) {
+                result.add(edge.end());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Edge> connectedEdges(final Vertex vtx) {
+        Set<Edge> result = null;
+        if (this.current.contains(vtx)) {
+            final List<Edge> edges = new ArrayList<>();
+            final int root = this.forest.find(this.locate(vtx));
+            int member = root;
+            do {
+                this.collect(this.members[member], vtx, edges);
+                member = this.next[member];
+            } while (member != root);
+            if (!edges.isEmpty()) {
+                result = new Bag<>(this.merged(edges));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Collects the edges of an original vertex as edges of the merged vertex it belongs
+     * to, skipping the edges linking members of the merged vertex.
+     * @param member Original vertex
+     * @param merged Merged vertex
+     * @param edges Collected edges
+     */
+    private void collect(final Vertex member, final Vertex merged, final List<Edge> edges) {
+        final Set<Edge> connected = this.graph.connectedEdges(member);
+        if (connected != null) {
+            for (final Edge edge : connected) {
+                Vertex other = edge.end();
+                if (!edge.start().equals(member)) {
+                    other = edge.start();
+                }
+                other = this.representative(other);
+                if (!other.equals(merged)) {
+                    edges.add(new Edge(merged, other, edge.cost()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges the parallel edges of a merged vertex, unless the policy of the original graph
+     * is to keep them all.
+     * @param edges Outgoing edges of the merged vertex
+     * @return Outgoing edges, parallel edges being merged under the policy
+     */
+    private List<Edge> merged(final List<Edge> edges) {
+        List<Edge> result = edges;
+        if (this.policy != Multiedge.ALL) {
+            final Map<Vertex, Edge> kept = new LinkedHashMap<>();
+            for (final Edge edge : edges) {
+                kept.merge(edge.end(), edge, this.policy::merge);
+            }
+            result = new ArrayList<>(kept.values());
+        }
+        return result;
+    }
+
+    /**
+     * Gives the index of an original vertex.
+     * @param vtx Vertex
+     * @return Vertex index
+     * @throws IllegalArgumentException If the vertex is not part of the original graph
+     */
+    private int locate(final Vertex vtx) {
+        final Integer result = this.ids.get(vtx);
+        if (result == null) {
+            throw new IllegalArgumentException(
+                String.format("Contracted vertex %s must be part of the graph", vtx)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Indexes vertices.
+     * @param vertices Vertices
+     * @return Index by vertex
+     */
+    private static Map<Vertex, Integer> index(final Vertex... vertices) {
+        final Map<Vertex, Integer> result = new HashMap<>(vertices.length * 2);
+        for (int idx = 0; idx < vertices.length; ++idx) {
+            result.put(vertices[idx], idx);
+        }
+        return result;
+    }
+
+    /**
+     * Builds circular lists where each element is alone.
+     * @param size Elements count
+     * @return Next element by element
+     */
+    private static int[] loops(final int size) {
+        final int[] result = new int[size];
+        for (int idx = 0; idx < size; ++idx) {
+            result[idx] = idx;
+        }
+        return result;
+    }
+}
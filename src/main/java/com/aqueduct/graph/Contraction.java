@@ -23,13 +23,23 @@
  */
 package com.aqueduct.graph;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Represents a directed graph built as a contraction of two vertices of another graph.
  * A contraction of two vertices in a graph is a replacement of this two vertices with a single
  * vertex. Every edge linking these two vertices is removed.
+ * Edges becoming parallel once the two vertices are replaced are handled by the policy of
+ * the original graph: they are all kept under {@link Multiedge#ALL}, even when they become
+ * equal, and merged into a single edge otherwise. Edges added later follow the same policy,
+ * an edge equal to an outgoing edge being kept once as in a {@link Directed} graph.
+ * The whole graph is copied: see {@link Contracted} for repeated contractions.
  *
  * @since 0.1
  */
@@ -41,9 +51,19 @@ public final class Contraction implements Graph {
     private static final String MERGED_PATTERN = "%s -- %s";
 
     /**
-     * Underlying built graph.
+     * Graph vertices.
      */
-    private final Directed graph;
+    private final Set<Vertex> vertex;
+
+    /**
+     * Outgoing edges of each vertex.
+     */
+    private final Map<Vertex, List<Edge>> outgoing;
+
+    /**
+     * Policy applied to parallel edges.
+     */
+    private final Multiedge policy;
 
     /**
      * Constructor. Builds a graph by contracting the passed two vertices of the given graph.
@@ -52,54 +72,100 @@ public final class Contraction implements Graph {
      * @param second Second of the two vertices to contract
      */
     public Contraction(final Graph origin, final Vertex first, final Vertex second) {
-        this.graph = Contraction.contract(origin, first, second);
+        this(
+            Contraction.vertices(origin, first, second),
+            Contraction.contract(origin, first, second),
+            origin.multiedge()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param vertices Graph vertices
+     * @param adjacency Outgoing edges of each vertex
+     * @param multiedge Policy applied to parallel edges
+     */
+    private Contraction(final Set<Vertex> vertices, final Map<Vertex, List<Edge>> adjacency,
+        final Multiedge multiedge) {
+        this.vertex = vertices;
+        this.outgoing = adjacency;
+        this.policy = multiedge;
     }
 
     @Override
     public void addVertices(final Vertex... vtx) {
-        this.graph.addVertices(vtx);
+        this.vertex.addAll(Arrays.asList(vtx));
     }
 
     @Override
     public void addEdge(final Edge edg) {
-        this.graph.addEdge(edg);
+        final List<Edge> edges = this.outgoing.get(edg.start());
+        if (this.policy != Multiedge.ALL || edges == null || !edges.contains(edg)) {
+            Contraction.add(this.outgoing, this.policy, edg);
+        }
     }
 
     @Override
     public void addEdge(final Vertex start, final Vertex end, final double cost) {
-        this.graph.addEdge(start, end, cost);
+        this.addVertices(start, end);
+        this.addEdge(new Edge(start, end, cost));
+    }
+
+    @Override
+    public Multiedge multiedge() {
+        return this.policy;
     }
 
     @Override
     public Set<Vertex> vertices() {
-        return this.graph.vertices();
+        return this.vertex;
     }
 
     @Override
     public Set<Edge> edges() {
-        return this.graph.edges();
+        final List<Edge> result = new ArrayList<>();
+        for (final List<Edge> edges : this.outgoing.values()) {
+            result.addAll(edges);
+        }
+        return new Bag<>(result);
     }
 
     @Override
     public Set<Vertex> connected(final Vertex vtx) {
-        return this.graph.connected(vtx);
+        final List<Edge> edges = this.outgoing.get(vtx);
+        Set<Vertex> result = null;
+        if (edges != null) {
+            result = new HashSet<>();
+            for (final Edge edge : edges) {
+                result.add(edge.end());
+            }
+        }
+        return result;
     }
 
     @Override
     public Set<Edge> connectedEdges(final Vertex vtx) {
-        return this.graph.connectedEdges(vtx);
+        final List<Edge> edges = this.outgoing.get(vtx);
+        Set<Edge> result = null;
+        if (edges != null) {
+            result = new Bag<>(edges);
+        }
+        return result;
     }
 
     /**
-     * Builds a directed graph by contracting the passed two vertices of the given graph.
+     * Gives the vertices of the graph built by contracting the passed two vertices of
+     * the given graph.
      * @param origin Original graph to contract
      * @param first First of the two vertices to contract
      * @param second Second of the two vertices to contract
-     * @return A directed graph built by contracting the two vertices.
+     * @return The vertices of the original graph, the two vertices being replaced by
+     *  the merged vertex
      */
-    private static Directed contract(final Graph origin, final Vertex first, final Vertex second) {
-        final Set<Vertex> vtxs = new HashSet<>(origin.vertices());
-        if (!vtxs.remove(first) || !vtxs.remove(second)) {
+    private static Set<Vertex> vertices(final Graph origin, final Vertex first,
+        final Vertex second) {
+        final Set<Vertex> result = new HashSet<>(origin.vertices());
+        if (!result.remove(first) || !result.remove(second)) {
             throw new IllegalArgumentException(
                 String.format(
                     "Contracted vertices %s and %s must be part of the graph %s",
@@ -107,11 +173,21 @@ public final class Contraction implements Graph {
                 )
             );
         }
-        final Directed result = new Directed();
-        result.addVertices(vtxs.toArray(new Vertex[0]));
-        result.addVertices(
-            new Vertex(String.format(Contraction.MERGED_PATTERN, first, second))
-        );
+        result.add(new Vertex(String.format(Contraction.MERGED_PATTERN, first, second)));
+        return result;
+    }
+
+    /**
+     * Builds the outgoing edges of the graph built by contracting the passed two vertices
+     * of the given graph.
+     * @param origin Original graph to contract
+     * @param first First of the two vertices to contract
+     * @param second Second of the two vertices to contract
+     * @return Outgoing edges of each vertex of the contracted graph
+     */
+    private static Map<Vertex, List<Edge>> contract(final Graph origin, final Vertex first,
+        final Vertex second) {
+        final Map<Vertex, List<Edge>> result = new HashMap<>();
         for (final Vertex vertex : origin.vertices()) {
             final Set<Edge> connected = origin.connectedEdges(vertex);
             if (connected == null) {
@@ -126,12 +202,39 @@ public final class Contraction implements Graph {
                     adding = new Edge(vertex, edge.start(), edge.cost());
                 }
                 adding = Contraction.edge(first, second, adding);
-                result.addEdge(adding);
+                Contraction.add(result, origin.multiedge(), adding);
             }
         }
         return result;
     }
 
+    /**
+     * Adds an edge to the outgoing edges of its starting vertex. Unless the policy is to
+     * keep all the parallel edges, the edge is merged with the outgoing edge parallel to it.
+     * @param adjacency Outgoing edges of each vertex
+     * @param policy Policy applied to parallel edges
+     * @param edge The edge to add
+     */
+    private static void add(final Map<Vertex, List<Edge>> adjacency, final Multiedge policy,
+        final Edge edge) {
+        final List<Edge> edges = adjacency.computeIfAbsent(
+            edge.start(), vtx -> new ArrayList<>(1)
+        );
+        int parallel = -1;
+        if (policy != Multiedge.ALL) {
+            for (int idx = 0; idx < edges.size() && parallel < 0; ++idx) {
+                if (edges.get(idx).end().equals(edge.end())) {
+                    parallel = idx;
+                }
+            }
+        }
+        if (parallel < 0) {
+            edges.add(edge);
+        } else {
+            edges.set(parallel, policy.merge(edges.get(parallel), edge));
+        }
+    }
+
     /**
      * Calculates the edge to add by replacing contracted vertices if they are part of the edge.
      * @param first First of the two vertices to contract
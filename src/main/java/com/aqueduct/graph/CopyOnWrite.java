@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Directed graph whose modifications publish new immutable versions. Each modification
+ * builds a new {@link Frozen} snapshot sharing the adjacency of all the vertices it
+ * does not change, and publishes it atomically. Readers never lock: each read is answered
+ * by the latest published version, and a traversal that must see a single consistent
+ * version should run on the snapshot given by {@link #freeze()}, which stays unchanged
+ * whatever the later modifications. Writers are serialized. Each publication copies
+ * the adjacency of the changed vertices and the dictionary trie nodes leading to them,
+ * which takes a logarithmic time in the vertices count, so that adding edges one by one
+ * stays cheap on large graphs, while {@link #addEdges(Collection)} publishes a batch
+ * at once. Added edges are directed, so the initial graph must be directed too: a graph
+ * giving an edge from its ending vertex, as undirected graphs do, is refused.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class CopyOnWrite implements Graph {
+
+    /**
+     * Latest published version.
+     */
+    private final AtomicReference<Frozen> current;
+
+    /**
+     * Published versions count.
+     */
+    private final AtomicLong counter;
+
+    /**
+     * Writers lock.
+     */
+    private final Object lock;
+
+    /**
+     * Constructor. Builds an empty graph.
+     */
+    public CopyOnWrite() {
+        this(new Directed());
+    }
+
+    /**
+     * Constructor. Builds a graph starting from a snapshot of the passed graph.
+     * @param graph Initial directed graph
+     * @throws IllegalArgumentException If the graph gives an edge from its ending vertex
+     */
+    public CopyOnWrite(final Graph graph) {
+        this.current = new AtomicReference<>(CopyOnWrite.directed(graph).freeze());
+        this.counter = new AtomicLong();
+        this.lock = new Object();
+    }
+
+    /**
+     * Gives the current version of the graph.
+     * @return Count of published versions
+     */
+    public long version() {
+        return this.counter.get();
+    }
+
+    /**
+     * Adds several edges at once, publishing a single version.
+     * @param edges Edges to add
+     */
+    public void addEdges(final Collection<Edge> edges) {
+        this.publish(Collections.emptyList(), edges);
+    }
+
+    @Override
+    public void addVertices(final Vertex... vtx) {
+        this.publish(Arrays.asList(vtx), Collections.emptyList());
+    }
+
+    @Override
+    public void addEdge(final Edge edge) {
+        this.addEdges(Collections.singletonList(edge));
+    }
+
+    @Override
+    public void addEdge(final Vertex start, final Vertex end, final double cost) {
+        this.addEdge(new Edge(start, end, cost));
+    }
+
+    @Override
+    public Set<Vertex> vertices() {
+        return this.current.get().vertices();
+    }
+
+    @Override
+    public Set<Edge> edges() {
+        return this.current.get().edges();
+    }
+
+    @Override
+    public Set<Vertex> connected(final Vertex vtx) {
+        return this.current.get().connected(vtx);
+    }
+
+    @Override
+    public Set<Edge> connectedEdges(final Vertex vtx) {
+        return this.current.get().connectedEdges(vtx);
+    }
+
+    @Override
+    public Frozen freeze() {
+        return this.current.get();
+    }
+
+    /**
+     * Ensures a graph only gives edges from their starting vertex.
+     * @param graph Graph
+     * @return The graph
+     * @throws IllegalArgumentException If the graph gives an edge from its ending vertex
+     */
+    private static Graph directed(final Graph graph) {
+        for (final Vertex vertex : graph.vertices()) {
+            final Set<Edge> edges = graph.connectedEdges(vertex);
+            if (edges == null) {
+                continue;
+            }
+            for (final Edge edge : edges) {
+                if (!edge.start().equals(vertex)) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Graph %s gives the edge %s from its ending vertex, %s",
+                            graph, edge, "only directed graphs are supported"
+                        )
+                    );
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Publishes a new version holding the passed vertices and edges.
+     * @param vertices Vertices to add
+     * @param edges Edges to add
+     */
+    private void publish(final Collection<Vertex> vertices, final Collection<Edge> edges) {
+        synchronized (this.lock) {
+            this.current.set(this.current.get().with(vertices, edges));
+            this.counter.incrementAndGet();
+        }
+    }
+}
@@ -23,17 +23,24 @@
  */
 package com.aqueduct.graph;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 
 /**
- * Represents a directed graph.
+ * Represents a directed graph. By default, the incoming edges of each vertex are kept
+ * alongside its outgoing edges, so that the graph can be traversed backwards, for example
+ * through a {@link Transposed} view, and so that removing a vertex takes a time proportional
+ * to its degree. Graphs that are never traversed backwards can leave them out to halve
+ * the memory held by the adjacency: the predecessors and the incoming edges of a vertex are
+ * then found by scanning all the edges, in new sets that do not follow the later
+ * modifications of the graph.
  * @since 0.1
  */
-public final class Directed implements Graph {
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Directed implements Bidirectional {
 
     /**
      * Graph vertices.
@@ -45,24 +52,68 @@ public final class Directed implements Graph {
      */
     private final Set<Edge> edge;
 
+    /**
+     * Policy applied to parallel edges.
+     */
+    private final Multiedge policy;
+
     /**
      * A Map holding association between a vertex and its direct neighbors.
      */
-    private final Map<Vertex, Set<Vertex>> neighbors;
+    private final Links<Vertex> neighbors;
 
     /**
      * A Map holding association between a vertex and its outgoing edges.
      */
-    private final Map<Vertex, Set<Edge>> outgoing;
+    private final Links<Edge> outgoing;
+
+    /**
+     * A Map holding association between a vertex and its direct predecessors, or null if
+     * the incoming edges are not kept.
+     */
+    private final Links<Vertex> reaching;
+
+    /**
+     * A Map holding association between a vertex and its incoming edges, or null if they are
+     * not kept.
+     */
+    private final Links<Edge> incoming;
+
+    /**
+     * Edge kept between each pair of linked vertices, when parallel edges are merged.
+     */
+    private final Parallels kept;
 
     /**
      * Constructor. Builds an empty directed graph.
      */
     public Directed() {
+        this(Multiedge.ALL);
+    }
+
+    /**
+     * Constructor. Builds an empty directed graph applying a policy to parallel edges.
+     * @param multiedge Policy applied to parallel edges
+     */
+    public Directed(final Multiedge multiedge) {
+        this(multiedge, true);
+    }
+
+    /**
+     * Constructor. Builds an empty directed graph applying a policy to parallel edges, and
+     * keeping the incoming edges of each vertex only if asked to.
+     * @param multiedge Policy applied to parallel edges
+     * @param backward Whether to keep the predecessors and the incoming edges of each vertex
+     */
+    public Directed(final Multiedge multiedge, final boolean backward) {
+        this.policy = multiedge;
         this.vertex = new HashSet<Vertex>();
         this.edge = new HashSet<Edge>();
-        this.neighbors = new HashMap<Vertex, Set<Vertex>>();
-        this.outgoing = new HashMap<Vertex, Set<Edge>>();
+        this.neighbors = new Links<>();
+        this.outgoing = new Links<>();
+        this.reaching = Directed.links(backward);
+        this.incoming = Directed.links(backward);
+        this.kept = new Parallels();
     }
 
     @Override
@@ -72,11 +123,20 @@ public final class Directed implements Graph {
 
     @Override
     public void addEdge(final Edge edg) {
-        this.edge.add(edg);
-        final Vertex start = edg.start();
-        final Vertex end = edg.end();
-        this.connect(start, end);
-        this.connect(edg, start);
+        final Edge added = this.merged(edg);
+        if (this.edge.add(added)) {
+            final Vertex start = added.start();
+            final Vertex end = added.end();
+            this.neighbors.connect(start, end);
+            this.outgoing.connect(start, added);
+            if (this.incoming != null) {
+                this.reaching.connect(end, start);
+                this.incoming.connect(end, added);
+            }
+            if (this.policy != Multiedge.ALL) {
+                this.kept.put(start, end, added);
+            }
+        }
     }
 
     @Override
@@ -85,6 +145,52 @@ public final class Directed implements Graph {
         this.addEdge(new Edge(start, end, cost));
     }
 
+    @Override
+    public void removeEdge(final Edge edg) {
+        if (this.edge.remove(edg)) {
+            final Vertex start = edg.start();
+            final Vertex end = edg.end();
+            this.outgoing.disconnect(start, edg);
+            if (this.incoming != null) {
+                this.incoming.disconnect(end, edg);
+            }
+            this.kept.remove(start, end);
+            if (this.policy != Multiedge.ALL
+                || !Links.joins(this.outgoing.get(start), start, end)) {
+                this.neighbors.disconnect(start, end);
+                if (this.reaching != null) {
+                    this.reaching.disconnect(end, start);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void removeVertex(final Vertex vtx) {
+        for (final Edge edg : this.outgoing.elements(vtx)) {
+            this.removeEdge(edg);
+        }
+        final List<Edge> arriving;
+        if (this.incoming == null) {
+            arriving = new ArrayList<>();
+            final Set<Edge> scanned = this.scanned(vtx);
+            if (scanned != null) {
+                arriving.addAll(scanned);
+            }
+        } else {
+            arriving = this.incoming.elements(vtx);
+        }
+        for (final Edge edg : arriving) {
+            this.removeEdge(edg);
+        }
+        this.vertex.remove(vtx);
+    }
+
+    @Override
+    public Multiedge multiedge() {
+        return this.policy;
+    }
+
     @Override
     public Set<Vertex> vertices() {
         return this.vertex;
@@ -105,31 +211,87 @@ public final class Directed implements Graph {
         return this.outgoing.get(vtx);
     }
 
+    @Override
+    public Set<Vertex> predecessors(final Vertex vtx) {
+        Set<Vertex> result = null;
+        if (this.reaching == null) {
+            final Set<Edge> arriving = this.scanned(vtx);
+            if (arriving != null) {
+                result = new HashSet<>(arriving.size());
+                for (final Edge edg : arriving) {
+                    result.add(edg.start());
+                }
+            }
+        } else {
+            result = this.reaching.get(vtx);
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Edge> incomingEdges(final Vertex vtx) {
+        final Set<Edge> result;
+        if (this.incoming == null) {
+            result = this.scanned(vtx);
+        } else {
+            result = this.incoming.get(vtx);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean backward() {
+        return this.incoming != null;
+    }
+
+    /**
+     * Builds an adjacency map for the incoming side of the graph, if it is kept.
+     * @param kept Whether the incoming side is kept
+     * @param <T> Elements type
+     * @return Empty adjacency map, or null if the incoming side is not kept
+     */
+    private static <T> Links<T> links(final boolean kept) {
+        Links<T> result = null;
+        if (kept) {
+            result = new Links<>();
+        }
+        return result;
+    }
+
     /**
-     * Connects an edge as an outgoing edge for a vertex.
-     * @param edg The edge
-     * @param start The starting vertex
+     * Finds the incoming edges of a vertex by scanning all the edges.
+     * @param vtx Vertex
+     * @return Incoming edges, or null if the vertex has none
      */
-    private void connect(final Edge edg, final Vertex start) {
-        Set<Edge> connected = this.outgoing.get(start);
-        if (connected == null) {
-            connected = new HashSet<Edge>();
-            this.outgoing.put(start, connected);
+    private Set<Edge> scanned(final Vertex vtx) {
+        Set<Edge> result = null;
+        for (final Edge edg : this.edge) {
+            if (edg.end().equals(vtx)) {
+                if (result == null) {
+                    result = new HashSet<>();
+                }
+                result.add(edg);
+            }
         }
-        connected.add(edg);
+        return result;
     }
 
     /**
-     * Connects a vertex as a neighbor for another vertex.
-     * @param start Vertex to connect to
-     * @param end Vertex to connect
+     * Merges an edge with the edge parallel to it, if any and if the policy is to merge
+     * parallel edges, the parallel edge being looked up by its extremities. The parallel
+     * edge is removed from the graph.
+     * @param edg Added edge
+     * @return The edge to add
      */
-    private void connect(final Vertex start, final Vertex end) {
-        Set<Vertex> connected = this.neighbors.get(start);
-        if (connected == null) {
-            connected = new HashSet<Vertex>();
-            this.neighbors.put(start, connected);
+    private Edge merged(final Edge edg) {
+        Edge result = edg;
+        final Edge parallel = this.kept.get(edg.start(), edg.end());
+        if (parallel != null) {
+            result = this.policy.merge(parallel, edg);
+            if (!result.equals(parallel)) {
+                this.removeEdge(parallel);
+            }
         }
-        connected.add(end);
+        return result;
     }
 }
@@ -24,7 +24,9 @@
 package com.aqueduct.graph;
 
 /**
- * Represents an edge in a graph.
+ * Represents an edge in a graph. Edges are values: two edges having the same extremities
+ * and the same cost are equal, so that graphs keep a single copy of duplicate edges.
+ * How parallel edges having different costs are kept is set by a {@link Multiedge} policy.
  * @since 0.1
  */
 public final class Edge {
@@ -81,6 +83,27 @@ public final class Edge {
         return this.weight;
     }
 
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + this.strt.hashCode();
+        result = prime * result + this.ending.hashCode();
+        result = prime * result + Double.hashCode(this.weight);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        boolean result = false;
+        if (obj != null && getClass() == obj.getClass()) {
+            final Edge other = (Edge) obj;
+            result = this.strt.equals(other.strt) && this.ending.equals(other.ending)
+                && Double.compare(this.weight, other.weight) == 0;
+        }
+        return result;
+    }
+
     @Override
     public String toString() {
         return "Edge [start=".concat(this.strt.toString()).concat(", end=")
@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Read only view of a set of edges, giving each edge with its extremities swapped.
+ * Flipped edges are built while iterating, without copying the set.
+ * @since 0.1
+ */
+final class Flipped extends AbstractSet<Edge> {
+
+    /**
+     * Edges to flip.
+     */
+    private final Set<Edge> origin;
+
+    /**
+     * Constructor.
+     * @param edges Edges to flip
+     */
+    Flipped(final Set<Edge> edges) {
+        this.origin = edges;
+    }
+
+    @Override
+    public Iterator<Edge> iterator() {
+        return new Flipped.Swapping(this.origin.iterator());
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    /**
+     * Iterator giving the edges of another iterator with their extremities swapped.
+     * @since 0.1
+     */
+    private static final class Swapping implements Iterator<Edge> {
+
+        /**
+         * Edges to swap.
+         */
+        private final Iterator<Edge> edges;
+
+        /**
+         * Constructor.
+         * @param origin Edges to swap
+         */
+        Swapping(final Iterator<Edge> origin) {
+            this.edges = origin;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.edges.hasNext();
+        }
+
+        @Override
+        public Edge next() {
+            final Edge edge = this.edges.next();
+            return new Edge(edge.end(), edge.start(), edge.cost());
+        }
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of a graph. The adjacency of every vertex is held in compact arrays
+ * exposed through read only set views, so readers never need to lock or copy anything,
+ * whatever the thread they run on. A snapshot is built with {@link Graph#freeze()}, and
+ * is not updated when the original graph changes. New snapshots derived from a snapshot
+ * (see {@link CopyOnWrite}) share the adjacency arrays of the vertices they do not change,
+ * and the vertex dictionary is a persistent hash trie, so that deriving a snapshot only
+ * copies the trie nodes leading to the changed vertices instead of the whole dictionary.
+ * As for directed graphs, {@link #connected(Vertex)} and {@link #connectedEdges(Vertex)}
+ * give null for vertices having no outgoing edges. Trying to modify the snapshot
+ * throws an {@link UnsupportedOperationException}.
+ * @since 0.1
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.UseVarargs"})
+public final class Frozen implements Graph {
+
+    /**
+     * Error message for modification attempts.
+     */
+    private static final String READ_ONLY = "Frozen graph can not be modified";
+
+    /**
+     * Adjacency without any edge.
+     */
+    private static final Frozen.Adjacency EMPTY = new Frozen.Adjacency(
+        new Edge[0], new Vertex[0]
+    );
+
+    /**
+     * Adjacency by vertex. Every vertex of the graph is a key, including the ones
+     * having no outgoing edges.
+     */
+    private final Trie<Vertex, Frozen.Adjacency> rows;
+
+    /**
+     * Edges count.
+     */
+    private final int count;
+
+    /**
+     * Constructor. Builds a snapshot of the passed graph.
+     * @param graph Graph to freeze
+     */
+    public Frozen(final Graph graph) {
+        this(Frozen.adjacency(graph));
+    }
+
+    /**
+     * Constructor. Builds a snapshot from compressed sparse rows, where the outgoing edges
+     * of each vertex are distinct and ordered by ending vertex.
+     * @param order Vertices by index
+     * @param offsets Position of the first outgoing edge of each vertex
+     * @param targets Ending vertex index of each edge
+     * @param weights Cost of each edge
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Frozen(final Vertex[] order, final int[] offsets, final int[] targets,
+        final double[] weights) {
+        this(new Trie<>(Frozen.adjacency(order, offsets, targets, weights)), offsets[order.length]);
+    }
+
+    /**
+     * Constructor.
+     * @param adjacency Adjacency by vertex
+     */
+    private Frozen(final Map<Vertex, Frozen.Adjacency> adjacency) {
+        this(new Trie<>(adjacency), Frozen.total(adjacency));
+    }
+
+    /**
+     * Constructor.
+     * @param adjacency Adjacency by vertex
+     * @param edges Edges count
+     */
+    private Frozen(final Trie<Vertex, Frozen.Adjacency> adjacency, final int edges) {
+        this.rows = adjacency;
+        this.count = edges;
+    }
+
+    @Override
+    public void addVertices(final Vertex... vtx) {
+        throw new UnsupportedOperationException(Frozen.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Edge edge) {
+        throw new UnsupportedOperationException(Frozen.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Vertex start, final Vertex end, final double cost) {
+        throw new UnsupportedOperationException(Frozen.READ_ONLY);
+    }
+
+    @Override
+    public Set<Vertex> vertices() {
+        return this.rows.keys();
+    }
+
+    @Override
+    public Set<Edge> edges() {
+        return new Frozen.Edges(this);
+    }
+
+    @Override
+    public Set<Vertex> connected(final Vertex vtx) {
+        final Frozen.Adjacency row = this.rows.get(vtx);
+        Set<Vertex> result = null;
+        if (row != null && !row.edges.isEmpty()) {
+            result = row.ends;
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Edge> connectedEdges(final Vertex vtx) {
+        final Frozen.Adjacency row = this.rows.get(vtx);
+        Set<Edge> result = null;
+        if (row != null && !row.edges.isEmpty()) {
+            result = row.edges;
+        }
+        return result;
+    }
+
+    @Override
+    public Frozen freeze() {
+        return this;
+    }
+
+    /**
+     * Builds a new snapshot holding the vertices and edges of this snapshot, plus the passed
+     * ones. Edges are considered as directed. The adjacency of the vertices that are not
+     * the start of a passed edge is shared with this snapshot.
+     * @param vertices Vertices to add
+     * @param edges Edges to add
+     * @return The new snapshot
+     */
+    Frozen with(final Collection<Vertex> vertices, final Collection<Edge> edges) {
+        Trie<Vertex, Frozen.Adjacency> adjacency = this.rows;
+        for (final Vertex vertex : vertices) {
+            adjacency = Frozen.known(adjacency, vertex);
+        }
+        final Map<Vertex, Set<Edge>> added = new LinkedHashMap<>();
+        for (final Edge edge : edges) {
+            adjacency = Frozen.known(adjacency, edge.end());
+            added.computeIfAbsent(edge.start(), vtx -> new LinkedHashSet<>()).add(edge);
+        }
+        int edgs = this.count;
+        for (final Map.Entry<Vertex, Set<Edge>> entry : added.entrySet()) {
+            Frozen.Adjacency row = adjacency.get(entry.getKey());
+            if (row == null) {
+                row = Frozen.EMPTY;
+            }
+            final Frozen.Adjacency updated = row.with(entry.getKey(), entry.getValue());
+            adjacency = adjacency.with(entry.getKey(), updated);
+            edgs += updated.edges.size() - row.edges.size();
+        }
+        return new Frozen(adjacency, edgs);
+    }
+
+    /**
+     * Adds a vertex without any edge to an adjacency dictionary, unless it is already
+     * part of it.
+     * @param adjacency Adjacency by vertex
+     * @param vertex Vertex
+     * @return The dictionary holding the vertex
+     */
+    private static Trie<Vertex, Frozen.Adjacency> known(
+        final Trie<Vertex, Frozen.Adjacency> adjacency, final Vertex vertex) {
+        Trie<Vertex, Frozen.Adjacency> result = adjacency;
+        if (adjacency.get(vertex) == null) {
+            result = adjacency.with(vertex, Frozen.EMPTY);
+        }
+        return result;
+    }
+
+    /**
+     * Builds the adjacency of every vertex of a graph, including the vertices that
+     * are only known as edges extremities.
+     * @param graph Graph to freeze
+     * @return Adjacency by vertex
+     */
+    private static Map<Vertex, Frozen.Adjacency> adjacency(final Graph graph) {
+        final Vertex[] vertices = Indexed.order(graph);
+        final Map<Vertex, Frozen.Adjacency> result = new HashMap<>(vertices.length * 2);
+        for (final Vertex vertex : vertices) {
+            final Set<Edge> edges = graph.connectedEdges(vertex);
+            Frozen.Adjacency row = Frozen.EMPTY;
+            if (edges != null) {
+                row = row.with(vertex, edges);
+            }
+            result.put(vertex, row);
+        }
+        return result;
+    }
+
+    /**
+     * Builds the adjacency of every vertex from compressed sparse rows, where the outgoing
+     * edges of each vertex are ordered by ending vertex.
+     * @param order Vertices by index
+     * @param offsets Position of the first outgoing edge of each vertex
+     * @param targets Ending vertex index of each edge
+     * @param weights Cost of each edge
+     * @return Adjacency by vertex
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static Map<Vertex, Frozen.Adjacency> adjacency(final Vertex[] order,
+        final int[] offsets, final int[] targets, final double[] weights) {
+        final Map<Vertex, Frozen.Adjacency> result = new HashMap<>(order.length * 2);
+        for (int idx = 0; idx < order.length; ++idx) {
+            final Edge[] edges = new Edge[offsets[idx + 1] - offsets[idx]];
+            final List<Vertex> ends = new ArrayList<>(edges.length);
+            for (int pos = offsets[idx]; pos < offsets[idx + 1]; ++pos) {
+                edges[pos - offsets[idx]] = new Edge(order[idx], order[targets[pos]], weights[pos]);
+                if (pos == offsets[idx] || targets[pos] != targets[pos - 1]) {
+                    ends.add(order[targets[pos]]);
+                }
+            }
+            result.put(order[idx], new Frozen.Adjacency(edges, ends.toArray(new Vertex[0])));
+        }
+        return result;
+    }
+
+    /**
+     * Counts the edges of the adjacency. Each edge is counted in the adjacency of its
+     * starting vertex only.
+     * @param adjacency Adjacency by vertex
+     * @return Edges count
+     */
+    private static int total(final Map<Vertex, Frozen.Adjacency> adjacency) {
+        int result = 0;
+        for (final Map.Entry<Vertex, Frozen.Adjacency> entry : adjacency.entrySet()) {
+            for (final Edge edge : entry.getValue().edges) {
+                if (edge.start().equals(entry.getKey())) {
+                    ++result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Outgoing edges of a vertex, and the distinct vertices they lead to.
+     * An edge that does not start from the vertex (as in undirected graphs) is
+     * considered as leading to its other extremity.
+     * @since 0.1
+     */
+    private static final class Adjacency {
+
+        /**
+         * Outgoing edges.
+         */
+        private final Set<Edge> edges;
+
+        /**
+         * Distinct vertices the edges lead to.
+         */
+        private final Set<Vertex> ends;
+
+        /**
+         * Constructor.
+         * @param edges Distinct outgoing edges
+         * @param ends Distinct vertices the edges lead to
+         */
+        Adjacency(final Edge[] edges, final Vertex[] ends) {
+            this.edges = new Row<>(edges);
+            this.ends = new Row<>(ends);
+        }
+
+        /**
+         * Builds a new adjacency holding the edges of this one plus the passed ones.
+         * @param vertex Vertex the edges are outgoing from
+         * @param added Edges to add
+         * @return The new adjacency
+         */
+        public Frozen.Adjacency with(final Vertex vertex, final Collection<Edge> added) {
+            final Set<Edge> edgs = new LinkedHashSet<>(this.edges);
+            edgs.addAll(added);
+            final Set<Vertex> vertices = new LinkedHashSet<>(this.ends);
+            for (final Edge edge : added) {
+                if (edge.start().equals(vertex)) {
+                    vertices.add(edge.end());
+                } else {
+                    vertices.add(edge.start());
+                }
+            }
+            return new Frozen.Adjacency(
+                edgs.toArray(new Edge[0]), vertices.toArray(new Vertex[0])
+            );
+        }
+    }
+
+    /**
+     * Read only view of the edges of a snapshot. Every edge is given once, while iterating
+     * the adjacency of its starting vertex.
+     * @since 0.1
+     */
+    private static final class Edges extends AbstractSet<Edge> {
+
+        /**
+         * Snapshot.
+         */
+        private final Frozen graph;
+
+        /**
+         * Constructor.
+         * @param graph Snapshot
+         */
+        Edges(final Frozen graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public Iterator<Edge> iterator() {
+            return this.graph.rows.entries().flatMap(
+                entry -> entry.getValue().edges.stream().filter(
+                    edge -> edge.start().equals(entry.getKey())
+                )
+            ).iterator();
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            boolean result = false;
+            if (obj instanceof Edge) {
+                final Edge edge = (Edge) obj;
+                final Frozen.Adjacency row = this.graph.rows.get(edge.start());
+                result = row != null && row.edges.contains(edge);
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return this.graph.count;
+        }
+    }
+}
@@ -51,6 +51,30 @@ public interface Graph {
      */
     void addEdge(Vertex start, Vertex end, double cost);
 
+    /**
+     * Removes an edge from the graph. Removing an edge that is not part of the graph
+     * has no effect. Graphs that do not support removal throw
+     * an {@link UnsupportedOperationException}.
+     * @param edge The edge to remove
+     */
+    default void removeEdge(final Edge edge) {
+        throw new UnsupportedOperationException(
+            String.format("%s does not support edge removal", this.getClass().getSimpleName())
+        );
+    }
+
+    /**
+     * Removes a vertex from the graph, with all its incoming and outgoing edges.
+     * Removing a vertex that is not part of the graph has no effect. Graphs that do not
+     * support removal throw an {@link UnsupportedOperationException}.
+     * @param vtx The vertex to remove
+     */
+    default void removeVertex(final Vertex vtx) {
+        throw new UnsupportedOperationException(
+            String.format("%s does not support vertex removal", this.getClass().getSimpleName())
+        );
+    }
+
     /**
      * Accessor for the graph vertices.
      * @return A set of the graph vertices
@@ -64,17 +88,39 @@ public interface Graph {
     Set<Edge> edges();
 
     /**
-     * Gets the connected vertices of a given vertex.
+     * Gets the connected vertices of a given vertex. Graphs supporting removal may stop
+     * updating a set they gave once edges are removed from them, as they rebuild their
+     * adjacency to release memory: the set is to be asked again after a removal.
      * @param vtx Vertex to get neighbors for
      * @return The set of neighboring vertices
      */
     Set<Vertex> connected(Vertex vtx);
 
     /**
-     * Gets the outgoing edges from a given vertex.
+     * Gets the outgoing edges from a given vertex. Graphs supporting removal may stop
+     * updating a set they gave once edges are removed from them, as they rebuild their
+     * adjacency to release memory: the set is to be asked again after a removal.
      * @param vtx Vertex to get edges for
      * @return The set of outgoing edges
      */
     Set<Edge> connectedEdges(Vertex vtx);
 
+    /**
+     * Gives the policy applied to the parallel edges added to the graph. Graphs not merging
+     * parallel edges keep them all.
+     * @return Policy applied to parallel edges
+     */
+    default Multiedge multiedge() {
+        return Multiedge.ALL;
+    }
+
+    /**
+     * Builds an immutable snapshot of the graph, that can be read by several threads
+     * without locking while the graph is modified.
+     * @return The graph snapshot
+     */
+    default Frozen freeze() {
+        return new Frozen(this);
+    }
+
 }
@@ -0,0 +1,365 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Compact indexed snapshot of a graph. Every vertex is associated to a dense index
+ * (from 0 to size - 1) and outgoing edges are laid out in compressed sparse row arrays,
+ * so that algorithms can run on primitive arrays instead of hashed collections.
+ * An edge returned by {@link Graph#connectedEdges(Vertex)} that does not start from the
+ * vertex (as in undirected graphs) is considered as leading to its other extremity.
+ * The snapshot is not updated when the original graph changes.
+ * @since 0.1
+ */
+@SuppressWarnings(
+    {
+        "PMD.ArrayIsStoredDirectly", "PMD.UseVarargs", "PMD.TooManyMethods",
+        "PMD.MethodReturnsInternalArray"
+    }
+)
+public final class Indexed {
+
+    /**
+     * Vertices by index.
+     */
+    private final Vertex[] vtxs;
+
+    /**
+     * Indices by vertex.
+     */
+    private final Map<Vertex, Integer> ids;
+
+    /**
+     * Compressed sparse rows holding the outgoing edges.
+     */
+    private final Indexed.Rows rows;
+
+    /**
+     * Constructor. Builds an indexed snapshot of the passed graph.
+     * @param graph Graph to index
+     */
+    public Indexed(final Graph graph) {
+        this(Indexed.order(graph), graph);
+    }
+
+    /**
+     * Constructor. Builds a snapshot from compressed sparse rows.
+     * @param order Vertices by index
+     * @param offsets Position of the first outgoing edge of each vertex
+     * @param targets Ending vertex index of each edge
+     * @param weights Cost of each edge
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Indexed(final Vertex[] order, final int[] offsets, final int[] targets,
+        final double[] weights) {
+        this(order, Indexed.dictionary(order), new Indexed.Rows(offsets, targets, weights));
+    }
+
+    /**
+     * Constructor.
+     * @param order Vertices by index
+     * @param graph Graph to index
+     */
+    private Indexed(final Vertex[] order, final Graph graph) {
+        this(order, Indexed.dictionary(order), graph);
+    }
+
+    /**
+     * Constructor.
+     * @param order Vertices by index
+     * @param dictionary Indices by vertex
+     * @param graph Graph to index
+     */
+    private Indexed(final Vertex[] order, final Map<Vertex, Integer> dictionary,
+        final Graph graph) {
+        this(order, dictionary, Indexed.outgoing(graph, order, dictionary));
+    }
+
+    /**
+     * Constructor.
+     * @param order Vertices by index
+     * @param dictionary Indices by vertex
+     * @param csr Compressed sparse rows
+     */
+    private Indexed(final Vertex[] order, final Map<Vertex, Integer> dictionary,
+        final Indexed.Rows csr) {
+        this.vtxs = order;
+        this.ids = dictionary;
+        this.rows = csr;
+    }
+
+    /**
+     * Vertices count.
+     * @return The number of indexed vertices
+     */
+    public int size() {
+        return this.vtxs.length;
+    }
+
+    /**
+     * Gives the index of a vertex.
+     * @param vtx Vertex
+     * @return The vertex index, or -1 if the vertex is not part of the graph
+     */
+    public int index(final Vertex vtx) {
+        final Integer result = this.ids.get(vtx);
+        int idx = -1;
+        if (result != null) {
+            idx = result;
+        }
+        return idx;
+    }
+
+    /**
+     * Gives the vertex associated to an index.
+     * @param idx Vertex index
+     * @return The vertex
+     */
+    public Vertex vertex(final int idx) {
+        return this.vtxs[idx];
+    }
+
+    /**
+     * Gives the position of the first outgoing edge of a vertex. Outgoing edges of the vertex
+     * with index {@code idx} are the edges positioned from {@code offset(idx)} (inclusive)
+     * to {@code offset(idx + 1)} (exclusive). {@code offset(size())} is the edges count.
+     * @param idx Vertex index
+     * @return Edge position
+     */
+    public int offset(final int idx) {
+        return this.rows.offsets[idx];
+    }
+
+    /**
+     * Gives the index of the vertex an edge leads to.
+     * @param pos Edge position
+     * @return Ending vertex index
+     */
+    public int target(final int pos) {
+        return this.rows.targets[pos];
+    }
+
+    /**
+     * Gives the cost of an edge.
+     * @param pos Edge position
+     * @return Edge cost
+     */
+    public double weight(final int pos) {
+        return this.rows.weights[pos];
+    }
+
+    /**
+     * Builds the transposed snapshot, in which every edge is reversed. Vertices keep
+     * the same indices.
+     * @return The transposed snapshot
+     */
+    public Indexed transposed() {
+        final int size = this.vtxs.length;
+        final int count = this.rows.offsets[size];
+        final int[] offsets = new int[size + 1];
+        for (int pos = 0; pos < count; ++pos) {
+            ++offsets[this.rows.targets[pos] + 1];
+        }
+        for (int idx = 0; idx < size; ++idx) {
+            offsets[idx + 1] += offsets[idx];
+        }
+        final int[] cursor = Arrays.copyOf(offsets, size);
+        final int[] targets = new int[count];
+        final double[] weights = new double[count];
+        for (int idx = 0; idx < size; ++idx) {
+            for (int pos = this.rows.offsets[idx]; pos < this.rows.offsets[idx + 1]; ++pos) {
+                final int slot = cursor[this.rows.targets[pos]];
+                ++cursor[this.rows.targets[pos]];
+                targets[slot] = idx;
+                weights[slot] = this.rows.weights[pos];
+            }
+        }
+        return new Indexed(this.vtxs, this.ids, new Indexed.Rows(offsets, targets, weights));
+    }
+
+    /**
+     * Builds a reweighted snapshot, in which the cost of every edge from a vertex u
+     * to a vertex v is increased by {@code potential[u] - potential[v]}. Negative costs
+     * resulting from rounding errors are replaced by zero. Vertices keep the same indices.
+     * @param potential Potential by vertex index
+     * @return The reweighted snapshot
+     */
+    public Indexed reweighted(final double... potential) {
+        final int size = this.vtxs.length;
+        final double[] weights = new double[this.rows.offsets[size]];
+        for (int idx = 0; idx < size; ++idx) {
+            for (int pos = this.rows.offsets[idx]; pos < this.rows.offsets[idx + 1]; ++pos) {
+                weights[pos] = Math.max(
+                    0, this.rows.weights[pos] + potential[idx]
+                        - potential[this.rows.targets[pos]]
+                );
+            }
+        }
+        return new Indexed(
+            this.vtxs, this.ids,
+            new Indexed.Rows(this.rows.offsets, this.rows.targets, weights)
+        );
+    }
+
+    /**
+     * Orders the vertices of a graph as an indexed snapshot of the graph would. Vertices
+     * that are only known as edges extremities are also indexed.
+     * @param graph Graph to index
+     * @return Vertices by index
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static Vertex[] order(final Graph graph) {
+        final Map<Vertex, Integer> seen = new HashMap<>();
+        final List<Vertex> result = new ArrayList<>(graph.vertices().size());
+        final Queue<Vertex> queue = new ArrayDeque<>(graph.vertices());
+        while (!queue.isEmpty()) {
+            final Vertex vertex = queue.poll();
+            if (seen.containsKey(vertex)) {
+                continue;
+            }
+            seen.put(vertex, result.size());
+            result.add(vertex);
+            final Set<Edge> edges = graph.connectedEdges(vertex);
+            if (edges == null) {
+                continue;
+            }
+            for (final Edge edge : edges) {
+                if (!seen.containsKey(edge.start())) {
+                    queue.add(edge.start());
+                }
+                if (!seen.containsKey(edge.end())) {
+                    queue.add(edge.end());
+                }
+            }
+        }
+        return result.toArray(new Vertex[0]);
+    }
+
+    /**
+     * Builds the map associating each vertex to its index.
+     * @param order Vertices by index
+     * @return Indices by vertex
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static Map<Vertex, Integer> dictionary(final Vertex[] order) {
+        final Map<Vertex, Integer> result = new HashMap<>(order.length * 2);
+        for (int idx = 0; idx < order.length; ++idx) {
+            result.put(order[idx], idx);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the vertices by index. The array is shared with the snapshot, so it must not
+     * be modified.
+     * @return Vertices by index
+     */
+    Vertex[] vertices() {
+        return this.vtxs;
+    }
+
+    /**
+     * Lays out the outgoing edges of the graph in compressed sparse rows.
+     * @param graph Graph to index
+     * @param order Vertices by index
+     * @param dictionary Indices by vertex
+     * @return Compressed sparse rows
+     */
+    private static Indexed.Rows outgoing(final Graph graph, final Vertex[] order,
+        final Map<Vertex, Integer> dictionary) {
+        final int[] offsets = new int[order.length + 1];
+        for (int idx = 0; idx < order.length; ++idx) {
+            final Set<Edge> edges = graph.connectedEdges(order[idx]);
+            int degree = 0;
+            if (edges != null) {
+                degree = edges.size();
+            }
+            offsets[idx + 1] = offsets[idx] + degree;
+        }
+        final int[] targets = new int[offsets[order.length]];
+        final double[] weights = new double[targets.length];
+        for (int idx = 0; idx < order.length; ++idx) {
+            final Set<Edge> edges = graph.connectedEdges(order[idx]);
+            if (edges == null) {
+                continue;
+            }
+            int pos = offsets[idx];
+            for (final Edge edge : edges) {
+                Vertex end = edge.end();
+                if (!edge.start().equals(order[idx])) {
+                    end = edge.start();
+                }
+                targets[pos] = dictionary.get(end);
+                weights[pos] = edge.cost();
+                ++pos;
+            }
+        }
+        return new Indexed.Rows(offsets, targets, weights);
+    }
+
+    /**
+     * Compressed sparse rows. Outgoing edges of a vertex with index {@code idx} are stored
+     * in {@code targets} and {@code weights} between {@code offsets[idx]} (inclusive)
+     * and {@code offsets[idx + 1]} (exclusive).
+     * @since 0.1
+     */
+    private static final class Rows {
+
+        /**
+         * Position of the first outgoing edge of each vertex.
+         */
+        private final int[] offsets;
+
+        /**
+         * Ending vertex index of each edge.
+         */
+        private final int[] targets;
+
+        /**
+         * Cost of each edge.
+         */
+        private final double[] weights;
+
+        /**
+         * Constructor.
+         * @param offsets Position of the first outgoing edge of each vertex
+         * @param targets Ending vertex index of each edge
+         * @param weights Cost of each edge
+         */
+        Rows(final int[] offsets, final int[] targets, final double[] weights) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+        }
+    }
+}
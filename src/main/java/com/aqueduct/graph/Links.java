@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Adjacency map associating vertices to sets of elements (neighbors or edges).
+ * A vertex with no more elements is removed from the map, so that asking for its
+ * elements gives null as for a vertex that never had any. Hashed sets do not shrink when
+ * elements are removed, so the map and its sets are rebuilt once the count of removals
+ * since the last rebuild exceeds the count of elements held, which keeps the memory
+ * proportional to the actual content in constant amortized time. Sets given before
+ * a rebuild are no longer updated.
+ * @param <T> Elements type
+ * @since 0.1
+ */
+final class Links<T> {
+
+    /**
+     * Removals count under which the map is never rebuilt.
+     */
+    private static final int MINIMUM = 64;
+
+    /**
+     * Elements by vertex.
+     */
+    private Map<Vertex, Set<T>> map;
+
+    /**
+     * Count of elements held.
+     */
+    private int count;
+
+    /**
+     * Count of removals since the last rebuild.
+     */
+    private int removals;
+
+    /**
+     * Constructor. Builds an empty adjacency map.
+     */
+    Links() {
+        this.map = new HashMap<>();
+        this.count = 0;
+        this.removals = 0;
+    }
+
+    /**
+     * Gives the elements associated to a vertex.
+     * @param vtx Vertex
+     * @return Set of elements, or null if the vertex has no elements
+     */
+    public Set<T> get(final Vertex vtx) {
+        return this.map.get(vtx);
+    }
+
+    /**
+     * Copies the elements associated to a vertex, so that they can be dissociated
+     * while iterating.
+     * @param vtx Vertex
+     * @return List of elements, empty if the vertex has no elements
+     */
+    public List<T> elements(final Vertex vtx) {
+        final Set<T> elements = this.map.get(vtx);
+        List<T> result = Collections.emptyList();
+        if (elements != null) {
+            result = new ArrayList<>(elements);
+        }
+        return result;
+    }
+
+    /**
+     * Associates an element to a vertex.
+     * @param vtx Vertex
+     * @param element Element to associate to the vertex
+     */
+    public void connect(final Vertex vtx, final T element) {
+        if (this.map.computeIfAbsent(vtx, key -> new HashSet<>()).add(element)) {
+            ++this.count;
+        }
+    }
+
+    /**
+     * Dissociates an element from a vertex.
+     * @param vtx Vertex
+     * @param element Element to dissociate from the vertex
+     */
+    public void disconnect(final Vertex vtx, final T element) {
+        final Set<T> elements = this.map.get(vtx);
+        if (elements != null && elements.remove(element)) {
+            --this.count;
+            ++this.removals;
+            if (elements.isEmpty()) {
+                this.map.remove(vtx);
+            }
+            if (this.removals > Math.max(this.count, Links.MINIMUM)) {
+                this.compact();
+            }
+        }
+    }
+
+    /**
+     * Checks if some edges link two vertices, whatever the edges direction.
+     * @param edges Edges, or null
+     * @param vtx First vertex
+     * @param other Second vertex
+     * @return True if one of the edges links the two vertices
+     */
+    static boolean joins(final Set<Edge> edges, final Vertex vtx, final Vertex other) {
+        return Links.joining(edges, vtx, other) != null;
+    }
+
+    /**
+     * Finds an edge linking two vertices, whatever its direction.
+     * @param edges Edges, or null
+     * @param vtx First vertex
+     * @param other Second vertex
+     * @return One of the edges linking the two vertices, or null if there is none
+     */
+    static Edge joining(final Set<Edge> edges, final Vertex vtx, final Vertex other) {
+        Edge result = null;
+        if (edges != null) {
+            for (final Edge edge : edges) {
+                if (edge.start().equals(vtx) && edge.end().equals(other)
+                    || edge.start().equals(other) && edge.end().equals(vtx)) {
+                    result = edge;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rebuilds the map and its sets with capacities fitting their content.
+     */
+    private void compact() {
+        final Map<Vertex, Set<T>> compacted = new HashMap<>(this.map.size() * 2);
+        for (final Map.Entry<Vertex, Set<T>> entry : this.map.entrySet()) {
+            compacted.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        }
+        this.map = compacted;
+        this.removals = 0;
+    }
+}
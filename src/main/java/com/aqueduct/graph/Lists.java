@@ -0,0 +1,605 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Sorted adjacency lists compressed in a stream of bits, with a position index giving
+ * random access to the list of every vertex. Each list is written as its distinct
+ * targets: the first one as the gap from the vertex itself, the next ones as the gaps
+ * from their predecessors, all with Elias gamma codes, so that lists of close vertices
+ * take a few bits per target. A list may also copy targets from one of the few previous
+ * lists: it then holds the distance to that reference list, one bit per target of the
+ * reference telling if the target is copied, and only the remaining targets as gaps.
+ * Reference chains are bounded, so that decoding a list decodes a few lists at most.
+ * The count of parallel edges of each target is only written for lists having some.
+ * @since 0.1
+ */
+@SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+final class Lists {
+
+    /**
+     * Count of previous lists that can be referenced.
+     */
+    static final int WINDOW = 7;
+
+    /**
+     * Maximum length of a reference chain.
+     */
+    static final int CHAIN = 3;
+
+    /**
+     * Written words.
+     */
+    private final long[] words;
+
+    /**
+     * Position of the first bit of each list, followed by the total bits count.
+     */
+    private final long[] offsets;
+
+    /**
+     * Constructor.
+     * @param words Written words
+     * @param offsets Position of the first bit of each list, followed by the bits count
+     */
+    Lists(final long[] words, final long[] offsets) {
+        this.words = words;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Counts the targets of a list, parallel edges included.
+     * @param vertex Vertex index
+     * @return Targets count
+     */
+    public int degree(final int vertex) {
+        final Lists.Distinct distinct = new Lists.Distinct(this, vertex);
+        int result = distinct.size();
+        if (distinct.multiple()) {
+            final Bits.Reader counts = distinct.counts();
+            result = 0;
+            for (int idx = 0; idx < distinct.size(); ++idx) {
+                result += (int) counts.gamma();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the distinct targets of a list.
+     * @param vertex Vertex index
+     * @return Distinct targets count
+     */
+    public int distinct(final int vertex) {
+        return (int) new Bits.Reader(this.words, this.offsets[vertex]).gamma() - 1;
+    }
+
+    /**
+     * Iterates the targets of a list, parallel edges included, decoding them one
+     * at a time.
+     * @param vertex Vertex index
+     * @return Sorted targets
+     */
+    public PrimitiveIterator.OfInt targets(final int vertex) {
+        return new Lists.Targets(new Lists.Distinct(this, vertex));
+    }
+
+    /**
+     * Iterates the distinct targets of a list, decoding them one at a time.
+     * @param vertex Vertex index
+     * @return Sorted distinct targets
+     */
+    public PrimitiveIterator.OfInt neighbors(final int vertex) {
+        return new Lists.Distinct(this, vertex);
+    }
+
+    /**
+     * Gives the size of the compressed lists.
+     * @return Bits count
+     */
+    public long bits() {
+        return this.offsets[this.offsets.length - 1];
+    }
+
+    /**
+     * Counts the bits set among the next bits of a reader.
+     * @param input Reader
+     * @param count Count of bits to read
+     * @return Count of bits set
+     */
+    private static int ones(final Bits.Reader input, final int count) {
+        int result = 0;
+        for (int left = count; left > 0; left -= Integer.SIZE) {
+            result += Long.bitCount(input.read(Math.min(left, Integer.SIZE)));
+        }
+        return result;
+    }
+
+    /**
+     * Decoding iterator over the distinct targets of a list. The targets copied from
+     * the reference list, themselves decoded by an iterator over the reference list, are
+     * merged with the remaining targets while the gaps are read.
+     * @since 0.1
+     */
+    private static final class Distinct implements PrimitiveIterator.OfInt {
+
+        /**
+         * Written words.
+         */
+        private final long[] words;
+
+        /**
+         * Vertex index.
+         */
+        private final int vertex;
+
+        /**
+         * Distinct targets count.
+         */
+        private final int count;
+
+        /**
+         * Whether the list has parallel edges.
+         */
+        private final boolean parallel;
+
+        /**
+         * Iterator over the reference list, or null if the list copies no target.
+         */
+        private final Lists.Distinct reference;
+
+        /**
+         * Reader of the flags telling which targets of the reference list are copied.
+         */
+        private final Bits.Reader flags;
+
+        /**
+         * Reader of the gaps of the targets that are not copied.
+         */
+        private final Bits.Reader gaps;
+
+        /**
+         * Position of the first gap.
+         */
+        private final long start;
+
+        /**
+         * Count of targets that are not copied.
+         */
+        private final int residuals;
+
+        /**
+         * Count of gaps read.
+         */
+        private int read;
+
+        /**
+         * Count of targets given.
+         */
+        private int given;
+
+        /**
+         * Last target read from the gaps.
+         */
+        private int last;
+
+        /**
+         * Target read from the gaps and not given yet, or -1 if there is none.
+         */
+        private int residual;
+
+        /**
+         * Target copied from the reference list and not given yet, or -1 if there is none.
+         */
+        private int copied;
+
+        /**
+         * Constructor. Reads the header of a list.
+         * @param lists Compressed lists
+         * @param vertex Vertex index
+         */
+        Distinct(final Lists lists, final int vertex) {
+            this.words = lists.words;
+            this.vertex = vertex;
+            final Bits.Reader input = new Bits.Reader(lists.words, lists.offsets[vertex]);
+            this.count = (int) input.gamma() - 1;
+            boolean multiple = false;
+            Lists.Distinct copying = null;
+            Bits.Reader marks = null;
+            int copies = 0;
+            if (this.count > 0) {
+                multiple = input.read(1) == 1;
+                final int distance = (int) input.gamma() - 1;
+                if (distance > 0) {
+                    copying = new Lists.Distinct(lists, vertex - distance);
+                    marks = new Bits.Reader(lists.words, input.position());
+                    copies = Lists.ones(input, copying.size());
+                }
+            }
+            this.parallel = multiple;
+            this.reference = copying;
+            this.flags = marks;
+            this.gaps = input;
+            this.start = input.position();
+            this.residuals = this.count - copies;
+            this.residual = -1;
+            this.copied = -1;
+        }
+
+        /**
+         * Counts the distinct targets.
+         * @return Distinct targets count
+         */
+        public int size() {
+            return this.count;
+        }
+
+        /**
+         * Tells whether the list has parallel edges.
+         * @return True if some targets are repeated
+         */
+        public boolean multiple() {
+            return this.parallel;
+        }
+
+        /**
+         * Gives a reader positioned on the counts of edges of each target, by skipping
+         * the gaps.
+         * @return Counts reader
+         */
+        public Bits.Reader counts() {
+            final Bits.Reader result = new Bits.Reader(this.words, this.start);
+            for (int idx = 0; idx < this.residuals; ++idx) {
+                result.gamma();
+            }
+            return result;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.given < this.count;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (this.residual < 0 && this.read < this.residuals) {
+                this.residual = this.gap();
+            }
+            while (this.copied < 0 && this.reference != null && this.reference.hasNext()) {
+                final int target = this.reference.nextInt();
+                if (this.flags.read(1) == 1) {
+                    this.copied = target;
+                }
+            }
+            final int result;
+            if (this.residual < 0 || this.copied >= 0 && this.copied < this.residual) {
+                result = this.copied;
+                this.copied = -1;
+            } else {
+                result = this.residual;
+                this.residual = -1;
+            }
+            ++this.given;
+            return result;
+        }
+
+        /**
+         * Reads the next target that is not copied.
+         * @return Target
+         */
+        private int gap() {
+            final int result;
+            if (this.read == 0) {
+                final long first = this.gaps.gamma() - 1;
+                result = this.vertex + (int) (first >>> 1 ^ -(first & 1));
+            } else {
+                result = this.last + (int) this.gaps.gamma();
+            }
+            this.last = result;
+            ++this.read;
+            return result;
+        }
+    }
+
+    /**
+     * Decoding iterator over the targets of a list, parallel edges included.
+     * @since 0.1
+     */
+    private static final class Targets implements PrimitiveIterator.OfInt {
+
+        /**
+         * Iterator over the distinct targets.
+         */
+        private final Lists.Distinct distinct;
+
+        /**
+         * Reader of the counts of edges of each target, or null if the list has no
+         * parallel edges.
+         */
+        private final Bits.Reader counts;
+
+        /**
+         * Current target.
+         */
+        private int target;
+
+        /**
+         * Count of times the current target is still to be given.
+         */
+        private int left;
+
+        /**
+         * Constructor.
+         * @param distinct Iterator over the distinct targets
+         */
+        Targets(final Lists.Distinct distinct) {
+            this.distinct = distinct;
+            Bits.Reader reader = null;
+            if (distinct.multiple()) {
+                reader = distinct.counts();
+            }
+            this.counts = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.left > 0 || this.distinct.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            if (this.left == 0) {
+                this.target = this.distinct.nextInt();
+                this.left = 1;
+                if (this.counts != null) {
+                    this.left = (int) this.counts.gamma();
+                }
+            }
+            --this.left;
+            return this.target;
+        }
+    }
+
+    /**
+     * Writer compressing lists one after the other, choosing for each list the previous
+     * list it can copy the most bits from.
+     * @since 0.1
+     */
+    static final class Writer {
+
+        /**
+         * Bits stream.
+         */
+        private final Bits out;
+
+        /**
+         * Position of the first bit of each list, followed by the total bits count.
+         */
+        private final long[] offsets;
+
+        /**
+         * Distinct targets of the last written lists, by vertex index modulo the window.
+         */
+        private final int[][] window;
+
+        /**
+         * Reference chain length of each list.
+         */
+        private final int[] depth;
+
+        /**
+         * Written lists count.
+         */
+        private int count;
+
+        /**
+         * Constructor.
+         * @param size Count of lists to write
+         */
+        Writer(final int size) {
+            this.out = new Bits();
+            this.offsets = new long[size + 1];
+            this.window = new int[Lists.WINDOW][];
+            this.depth = new int[size];
+            this.count = 0;
+        }
+
+        /**
+         * Writes the list of the next vertex.
+         * @param targets Sorted targets, parallel edges included
+         */
+        public void add(final int[] targets) {
+            final int vertex = this.count;
+            this.offsets[vertex] = this.out.size();
+            final int[] counts = Lists.Writer.runs(targets);
+            final int[] distinct = Arrays.stream(targets).distinct().toArray();
+            this.out.gamma(distinct.length + 1L);
+            if (distinct.length > 0) {
+                this.out.write(Lists.Writer.flag(counts.length < targets.length), 1);
+                this.reference(vertex, distinct);
+                if (counts.length < targets.length) {
+                    for (final int run : counts) {
+                        this.out.gamma(run);
+                    }
+                }
+            }
+            this.window[vertex % Lists.WINDOW] = distinct;
+            ++this.count;
+        }
+
+        /**
+         * Gives the written lists.
+         * @return Compressed lists
+         */
+        public Lists lists() {
+            this.offsets[this.count] = this.out.size();
+            return new Lists(this.out.array(), this.offsets);
+        }
+
+        /**
+         * Writes the distinct targets of a list, copying the targets of the cheapest
+         * reference list if any.
+         * @param vertex Vertex index
+         * @param distinct Sorted distinct targets
+         */
+        private void reference(final int vertex, final int[] distinct) {
+            int best = 0;
+            long cost = 1L + Lists.Writer.gaps(vertex, distinct);
+            for (int distance = 1; distance <= Math.min(Lists.WINDOW, vertex); ++distance) {
+                if (this.depth[vertex - distance] < Lists.CHAIN) {
+                    final int[] reference = this.window[(vertex - distance) % Lists.WINDOW];
+                    final long bits = Bits.length(distance + 1L) + reference.length
+                        + Lists.Writer.gaps(
+                            vertex,
+                            Lists.Writer.residuals(distinct, reference, new boolean[0])
+                        );
+                    if (bits < cost) {
+                        cost = bits;
+                        best = distance;
+                    }
+                }
+            }
+            this.out.gamma(best + 1L);
+            int[] residuals = distinct;
+            if (best > 0) {
+                final int[] reference = this.window[(vertex - best) % Lists.WINDOW];
+                final boolean[] copied = new boolean[reference.length];
+                residuals = Lists.Writer.residuals(distinct, reference, copied);
+                for (final boolean copy : copied) {
+                    this.out.write(Lists.Writer.flag(copy), 1);
+                }
+                this.depth[vertex] = this.depth[vertex - best] + 1;
+            }
+            this.write(vertex, residuals);
+        }
+
+        /**
+         * Writes targets as gaps.
+         * @param vertex Vertex index
+         * @param targets Sorted distinct targets
+         */
+        private void write(final int vertex, final int[] targets) {
+            if (targets.length > 0) {
+                this.out.gamma(Lists.Writer.zigzag(targets[0] - (long) vertex) + 1);
+                for (int idx = 1; idx < targets.length; ++idx) {
+                    this.out.gamma(targets[idx] - targets[idx - 1]);
+                }
+            }
+        }
+
+        /**
+         * Computes the length of targets written as gaps.
+         * @param vertex Vertex index
+         * @param targets Sorted distinct targets
+         * @return Length in bits
+         */
+        private static long gaps(final int vertex, final int[] targets) {
+            long result = 0;
+            if (targets.length > 0) {
+                result = Bits.length(Lists.Writer.zigzag(targets[0] - (long) vertex) + 1);
+                for (int idx = 1; idx < targets.length; ++idx) {
+                    result += Bits.length(targets[idx] - targets[idx - 1]);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Gives the targets that can not be copied from a reference list.
+         * @param distinct Sorted distinct targets
+         * @param reference Sorted distinct targets of the reference list
+         * @param copied Flags set for the copied targets of the reference list, if as
+         *  long as the reference list
+         * @return Sorted targets that are not copied
+         */
+        private static int[] residuals(final int[] distinct, final int[] reference,
+            final boolean[] copied) {
+            final int[] result = new int[distinct.length];
+            int kept = 0;
+            int ref = 0;
+            for (final int target : distinct) {
+                while (ref < reference.length && reference[ref] < target) {
+                    ++ref;
+                }
+                if (ref < reference.length && reference[ref] == target) {
+                    if (copied.length > 0) {
+                        copied[ref] = true;
+                    }
+                    ++ref;
+                } else {
+                    result[kept] = target;
+                    ++kept;
+                }
+            }
+            return Arrays.copyOf(result, kept);
+        }
+
+        /**
+         * Counts the consecutive equal targets.
+         * @param targets Sorted targets
+         * @return Length of each run of equal targets
+         */
+        private static int[] runs(final int[] targets) {
+            final int[] result = new int[targets.length];
+            int size = 0;
+            for (int idx = 0; idx < targets.length; ++idx) {
+                if (idx == 0 || targets[idx] != targets[idx - 1]) {
+                    ++size;
+                }
+                ++result[size - 1];
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        /**
+         * Maps a signed value to a non negative one, small absolute values giving
+         * small results.
+         * @param value Signed value
+         * @return Non negative value
+         */
+        private static long zigzag(final long value) {
+            return value << 1 ^ value >> Long.SIZE - 1;
+        }
+
+        /**
+         * Gives the bit telling if a condition holds.
+         * @param condition Condition
+         * @return One if the condition holds, zero otherwise
+         */
+        private static long flag(final boolean condition) {
+            long result = 0;
+            if (condition) {
+                result = 1;
+            }
+            return result;
+        }
+    }
+}
@@ -23,6 +23,9 @@
  */
 package com.aqueduct.graph;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -31,9 +34,11 @@ import java.util.Set;
 /**
  * Represents a directed graph based on an adjacency Matrix. This implementation does not support
  * multiple (parallel) edges starting from a vertex A to another vertex B. Adding vertices upon
- * construction is not supported.
+ * construction is not supported. Removing a vertex frees its index, which is reused by
+ * the next added vertex.
  * @since 0.1
  */
+@SuppressWarnings("PMD.TooManyMethods")
 public final class Matrix implements Graph {
 
     /**
@@ -51,6 +56,11 @@ public final class Matrix implements Graph {
      */
     private final Double[][] edgs;
 
+    /**
+     * Indices freed by removed vertices.
+     */
+    private final Deque<Integer> free;
+
     /**
      * Constructor. Builds an empty directed graph with the given number of vertices.
      * @param size Vertices count
@@ -59,21 +69,23 @@ public final class Matrix implements Graph {
         this.edgs = Matrix.matrix(size);
         this.names = new HashMap<>(size);
         this.indices = new HashMap<>(size);
+        this.free = new ArrayDeque<>();
     }
 
     @Override
     public void addVertices(final Vertex... vtx) {
         for (final Vertex vertex : vtx) {
             if (!this.names.containsKey(vertex)) {
-                final int current = this.names.size();
-                if (current < this.edgs.length) {
-                    this.names.put(vertex, current);
-                    this.indices.put(current, vertex);
-                } else {
+                if (this.free.isEmpty() && this.names.size() >= this.edgs.length) {
                     throw new UnsupportedOperationException(
                         String.format("Maximum of %d vertices can be added", this.edgs.length)
                     );
                 }
+                if (this.free.isEmpty()) {
+                    this.place(vertex, this.names.size());
+                } else {
+                    this.place(vertex, this.free.pop());
+                }
             }
         }
     }
@@ -89,6 +101,29 @@ public final class Matrix implements Graph {
         this.edgs[this.names.get(start)][this.names.get(end)] = cost;
     }
 
+    @Override
+    public void removeEdge(final Edge edg) {
+        final Integer start = this.names.get(edg.start());
+        final Integer end = this.names.get(edg.end());
+        if (start != null && end != null && this.edgs[start][end] != null
+            && Double.compare(this.edgs[start][end], edg.cost()) == 0) {
+            this.clear(start, end);
+        }
+    }
+
+    @Override
+    public void removeVertex(final Vertex vtx) {
+        final Integer idx = this.names.remove(vtx);
+        if (idx != null) {
+            Arrays.fill(this.edgs[idx], null);
+            for (int jdx = 0; jdx < this.edgs.length; ++jdx) {
+                this.clear(jdx, idx);
+            }
+            this.indices.remove(idx);
+            this.free.push(idx);
+        }
+    }
+
     @Override
     public Set<Vertex> vertices() {
         return this.names.keySet();
@@ -134,6 +169,25 @@ public final class Matrix implements Graph {
         return result;
     }
 
+    /**
+     * Removes the edge between two vertices, if any.
+     * @param start Starting vertex index
+     * @param end Ending vertex index
+     */
+    private void clear(final int start, final int end) {
+        this.edgs[start][end] = null;
+    }
+
+    /**
+     * Associates a vertex to an index.
+     * @param vertex Vertex
+     * @param idx Index
+     */
+    private void place(final Vertex vertex, final int idx) {
+        this.names.put(vertex, idx);
+        this.indices.put(idx, vertex);
+    }
+
     /**
      * Builds a square matrix of the given size.
      * @param size Size of the matrix
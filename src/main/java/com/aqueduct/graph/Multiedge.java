@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * Policy applied to parallel edges, that is edges having the same extremities.
+ * Edges being values, adding an edge equal to a kept edge (having the same cost as well)
+ * leaves the graph unchanged under {@link #ALL}. Under the other policies, each added edge
+ * is merged with the kept one whatever its cost: under {@link #SUM}, adding twice the same
+ * edge doubles its cost. The merged cost then depends neither on the order of the edges
+ * nor on the graph or the builder they are added to.
+ * @since 0.1
+ */
+public enum Multiedge {
+
+    /**
+     * Keeps all the parallel edges, equal edges being kept once.
+     */
+    ALL((kept, added) -> added),
+
+    /**
+     * Keeps the parallel edge having the minimum cost.
+     */
+    MIN(Math::min),
+
+    /**
+     * Keeps the parallel edge having the maximum cost.
+     */
+    MAX(Math::max),
+
+    /**
+     * Merges the parallel edges into an edge whose cost is the sum of their costs.
+     */
+    SUM(Double::sum);
+
+    /**
+     * Costs merging operator.
+     */
+    private final DoubleBinaryOperator operator;
+
+    /**
+     * Constructor.
+     * @param operator Costs merging operator
+     */
+    Multiedge(final DoubleBinaryOperator operator) {
+        this.operator = operator;
+    }
+
+    /**
+     * Merges the costs of two parallel edges. Merging is not used by the {@link #ALL} policy.
+     * @param kept Cost of the edge already kept
+     * @param added Cost of the added edge
+     * @return Cost of the merged edge
+     */
+    public double merge(final double kept, final double added) {
+        return this.operator.applyAsDouble(kept, added);
+    }
+
+    /**
+     * Merges two parallel edges. Merging is not used by the {@link #ALL} policy.
+     * @param kept Edge already kept
+     * @param added Added edge
+     * @return One of the edges if its cost is the merged cost, or a new edge with the
+     *  extremities of the kept edge and the merged cost
+     */
+    public Edge merge(final Edge kept, final Edge added) {
+        final double cost = this.merge(kept.cost(), added.cost());
+        Edge result = new Edge(kept.start(), kept.end(), cost);
+        if (Double.compare(cost, kept.cost()) == 0) {
+            result = kept;
+        } else if (Double.compare(cost, added.cost()) == 0) {
+            result = added;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,766 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Immutable graph whose edges are held outside of the Java heap. Outgoing edges are laid
+ * out in compressed sparse rows, as in {@link Indexed}, but the offsets, targets and costs
+ * are stored in chunked direct buffers, so that huge graphs neither weigh on the garbage
+ * collector nor are limited to 2^31 edges. Only the vertices are kept on the heap.
+ * The outgoing edges of every vertex are sorted by ending vertex while being copied, and
+ * the graph views are built on demand over the buffers: checking whether they hold
+ * a vertex or an edge is a binary search in the outgoing edges of a vertex. An edge returned by
+ * {@link Graph#connectedEdges(Vertex)} of the copied graph that does not start from the
+ * vertex (as in undirected graphs) is considered as leading to its other extremity.
+ * As for directed graphs, {@link #connected(Vertex)} and {@link #connectedEdges(Vertex)}
+ * give null for vertices having no outgoing edges.
+ * The graph must be closed once not used anymore: closing frees the memory of the buffers
+ * at once, and any later access throws an {@link IllegalStateException}. Reads of
+ * the buffers hold a shared lock, so that closing waits for the reads in progress, and
+ * a read racing with closing either completes or throws the same exception. The views
+ * take the lock once for each row they iterate and each lookup, rather than for each
+ * value they read, while {@link #offset(int)}, {@link #target(long)} and
+ * {@link #weight(long)} take it for the single value they give. As the memory is freed
+ * on closing, reads are not optimistic: a read validated only once done could touch
+ * released memory.
+ * Trying to modify the graph throws an {@link UnsupportedOperationException}.
+ * The graph is loaded either from a graph held on the heap, or from an {@link Indexed}
+ * snapshot whose int offsets limit it to 2^31 edges: graphs having more edges can be read
+ * once off the heap, but there is no streaming loader yet to build them without holding
+ * them on the heap first.
+ * @since 0.1
+ */
+@SuppressWarnings(
+    {"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs", "PMD.TooManyMethods"}
+)
+public final class OffHeap implements Graph, AutoCloseable {
+
+    /**
+     * Error message for modification attempts.
+     */
+    private static final String READ_ONLY = "Off-heap graph can not be modified";
+
+    /**
+     * Bytes count of an int.
+     */
+    private static final int INT = 4;
+
+    /**
+     * Bytes count of a long or a double.
+     */
+    private static final int LONG = 8;
+
+    /**
+     * Vertices by index.
+     */
+    private final Vertex[] vtxs;
+
+    /**
+     * Indices by vertex.
+     */
+    private final Map<Vertex, Integer> ids;
+
+    /**
+     * Off-heap compressed sparse rows.
+     */
+    private final OffHeap.Rows rows;
+
+    /**
+     * Whether the graph is not closed yet.
+     */
+    private final AtomicBoolean open;
+
+    /**
+     * Lock shared by the reads of the buffers, and taken exclusively to free them.
+     */
+    private final StampedLock guard;
+
+    /**
+     * Constructor. Copies a graph off the heap, indexing its vertices as {@link Indexed}
+     * does. The graph is entirely held on the heap while being copied.
+     * @param graph Graph to copy
+     */
+    public OffHeap(final Graph graph) {
+        this(Indexed.order(graph), graph);
+    }
+
+    /**
+     * Constructor. Copies an indexed snapshot off the heap, keeping the vertices indices.
+     * The snapshot can not hold more than 2^31 edges.
+     * @param indexed Indexed snapshot to copy
+     */
+    public OffHeap(final Indexed indexed) {
+        this(indexed, Chunks.SHIFT);
+    }
+
+    /**
+     * Constructor.
+     * @param indexed Indexed snapshot to copy
+     * @param shift Count of bits giving the position of a value in its chunk
+     */
+    OffHeap(final Indexed indexed, final int shift) {
+        this(indexed.vertices(), OffHeap.Rows.copy(indexed, shift));
+    }
+
+    /**
+     * Constructor.
+     * @param order Vertices by index
+     * @param graph Graph to copy
+     */
+    private OffHeap(final Vertex[] order, final Graph graph) {
+        this(order, Indexed.dictionary(order), graph);
+    }
+
+    /**
+     * Constructor.
+     * @param order Vertices by index
+     * @param dictionary Indices by vertex
+     * @param graph Graph to copy
+     */
+    private OffHeap(final Vertex[] order, final Map<Vertex, Integer> dictionary,
+        final Graph graph) {
+        this(order, dictionary, OffHeap.Rows.copy(order, dictionary, graph));
+    }
+
+    /**
+     * Constructor.
+     * @param order Vertices by index
+     * @param csr Off-heap compressed sparse rows
+     */
+    private OffHeap(final Vertex[] order, final OffHeap.Rows csr) {
+        this(order, Indexed.dictionary(order), csr);
+    }
+
+    /**
+     * Constructor.
+     * @param order Vertices by index
+     * @param dictionary Indices by vertex
+     * @param csr Off-heap compressed sparse rows
+     */
+    private OffHeap(final Vertex[] order, final Map<Vertex, Integer> dictionary,
+        final OffHeap.Rows csr) {
+        this.vtxs = order;
+        this.ids = dictionary;
+        this.rows = csr;
+        this.open = new AtomicBoolean(true);
+        this.guard = new StampedLock();
+    }
+
+    /**
+     * Vertices count.
+     * @return The number of vertices
+     */
+    public int size() {
+        return this.vtxs.length;
+    }
+
+    /**
+     * Gives the index of a vertex.
+     * @param vtx Vertex
+     * @return The vertex index, or -1 if the vertex is not part of the graph
+     */
+    public int index(final Vertex vtx) {
+        return this.ids.getOrDefault(vtx, -1);
+    }
+
+    /**
+     * Gives the vertex associated to an index.
+     * @param idx Vertex index
+     * @return The vertex
+     */
+    public Vertex vertex(final int idx) {
+        return this.vtxs[idx];
+    }
+
+    /**
+     * Gives the position of the first outgoing edge of a vertex. Outgoing edges of the vertex
+     * with index {@code idx} are the edges positioned from {@code offset(idx)} (inclusive)
+     * to {@code offset(idx + 1)} (exclusive). {@code offset(size())} is the edges count.
+     * @param idx Vertex index
+     * @return Edge position
+     */
+    public long offset(final int idx) {
+        final long stamp = this.enter();
+        final long result;
+        try {
+            result = this.rows.offsets.getLong(idx);
+        } finally {
+            this.guard.unlockRead(stamp);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the index of the vertex an edge leads to.
+     * @param pos Edge position
+     * @return Ending vertex index
+     */
+    public int target(final long pos) {
+        final long stamp = this.enter();
+        final int result;
+        try {
+            result = this.rows.targets.getInt(pos);
+        } finally {
+            this.guard.unlockRead(stamp);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the cost of an edge.
+     * @param pos Edge position
+     * @return Edge cost
+     */
+    public double weight(final long pos) {
+        final long stamp = this.enter();
+        final double result;
+        try {
+            result = this.rows.weights.getDouble(pos);
+        } finally {
+            this.guard.unlockRead(stamp);
+        }
+        return result;
+    }
+
+    @Override
+    public void addVertices(final Vertex... vtx) {
+        throw new UnsupportedOperationException(OffHeap.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Edge edge) {
+        throw new UnsupportedOperationException(OffHeap.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Vertex start, final Vertex end, final double cost) {
+        throw new UnsupportedOperationException(OffHeap.READ_ONLY);
+    }
+
+    @Override
+    public Set<Vertex> vertices() {
+        this.check();
+        return Collections.unmodifiableSet(this.ids.keySet());
+    }
+
+    @Override
+    public Set<Edge> edges() {
+        this.check();
+        return new OffHeap.Edges(this);
+    }
+
+    @Override
+    public Set<Vertex> connected(final Vertex vtx) {
+        final int idx = this.index(vtx);
+        Set<Vertex> result = null;
+        if (idx >= 0 && this.degree(idx) > 0) {
+            result = new OffHeap.Neighbors(this, idx);
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Edge> connectedEdges(final Vertex vtx) {
+        final int idx = this.index(vtx);
+        Set<Edge> result = null;
+        if (idx >= 0 && this.degree(idx) > 0) {
+            result = new OffHeap.Outgoing(this, idx);
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        if (this.open.compareAndSet(true, false)) {
+            final long stamp = this.guard.writeLock();
+            try {
+                this.rows.release();
+            } finally {
+                this.guard.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Builds the outgoing edges of a vertex, reading its row at once.
+     * @param idx Vertex index
+     * @return Outgoing edges
+     */
+    private Stream<Edge> outgoing(final int idx) {
+        return this.read(csr -> csr.edges(this.vtxs, idx)).stream();
+    }
+
+    /**
+     * Counts the outgoing edges of a vertex.
+     * @param idx Vertex index
+     * @return Outgoing edges count
+     */
+    private long degree(final int idx) {
+        return this.read(csr -> csr.offset(idx + 1) - csr.offset(idx));
+    }
+
+    /**
+     * Gives the distinct indices of the vertices the outgoing edges of a vertex lead to.
+     * @param idx Vertex index
+     * @return Sorted indices
+     */
+    private int[] targets(final int idx) {
+        return this.read(csr -> csr.targets(idx));
+    }
+
+    /**
+     * Checks if an outgoing edge of a vertex leads to another vertex.
+     * @param idx Vertex index
+     * @param target Ending vertex index
+     * @return True if an outgoing edge leads to the vertex
+     */
+    private boolean leads(final int idx, final int target) {
+        return this.read(csr -> csr.leads(idx, target));
+    }
+
+    /**
+     * Checks if an object is an outgoing edge of a vertex.
+     * @param idx Vertex index
+     * @param obj Object to look for
+     * @return True if the object is an outgoing edge of the vertex
+     */
+    private boolean holds(final int idx, final Object obj) {
+        boolean result = false;
+        if (obj instanceof Edge && this.vtxs[idx].equals(((Edge) obj).start())) {
+            final Edge edge = (Edge) obj;
+            final int target = this.index(edge.end());
+            result = this.read(csr -> csr.holds(idx, target, edge.cost()));
+        }
+        return result;
+    }
+
+    /**
+     * Reads the buffers, holding the shared lock once for the whole read.
+     * @param reading Reading of the buffers
+     * @param <T> Read value type
+     * @return Read value
+     */
+    private <T> T read(final Function<OffHeap.Rows, T> reading) {
+        final long stamp = this.enter();
+        final T result;
+        try {
+            result = reading.apply(this.rows);
+        } finally {
+            this.guard.unlockRead(stamp);
+        }
+        return result;
+    }
+
+    /**
+     * Takes the shared lock to read the buffers, ensuring the graph is not closed.
+     * @return Lock stamp, to be released once the buffers are read
+     */
+    private long enter() {
+        final long stamp = this.guard.readLock();
+        if (!this.open.get()) {
+            this.guard.unlockRead(stamp);
+            this.check();
+        }
+        return stamp;
+    }
+
+    /**
+     * Ensures the graph is not closed.
+     */
+    private void check() {
+        if (!this.open.get()) {
+            throw new IllegalStateException("Off-heap graph is closed");
+        }
+    }
+
+    /**
+     * Off-heap compressed sparse rows.
+     * @since 0.1
+     */
+    private static final class Rows {
+
+        /**
+         * Position of the first outgoing edge of each vertex, followed by the edges count.
+         */
+        private final Chunks offsets;
+
+        /**
+         * Ending vertex index of each edge.
+         */
+        private final Chunks targets;
+
+        /**
+         * Cost of each edge.
+         */
+        private final Chunks weights;
+
+        /**
+         * Constructor. Allocates zeroed targets and costs.
+         * @param offsets Position of the first outgoing edge of each vertex, followed by
+         *  the edges count
+         * @param count Edges count
+         * @param shift Count of bits giving the position of a value in its chunk
+         */
+        Rows(final Chunks offsets, final long count, final int shift) {
+            this.offsets = offsets;
+            this.targets = new Chunks(count, OffHeap.INT, shift);
+            this.weights = new Chunks(count, OffHeap.LONG, shift);
+        }
+
+        /**
+         * Gives the position of the first outgoing edge of a vertex.
+         * @param idx Vertex index
+         * @return Edge position
+         */
+        public long offset(final int idx) {
+            return this.offsets.getLong(idx);
+        }
+
+        /**
+         * Builds the outgoing edges of a vertex.
+         * @param order Vertices by index
+         * @param idx Vertex index
+         * @return Outgoing edges
+         */
+        public List<Edge> edges(final Vertex[] order, final int idx) {
+            final long first = this.offset(idx);
+            final long last = this.offset(idx + 1);
+            final List<Edge> result = new ArrayList<>((int) (last - first));
+            for (long pos = first; pos < last; ++pos) {
+                result.add(
+                    new Edge(
+                        order[idx], order[this.targets.getInt(pos)], this.weights.getDouble(pos)
+                    )
+                );
+            }
+            return result;
+        }
+
+        /**
+         * Gives the distinct indices of the vertices the outgoing edges of a vertex lead to.
+         * @param idx Vertex index
+         * @return Sorted indices
+         */
+        public int[] targets(final int idx) {
+            return LongStream.range(this.offset(idx), this.offset(idx + 1))
+                .mapToInt(this.targets::getInt).distinct().toArray();
+        }
+
+        /**
+         * Checks if an outgoing edge of a vertex leads to another vertex.
+         * @param idx Vertex index
+         * @param target Ending vertex index
+         * @return True if an outgoing edge leads to the vertex
+         */
+        public boolean leads(final int idx, final int target) {
+            final long pos = this.lower(idx, target);
+            return pos < this.offset(idx + 1) && this.targets.getInt(pos) == target;
+        }
+
+        /**
+         * Checks if an outgoing edge of a vertex leads to another vertex with a cost.
+         * @param idx Vertex index
+         * @param target Ending vertex index
+         * @param cost Edge cost
+         * @return True if such an outgoing edge exists
+         */
+        public boolean holds(final int idx, final int target, final double cost) {
+            boolean result = false;
+            final long last = this.offset(idx + 1);
+            for (long pos = this.lower(idx, target); pos < last; ++pos) {
+                if (this.targets.getInt(pos) != target) {
+                    break;
+                }
+                if (Double.compare(this.weights.getDouble(pos), cost) == 0) {
+                    result = true;
+                    break;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Frees the buffers.
+         */
+        public void release() {
+            this.offsets.release();
+            this.targets.release();
+            this.weights.release();
+        }
+
+        /**
+         * Copies the outgoing edges of a graph off the heap.
+         * @param order Vertices by index
+         * @param dictionary Indices by vertex
+         * @param graph Graph to copy
+         * @return Off-heap compressed sparse rows
+         */
+        static OffHeap.Rows copy(final Vertex[] order,
+            final Map<Vertex, Integer> dictionary, final Graph graph) {
+            final Chunks offsets = new Chunks(order.length + 1L, OffHeap.LONG, Chunks.SHIFT);
+            long count = 0;
+            for (int idx = 0; idx < order.length; ++idx) {
+                offsets.putLong(idx, count);
+                final Set<Edge> edges = graph.connectedEdges(order[idx]);
+                if (edges != null) {
+                    count += edges.size();
+                }
+            }
+            offsets.putLong(order.length, count);
+            final OffHeap.Rows result = new OffHeap.Rows(offsets, count, Chunks.SHIFT);
+            long pos = 0;
+            for (final Vertex vertex : order) {
+                final Set<Edge> edges = graph.connectedEdges(vertex);
+                if (edges == null) {
+                    continue;
+                }
+                final Edge[] sorted = edges.stream().sorted(
+                    Comparator.comparingInt(
+                        edge -> dictionary.get(OffHeap.Rows.other(vertex, edge))
+                    )
+                ).toArray(Edge[]::new);
+                for (final Edge edge : sorted) {
+                    result.targets.putInt(pos, dictionary.get(OffHeap.Rows.other(vertex, edge)));
+                    result.weights.putDouble(pos, edge.cost());
+                    ++pos;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Copies the outgoing edges of a snapshot off the heap.
+         * @param indexed Indexed snapshot to copy
+         * @param shift Count of bits giving the position of a value in its chunk
+         * @return Off-heap compressed sparse rows
+         */
+        static OffHeap.Rows copy(final Indexed indexed, final int shift) {
+            final int size = indexed.size();
+            final Chunks offsets = new Chunks(size + 1L, OffHeap.LONG, shift);
+            for (int idx = 0; idx <= size; ++idx) {
+                offsets.putLong(idx, indexed.offset(idx));
+            }
+            final OffHeap.Rows result = new OffHeap.Rows(offsets, indexed.offset(size), shift);
+            for (int idx = 0; idx < size; ++idx) {
+                final int from = indexed.offset(idx);
+                final int[] sorted = IntStream.range(from, indexed.offset(idx + 1)).boxed()
+                    .sorted(Comparator.comparingInt(indexed::target))
+                    .mapToInt(Integer::intValue).toArray();
+                for (int rank = 0; rank < sorted.length; ++rank) {
+                    result.targets.putInt(from + rank, indexed.target(sorted[rank]));
+                    result.weights.putDouble(from + rank, indexed.weight(sorted[rank]));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Finds the first outgoing edge of a vertex that leads to a vertex of an index
+         * at least equal to a target, with a binary search in the sorted outgoing edges.
+         * @param idx Vertex index
+         * @param target Ending vertex index
+         * @return Edge position, or the position after the outgoing edges if there is none
+         */
+        private long lower(final int idx, final int target) {
+            long low = this.offset(idx);
+            long high = this.offset(idx + 1);
+            while (low < high) {
+                final long mid = low + high >>> 1;
+                if (this.targets.getInt(mid) < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Gives the vertex an edge leads to from one of its extremities. An edge that
+         * does not start from the vertex is considered as leading to its start.
+         * @param vertex Vertex the edge is outgoing from
+         * @param edge Edge
+         * @return Ending vertex
+         */
+        private static Vertex other(final Vertex vertex, final Edge edge) {
+            Vertex result = edge.end();
+            if (!edge.start().equals(vertex)) {
+                result = edge.start();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Read only view of the edges of an off-heap graph.
+     * @since 0.1
+     */
+    private static final class Edges extends AbstractSet<Edge> {
+
+        /**
+         * Off-heap graph.
+         */
+        private final OffHeap graph;
+
+        /**
+         * Constructor.
+         * @param graph Off-heap graph
+         */
+        Edges(final OffHeap graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public Iterator<Edge> iterator() {
+            return IntStream.range(0, this.graph.size()).boxed()
+                .flatMap(this.graph::outgoing).iterator();
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            boolean result = false;
+            if (obj instanceof Edge) {
+                final int idx = this.graph.index(((Edge) obj).start());
+                result = idx >= 0 && this.graph.holds(idx, obj);
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(Integer.MAX_VALUE, this.graph.offset(this.graph.size()));
+        }
+    }
+
+    /**
+     * Read only view of the distinct vertices the outgoing edges of a vertex lead to.
+     * @since 0.1
+     */
+    private static final class Neighbors extends AbstractSet<Vertex> {
+
+        /**
+         * Off-heap graph.
+         */
+        private final OffHeap graph;
+
+        /**
+         * Vertex index.
+         */
+        private final int idx;
+
+        /**
+         * Constructor.
+         * @param graph Off-heap graph
+         * @param idx Vertex index
+         */
+        Neighbors(final OffHeap graph, final int idx) {
+            this.graph = graph;
+            this.idx = idx;
+        }
+
+        @Override
+        public Iterator<Vertex> iterator() {
+            return this.targets().mapToObj(this.graph::vertex).iterator();
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            boolean result = false;
+            if (obj instanceof Vertex) {
+                result = this.graph.leads(this.idx, this.graph.index((Vertex) obj));
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return (int) this.targets().count();
+        }
+
+        /**
+         * Gives the distinct indices of the vertices the outgoing edges lead to.
+         * @return Sorted indices
+         */
+        private IntStream targets() {
+            return IntStream.of(this.graph.targets(this.idx));
+        }
+    }
+
+    /**
+     * Read only view of the outgoing edges of a vertex.
+     * @since 0.1
+     */
+    private static final class Outgoing extends AbstractSet<Edge> {
+
+        /**
+         * Off-heap graph.
+         */
+        private final OffHeap graph;
+
+        /**
+         * Vertex index.
+         */
+        private final int idx;
+
+        /**
+         * Constructor.
+         * @param graph Off-heap graph
+         * @param idx Vertex index
+         */
+        Outgoing(final OffHeap graph, final int idx) {
+            this.graph = graph;
+            this.idx = idx;
+        }
+
+        @Override
+        public Iterator<Edge> iterator() {
+            return this.graph.outgoing(this.idx).iterator();
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            return this.graph.holds(this.idx, obj);
+        }
+
+        @Override
+        public int size() {
+            return (int) this.graph.degree(this.idx);
+        }
+    }
+}
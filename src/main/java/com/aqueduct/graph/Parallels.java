@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Edges kept between pairs of vertices, when parallel edges are merged so that at most one
+ * edge links a vertex to another. The edge parallel to an added edge is found in constant
+ * time, instead of scanning the edges of its starting vertex.
+ * @since 0.1
+ */
+final class Parallels {
+
+    /**
+     * Kept edges by starting vertex, then by ending vertex.
+     */
+    private final Map<Vertex, Map<Vertex, Edge>> map;
+
+    /**
+     * Constructor. Builds an empty map.
+     */
+    Parallels() {
+        this.map = new HashMap<>();
+    }
+
+    /**
+     * Gives the edge kept from a vertex to another.
+     * @param start Starting vertex
+     * @param end Ending vertex
+     * @return Kept edge, or null if there is none
+     */
+    public Edge get(final Vertex start, final Vertex end) {
+        final Map<Vertex, Edge> edges = this.map.get(start);
+        Edge result = null;
+        if (edges != null) {
+            result = edges.get(end);
+        }
+        return result;
+    }
+
+    /**
+     * Keeps an edge from a vertex to another, replacing the kept one if any.
+     * @param start Starting vertex
+     * @param end Ending vertex
+     * @param edge Kept edge
+     */
+    public void put(final Vertex start, final Vertex end, final Edge edge) {
+        this.map.computeIfAbsent(start, key -> new HashMap<>()).put(end, edge);
+    }
+
+    /**
+     * Forgets the edge kept from a vertex to another.
+     * @param start Starting vertex
+     * @param end Ending vertex
+     */
+    public void remove(final Vertex start, final Vertex end) {
+        final Map<Vertex, Edge> edges = this.map.get(start);
+        if (edges != null) {
+            edges.remove(end);
+            if (edges.isEmpty()) {
+                this.map.remove(start);
+            }
+        }
+    }
+}
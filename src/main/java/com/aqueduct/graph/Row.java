@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+/**
+ * Read only set view of an array holding distinct elements. The array is not copied,
+ * so it must not be modified once the view is built. Membership is checked through
+ * a lookup, which by default scans small arrays and hashes the elements of the larger
+ * ones, so that checking a vertex neighbour takes a constant time whatever its degree.
+ * @param <T> Elements type
+ * @since 0.1
+ */
+@SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+final class Row<T> extends AbstractSet<T> {
+
+    /**
+     * Distinct elements.
+     */
+    private final T[] items;
+
+    /**
+     * Membership lookup.
+     */
+    private final Predicate<Object> lookup;
+
+    /**
+     * Constructor. Hashes the elements if there are more than a few of them.
+     * @param elements Distinct elements
+     */
+    Row(final T[] elements) {
+        this(elements, new Row.Hashed(elements));
+    }
+
+    /**
+     * Constructor.
+     * @param elements Distinct elements
+     * @param lookup Membership lookup, telling whether an object is one of the elements
+     */
+    Row(final T[] elements, final Predicate<Object> lookup) {
+        this.items = elements;
+        this.lookup = lookup;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Arrays.asList(this.items).iterator();
+    }
+
+    @Override
+    public boolean contains(final Object obj) {
+        return this.lookup.test(obj);
+    }
+
+    @Override
+    public int size() {
+        return this.items.length;
+    }
+
+    /**
+     * Membership lookup of distinct elements, scanning them if they are at most
+     * {@link #SMALL}, and probing an open addressing table of their positions otherwise.
+     * @since 0.1
+     */
+    private static final class Hashed implements Predicate<Object> {
+
+        /**
+         * Count of elements up to which a scan is cheaper than hashing.
+         */
+        private static final int SMALL = 8;
+
+        /**
+         * Distinct elements.
+         */
+        private final Object[] items;
+
+        /**
+         * Position plus one of the element hashed in every slot, or zero for empty slots.
+         */
+        private final int[] slots;
+
+        /**
+         * Constructor.
+         * @param elements Distinct elements
+         */
+        Hashed(final Object[] elements) {
+            this(elements, Row.Hashed.table(elements));
+        }
+
+        /**
+         * Constructor.
+         * @param elements Distinct elements
+         * @param table Position plus one of the element hashed in every slot
+         */
+        Hashed(final Object[] elements, final int[] table) {
+            this.items = elements;
+            this.slots = table;
+        }
+
+        @Override
+        public boolean test(final Object obj) {
+            boolean result = false;
+            if (this.slots.length == 0) {
+                for (int pos = 0; pos < this.items.length && !result; ++pos) {
+                    result = this.items[pos].equals(obj);
+                }
+            } else if (obj != null) {
+                final int mask = this.slots.length - 1;
+                int slot = Trie.hash(obj) & mask;
+                while (this.slots[slot] != 0 && !result) {
+                    result = this.items[this.slots[slot] - 1].equals(obj);
+                    slot = slot + 1 & mask;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Hashes the positions of the elements, in a table at least twice as large
+         * as the elements count, or in no table at all for a few elements.
+         * @param elements Distinct elements
+         * @return Position plus one of the element hashed in every slot
+         */
+        private static int[] table(final Object[] elements) {
+            int[] result = new int[0];
+            if (elements.length > Row.Hashed.SMALL) {
+                result = new int[Integer.highestOneBit(elements.length) << 2];
+                final int mask = result.length - 1;
+                for (int pos = 0; pos < elements.length; ++pos) {
+                    int slot = Trie.hash(elements[pos]) & mask;
+                    while (result[slot] != 0) {
+                        slot = slot + 1 & mask;
+                    }
+                    result[slot] = pos + 1;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,536 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Compact undirected graph storing each edge once. Edges are laid out in compressed sparse
+ * rows from their extremity having the lowest index, as in the upper triangle of an adjacency
+ * matrix, and every vertex indexes the positions of the edges coming from vertices having
+ * a lower index. The edges and the neighbors of a vertex are thus iterated in a time
+ * proportional to its degree, while an edge only takes an int and a double in the rows plus
+ * two ints in the index, instead of an edge object and four hashed entries in
+ * {@link Undirected}. Edges are given from their extremity having the lowest index, whatever
+ * the direction they were added with, and are built on demand. As for {@link Undirected},
+ * {@link #connected(Vertex)} and {@link #connectedEdges(Vertex)} give null for vertices having
+ * no edges. The graph is built with {@link Bulk#symmetric()} or from another graph, and
+ * trying to modify it throws an {@link UnsupportedOperationException}.
+ * @since 0.1
+ */
+@SuppressWarnings(
+    {"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs", "PMD.TooManyMethods"}
+)
+public final class Symmetric implements Bidirectional {
+
+    /**
+     * Error message for modification attempts.
+     */
+    private static final String READ_ONLY = "Symmetric graph can not be modified";
+
+    /**
+     * Vertices by index.
+     */
+    private final Vertex[] vtxs;
+
+    /**
+     * Indices by vertex.
+     */
+    private final Map<Vertex, Integer> ids;
+
+    /**
+     * Edges laid out from their extremity having the lowest index.
+     */
+    private final Symmetric.Rows upper;
+
+    /**
+     * Positions of the edges coming from vertices having a lower index.
+     */
+    private final Symmetric.Lower lower;
+
+    /**
+     * Constructor. Builds a compact copy of the passed graph, where edges are
+     * considered as undirected. Equal edges, including an edge and its reverse
+     * having the same cost, are kept once.
+     * @param graph Graph to copy
+     */
+    public Symmetric(final Graph graph) {
+        this(Symmetric.load(graph));
+    }
+
+    /**
+     * Constructor. Builds a graph from compressed sparse rows where each edge is laid out
+     * once from its extremity having the lowest index, and edges of each vertex are ordered
+     * by ending vertex.
+     * @param order Vertices by index
+     * @param offsets Position of the first edge of each vertex
+     * @param targets Ending vertex index of each edge
+     * @param weights Cost of each edge
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Symmetric(final Vertex[] order, final int[] offsets, final int[] targets,
+        final double[] weights) {
+        this(order, new Symmetric.Rows(offsets, targets, weights));
+    }
+
+    /**
+     * Constructor.
+     * @param loaded Graph to take the layout from
+     */
+    private Symmetric(final Symmetric loaded) {
+        this(loaded.vtxs, loaded.ids, loaded.upper, loaded.lower);
+    }
+
+    /**
+     * Constructor.
+     * @param order Vertices by index
+     * @param rows Edges laid out from their extremity having the lowest index
+     */
+    private Symmetric(final Vertex[] order, final Symmetric.Rows rows) {
+        this(order, Indexed.dictionary(order), rows, Symmetric.index(rows));
+    }
+
+    /**
+     * Constructor.
+     * @param order Vertices by index
+     * @param dictionary Indices by vertex
+     * @param rows Edges laid out from their extremity having the lowest index
+     * @param index Positions of the edges coming from vertices having a lower index
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Symmetric(final Vertex[] order, final Map<Vertex, Integer> dictionary,
+        final Symmetric.Rows rows, final Symmetric.Lower index) {
+        this.vtxs = order;
+        this.ids = dictionary;
+        this.upper = rows;
+        this.lower = index;
+    }
+
+    @Override
+    public void addVertices(final Vertex... vtx) {
+        throw new UnsupportedOperationException(Symmetric.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Edge edge) {
+        throw new UnsupportedOperationException(Symmetric.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Vertex start, final Vertex end, final double cost) {
+        throw new UnsupportedOperationException(Symmetric.READ_ONLY);
+    }
+
+    @Override
+    public Set<Vertex> vertices() {
+        return Collections.unmodifiableSet(this.ids.keySet());
+    }
+
+    @Override
+    public Set<Edge> edges() {
+        return new Symmetric.Edges(this);
+    }
+
+    @Override
+    public Set<Vertex> connected(final Vertex vtx) {
+        final int idx = this.index(vtx);
+        Set<Vertex> result = null;
+        if (idx >= 0 && this.degree(idx) > 0) {
+            result = new Symmetric.Neighbors(this, idx);
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Edge> connectedEdges(final Vertex vtx) {
+        final int idx = this.index(vtx);
+        Set<Edge> result = null;
+        if (idx >= 0 && this.degree(idx) > 0) {
+            result = new Symmetric.Incident(this, idx);
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Vertex> predecessors(final Vertex vtx) {
+        return this.connected(vtx);
+    }
+
+    @Override
+    public Set<Edge> incomingEdges(final Vertex vtx) {
+        return this.connectedEdges(vtx);
+    }
+
+    /**
+     * Gives the index of a vertex.
+     * @param vtx Vertex
+     * @return The vertex index, or -1 if the vertex is not part of the graph
+     */
+    private int index(final Vertex vtx) {
+        return this.ids.getOrDefault(vtx, -1);
+    }
+
+    /**
+     * Counts the edges of a vertex.
+     * @param idx Vertex index
+     * @return Edges count
+     */
+    private int degree(final int idx) {
+        return this.upper.offsets[idx + 1] - this.upper.offsets[idx]
+            + this.lower.offsets[idx + 1] - this.lower.offsets[idx];
+    }
+
+    /**
+     * Builds the edges laid out from a vertex, that is the edges leading to vertices
+     * having a greater or equal index.
+     * @param idx Vertex index
+     * @return Edges
+     */
+    private Stream<Edge> outgoing(final int idx) {
+        return IntStream.range(this.upper.offsets[idx], this.upper.offsets[idx + 1]).mapToObj(
+            pos -> new Edge(
+                this.vtxs[idx], this.vtxs[this.upper.targets[pos]], this.upper.weights[pos]
+            )
+        );
+    }
+
+    /**
+     * Builds the edges of a vertex.
+     * @param idx Vertex index
+     * @return Edges
+     */
+    private Stream<Edge> incident(final int idx) {
+        return Stream.concat(
+            this.outgoing(idx),
+            IntStream.range(this.lower.offsets[idx], this.lower.offsets[idx + 1]).mapToObj(
+                at -> new Edge(
+                    this.vtxs[this.lower.sources[at]], this.vtxs[idx],
+                    this.upper.weights[this.lower.positions[at]]
+                )
+            )
+        );
+    }
+
+    /**
+     * Gives the distinct neighbors of a vertex. Parallel edges being adjacent in the rows
+     * and in the index, a neighbor is skipped when it repeats the previous one.
+     * @param idx Vertex index
+     * @return Neighbors indices
+     */
+    private IntStream neighbors(final int idx) {
+        final int first = this.upper.offsets[idx];
+        final int from = this.lower.offsets[idx];
+        return IntStream.concat(
+            IntStream.range(first, this.upper.offsets[idx + 1]).filter(
+                pos -> pos == first || this.upper.targets[pos] != this.upper.targets[pos - 1]
+            ).map(pos -> this.upper.targets[pos]),
+            IntStream.range(from, this.lower.offsets[idx + 1]).filter(
+                at -> at == from || this.lower.sources[at] != this.lower.sources[at - 1]
+            ).map(at -> this.lower.sources[at])
+        );
+    }
+
+    /**
+     * Checks if the graph holds an edge, given from its extremity having the lowest index.
+     * @param edge Edge
+     * @return True if the edge is part of the graph
+     */
+    private boolean holds(final Edge edge) {
+        final int start = this.index(edge.start());
+        final int end = this.index(edge.end());
+        boolean result = false;
+        if (start >= 0 && start <= end) {
+            for (int pos = this.upper.offsets[start]; pos < this.upper.offsets[start + 1];
+                ++pos) {
+                if (this.upper.targets[pos] == end
+                    && Double.compare(this.upper.weights[pos], edge.cost()) == 0) {
+                    result = true;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads a graph, considering its edges as undirected.
+     * @param graph Graph to load
+     * @return Compact graph
+     */
+    private static Symmetric load(final Graph graph) {
+        final Bulk bulk = new Bulk();
+        for (final Vertex vertex : graph.vertices()) {
+            bulk.vertex(vertex);
+        }
+        for (final Edge edge : graph.edges()) {
+            bulk.edge(edge.start(), edge.end(), edge.cost());
+        }
+        return bulk.symmetric();
+    }
+
+    /**
+     * Builds the index of the edges laid out in rows.
+     * @param rows Edges laid out from their extremity having the lowest index
+     * @return Index
+     */
+    private static Symmetric.Lower index(final Symmetric.Rows rows) {
+        final int size = rows.offsets.length - 1;
+        final int[] offsets = Symmetric.counts(rows);
+        final int[] cursor = Arrays.copyOf(offsets, size);
+        final int[] positions = new int[offsets[size]];
+        final int[] sources = new int[positions.length];
+        for (int src = 0; src < size; ++src) {
+            for (int pos = rows.offsets[src]; pos < rows.offsets[src + 1]; ++pos) {
+                final int end = rows.targets[pos];
+                if (end != src) {
+                    positions[cursor[end]] = pos;
+                    sources[cursor[end]] = src;
+                    ++cursor[end];
+                }
+            }
+        }
+        return new Symmetric.Lower(offsets, positions, sources);
+    }
+
+    /**
+     * Counts the edges coming to each vertex from vertices having a lower index.
+     * @param rows Edges laid out from their extremity having the lowest index
+     * @return Position of the first edge of each vertex, followed by the edges count
+     */
+    private static int[] counts(final Symmetric.Rows rows) {
+        final int size = rows.offsets.length - 1;
+        final int[] result = new int[size + 1];
+        for (int src = 0; src < size; ++src) {
+            for (int pos = rows.offsets[src]; pos < rows.offsets[src + 1]; ++pos) {
+                if (rows.targets[pos] != src) {
+                    ++result[rows.targets[pos] + 1];
+                }
+            }
+        }
+        for (int idx = 0; idx < size; ++idx) {
+            result[idx + 1] += result[idx];
+        }
+        return result;
+    }
+
+    /**
+     * Compressed sparse rows.
+     * @since 0.1
+     */
+    private static final class Rows {
+
+        /**
+         * Position of the first edge of each vertex.
+         */
+        private final int[] offsets;
+
+        /**
+         * Ending vertex index of each edge.
+         */
+        private final int[] targets;
+
+        /**
+         * Cost of each edge.
+         */
+        private final double[] weights;
+
+        /**
+         * Constructor.
+         * @param offsets Position of the first edge of each vertex
+         * @param targets Ending vertex index of each edge
+         * @param weights Cost of each edge
+         */
+        Rows(final int[] offsets, final int[] targets, final double[] weights) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+        }
+    }
+
+    /**
+     * Index of the edges coming to each vertex from vertices having a lower index.
+     * Self loops are only laid out in the rows. The edges of each vertex are ordered
+     * by starting vertex.
+     * @since 0.1
+     */
+    private static final class Lower {
+
+        /**
+         * Position in this index of the first edge of each vertex.
+         */
+        private final int[] offsets;
+
+        /**
+         * Position of each edge in the rows.
+         */
+        private final int[] positions;
+
+        /**
+         * Starting vertex index of each edge.
+         */
+        private final int[] sources;
+
+        /**
+         * Constructor.
+         * @param offsets Position in this index of the first edge of each vertex
+         * @param positions Position of each edge in the rows
+         * @param sources Starting vertex index of each edge
+         */
+        Lower(final int[] offsets, final int[] positions, final int[] sources) {
+            this.offsets = offsets;
+            this.positions = positions;
+            this.sources = sources;
+        }
+    }
+
+    /**
+     * Read only view of the edges of the graph. Every edge is given once.
+     * @since 0.1
+     */
+    private static final class Edges extends AbstractSet<Edge> {
+
+        /**
+         * Graph.
+         */
+        private final Symmetric graph;
+
+        /**
+         * Constructor.
+         * @param graph Graph
+         */
+        Edges(final Symmetric graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public Iterator<Edge> iterator() {
+            return IntStream.range(0, this.graph.vtxs.length).boxed()
+                .flatMap(this.graph::outgoing).iterator();
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            return obj instanceof Edge && this.graph.holds((Edge) obj);
+        }
+
+        @Override
+        public int size() {
+            return this.graph.upper.targets.length;
+        }
+    }
+
+    /**
+     * Read only view of the edges of a vertex.
+     * @since 0.1
+     */
+    private static final class Incident extends AbstractSet<Edge> {
+
+        /**
+         * Graph.
+         */
+        private final Symmetric graph;
+
+        /**
+         * Vertex index.
+         */
+        private final int vertex;
+
+        /**
+         * Constructor.
+         * @param graph Graph
+         * @param vertex Vertex index
+         */
+        Incident(final Symmetric graph, final int vertex) {
+            this.graph = graph;
+            this.vertex = vertex;
+        }
+
+        @Override
+        public Iterator<Edge> iterator() {
+            return this.graph.incident(this.vertex).iterator();
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            boolean result = false;
+            if (obj instanceof Edge) {
+                final Edge edge = (Edge) obj;
+                final Vertex vtx = this.graph.vtxs[this.vertex];
+                result = (edge.start().equals(vtx) || edge.end().equals(vtx))
+                    && this.graph.holds(edge);
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return this.graph.degree(this.vertex);
+        }
+    }
+
+    /**
+     * Read only view of the distinct neighbors of a vertex.
+     * @since 0.1
+     */
+    private static final class Neighbors extends AbstractSet<Vertex> {
+
+        /**
+         * Graph.
+         */
+        private final Symmetric graph;
+
+        /**
+         * Vertex index.
+         */
+        private final int vertex;
+
+        /**
+         * Constructor.
+         * @param graph Graph
+         * @param vertex Vertex index
+         */
+        Neighbors(final Symmetric graph, final int vertex) {
+            this.graph = graph;
+            this.vertex = vertex;
+        }
+
+        @Override
+        public Iterator<Vertex> iterator() {
+            return this.graph.neighbors(this.vertex).mapToObj(idx -> this.graph.vtxs[idx])
+                .iterator();
+        }
+
+        @Override
+        public int size() {
+            return (int) this.graph.neighbors(this.vertex).count();
+        }
+    }
+}
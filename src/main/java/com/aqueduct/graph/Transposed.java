@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.Set;
+
+/**
+ * View of a graph with all its edges reversed. Unlike {@link Reversed}, nothing is copied:
+ * the outgoing edges of a vertex are served from the incoming edges kept by the original
+ * graph, and the other way round. Edges are given with their extremities swapped, and
+ * modifications are applied, reversed, to the original graph. The original graph must keep
+ * its incoming edges, otherwise a {@link Reversed} copy is to be used instead.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Transposed implements Bidirectional {
+
+    /**
+     * Original graph.
+     */
+    private final Bidirectional graph;
+
+    /**
+     * Constructor.
+     * @param origin Original graph
+     * @throws IllegalArgumentException If the original graph does not keep its incoming edges
+     */
+    public Transposed(final Bidirectional origin) {
+        if (!origin.backward()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Graph %s does not keep its incoming edges, reverse a copy of it instead",
+                    origin
+                )
+            );
+        }
+        this.graph = origin;
+    }
+
+    @Override
+    public void addVertices(final Vertex... vtx) {
+        this.graph.addVertices(vtx);
+    }
+
+    @Override
+    public void addEdge(final Edge edg) {
+        this.graph.addEdge(new Edge(edg.end(), edg.start(), edg.cost()));
+    }
+
+    @Override
+    public void addEdge(final Vertex start, final Vertex end, final double cost) {
+        this.graph.addEdge(end, start, cost);
+    }
+
+    @Override
+    public Set<Vertex> vertices() {
+        return this.graph.vertices();
+    }
+
+    @Override
+    public Set<Edge> edges() {
+        return new Flipped(this.graph.edges());
+    }
+
+    @Override
+    public Set<Vertex> connected(final Vertex vtx) {
+        return this.graph.predecessors(vtx);
+    }
+
+    @Override
+    public Set<Edge> connectedEdges(final Vertex vtx) {
+        return Transposed.flip(this.graph.incomingEdges(vtx));
+    }
+
+    @Override
+    public Set<Vertex> predecessors(final Vertex vtx) {
+        return this.graph.connected(vtx);
+    }
+
+    @Override
+    public Set<Edge> incomingEdges(final Vertex vtx) {
+        return Transposed.flip(this.graph.connectedEdges(vtx));
+    }
+
+    /**
+     * Flips a set of edges, if any.
+     * @param edges Edges to flip, or null
+     * @return Flipped edges, or null
+     */
+    private static Set<Edge> flip(final Set<Edge> edges) {
+        Set<Edge> result = null;
+        if (edges != null) {
+            result = new Flipped(edges);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,474 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Persistent hash map, laid out as a hash array mapped trie. Each node covers 5 bits of
+ * the keys hash and only holds its present children, located by a bitmap. Adding a key
+ * gives a new map sharing every node but the ones on the path to the key, so that the
+ * previous map stays unchanged and adding costs a time and a space proportional to the
+ * trie depth, that is log32 of the size. Keys having the same hash are chained in a leaf.
+ * Null keys and null values are not supported.
+ * @param <K> Keys type
+ * @param <V> Values type
+ * @since 0.1
+ */
+final class Trie<K, V> {
+
+    /**
+     * Count of hash bits covered by a node.
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Mask of the hash bits covered by a node.
+     */
+    private static final int MASK = (1 << Trie.BITS) - 1;
+
+    /**
+     * Count of the highest hash bits spread over the lowest ones.
+     */
+    private static final int SPREAD = 16;
+
+    /**
+     * Node without any child.
+     */
+    private static final Trie.Node EMPTY = new Trie.Node(0, new Object[0]);
+
+    /**
+     * Root node.
+     */
+    private final Trie.Node root;
+
+    /**
+     * Keys count.
+     */
+    private final int count;
+
+    /**
+     * Constructor. Builds an empty map.
+     */
+    Trie() {
+        this(Trie.EMPTY, 0);
+    }
+
+    /**
+     * Constructor. Builds a map holding the entries of another map at once.
+     * @param map Entries
+     */
+    Trie(final Map<K, V> map) {
+        this(Trie.Node.build(Trie.leaves(map), 0), map.size());
+    }
+
+    /**
+     * Constructor.
+     * @param root Root node
+     * @param count Keys count
+     */
+    private Trie(final Trie.Node root, final int count) {
+        this.root = root;
+        this.count = count;
+    }
+
+    /**
+     * Gives the value of a key.
+     * @param key Key
+     * @return Value, or null if the key is not in the map
+     */
+    @SuppressWarnings("unchecked")
+    V get(final Object key) {
+        return (V) this.root.find(Trie.hash(key), 0, key);
+    }
+
+    /**
+     * Builds a map holding the entries of this map, and a key associated to a value.
+     * @param key Key
+     * @param value Value
+     * @return The new map
+     */
+    Trie<K, V> with(final K key, final V value) {
+        final int hash = Trie.hash(key);
+        int added = 1;
+        if (this.root.find(hash, 0, key) != null) {
+            added = 0;
+        }
+        return new Trie<>(this.root.with(hash, 0, key, value), this.count + added);
+    }
+
+    /**
+     * Gives the keys count.
+     * @return Keys count
+     */
+    int size() {
+        return this.count;
+    }
+
+    /**
+     * Gives a read only view of the keys of the map.
+     * @return Keys
+     */
+    Set<K> keys() {
+        return new Trie.Keys<>(this);
+    }
+
+    /**
+     * Gives the entries of the map.
+     * @return Entries, in no particular order
+     */
+    @SuppressWarnings("unchecked")
+    Stream<Map.Entry<K, V>> entries() {
+        return this.root.stream().map(leaf -> (Map.Entry<K, V>) leaf);
+    }
+
+    /**
+     * Gives the hash of a key, with its highest bits spread over the lowest ones.
+     * @param key Key
+     * @return Hash
+     */
+    static int hash(final Object key) {
+        final int code = key.hashCode();
+        return code ^ code >>> Trie.SPREAD;
+    }
+
+    /**
+     * Builds the leaves of the entries of a map, chaining the keys having the same hash,
+     * and sorts them so that the keys sharing the lowest bits of their hash are contiguous.
+     * @param map Entries
+     * @param <K> Keys type
+     * @param <V> Values type
+     * @return Sorted leaves
+     */
+    private static <K, V> Trie.Leaf[] leaves(final Map<K, V> map) {
+        final Trie.Leaf[] all = map.entrySet().stream().map(
+            entry -> new Trie.Leaf(
+                Trie.hash(entry.getKey()), entry.getKey(), entry.getValue(), null
+            )
+        ).sorted(
+            Comparator.comparingInt(
+                (Trie.Leaf leaf) -> Integer.reverse(leaf.hash) ^ Integer.MIN_VALUE
+            )
+        ).toArray(Trie.Leaf[]::new);
+        int kept = 0;
+        for (final Trie.Leaf leaf : all) {
+            if (kept > 0 && all[kept - 1].hash == leaf.hash) {
+                all[kept - 1] = new Trie.Leaf(
+                    leaf.hash, leaf.getKey(), leaf.getValue(), all[kept - 1]
+                );
+            } else {
+                all[kept] = leaf;
+                ++kept;
+            }
+        }
+        return Arrays.copyOf(all, kept);
+    }
+
+    /**
+     * Read only view of the keys of a map.
+     * @param <K> Keys type
+     * @since 0.1
+     */
+    private static final class Keys<K> extends AbstractSet<K> {
+
+        /**
+         * Map.
+         */
+        private final Trie<K, ?> map;
+
+        /**
+         * Constructor.
+         * @param map Map
+         */
+        Keys(final Trie<K, ?> map) {
+            this.map = map;
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            return this.map.entries().map(Map.Entry::getKey).iterator();
+        }
+
+        @Override
+        public boolean contains(final Object obj) {
+            return obj != null && this.map.get(obj) != null;
+        }
+
+        @Override
+        public int size() {
+            return this.map.size();
+        }
+    }
+
+    /**
+     * Inner node, covering 5 bits of the keys hash.
+     * @since 0.1
+     */
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+    private static final class Node {
+
+        /**
+         * Present children, by hash bits value.
+         */
+        private final int bitmap;
+
+        /**
+         * Children, each one being a node or a leaf.
+         */
+        private final Object[] slots;
+
+        /**
+         * Constructor.
+         * @param bitmap Present children
+         * @param slots Children
+         */
+        Node(final int bitmap, final Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        /**
+         * Finds the value of a key.
+         * @param hash Key hash
+         * @param shift Position of the hash bits covered by this node
+         * @param key Key
+         * @return Value, or null
+         */
+        Object find(final int hash, final int shift, final Object key) {
+            final int bit = 1 << (hash >>> shift & Trie.MASK);
+            Object result = null;
+            if ((this.bitmap & bit) != 0) {
+                final Object slot = this.slots[Integer.bitCount(this.bitmap & bit - 1)];
+                if (slot instanceof Trie.Node) {
+                    result = ((Trie.Node) slot).find(hash, shift + Trie.BITS, key);
+                } else {
+                    result = ((Trie.Leaf) slot).find(hash, key);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Builds a node holding the entries of this node and an entry, copying only
+         * the nodes on the path to the entry.
+         * @param hash Key hash
+         * @param shift Position of the hash bits covered by this node
+         * @param key Key
+         * @param value Value
+         * @return The new node
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Trie.Node with(final int hash, final int shift, final Object key,
+            final Object value) {
+            final int bit = 1 << (hash >>> shift & Trie.MASK);
+            final int pos = Integer.bitCount(this.bitmap & bit - 1);
+            final Trie.Node result;
+            if ((this.bitmap & bit) == 0) {
+                final Object[] copy = new Object[this.slots.length + 1];
+                System.arraycopy(this.slots, 0, copy, 0, pos);
+                System.arraycopy(this.slots, pos, copy, pos + 1, this.slots.length - pos);
+                copy[pos] = new Trie.Leaf(hash, key, value, null);
+                result = new Trie.Node(this.bitmap | bit, copy);
+            } else {
+                final Object[] copy = Arrays.copyOf(this.slots, this.slots.length);
+                copy[pos] = Trie.Node.child(copy[pos], hash, shift + Trie.BITS, key, value);
+                result = new Trie.Node(this.bitmap, copy);
+            }
+            return result;
+        }
+
+        /**
+         * Gives the leaves under this node.
+         * @return Leaves
+         */
+        Stream<Trie.Leaf> stream() {
+            return Arrays.stream(this.slots).flatMap(
+                slot -> {
+                    final Stream<Trie.Leaf> leaves;
+                    if (slot instanceof Trie.Node) {
+                        leaves = ((Trie.Node) slot).stream();
+                    } else {
+                        leaves = ((Trie.Leaf) slot).stream();
+                    }
+                    return leaves;
+                }
+            );
+        }
+
+        /**
+         * Builds the node of sorted leaves whose hashes share their lowest bits.
+         * @param leaves Sorted leaves, of distinct hashes
+         * @param shift Position of the hash bits covered by the node
+         * @return Node
+         */
+        static Trie.Node build(final Trie.Leaf[] leaves, final int shift) {
+            final Object[] children = new Object[Trie.MASK + 1];
+            int bitmap = 0;
+            int first = 0;
+            for (int idx = 1; idx <= leaves.length; ++idx) {
+                final int digit = leaves[first].hash >>> shift & Trie.MASK;
+                if (idx < leaves.length && (leaves[idx].hash >>> shift & Trie.MASK) == digit) {
+                    continue;
+                }
+                if (idx - first == 1) {
+                    children[digit] = leaves[first];
+                } else {
+                    children[digit] = Trie.Node.build(
+                        Arrays.copyOfRange(leaves, first, idx), shift + Trie.BITS
+                    );
+                }
+                bitmap |= 1 << digit;
+                first = idx;
+            }
+            return new Trie.Node(
+                bitmap, Arrays.stream(children).filter(Objects::nonNull).toArray()
+            );
+        }
+
+        /**
+         * Builds the child holding the entries of an existing child and an entry.
+         * @param slot Existing child, node or leaf
+         * @param hash Key hash
+         * @param shift Position of the hash bits covered by the child
+         * @param key Key
+         * @param value Value
+         * @return The new child
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        private static Object child(final Object slot, final int hash, final int shift,
+            final Object key, final Object value) {
+            final Object result;
+            if (slot instanceof Trie.Node) {
+                result = ((Trie.Node) slot).with(hash, shift, key, value);
+            } else if (((Trie.Leaf) slot).hash == hash) {
+                result = ((Trie.Leaf) slot).with(key, value);
+            } else {
+                final Trie.Leaf leaf = (Trie.Leaf) slot;
+                result = new Trie.Node(
+                    1 << (leaf.hash >>> shift & Trie.MASK), new Object[] {leaf}
+                ).with(hash, shift, key, value);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Entry of the map, chained to the entries whose keys have the same hash.
+     * @since 0.1
+     */
+    private static final class Leaf extends AbstractMap.SimpleImmutableEntry<Object, Object> {
+
+        /**
+         * Serialization identifier.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Key hash.
+         */
+        private final int hash;
+
+        /**
+         * Next entry having the same hash, or null.
+         */
+        private final Trie.Leaf next;
+
+        /**
+         * Constructor.
+         * @param hash Key hash
+         * @param key Key
+         * @param value Value
+         * @param next Next entry having the same hash, or null
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Leaf(final int hash, final Object key, final Object value, final Trie.Leaf next) {
+            super(key, value);
+            this.hash = hash;
+            this.next = next;
+        }
+
+        /**
+         * Finds the value of a key in the chain.
+         * @param code Key hash
+         * @param key Key
+         * @return Value, or null
+         */
+        Object find(final int code, final Object key) {
+            Object result = null;
+            if (code == this.hash) {
+                for (Trie.Leaf leaf = this; leaf != null; leaf = leaf.next) {
+                    if (leaf.getKey().equals(key)) {
+                        result = leaf.getValue();
+                        break;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Builds the chain holding the entries of this chain and an entry of the same hash.
+         * @param key Key
+         * @param value Value
+         * @return The new chain
+         */
+        Trie.Leaf with(final Object key, final Object value) {
+            Trie.Leaf result = new Trie.Leaf(this.hash, key, value, null);
+            for (Trie.Leaf leaf = this; leaf != null; leaf = leaf.next) {
+                if (!leaf.getKey().equals(key)) {
+                    result = new Trie.Leaf(this.hash, leaf.getKey(), leaf.getValue(), result);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Gives the entries of the chain.
+         * @return Entries
+         */
+        Stream<Trie.Leaf> stream() {
+            return Stream.iterate(this, leaf -> leaf.next).limit(this.length());
+        }
+
+        /**
+         * Gives the chain length.
+         * @return Length
+         */
+        private long length() {
+            long length = 0;
+            for (Trie.Leaf leaf = this; leaf != null; leaf = leaf.next) {
+                ++length;
+            }
+            return length;
+        }
+    }
+}
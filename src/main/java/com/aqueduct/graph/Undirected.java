@@ -24,16 +24,21 @@
 package com.aqueduct.graph;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
 /**
- * Represents an undirected graph.
+ * Represents an undirected graph. Each edge being both an outgoing and an incoming edge
+ * of its extremities, the predecessors of a vertex are its neighbors. An edge and its
+ * reverse having the same cost are the same edge: when all the parallel edges are kept,
+ * the one added first is kept once, and otherwise they are merged as any parallel edges.
+ * Either of them removes the kept edge. Removing an edge or a vertex takes a time
+ * proportional to the degree of the vertices involved.
+ * See {@link Symmetric} for a read only graph storing each edge once.
  * @since 0.1
  */
-public final class Undirected implements Graph {
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Undirected implements Bidirectional {
 
     /**
      * Graph vertices.
@@ -45,24 +50,44 @@ public final class Undirected implements Graph {
      */
     private final Set<Edge> edge;
 
+    /**
+     * Policy applied to parallel edges.
+     */
+    private final Multiedge policy;
+
     /**
      * A Map holding association between a vertex and its direct neighbors.
      */
-    private final Map<Vertex, Set<Vertex>> neighbors;
+    private final Links<Vertex> neighbors;
 
     /**
      * A Map holding association between a vertex and its outgoing edges.
      */
-    private final Map<Vertex, Set<Edge>> outgoing;
+    private final Links<Edge> outgoing;
+
+    /**
+     * Edge kept between each pair of linked vertices, when parallel edges are merged.
+     */
+    private final Parallels kept;
 
     /**
      * Constructor. Builds an empty directed graph.
      */
     public Undirected() {
+        this(Multiedge.ALL);
+    }
+
+    /**
+     * Constructor. Builds an empty undirected graph applying a policy to parallel edges.
+     * @param multiedge Policy applied to parallel edges
+     */
+    public Undirected(final Multiedge multiedge) {
+        this.policy = multiedge;
         this.vertex = new HashSet<Vertex>();
         this.edge = new HashSet<Edge>();
-        this.neighbors = new HashMap<Vertex, Set<Vertex>>();
-        this.outgoing = new HashMap<Vertex, Set<Edge>>();
+        this.neighbors = new Links<>();
+        this.outgoing = new Links<>();
+        this.kept = new Parallels();
     }
 
     @Override
@@ -72,13 +97,21 @@ public final class Undirected implements Graph {
 
     @Override
     public void addEdge(final Edge edg) {
-        this.edge.add(edg);
-        final Vertex start = edg.start();
-        final Vertex end = edg.end();
-        this.connect(start, end);
-        this.connect(edg, start);
-        this.connect(end, start);
-        this.connect(edg, end);
+        if (this.policy != Multiedge.ALL || this.stored(edg) == null) {
+            final Edge added = this.merged(edg);
+            if (this.edge.add(added)) {
+                final Vertex start = added.start();
+                final Vertex end = added.end();
+                this.neighbors.connect(start, end);
+                this.outgoing.connect(start, added);
+                this.neighbors.connect(end, start);
+                this.outgoing.connect(end, added);
+                if (this.policy != Multiedge.ALL) {
+                    this.kept.put(start, end, added);
+                    this.kept.put(end, start, added);
+                }
+            }
+        }
     }
 
     @Override
@@ -87,6 +120,38 @@ public final class Undirected implements Graph {
         this.addEdge(new Edge(start, end, cost));
     }
 
+    @Override
+    public void removeEdge(final Edge edg) {
+        final Edge removed = this.stored(edg);
+        if (removed != null) {
+            this.edge.remove(removed);
+            final Vertex start = removed.start();
+            final Vertex end = removed.end();
+            this.outgoing.disconnect(start, removed);
+            this.outgoing.disconnect(end, removed);
+            this.kept.remove(start, end);
+            this.kept.remove(end, start);
+            if (this.policy != Multiedge.ALL
+                || !Links.joins(this.outgoing.get(start), start, end)) {
+                this.neighbors.disconnect(start, end);
+                this.neighbors.disconnect(end, start);
+            }
+        }
+    }
+
+    @Override
+    public void removeVertex(final Vertex vtx) {
+        for (final Edge edg : this.outgoing.elements(vtx)) {
+            this.removeEdge(edg);
+        }
+        this.vertex.remove(vtx);
+    }
+
+    @Override
+    public Multiedge multiedge() {
+        return this.policy;
+    }
+
     @Override
     public Set<Vertex> vertices() {
         return this.vertex;
@@ -107,31 +172,50 @@ public final class Undirected implements Graph {
         return this.outgoing.get(vtx);
     }
 
+    @Override
+    public Set<Vertex> predecessors(final Vertex vtx) {
+        return this.connected(vtx);
+    }
+
+    @Override
+    public Set<Edge> incomingEdges(final Vertex vtx) {
+        return this.connectedEdges(vtx);
+    }
+
     /**
-     * Connects an edge as an outgoing edge for a vertex.
-     * @param edg The edge
-     * @param start The starting vertex
+     * Finds the stored edge equal to an edge or to its reverse.
+     * @param edg Edge
+     * @return Stored edge, or null if neither the edge nor its reverse is part of the graph
      */
-    private void connect(final Edge edg, final Vertex start) {
-        Set<Edge> connected = this.outgoing.get(start);
-        if (connected == null) {
-            connected = new HashSet<Edge>();
-            this.outgoing.put(start, connected);
+    private Edge stored(final Edge edg) {
+        Edge result = null;
+        if (this.edge.contains(edg)) {
+            result = edg;
+        } else {
+            final Edge reverse = new Edge(edg.end(), edg.start(), edg.cost());
+            if (this.edge.contains(reverse)) {
+                result = reverse;
+            }
         }
-        connected.add(edg);
+        return result;
     }
 
     /**
-     * Connects a vertex as a neighbor for another vertex.
-     * @param start Vertex to connect to
-     * @param end Vertex to connect
+     * Merges an edge with the edge parallel to it, if any and if the policy is to merge
+     * parallel edges, the parallel edge being looked up by its extremities. The parallel
+     * edge is removed from the graph.
+     * @param edg Added edge
+     * @return The edge to add
      */
-    private void connect(final Vertex start, final Vertex end) {
-        Set<Vertex> connected = this.neighbors.get(start);
-        if (connected == null) {
-            connected = new HashSet<Vertex>();
-            this.neighbors.put(start, connected);
+    private Edge merged(final Edge edg) {
+        Edge result = edg;
+        final Edge parallel = this.kept.get(edg.start(), edg.end());
+        if (parallel != null) {
+            result = this.policy.merge(parallel, edg);
+            if (!result.equals(parallel)) {
+                this.removeEdge(parallel);
+            }
         }
-        connected.add(end);
+        return result;
     }
 }
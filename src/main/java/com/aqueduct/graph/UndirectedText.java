@@ -45,7 +45,8 @@ import java.util.Set;
  *
  * @since 0.1
  */
-public final class UndirectedText implements Graph {
+@SuppressWarnings("PMD.TooManyMethods")
+public final class UndirectedText implements Bidirectional {
 
     /**
      * Underlying built graph.
@@ -89,6 +90,16 @@ public final class UndirectedText implements Graph {
         this.graph.addEdge(start, end, cost);
     }
 
+    @Override
+    public void removeEdge(final Edge edg) {
+        this.graph.removeEdge(edg);
+    }
+
+    @Override
+    public void removeVertex(final Vertex vtx) {
+        this.graph.removeVertex(vtx);
+    }
+
     @Override
     public Set<Vertex> vertices() {
         return this.graph.vertices();
@@ -109,6 +120,16 @@ public final class UndirectedText implements Graph {
         return this.graph.connectedEdges(vtx);
     }
 
+    @Override
+    public Set<Vertex> predecessors(final Vertex vtx) {
+        return this.graph.predecessors(vtx);
+    }
+
+    @Override
+    public Set<Edge> incomingEdges(final Vertex vtx) {
+        return this.graph.incomingEdges(vtx);
+    }
+
     /**
      * Process the list of lines to create vertices and edges.
      * @param lines List of strings representing graph representation
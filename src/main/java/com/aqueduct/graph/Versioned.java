@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Graph decorator counting the modifications of another graph. The version is increased
+ * each time vertices or edges are added or removed through the decorator, so that results
+ * calculated on the graph can be tagged with the version they were calculated for, and detected
+ * as outdated when the graph is modified. Modifications made directly on the decorated
+ * graph are not counted.
+ *
+ * @since 0.1
+ */
+public final class Versioned implements Graph {
+
+    /**
+     * Decorated graph.
+     */
+    private final Graph graph;
+
+    /**
+     * Modifications count.
+     */
+    private final AtomicLong counter;
+
+    /**
+     * Constructor.
+     * @param origin Graph to decorate
+     */
+    public Versioned(final Graph origin) {
+        this.graph = origin;
+        this.counter = new AtomicLong();
+    }
+
+    /**
+     * Gives the current version of the graph.
+     * @return Count of modifications made through this decorator
+     */
+    public long version() {
+        return this.counter.get();
+    }
+
+    @Override
+    public void addVertices(final Vertex... vtx) {
+        this.graph.addVertices(vtx);
+        this.counter.incrementAndGet();
+    }
+
+    @Override
+    public void addEdge(final Edge edg) {
+        this.graph.addEdge(edg);
+        this.counter.incrementAndGet();
+    }
+
+    @Override
+    public void addEdge(final Vertex start, final Vertex end, final double cost) {
+        this.graph.addEdge(start, end, cost);
+        this.counter.incrementAndGet();
+    }
+
+    @Override
+    public void removeEdge(final Edge edg) {
+        this.graph.removeEdge(edg);
+        this.counter.incrementAndGet();
+    }
+
+    @Override
+    public void removeVertex(final Vertex vtx) {
+        this.graph.removeVertex(vtx);
+        this.counter.incrementAndGet();
+    }
+
+    @Override
+    public Multiedge multiedge() {
+        return this.graph.multiedge();
+    }
+
+    @Override
+    public Set<Vertex> vertices() {
+        return this.graph.vertices();
+    }
+
+    @Override
+    public Set<Edge> edges() {
+        return this.graph.edges();
+    }
+
+    @Override
+    public Set<Vertex> connected(final Vertex vtx) {
+        return this.graph.connected(vtx);
+    }
+
+    @Override
+    public Set<Edge> connectedEdges(final Vertex vtx) {
+        return this.graph.connectedEdges(vtx);
+    }
+}
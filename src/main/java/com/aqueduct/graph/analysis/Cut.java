@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.analysis;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Vertex;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cut of a graph: a partition of its vertices in two sides, with the edges crossing
+ * from one side to the other.
+ * @since 0.1
+ */
+public final class Cut {
+
+    /**
+     * First side vertices.
+     */
+    private final Set<Vertex> one;
+
+    /**
+     * Second side vertices.
+     */
+    private final Set<Vertex> two;
+
+    /**
+     * Crossing edges.
+     */
+    private final List<Edge> crossing;
+
+    /**
+     * Constructor.
+     * @param first First side vertices
+     * @param second Second side vertices
+     * @param edges Crossing edges
+     */
+    public Cut(final Collection<Vertex> first, final Collection<Vertex> second,
+        final Collection<Edge> edges) {
+        this.one = Collections.unmodifiableSet(new HashSet<>(first));
+        this.two = Collections.unmodifiableSet(new HashSet<>(second));
+        this.crossing = Collections.unmodifiableList(new ArrayList<>(edges));
+    }
+
+    /**
+     * Gives the vertices of the first side.
+     * @return First side vertices
+     */
+    public Set<Vertex> first() {
+        return this.one;
+    }
+
+    /**
+     * Gives the vertices of the second side.
+     * @return Second side vertices
+     */
+    public Set<Vertex> second() {
+        return this.two;
+    }
+
+    /**
+     * Gives the edges crossing the cut.
+     * @return Crossing edges
+     */
+    public List<Edge> edges() {
+        return this.crossing;
+    }
+
+    /**
+     * Gives the count of edges crossing the cut.
+     * @return Crossing edges count
+     */
+    public int size() {
+        return this.crossing.size();
+    }
+
+    /**
+     * Gives the total cost of the edges crossing the cut.
+     * @return Crossing edges costs sum
+     */
+    public double weight() {
+        double result = 0;
+        for (final Edge edge : this.crossing) {
+            result += edge.cost();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s | %s (%s)", this.one, this.two, this.crossing);
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.analysis;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import com.aqueduct.graph.util.UnionFind;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Karger-Stein randomized algorithm calculating a minimum cut of a graph, the graph being
+ * considered as an undirected multigraph: the cut minimizes the count of crossing edges,
+ * edge costs are ignored (see {@link StoerWagner} for weighted cuts).
+ * Each trial recursively contracts random edges until about n / sqrt(2) vertices remain,
+ * twice independently, and keeps the best of both recursions. Contractions are run on
+ * arrays of edge extremities with a {@link com.aqueduct.graph.util.UnionFind} forest,
+ * then remaining edges are compacted for the next recursion level.
+ * Independent trials run in parallel (in the caller fork/join pool, or the common pool),
+ * each one with its own random generator seeded from the engine seed and the trial number,
+ * and among cuts having as few crossing edges the one of the lowest trial is kept, so that
+ * results are reproducible whatever the scheduling. Trials of higher number than a trial
+ * having found a cut without any crossing edge are skipped.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+public final class Karger {
+
+    /**
+     * Vertices count under which a recursion runs plain Karger trials.
+     */
+    private static final int SMALL = 6;
+
+    /**
+     * Multiplier of the engine seed, combined with the trial number to seed each trial.
+     */
+    private static final long PRIME = 1_000_003L;
+
+    /**
+     * Original vertices by index.
+     */
+    private final Vertex[] vertices;
+
+    /**
+     * Original edges by index.
+     */
+    private final Edge[] edges;
+
+    /**
+     * Original multigraph.
+     */
+    private final Karger.Multigraph origin;
+
+    /**
+     * Random generators seed.
+     */
+    private final long seed;
+
+    /**
+     * Constructor.
+     * @param graph Graph to cut
+     * @param seed Random generators seed
+     * @throws IllegalArgumentException If the graph has less than two vertices
+     */
+    public Karger(final Graph graph, final long seed) {
+        this(Karger.index(graph), graph.edges().toArray(new Edge[0]), seed);
+    }
+
+    /**
+     * Constructor.
+     * @param vertices Original vertices
+     * @param edges Original edges
+     * @param seed Random generators seed
+     */
+    private Karger(final Vertex[] vertices, final Edge[] edges, final long seed) {
+        this.vertices = vertices;
+        this.edges = edges;
+        this.origin = Karger.Multigraph.build(vertices, edges);
+        this.seed = seed;
+    }
+
+    /**
+     * Calculates a minimum cut with a given confidence, running as many trials as needed
+     * assuming each trial finds a minimum cut with a probability of at least
+     * 1 / (2 log2(n)) for a graph of n vertices.
+     * @param confidence Probability (lower than 1) that the given cut is minimum
+     * @return Best found cut
+     * @throws IllegalArgumentException If the confidence is not lower than 1
+     */
+    public Cut cut(final double confidence) {
+        if (confidence >= 1 || Double.isNaN(confidence)) {
+            throw new IllegalArgumentException(
+                String.format("Confidence %s must be lower than 1", confidence)
+            );
+        }
+        final double success = 1 / (2 * Math.log(this.vertices.length) / Math.log(2));
+        return this.attempt(
+            (int) Math.max(1, Math.ceil(Math.log(1 - confidence) / Math.log(1 - success)))
+        );
+    }
+
+    /**
+     * Calculates a minimum cut by running a given count of trials.
+     * @param trials Trials count
+     * @return Best found cut
+     * @throws IllegalArgumentException If the trials count is not positive
+     */
+    public Cut attempt(final int trials) {
+        if (trials <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Trials count %d must be positive", trials)
+            );
+        }
+        final AtomicInteger zero = new AtomicInteger(trials);
+        return IntStream.range(0, trials).parallel().mapToObj(
+            trial -> this.trial(trial, zero)
+        ).filter(Objects::nonNull).reduce(Karger.Trial::better).get().cut(
+            this.vertices, this.edges
+        );
+    }
+
+    /**
+     * Runs a trial, unless a trial of lower number already found a cut without any
+     * crossing edge.
+     * @param number Trial number
+     * @param zero Lowest number of a trial having found a cut without crossing edges
+     * @return Trial, or null if skipped
+     */
+    private Karger.Trial trial(final int number, final AtomicInteger zero) {
+        Karger.Trial result = null;
+        if (number <= zero.get()) {
+            final Karger.Multigraph cut = this.origin.search(
+                new Random(this.seed * Karger.PRIME + number)
+            );
+            if (cut.length() == 0) {
+                zero.accumulateAndGet(number, Math::min);
+            }
+            result = new Karger.Trial(number, cut);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the multigraph with fewer edges among two multigraphs.
+     * @param first First multigraph, or null
+     * @param second Second multigraph
+     * @return Multigraph with fewer edges
+     */
+    private static Karger.Multigraph fewer(final Karger.Multigraph first,
+        final Karger.Multigraph second) {
+        Karger.Multigraph result = second;
+        if (first != null && first.length() <= second.length()) {
+            result = first;
+        }
+        return result;
+    }
+
+    /**
+     * Indexes the vertices of a graph, including the extremities of its edges.
+     * @param graph Graph
+     * @return Vertices
+     * @throws IllegalArgumentException If the graph has less than two vertices
+     */
+    private static Vertex[] index(final Graph graph) {
+        final Vertex[] result = Indexed.order(graph);
+        if (result.length < 2) {
+            throw new IllegalArgumentException(
+                String.format("Graph %s must have at least two vertices", graph)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Cut found by a numbered trial.
+     * @since 0.1
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    private static final class Trial {
+
+        /**
+         * Trial number.
+         */
+        private final int number;
+
+        /**
+         * Multigraph whose edges form the found cut.
+         */
+        private final Karger.Multigraph found;
+
+        /**
+         * Constructor.
+         * @param number Trial number
+         * @param found Multigraph whose edges form the found cut
+         */
+        Trial(final int number, final Karger.Multigraph found) {
+            this.number = number;
+            this.found = found;
+        }
+
+        /**
+         * Builds the found cut.
+         * @param vertices Original vertices
+         * @param edges Original edges
+         * @return Cut
+         */
+        public Cut cut(final Vertex[] vertices, final Edge[] edges) {
+            return this.found.cut(vertices, edges);
+        }
+
+        /**
+         * Gives the trial having found fewer crossing edges among two trials, or the one of
+         * lower number if they found as many.
+         * @param other Other trial
+         * @return Best trial
+         */
+        public Karger.Trial better(final Karger.Trial other) {
+            Karger.Trial result = other;
+            if (this.found.length() < other.found.length()
+                || this.found.length() == other.found.length() && this.number < other.number) {
+                result = this;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Multigraph given by arrays of edge extremities, obtained by contracting
+     * the original graph.
+     * @since 0.1
+     */
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+    private static final class Multigraph {
+
+        /**
+         * Vertices count.
+         */
+        private final int size;
+
+        /**
+         * Vertex of each original vertex.
+         */
+        private final int[] label;
+
+        /**
+         * Original edge index by edge.
+         */
+        private final int[] ids;
+
+        /**
+         * Starting vertex by edge.
+         */
+        private final int[] tails;
+
+        /**
+         * Ending vertex by edge.
+         */
+        private final int[] heads;
+
+        /**
+         * Constructor.
+         * @param size Vertices count
+         * @param labels Vertex of each original vertex
+         * @param ids Original edge index by edge
+         * @param ends Starting vertices and ending vertices by edge
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Multigraph(final int size, final int[] labels, final int[] ids, final int[][] ends) {
+            this.size = size;
+            this.label = labels;
+            this.ids = ids;
+            this.tails = ends[0];
+            this.heads = ends[1];
+        }
+
+        /**
+         * Gives the count of edges.
+         * @return Edges count
+         */
+        public int length() {
+            return this.ids.length;
+        }
+
+        /**
+         * Runs a Karger-Stein recursion.
+         * @param random Random generator
+         * @return Multigraph of two vertices (or more if no edge remains) whose edges
+         *  form the found cut
+         */
+        public Karger.Multigraph search(final Random random) {
+            Karger.Multigraph result = this;
+            if (this.size <= Karger.SMALL) {
+                final int trials = this.size * this.size;
+                result = this.contract(2, random);
+                for (int trial = 1; trial < trials; ++trial) {
+                    result = Karger.fewer(result, this.contract(2, random));
+                }
+            } else if (this.length() > 0) {
+                final int target = (int) Math.ceil(1 + this.size / Math.sqrt(2));
+                result = Karger.fewer(
+                    this.contract(target, random).search(random),
+                    this.contract(target, random).search(random)
+                );
+            }
+            return result;
+        }
+
+        /**
+         * Builds the cut given by this multigraph: the original vertices of its first
+         * vertex form the first side.
+         * @param vertices Original vertices
+         * @param edges Original edges
+         * @return Cut
+         */
+        public Cut cut(final Vertex[] vertices, final Edge[] edges) {
+            final List<Vertex> first = new ArrayList<>(vertices.length);
+            final List<Vertex> second = new ArrayList<>(vertices.length);
+            for (int idx = 0; idx < vertices.length; ++idx) {
+                if (this.label[idx] == 0) {
+                    first.add(vertices[idx]);
+                } else {
+                    second.add(vertices[idx]);
+                }
+            }
+            final List<Edge> crossing = new ArrayList<>(this.ids.length);
+            for (final int idx : this.ids) {
+                crossing.add(edges[idx]);
+            }
+            return new Cut(first, second, crossing);
+        }
+
+        /**
+         * Contracts random edges until a count of vertices remains, or no edge remains.
+         * Contracting edges in a random order is equivalent to contracting a uniformly
+         * chosen remaining edge at each step.
+         * @param target Count of vertices to reach
+         * @param random Random generator
+         * @return Contracted multigraph
+         */
+        private Karger.Multigraph contract(final int target, final Random random) {
+            final int[] order = new int[this.length()];
+            for (int idx = 0; idx < order.length; ++idx) {
+                final int swap = random.nextInt(idx + 1);
+                order[idx] = order[swap];
+                order[swap] = idx;
+            }
+            final UnionFind forest = new UnionFind(this.size);
+            for (int idx = 0; idx < order.length && forest.count() > target; ++idx) {
+                forest.union(this.tails[order[idx]], this.heads[order[idx]]);
+            }
+            return this.compact(forest);
+        }
+
+        /**
+         * Builds the multigraph whose vertices are the sets of a forest, keeping the edges
+         * linking different sets.
+         * @param forest Merged vertices
+         * @return Compacted multigraph
+         */
+        private Karger.Multigraph compact(final UnionFind forest) {
+            final int[] relabel = this.relabel(forest);
+            final int[] labels = new int[this.label.length];
+            for (int idx = 0; idx < labels.length; ++idx) {
+                labels[idx] = relabel[forest.find(this.label[idx])];
+            }
+            final List<Integer> kept = new ArrayList<>(this.length());
+            for (int edge = 0; edge < this.length(); ++edge) {
+                if (!forest.same(this.tails[edge], this.heads[edge])) {
+                    kept.add(edge);
+                }
+            }
+            final int[] edges = new int[kept.size()];
+            final int[][] ends = new int[2][kept.size()];
+            for (int idx = 0; idx < edges.length; ++idx) {
+                final int edge = kept.get(idx);
+                edges[idx] = this.ids[edge];
+                ends[0][idx] = relabel[forest.find(this.tails[edge])];
+                ends[1][idx] = relabel[forest.find(this.heads[edge])];
+            }
+            return new Karger.Multigraph(forest.count(), labels, edges, ends);
+        }
+
+        /**
+         * Numbers the sets of a forest.
+         * @param forest Merged vertices
+         * @return Set number by representative vertex
+         */
+        private int[] relabel(final UnionFind forest) {
+            final int[] result = new int[this.size];
+            Arrays.fill(result, -1);
+            int count = 0;
+            for (int vtx = 0; vtx < this.size; ++vtx) {
+                final int root = forest.find(vtx);
+                if (result[root] < 0) {
+                    result[root] = count;
+                    count += 1;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Builds the multigraph of an original graph, skipping self loops.
+         * @param vertices Original vertices
+         * @param edges Original edges
+         * @return Multigraph
+         */
+        private static Karger.Multigraph build(final Vertex[] vertices, final Edge[] edges) {
+            final Map<Vertex, Integer> index = Indexed.dictionary(vertices);
+            final int[] labels = new int[vertices.length];
+            for (int idx = 0; idx < vertices.length; ++idx) {
+                labels[idx] = idx;
+            }
+            final List<Integer> kept = new ArrayList<>(edges.length);
+            for (int idx = 0; idx < edges.length; ++idx) {
+                if (!edges[idx].start().equals(edges[idx].end())) {
+                    kept.add(idx);
+                }
+            }
+            final int[] ids = new int[kept.size()];
+            final int[][] ends = new int[2][kept.size()];
+            for (int idx = 0; idx < ids.length; ++idx) {
+                ids[idx] = kept.get(idx);
+                ends[0][idx] = index.get(edges[ids[idx]].start());
+                ends[1][idx] = index.get(edges[ids[idx]].end());
+            }
+            return new Karger.Multigraph(vertices.length, labels, ids, ends);
+        }
+    }
+}
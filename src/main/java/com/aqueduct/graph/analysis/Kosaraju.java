@@ -23,8 +23,10 @@
  */
 package com.aqueduct.graph.analysis;
 
+import com.aqueduct.graph.Bidirectional;
 import com.aqueduct.graph.Graph;
 import com.aqueduct.graph.Reversed;
+import com.aqueduct.graph.Transposed;
 import com.aqueduct.graph.Vertex;
 import com.aqueduct.graph.traversal.Depth;
 import java.util.ArrayList;
@@ -36,6 +38,10 @@ import java.util.Stack;
 
 /**
  * Kosaraju's two-pass algorithm for calculating strongly connected components within a graph.
+ * The first pass runs on a {@link Transposed} view of the graph when the graph keeps
+ * its incoming edges, and on a {@link Reversed} copy otherwise, even when it is
+ * a {@link Bidirectional} graph finding them by scanning its edges. The graph is not
+ * modified.
  * @since 0.1
  */
 public final class Kosaraju implements Iterator<Set<Vertex>> {
@@ -71,7 +77,7 @@ public final class Kosaraju implements Iterator<Set<Vertex>> {
      */
     private static List<Set<Vertex>> scc(final Graph grp) {
         final List<Set<Vertex>> result = new ArrayList<>(grp.vertices().size());
-        final Graph rev = new Reversed(grp);
+        final Graph rev = Kosaraju.reverse(grp);
         final List<Vertex> times = Kosaraju.finishing(rev);
         Set<Vertex> component = new HashSet<>();
         while (!times.isEmpty()) {
@@ -98,16 +104,16 @@ public final class Kosaraju implements Iterator<Set<Vertex>> {
         final Set<Vertex> visited = new HashSet<>();
         final Stack<Vertex> stk = new Stack<>();
         Stack<Vertex> visiting = new Stack<>();
-        Set<Vertex> vertices = grp.vertices();
-        final List<Vertex> result = new ArrayList<>(vertices.size());
-        while (visited.size() != vertices.size()) {
+        final Set<Vertex> vertices = new HashSet<>(grp.vertices());
+        final int count = vertices.size();
+        final List<Vertex> result = new ArrayList<>(count);
+        while (visited.size() != count) {
             vertices.removeAll(visited);
             stk.push(vertices.iterator().next());
             while (!stk.isEmpty()) {
                 final Vertex current = stk.pop();
                 visited.add(current);
-                final Set<Vertex> connected = grp.connected(current);
-                connected.removeAll(visited);
+                final Set<Vertex> connected = Kosaraju.unvisited(grp, current, visited);
                 if (connected.isEmpty()) {
                     result.add(0, current);
                 } else {
@@ -119,7 +125,40 @@ public final class Kosaraju implements Iterator<Set<Vertex>> {
                 result.add(0, visiting.pop());
             }
             visiting = new Stack<>();
-            vertices = grp.vertices();
+        }
+        return result;
+    }
+
+    /**
+     * Gives a reversed graph, as a view if the graph keeps its incoming edges.
+     * @param grp Graph to reverse
+     * @return Reversed graph
+     */
+    private static Graph reverse(final Graph grp) {
+        final Graph result;
+        if (grp instanceof Bidirectional && ((Bidirectional) grp).backward()) {
+            result = new Transposed((Bidirectional) grp);
+        } else {
+            result = new Reversed(grp);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the neighbors of a vertex that were not visited yet, without modifying
+     * the graph.
+     * @param grp Graph
+     * @param vtx Vertex
+     * @param visited Visited vertices
+     * @return Unvisited neighbors
+     */
+    private static Set<Vertex> unvisited(final Graph grp, final Vertex vtx,
+        final Set<Vertex> visited) {
+        final Set<Vertex> result = new HashSet<>();
+        final Set<Vertex> connected = grp.connected(vtx);
+        if (connected != null) {
+            result.addAll(connected);
+            result.removeAll(visited);
         }
         return result;
     }
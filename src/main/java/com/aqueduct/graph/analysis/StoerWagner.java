@@ -0,0 +1,510 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.analysis;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import com.aqueduct.heap.IntHeap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stoer-Wagner deterministic algorithm calculating a global minimum cut of a weighted graph.
+ * The graph is considered as undirected: the weight between two vertices is the sum of
+ * the costs of the edges linking them, in both directions. Edge costs must not be negative.
+ * Each phase orders the vertices by maximum adjacency to the vertices already ordered, the
+ * last vertex giving a cut candidate, and then merges the last two vertices.
+ * Two modes are available: {@link Mode#HEAP} keeps the adjacency of each vertex in a map
+ * and orders the vertices with a {@link IntHeap}, which suits sparse graphs, while
+ * {@link Mode#DENSE} keeps the weights in a primitive matrix and orders the vertices by
+ * scanning, in O(n^3), which suits dense graphs such as {@link com.aqueduct.graph.Matrix}.
+ * @since 0.1
+ */
+public final class StoerWagner {
+
+    /**
+     * Inverse of the minimal ratio of edges to possible edges of a graph using the dense mode.
+     */
+    private static final long DENSITY = 4L;
+
+    /**
+     * Original vertices by index.
+     */
+    private final Vertex[] vertices;
+
+    /**
+     * Original edges.
+     */
+    private final Edge[] edges;
+
+    /**
+     * Ordering mode.
+     */
+    private final StoerWagner.Mode mode;
+
+    /**
+     * Constructor. Uses the dense mode if the graph has at least a quarter of all possible
+     * edges, and the heap mode otherwise.
+     * @param graph Graph to cut
+     * @throws IllegalArgumentException If the graph has less than two vertices, or if
+     *  an edge has a negative cost
+     */
+    public StoerWagner(final Graph graph) {
+        this(graph, StoerWagner.suited(graph));
+    }
+
+    /**
+     * Constructor.
+     * @param graph Graph to cut
+     * @param mode Ordering mode
+     * @throws IllegalArgumentException If the graph has less than two vertices, or if
+     *  an edge has a negative cost
+     */
+    public StoerWagner(final Graph graph, final StoerWagner.Mode mode) {
+        this.vertices = StoerWagner.index(graph);
+        this.edges = StoerWagner.checked(graph);
+        this.mode = mode;
+    }
+
+    /**
+     * Calculates a minimum cut. Its weight is given by {@link Cut#weight()}.
+     * @return Minimum cut
+     */
+    public Cut cut() {
+        final Map<Vertex, Integer> ids = Indexed.dictionary(this.vertices);
+        final StoerWagner.Partition partition = new StoerWagner.Partition(this.vertices.length);
+        if (this.mode == StoerWagner.Mode.DENSE) {
+            new StoerWagner.Dense(partition, this.matrix(ids)).run();
+        } else {
+            new StoerWagner.Sparse(partition, this.adjacency(ids)).run();
+        }
+        final boolean[] side = partition.side();
+        final List<Vertex> first = new ArrayList<>(this.vertices.length);
+        final List<Vertex> second = new ArrayList<>(this.vertices.length);
+        for (int idx = 0; idx < this.vertices.length; ++idx) {
+            if (side[idx]) {
+                first.add(this.vertices[idx]);
+            } else {
+                second.add(this.vertices[idx]);
+            }
+        }
+        final List<Edge> crossing = new ArrayList<>(0);
+        for (final Edge edge : this.edges) {
+            if (side[ids.get(edge.start())] != side[ids.get(edge.end())]) {
+                crossing.add(edge);
+            }
+        }
+        return new Cut(first, second, crossing);
+    }
+
+    /**
+     * Builds the symmetric weights matrix.
+     * @param ids Vertices indices
+     * @return Weights matrix
+     */
+    private double[][] matrix(final Map<Vertex, Integer> ids) {
+        final double[][] result = new double[this.vertices.length][this.vertices.length];
+        for (final Edge edge : this.edges) {
+            final int start = ids.get(edge.start());
+            final int end = ids.get(edge.end());
+            if (start != end) {
+                result[start][end] += edge.cost();
+                result[end][start] += edge.cost();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builds the symmetric adjacency maps.
+     * @param ids Vertices indices
+     * @return Weight by neighbor, by vertex index
+     */
+    private List<Map<Integer, Double>> adjacency(final Map<Vertex, Integer> ids) {
+        final List<Map<Integer, Double>> result = new ArrayList<>(this.vertices.length);
+        for (int idx = 0; idx < this.vertices.length; ++idx) {
+            result.add(new HashMap<>());
+        }
+        for (final Edge edge : this.edges) {
+            final int start = ids.get(edge.start());
+            final int end = ids.get(edge.end());
+            if (start != end) {
+                result.get(start).merge(end, edge.cost(), Double::sum);
+                result.get(end).merge(start, edge.cost(), Double::sum);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Chooses the ordering mode suited to the graph density.
+     * @param graph Graph
+     * @return Ordering mode
+     */
+    private static StoerWagner.Mode suited(final Graph graph) {
+        final long size = graph.vertices().size();
+        StoerWagner.Mode result = StoerWagner.Mode.HEAP;
+        if (graph.edges().size() * StoerWagner.DENSITY >= size * size) {
+            result = StoerWagner.Mode.DENSE;
+        }
+        return result;
+    }
+
+    /**
+     * Indexes the vertices of a graph, including the extremities of its edges.
+     * @param graph Graph
+     * @return Vertices
+     * @throws IllegalArgumentException If the graph has less than two vertices
+     */
+    private static Vertex[] index(final Graph graph) {
+        final Vertex[] result = Indexed.order(graph);
+        if (result.length < 2) {
+            throw new IllegalArgumentException(
+                String.format("Graph %s must have at least two vertices", graph)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Gives the edges of a graph, checking that their costs are not negative.
+     * @param graph Graph
+     * @return Edges
+     * @throws IllegalArgumentException If an edge has a negative cost
+     */
+    private static Edge[] checked(final Graph graph) {
+        final Edge[] result = graph.edges().toArray(new Edge[0]);
+        for (final Edge edge : result) {
+            if (edge.cost() < 0) {
+                throw new IllegalArgumentException(
+                    String.format("Edge %s cost must not be negative", edge)
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Vertices ordering mode.
+     * @since 0.1
+     */
+    public enum Mode {
+        /**
+         * Adjacency maps and binary heap ordering, for sparse graphs.
+         */
+        HEAP,
+
+        /**
+         * Weights matrix and scanning ordering, for dense graphs.
+         */
+        DENSE
+    }
+
+    /**
+     * Members of the merged vertices, as circular lists, and best cut found so far.
+     * @since 0.1
+     */
+    private static final class Partition {
+
+        /**
+         * Next member of the merged vertex of each vertex.
+         */
+        private final int[] next;
+
+        /**
+         * Side of the best cut found so far.
+         */
+        private boolean[] best;
+
+        /**
+         * Weight of the best cut found so far.
+         */
+        private double weight;
+
+        /**
+         * Constructor.
+         * @param size Vertices count
+         */
+        Partition(final int size) {
+            this.next = Partition.loops(size);
+            this.best = new boolean[size];
+            this.weight = Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Records the cut separating a merged vertex from the other vertices,
+         * if it is better than the best cut found so far.
+         * @param vtx Merged vertex
+         * @param cost Cut weight
+         */
+        public void record(final int vtx, final double cost) {
+            if (cost < this.weight) {
+                this.weight = cost;
+                this.best = new boolean[this.next.length];
+                int member = vtx;
+                do {
+                    this.best[member] = true;
+                    member = this.next[member];
+                } while (member != vtx);
+            }
+        }
+
+        /**
+         * Merges the members of a vertex into another vertex.
+         * @param into Remaining vertex
+         * @param from Merged vertex
+         */
+        public void merge(final int into, final int from) {
+            final int swap = this.next[into];
+            this.next[into] = this.next[from];
+            this.next[from] = swap;
+        }
+
+        /**
+         * Gives the first side of the best cut found.
+         * @return Flag by vertex index, set for the vertices of the first side
+         */
+        public boolean[] side() {
+            return this.best.clone();
+        }
+
+        /**
+         * Builds circular lists where each element is alone.
+         * @param size Elements count
+         * @return Next element by element
+         */
+        private static int[] loops(final int size) {
+            final int[] result = new int[size];
+            for (int idx = 0; idx < size; ++idx) {
+                result[idx] = idx;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Stoer-Wagner phases on a primitive weights matrix.
+     * @since 0.1
+     */
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+    private static final class Dense {
+
+        /**
+         * Merged vertices and best cut.
+         */
+        private final StoerWagner.Partition partition;
+
+        /**
+         * Symmetric weights matrix.
+         */
+        private final double[][] weights;
+
+        /**
+         * Merged flag by vertex.
+         */
+        private final boolean[] merged;
+
+        /**
+         * Constructor.
+         * @param partition Merged vertices and best cut
+         * @param weights Symmetric weights matrix
+         */
+        Dense(final StoerWagner.Partition partition, final double[][] weights) {
+            this.partition = partition;
+            this.weights = weights;
+            this.merged = new boolean[weights.length];
+        }
+
+        /**
+         * Runs all the phases.
+         */
+        public void run() {
+            for (int alive = this.weights.length; alive > 1; --alive) {
+                this.phase(alive);
+            }
+        }
+
+        /**
+         * Runs a phase: orders the remaining vertices by maximum adjacency, records the cut
+         * of the last vertex and merges the last two vertices.
+         * @param alive Count of remaining vertices
+         */
+        private void phase(final int alive) {
+            final double[] keys = new double[this.weights.length];
+            final boolean[] added = new boolean[this.weights.length];
+            int previous = -1;
+            int last = -1;
+            for (int step = 0; step < alive; ++step) {
+                int pick = -1;
+                for (int vtx = 0; vtx < keys.length; ++vtx) {
+                    if (!this.merged[vtx] && !added[vtx] && (pick < 0 || keys[vtx] > keys[pick])) {
+                        pick = vtx;
+                    }
+                }
+                added[pick] = true;
+                previous = last;
+                last = pick;
+                for (int vtx = 0; vtx < keys.length; ++vtx) {
+                    keys[vtx] += this.weights[pick][vtx];
+                }
+            }
+            this.partition.record(last, keys[last]);
+            this.merge(previous, last);
+        }
+
+        /**
+         * Merges a vertex into another.
+         * @param into Remaining vertex
+         * @param from Merged vertex
+         */
+        private void merge(final int into, final int from) {
+            for (int vtx = 0; vtx < this.weights.length; ++vtx) {
+                this.weights[into][vtx] += this.weights[from][vtx];
+                this.weights[vtx][into] = this.weights[into][vtx];
+                this.weights[from][vtx] = 0;
+                this.weights[vtx][from] = 0;
+            }
+            this.weights[into][into] = 0;
+            this.merged[from] = true;
+            this.partition.merge(into, from);
+        }
+    }
+
+    /**
+     * Stoer-Wagner phases on adjacency maps, ordering vertices with a binary heap.
+     * The heap being a min heap, vertices are keyed by their negated adjacency.
+     * @since 0.1
+     */
+    private static final class Sparse {
+
+        /**
+         * Merged vertices and best cut.
+         */
+        private final StoerWagner.Partition partition;
+
+        /**
+         * Weight by neighbor, by vertex index.
+         */
+        private final List<Map<Integer, Double>> adjacency;
+
+        /**
+         * Heap ordering vertices by negated adjacency.
+         */
+        private final IntHeap heap;
+
+        /**
+         * Remaining vertices.
+         */
+        private final Set<Integer> alive;
+
+        /**
+         * Constructor.
+         * @param partition Merged vertices and best cut
+         * @param adjacency Weight by neighbor, by vertex index
+         */
+        Sparse(final StoerWagner.Partition partition,
+            final List<Map<Integer, Double>> adjacency) {
+            this.partition = partition;
+            this.adjacency = adjacency;
+            this.heap = new IntHeap(adjacency.size());
+            this.alive = Sparse.all(adjacency.size());
+        }
+
+        /**
+         * Runs all the phases.
+         */
+        public void run() {
+            while (this.alive.size() > 1) {
+                this.phase();
+            }
+        }
+
+        /**
+         * Runs a phase: orders the remaining vertices by maximum adjacency, records the cut
+         * of the last vertex and merges the last two vertices.
+         */
+        private void phase() {
+            for (final int vtx : this.alive) {
+                this.heap.insert(vtx, 0);
+            }
+            int previous = -1;
+            int last = -1;
+            while (!this.heap.isEmpty()) {
+                final int pick = this.heap.pop();
+                previous = last;
+                last = pick;
+                for (final Map.Entry<Integer, Double> entry
+                    : this.adjacency.get(pick).entrySet()) {
+                    final int vtx = entry.getKey();
+                    if (this.heap.contains(vtx)) {
+                        this.heap.update(vtx, this.heap.value(vtx) - entry.getValue());
+                    }
+                }
+            }
+            this.partition.record(last, -this.heap.value(last));
+            this.merge(previous, last);
+        }
+
+        /**
+         * Merges a vertex into another.
+         * @param into Remaining vertex
+         * @param from Merged vertex
+         */
+        private void merge(final int into, final int from) {
+            final Map<Integer, Double> target = this.adjacency.get(into);
+            for (final Map.Entry<Integer, Double> entry : this.adjacency.get(from).entrySet()) {
+                final int vtx = entry.getKey();
+                final Map<Integer, Double> neighbor = this.adjacency.get(vtx);
+                neighbor.remove(from);
+                if (vtx != into) {
+                    target.merge(vtx, entry.getValue(), Double::sum);
+                    neighbor.merge(into, entry.getValue(), Double::sum);
+                }
+            }
+            target.remove(from);
+            this.adjacency.get(from).clear();
+            this.alive.remove(from);
+            this.partition.merge(into, from);
+        }
+
+        /**
+         * Builds the set of all vertices.
+         * @param size Vertices count
+         * @return Vertices indices
+         */
+        private static Set<Integer> all(final int size) {
+            final Set<Integer> result = new LinkedHashSet<>(size * 2);
+            for (int idx = 0; idx < size; ++idx) {
+                result.add(idx);
+            }
+            return result;
+        }
+    }
+}
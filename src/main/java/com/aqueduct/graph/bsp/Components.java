@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Vertex;
+
+/**
+ * Connected components: labels every vertex with the vertex of smallest name of its
+ * component, each vertex propagating the smallest label it knows to its neighbors.
+ * Components are only found in undirected graphs, whose edges lead both ways; in a
+ * directed graph, a vertex gets the smallest label among the vertices it is reachable
+ * from. Messages can be combined by keeping the vertex of smallest name.
+ * @since 0.1
+ */
+public final class Components implements Computation<Vertex, Vertex> {
+
+    @Override
+    public Vertex initial(final Vertex vertex) {
+        return vertex;
+    }
+
+    @Override
+    public void compute(final Context<Vertex, Vertex> context,
+        final Iterable<Vertex> messages) {
+        Vertex best = context.value();
+        boolean changed = context.superstep() == 0;
+        for (final Vertex message : messages) {
+            if (message.name().compareTo(best.name()) < 0) {
+                best = message;
+                changed = true;
+            }
+        }
+        if (changed) {
+            context.value(best);
+            for (final Edge edge : context.edges()) {
+                context.send(edge.end(), best);
+            }
+        }
+        context.halt();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Vertex;
+
+/**
+ * Vertex program run by the {@link Pregel} engine. At each superstep, every vertex that
+ * did not halt, or that received messages, is computed with the messages sent to it
+ * during the previous superstep.
+ * @param <V> Vertex values type
+ * @param <M> Messages type
+ * @since 0.1
+ */
+public interface Computation<V, M> {
+
+    /**
+     * Gives the value of a vertex before the first superstep.
+     * @param vertex Vertex
+     * @return Initial value
+     */
+    V initial(Vertex vertex);
+
+    /**
+     * Computes a vertex.
+     * @param context Vertex context
+     * @param messages Messages received by the vertex
+     */
+    void compute(Context<V, M> context, Iterable<M> messages);
+
+}
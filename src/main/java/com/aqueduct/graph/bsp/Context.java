@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Vertex;
+import java.util.Set;
+
+/**
+ * What a vertex sees of the computation during a superstep.
+ * @param <V> Vertex values type
+ * @param <M> Messages type
+ * @since 0.1
+ */
+public interface Context<V, M> {
+
+    /**
+     * Gives the current superstep.
+     * @return Superstep, starting from 0
+     */
+    int superstep();
+
+    /**
+     * Gives the vertices count of the whole graph.
+     * @return Vertices count
+     */
+    long vertices();
+
+    /**
+     * Gives the computed vertex.
+     * @return Vertex
+     */
+    Vertex vertex();
+
+    /**
+     * Gives the value of the computed vertex.
+     * @return Vertex value
+     */
+    V value();
+
+    /**
+     * Changes the value of the computed vertex.
+     * @param value New value
+     */
+    void value(V value);
+
+    /**
+     * Gives the outgoing edges of the computed vertex.
+     * @return Outgoing edges, empty if the vertex has none
+     */
+    Set<Edge> edges();
+
+    /**
+     * Sends a message to a vertex, delivered at the next superstep.
+     * @param target Receiving vertex
+     * @param message Message
+     */
+    void send(Vertex target, M message);
+
+    /**
+     * Halts the computed vertex: it is not computed anymore until it receives a message.
+     */
+    void halt();
+
+}
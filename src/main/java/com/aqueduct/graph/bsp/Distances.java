@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Vertex;
+
+/**
+ * Single source shortest paths: computes the distance from a source vertex to every
+ * vertex, relaxing the edges of the vertices whose distance decreased at each superstep.
+ * Vertices not reachable from the source keep {@link Double#POSITIVE_INFINITY}. Negative
+ * costs are supported as long as there is no negative cycle, otherwise the computation
+ * only stops at the supersteps limit. Messages can be combined with
+ * {@link Math#min(double, double)}.
+ * @since 0.1
+ */
+public final class Distances implements Computation<Double, Double> {
+
+    /**
+     * Source vertex.
+     */
+    private final Vertex source;
+
+    /**
+     * Constructor.
+     * @param source Source vertex
+     */
+    public Distances(final Vertex source) {
+        this.source = source;
+    }
+
+    @Override
+    public Double initial(final Vertex vertex) {
+        double result = Double.POSITIVE_INFINITY;
+        if (vertex.equals(this.source)) {
+            result = 0;
+        }
+        return result;
+    }
+
+    @Override
+    public void compute(final Context<Double, Double> context,
+        final Iterable<Double> messages) {
+        double best = context.value();
+        boolean changed = context.superstep() == 0 && best == 0;
+        for (final Double message : messages) {
+            if (message < best) {
+                best = message;
+                changed = true;
+            }
+        }
+        if (changed) {
+            context.value(best);
+            for (final Edge edge : context.edges()) {
+                context.send(edge.end(), best + edge.cost());
+            }
+        }
+        context.halt();
+    }
+}
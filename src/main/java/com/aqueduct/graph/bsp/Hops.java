@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Vertex;
+
+/**
+ * Breadth first search: computes the number of edges on a shortest path from a source
+ * vertex to every vertex. Vertices not reachable from the source keep
+ * {@link Integer#MAX_VALUE}. Messages can be combined with {@link Math#min(int, int)}.
+ * @since 0.1
+ */
+public final class Hops implements Computation<Integer, Integer> {
+
+    /**
+     * Source vertex.
+     */
+    private final Vertex source;
+
+    /**
+     * Constructor.
+     * @param source Source vertex
+     */
+    public Hops(final Vertex source) {
+        this.source = source;
+    }
+
+    @Override
+    public Integer initial(final Vertex vertex) {
+        int result = Integer.MAX_VALUE;
+        if (vertex.equals(this.source)) {
+            result = 0;
+        }
+        return result;
+    }
+
+    @Override
+    public void compute(final Context<Integer, Integer> context,
+        final Iterable<Integer> messages) {
+        int best = context.value();
+        boolean changed = context.superstep() == 0 && best == 0;
+        for (final Integer message : messages) {
+            if (message < best) {
+                best = message;
+                changed = true;
+            }
+        }
+        if (changed) {
+            context.value(best);
+            for (final Edge edge : context.edges()) {
+                context.send(edge.end(), best + 1);
+            }
+        }
+        context.halt();
+    }
+}
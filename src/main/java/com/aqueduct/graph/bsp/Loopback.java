@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Vertex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process transport, for workers running in the same JVM. The calling process being
+ * the only one, the superstep barrier is reached as soon as it delivers the messages, and
+ * the computation goes on if it is active or if a message is delivered. Messages sent to
+ * a vertex are merged as they are sent when a {@link Combiner} is given.
+ * @param <M> Messages type
+ * @since 0.1
+ */
+public final class Loopback<M> implements Transport<M> {
+
+    /**
+     * Messages being sent, by shard and receiving vertex.
+     */
+    private final List<Map<Vertex, List<M>>> outboxes;
+
+    /**
+     * Delivered messages, by shard and receiving vertex.
+     */
+    private final List<Map<Vertex, List<M>>> inboxes;
+
+    /**
+     * Messages combiner, or null to deliver every message.
+     */
+    private final Combiner<M> combiner;
+
+    /**
+     * Constructor. Builds a transport delivering every message.
+     * @param shards Shards count
+     */
+    public Loopback(final int shards) {
+        this(shards, null);
+    }
+
+    /**
+     * Constructor.
+     * @param shards Shards count
+     * @param combiner Messages combiner
+     */
+    public Loopback(final int shards, final Combiner<M> combiner) {
+        this.outboxes = Loopback.boxes(shards);
+        this.inboxes = Loopback.boxes(shards);
+        this.combiner = combiner;
+    }
+
+    @Override
+    public void send(final int shard, final Vertex target, final M message) {
+        this.outboxes.get(shard).compute(
+            target, (vertex, messages) -> this.add(messages, message)
+        );
+    }
+
+    @Override
+    public boolean deliver(final boolean active) {
+        long count = 0;
+        for (int shard = 0; shard < this.outboxes.size(); ++shard) {
+            final Map<Vertex, List<M>> outbox = this.outboxes.get(shard);
+            final Map<Vertex, List<M>> inbox = this.inboxes.get(shard);
+            inbox.clear();
+            inbox.putAll(outbox);
+            outbox.clear();
+            count += inbox.values().stream().mapToLong(List::size).sum();
+        }
+        return active || count > 0;
+    }
+
+    @Override
+    public Map<Vertex, List<M>> receive(final int shard) {
+        return Collections.unmodifiableMap(this.inboxes.get(shard));
+    }
+
+    /**
+     * Adds a message to the messages sent to a vertex.
+     * @param messages Messages already sent to the vertex, or null
+     * @param message Sent message
+     * @return Messages sent to the vertex
+     */
+    private List<M> add(final List<M> messages, final M message) {
+        List<M> result = messages;
+        if (result == null) {
+            result = new ArrayList<>(1);
+            result.add(message);
+        } else if (this.combiner == null) {
+            result.add(message);
+        } else {
+            result.set(0, this.combiner.combine(result.get(0), message));
+        }
+        return result;
+    }
+
+    /**
+     * Builds empty boxes.
+     * @param shards Shards count
+     * @param <M> Messages type
+     * @return A box by shard
+     */
+    private static <M> List<Map<Vertex, List<M>>> boxes(final int shards) {
+        final List<Map<Vertex, List<M>>> result = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; ++shard) {
+            result.add(new ConcurrentHashMap<>());
+        }
+        return result;
+    }
+}
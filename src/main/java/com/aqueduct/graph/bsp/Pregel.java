@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Vertex;
+import com.aqueduct.graph.partition.Partition;
+import com.aqueduct.graph.partition.Shard;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Vertex-centric bulk synchronous engine running a {@link Computation} over the shards
+ * of a {@link Partition}. Each superstep computes the hosted shards in parallel, a worker
+ * by shard, then waits for all of them before ending the superstep through
+ * the {@link Transport}, which delivers the messages. The computation ends when every
+ * vertex halted and no message is delivered, or when the supersteps limit is reached.
+ * An engine hosts all the shards by default; with a transport carrying messages between
+ * JVMs, each of them runs an engine hosting some of the shards, the transport holding
+ * the superstep barrier and deciding when the computation ends, for all of them.
+ * @param <V> Vertex values type
+ * @param <M> Messages type
+ * @since 0.1
+ */
+public final class Pregel<V, M> {
+
+    /**
+     * Partitioned graph.
+     */
+    private final Partition partition;
+
+    /**
+     * Vertex program.
+     */
+    private final Computation<V, M> computation;
+
+    /**
+     * Messages transport.
+     */
+    private final Transport<M> transport;
+
+    /**
+     * Indices of the hosted shards.
+     */
+    private final Set<Integer> hosted;
+
+    /**
+     * Constructor. Builds an engine carrying messages in-process, without combining them.
+     * @param partition Partitioned graph
+     * @param computation Vertex program
+     */
+    public Pregel(final Partition partition, final Computation<V, M> computation) {
+        this(partition, computation, new Loopback<>(partition.shards().size()));
+    }
+
+    /**
+     * Constructor.
+     * @param partition Partitioned graph
+     * @param computation Vertex program
+     * @param transport Messages transport
+     */
+    public Pregel(final Partition partition, final Computation<V, M> computation,
+        final Transport<M> transport) {
+        this(
+            partition, computation, transport,
+            IntStream.range(0, partition.shards().size()).boxed().collect(Collectors.toSet())
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param partition Partitioned graph
+     * @param computation Vertex program
+     * @param transport Messages transport
+     * @param hosted Indices of the hosted shards
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Pregel(final Partition partition, final Computation<V, M> computation,
+        final Transport<M> transport, final Set<Integer> hosted) {
+        this.partition = partition;
+        this.computation = computation;
+        this.transport = transport;
+        this.hosted = hosted;
+    }
+
+    /**
+     * Gives an engine hosting only some of the shards, the other ones being hosted by
+     * other processes sharing the same transport.
+     * @param shards Indices of the hosted shards
+     * @return Engine hosting the shards
+     */
+    public Pregel<V, M> hosting(final int... shards) {
+        final Set<Integer> indices = new TreeSet<>();
+        for (final int shard : shards) {
+            if (shard < 0 || shard >= this.partition.shards().size()) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Shard %d is not one of the %d shards",
+                        shard, this.partition.shards().size()
+                    )
+                );
+            }
+            indices.add(shard);
+        }
+        return new Pregel<>(this.partition, this.computation, this.transport, indices);
+    }
+
+    /**
+     * Runs the computation. Each superstep ends once every process hosting shards ended it.
+     * @param supersteps Maximum supersteps count
+     * @return Value of each vertex of the hosted shards at the end of the computation
+     */
+    public Map<Vertex, V> run(final int supersteps) {
+        if (supersteps < 0) {
+            throw new IllegalArgumentException(
+                String.format("Supersteps count %d must not be negative", supersteps)
+            );
+        }
+        final List<Worker<V, M>> workers = this.workers();
+        boolean active = true;
+        for (int step = 0; step < supersteps && active; ++step) {
+            final int superstep = step;
+            active = this.transport.deliver(
+                workers.parallelStream().map(
+                    worker -> worker.step(superstep, this.transport.receive(worker.index()))
+                ).reduce(false, Boolean::logicalOr)
+            );
+        }
+        final Map<Vertex, V> result = new HashMap<>();
+        for (final Worker<V, M> worker : workers) {
+            result.putAll(worker.values());
+        }
+        return result;
+    }
+
+    /**
+     * Builds a worker by hosted shard.
+     * @return Workers, by shard index
+     */
+    private List<Worker<V, M>> workers() {
+        final List<Shard> shards = this.partition.shards();
+        final long total = shards.stream().mapToLong(shard -> shard.vertices().size()).sum();
+        final List<Worker<V, M>> result = new ArrayList<>(this.hosted.size());
+        for (final int index : this.hosted) {
+            final Shard shard = shards.get(index);
+            final Worker<V, M> worker = new Worker<>(shard, this.computation, total, this::send);
+            worker.start();
+            result.add(worker);
+        }
+        return result;
+    }
+
+    /**
+     * Sends a message to the shard owning its receiving vertex.
+     * @param target Receiving vertex
+     * @param message Message
+     */
+    private void send(final Vertex target, final M message) {
+        this.transport.send(this.partition.owner(target), target, message);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Vertex;
+import java.util.Set;
+
+/**
+ * PageRank, computed over a fixed number of iterations. At each superstep, a vertex
+ * shares its rank equally between its outgoing edges. The rank of vertices without
+ * outgoing edges is not redistributed, so the ranks sum up to less than one when there
+ * are such vertices. Messages can be combined with {@link Double#sum(double, double)}.
+ * @since 0.1
+ */
+public final class Rank implements Computation<Double, Double> {
+
+    /**
+     * Default damping factor.
+     */
+    private static final double DAMPING = 0.85;
+
+    /**
+     * Iterations count.
+     */
+    private final int iterations;
+
+    /**
+     * Damping factor: probability to follow an edge rather than jumping to any vertex.
+     */
+    private final double damping;
+
+    /**
+     * Constructor. Builds a PageRank computation with a damping factor of 0.85.
+     * @param iterations Iterations count
+     */
+    public Rank(final int iterations) {
+        this(iterations, Rank.DAMPING);
+    }
+
+    /**
+     * Constructor.
+     * @param iterations Iterations count
+     * @param damping Damping factor
+     */
+    public Rank(final int iterations, final double damping) {
+        this.iterations = iterations;
+        this.damping = damping;
+    }
+
+    @Override
+    public Double initial(final Vertex vertex) {
+        return Double.NaN;
+    }
+
+    @Override
+    public void compute(final Context<Double, Double> context,
+        final Iterable<Double> messages) {
+        final double jump = 1.0 / context.vertices();
+        if (context.superstep() == 0) {
+            context.value(jump);
+        } else {
+            double sum = 0;
+            for (final Double message : messages) {
+                sum += message;
+            }
+            context.value((1.0 - this.damping) * jump + this.damping * sum);
+        }
+        final Set<Edge> edges = context.edges();
+        if (context.superstep() < this.iterations) {
+            for (final Edge edge : edges) {
+                context.send(edge.end(), context.value() / edges.size());
+            }
+        } else {
+            context.halt();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Vertex;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Carries the messages between the workers processing the shards of a graph, possibly
+ * in several processes each hosting some of the shards. The transport holds the superstep
+ * barrier: messages sent during a superstep are only received once every process called
+ * {@link #deliver(boolean)}, which also decides whether the computation goes on, from
+ * the activity of all the processes. Sending can be done concurrently by all the workers.
+ * @param <M> Messages type
+ * @since 0.1
+ */
+public interface Transport<M> {
+
+    /**
+     * Sends a message to a vertex.
+     * @param shard Index of the shard owning the vertex
+     * @param target Receiving vertex
+     * @param message Message
+     */
+    void send(int shard, Vertex target, M message);
+
+    /**
+     * Ends a superstep. Called by each process once all its workers finished
+     * the superstep, it waits for every process to end the superstep, then delivers
+     * the messages sent during it.
+     * @param active Whether a vertex of the calling process did not vote to halt
+     * @return Whether the computation goes on, that is whether a vertex of any process did
+     *  not vote to halt or any message is delivered
+     */
+    boolean deliver(boolean active);
+
+    /**
+     * Gives the messages delivered to the vertices of a shard.
+     * @param shard Shard index
+     * @return Delivered messages, by receiving vertex
+     */
+    Map<Vertex, List<M>> receive(int shard);
+
+}
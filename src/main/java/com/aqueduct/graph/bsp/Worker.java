@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Vertex;
+import com.aqueduct.graph.partition.Shard;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Computes the vertices of a shard, keeping their values and which of them halted.
+ * @param <V> Vertex values type
+ * @param <M> Messages type
+ * @since 0.1
+ */
+final class Worker<V, M> {
+
+    /**
+     * Processed shard.
+     */
+    private final Shard shard;
+
+    /**
+     * Vertex program.
+     */
+    private final Computation<V, M> computation;
+
+    /**
+     * Vertices count of the whole graph.
+     */
+    private final long total;
+
+    /**
+     * Sends messages to the vertices.
+     */
+    private final BiConsumer<Vertex, M> sender;
+
+    /**
+     * Value of each owned vertex.
+     */
+    private final Map<Vertex, V> current;
+
+    /**
+     * Halted vertices.
+     */
+    private final Set<Vertex> halted;
+
+    /**
+     * Constructor.
+     * @param shard Processed shard
+     * @param computation Vertex program
+     * @param total Vertices count of the whole graph
+     * @param sender Sends messages to the vertices
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Worker(final Shard shard, final Computation<V, M> computation, final long total,
+        final BiConsumer<Vertex, M> sender) {
+        this.shard = shard;
+        this.computation = computation;
+        this.total = total;
+        this.sender = sender;
+        this.current = new HashMap<>();
+        this.halted = new HashSet<>();
+    }
+
+    /**
+     * Gives the index of the processed shard.
+     * @return Shard index
+     */
+    int index() {
+        return this.shard.index();
+    }
+
+    /**
+     * Gives the values of the owned vertices.
+     * @return Value of each owned vertex
+     */
+    Map<Vertex, V> values() {
+        return this.current;
+    }
+
+    /**
+     * Gives their initial value to the owned vertices.
+     */
+    void start() {
+        for (final Vertex vertex : this.shard.vertices()) {
+            this.current.put(vertex, this.computation.initial(vertex));
+        }
+    }
+
+    /**
+     * Computes the owned vertices that did not halt or that received messages.
+     * @param superstep Superstep
+     * @param inbox Messages received by the owned vertices
+     * @return True if some vertices did not halt
+     */
+    boolean step(final int superstep, final Map<Vertex, List<M>> inbox) {
+        for (final Vertex vertex : this.shard.vertices()) {
+            final List<M> messages = inbox.getOrDefault(vertex, Collections.emptyList());
+            if (messages.isEmpty() && this.halted.contains(vertex)) {
+                continue;
+            }
+            this.halted.remove(vertex);
+            this.computation.compute(new Step(superstep, vertex), messages);
+        }
+        return this.halted.size() < this.current.size();
+    }
+
+    /**
+     * Context of an owned vertex during a superstep.
+     * @since 0.1
+     */
+    private final class Step implements Context<V, M> {
+
+        /**
+         * Superstep.
+         */
+        private final int number;
+
+        /**
+         * Computed vertex.
+         */
+        private final Vertex computed;
+
+        /**
+         * Constructor.
+         * @param number Superstep
+         * @param computed Computed vertex
+         */
+        Step(final int number, final Vertex computed) {
+            this.number = number;
+            this.computed = computed;
+        }
+
+        @Override
+        public int superstep() {
+            return this.number;
+        }
+
+        @Override
+        public long vertices() {
+            return Worker.this.total;
+        }
+
+        @Override
+        public Vertex vertex() {
+            return this.computed;
+        }
+
+        @Override
+        public V value() {
+            return Worker.this.current.get(this.computed);
+        }
+
+        @Override
+        public void value(final V value) {
+            Worker.this.current.put(this.computed, value);
+        }
+
+        @Override
+        public Set<Edge> edges() {
+            Set<Edge> result = Worker.this.shard.connectedEdges(this.computed);
+            if (result == null) {
+                result = Collections.emptySet();
+            }
+            return result;
+        }
+
+        @Override
+        public void send(final Vertex target, final M message) {
+            Worker.this.sender.accept(target, message);
+        }
+
+        @Override
+        public void halt() {
+            Worker.this.halted.add(this.computed);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import com.aqueduct.graph.Indexed;
+
+/**
+ * Partitioner assigning vertices to shards by hashing them. The shard of a vertex only
+ * depends on the vertex itself, so that any worker can tell the owner of any vertex
+ * without a lookup table, but neighbors are spread over the shards.
+ * @since 0.1
+ */
+public final class Hash implements Partitioner {
+
+    /**
+     * Multiplier spreading the hash codes bits.
+     */
+    private static final int SPREAD = 0x9E3779B9;
+
+    @Override
+    public int[] assign(final Indexed graph, final int parts) {
+        final int[] result = new int[graph.size()];
+        for (int idx = 0; idx < result.length; ++idx) {
+            result[idx] = Hash.owner(graph.vertex(idx).hashCode(), parts);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the shard of a hash code.
+     * @param hash Hash code
+     * @param parts Shards count
+     * @return Shard
+     */
+    private static int owner(final int hash, final int parts) {
+        final int spread = hash * Hash.SPREAD;
+        return Math.floorMod(spread ^ spread >>> Integer.SIZE / 2, parts);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Partition of a graph in shards, to be processed by several workers. Vertices are
+ * assigned to shards by a {@link Partitioner}, and each shard holds the outgoing edges
+ * of the vertices it owns, with the vertices of other shards they lead to as ghosts
+ * (see {@link Shard}). Edges are counted as in {@link Indexed}: an undirected edge
+ * is counted once from each of its extremities.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+public final class Partition {
+
+    /**
+     * Indexed graph.
+     */
+    private final Indexed indexed;
+
+    /**
+     * Shard of each vertex, by vertex index.
+     */
+    private final int[] assignment;
+
+    /**
+     * Shards.
+     */
+    private final List<Shard> parts;
+
+    /**
+     * Constructor. Partitions a graph.
+     * @param graph Graph to partition
+     * @param partitioner Strategy assigning vertices to shards
+     * @param count Shards count
+     */
+    public Partition(final Graph graph, final Partitioner partitioner, final int count) {
+        this(graph, new Indexed(graph), partitioner, count);
+    }
+
+    /**
+     * Constructor.
+     * @param graph Graph to partition
+     * @param indexed Indexed graph
+     * @param partitioner Strategy assigning vertices to shards
+     * @param count Shards count
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Partition(final Graph graph, final Indexed indexed,
+        final Partitioner partitioner, final int count) {
+        this(graph, indexed, Partition.owners(indexed, partitioner, count), count);
+    }
+
+    /**
+     * Constructor.
+     * @param graph Graph to partition
+     * @param indexed Indexed graph
+     * @param owners Shard of each vertex, by vertex index
+     * @param count Shards count
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Partition(final Graph graph, final Indexed indexed, final int[] owners,
+        final int count) {
+        this.indexed = indexed;
+        this.assignment = owners;
+        this.parts = Partition.shards(graph, indexed, owners, count);
+    }
+
+    /**
+     * Gives the shards.
+     * @return Shards, by shard index
+     */
+    public List<Shard> shards() {
+        return this.parts;
+    }
+
+    /**
+     * Gives the shard owning a vertex.
+     * @param vtx Vertex
+     * @return Owning shard index
+     */
+    public int owner(final Vertex vtx) {
+        final int idx = this.indexed.index(vtx);
+        if (idx < 0) {
+            throw new IllegalArgumentException(
+                String.format("Vertex %s must be part of the partitioned graph", vtx)
+            );
+        }
+        return this.assignment[idx];
+    }
+
+    /**
+     * Reports the edge cut and the balance of the partition.
+     * @return Report
+     */
+    public Report report() {
+        final int[] sizes = new int[this.parts.size()];
+        long cut = 0;
+        for (int idx = 0; idx < this.assignment.length; ++idx) {
+            ++sizes[this.assignment[idx]];
+            for (int pos = this.indexed.offset(idx); pos < this.indexed.offset(idx + 1);
+                ++pos) {
+                if (this.assignment[this.indexed.target(pos)] != this.assignment[idx]) {
+                    ++cut;
+                }
+            }
+        }
+        return new Report(sizes, cut, this.indexed.offset(this.indexed.size()));
+    }
+
+    /**
+     * Assigns the vertices to shards.
+     * @param indexed Indexed graph
+     * @param partitioner Strategy assigning vertices to shards
+     * @param count Shards count
+     * @return Shard of each vertex, by vertex index
+     */
+    private static int[] owners(final Indexed indexed, final Partitioner partitioner,
+        final int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(
+                String.format("Shards count %d must be positive", count)
+            );
+        }
+        final int[] result = partitioner.assign(indexed, count);
+        for (int idx = 0; idx < result.length; ++idx) {
+            if (result[idx] < 0 || result[idx] >= count) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Vertex %s is assigned to shard %d, out of %d shards",
+                        indexed.vertex(idx), result[idx], count
+                    )
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builds the shards.
+     * @param graph Graph to partition
+     * @param indexed Indexed graph
+     * @param owners Shard of each vertex, by vertex index
+     * @param count Shards count
+     * @return Shards, by shard index
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static List<Shard> shards(final Graph graph, final Indexed indexed,
+        final int[] owners, final int count) {
+        final List<Shard> result = new ArrayList<>(count);
+        for (int part = 0; part < count; ++part) {
+            result.add(new Shard(part));
+        }
+        for (int idx = 0; idx < owners.length; ++idx) {
+            final Vertex vertex = indexed.vertex(idx);
+            final Shard shard = result.get(owners[idx]);
+            shard.own(vertex);
+            final Set<Edge> edges = graph.connectedEdges(vertex);
+            if (edges == null) {
+                continue;
+            }
+            for (final Edge edge : edges) {
+                Edge oriented = edge;
+                if (!edge.start().equals(vertex)) {
+                    oriented = new Edge(vertex, edge.start(), edge.cost());
+                }
+                shard.link(oriented, owners[indexed.index(oriented.end())]);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import com.aqueduct.graph.Indexed;
+import java.util.Arrays;
+
+/**
+ * Partitioner reducing the count of edges cut between shards with balanced label
+ * propagation. Vertices are first assigned by {@link Range}, then repeatedly moved to
+ * the shard holding most of their neighbors (following both outgoing and incoming edges),
+ * as long as that shard does not exceed its capacity. The capacity is the average shard
+ * size increased by a slack ratio. Propagation stops when no vertex moves anymore, or
+ * after a count of rounds.
+ * @since 0.1
+ */
+public final class Propagation implements Partitioner {
+
+    /**
+     * Default rounds count.
+     */
+    private static final int ROUNDS = 20;
+
+    /**
+     * Default slack ratio.
+     */
+    private static final double SLACK = 0.05;
+
+    /**
+     * Maximum rounds count.
+     */
+    private final int rounds;
+
+    /**
+     * Ratio by which shards may exceed the average shard size.
+     */
+    private final double slack;
+
+    /**
+     * Constructor. Builds a partitioner running at most 20 rounds, and allowing shards
+     * to exceed the average size by 5%.
+     */
+    public Propagation() {
+        this(Propagation.ROUNDS, Propagation.SLACK);
+    }
+
+    /**
+     * Constructor.
+     * @param rounds Maximum rounds count
+     * @param slack Ratio by which shards may exceed the average shard size
+     */
+    public Propagation(final int rounds, final double slack) {
+        this.rounds = rounds;
+        this.slack = slack;
+    }
+
+    @Override
+    public int[] assign(final Indexed graph, final int parts) {
+        final int[] result = new Range().assign(graph, parts);
+        final int[] sizes = new int[parts];
+        for (final int owner : result) {
+            ++sizes[owner];
+        }
+        final int capacity = Math.max(
+            (int) Math.ceil(graph.size() * (1 + this.slack) / parts),
+            Arrays.stream(sizes).max().orElse(0)
+        );
+        final Indexed reverse = graph.transposed();
+        boolean moved = true;
+        for (int round = 0; round < this.rounds && moved; ++round) {
+            moved = false;
+            final double[] scores = new double[parts];
+            for (int idx = 0; idx < result.length; ++idx) {
+                Arrays.fill(scores, 0);
+                Propagation.score(graph, idx, result, scores);
+                Propagation.score(reverse, idx, result, scores);
+                final int best = Propagation.best(scores, sizes, result[idx], capacity);
+                if (best != result[idx]) {
+                    --sizes[result[idx]];
+                    ++sizes[best];
+                    result[idx] = best;
+                    moved = true;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the neighbors of a vertex in every shard.
+     * @param graph Indexed graph
+     * @param idx Vertex index
+     * @param owners Shard of each vertex
+     * @param scores Neighbors count by shard, to increase
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static void score(final Indexed graph, final int idx, final int[] owners,
+        final double... scores) {
+        for (int pos = graph.offset(idx); pos < graph.offset(idx + 1); ++pos) {
+            if (graph.target(pos) != idx) {
+                scores[owners[graph.target(pos)]] += 1;
+            }
+        }
+    }
+
+    /**
+     * Chooses the shard a vertex should belong to: the shard holding most of its
+     * neighbors, among its current shard and the shards having room left.
+     * @param scores Neighbors count by shard
+     * @param sizes Vertices count by shard
+     * @param current Current shard
+     * @param capacity Maximum vertices count of a shard
+     * @return Chosen shard
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static int best(final double[] scores, final int[] sizes, final int current,
+        final int capacity) {
+        int result = current;
+        for (int part = 0; part < scores.length; ++part) {
+            if (scores[part] > scores[result] && sizes[part] < capacity) {
+                result = part;
+            }
+        }
+        return result;
+    }
+}
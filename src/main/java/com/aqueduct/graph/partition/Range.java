@@ -0,0 +1,44 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import com.aqueduct.graph.Indexed;
+
+/**
+ * Partitioner assigning consecutive vertex indices to the same shard, with the same
+ * count of vertices in every shard (give or take one). {@link Indexed} numbers vertices
+ * while exploring the graph, so that ranges of indices tend to hold close vertices.
+ * @since 0.1
+ */
+public final class Range implements Partitioner {
+
+    @Override
+    public int[] assign(final Indexed graph, final int parts) {
+        final int[] result = new int[graph.size()];
+        for (int idx = 0; idx < result.length; ++idx) {
+            result[idx] = (int) ((long) idx * parts / result.length);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import java.util.Arrays;
+
+/**
+ * Quality report of a partition: how many edges are cut between shards, and how
+ * balanced the shards are.
+ * @since 0.1
+ */
+public final class Report {
+
+    /**
+     * Hundred, to give the cut ratio as a percentage.
+     */
+    private static final int PERCENT = 100;
+
+    /**
+     * Vertices count by shard.
+     */
+    private final int[] sizes;
+
+    /**
+     * Count of edges between vertices of different shards.
+     */
+    private final long crossing;
+
+    /**
+     * Edges count.
+     */
+    private final long total;
+
+    /**
+     * Constructor.
+     * @param sizes Vertices count by shard
+     * @param cut Count of edges between vertices of different shards
+     * @param edges Edges count
+     */
+    public Report(final int[] sizes, final long cut, final long edges) {
+        this.sizes = Arrays.copyOf(sizes, sizes.length);
+        this.crossing = cut;
+        this.total = edges;
+    }
+
+    /**
+     * Gives the shards count.
+     * @return Shards count
+     */
+    public int parts() {
+        return this.sizes.length;
+    }
+
+    /**
+     * Gives the vertices count of a shard.
+     * @param part Shard index
+     * @return Vertices count
+     */
+    public int size(final int part) {
+        return this.sizes[part];
+    }
+
+    /**
+     * Gives the count of edges cut between shards.
+     * @return Count of edges between vertices of different shards
+     */
+    public long cut() {
+        return this.crossing;
+    }
+
+    /**
+     * Gives the edges count.
+     * @return Edges count
+     */
+    public long edges() {
+        return this.total;
+    }
+
+    /**
+     * Gives the ratio of edges cut between shards.
+     * @return Cut edges count divided by the edges count, 0 if there are no edges
+     */
+    public double ratio() {
+        double result = 0;
+        if (this.total > 0) {
+            result = (double) this.crossing / this.total;
+        }
+        return result;
+    }
+
+    /**
+     * Gives the balance of the shards.
+     * @return Vertices count of the largest shard divided by the average vertices count,
+     *  1 for perfectly balanced shards
+     */
+    public double balance() {
+        final long vertices = Arrays.stream(this.sizes).asLongStream().sum();
+        double result = 1;
+        if (vertices > 0) {
+            result = Arrays.stream(this.sizes).max().getAsInt() * (double) this.sizes.length
+                / vertices;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d shards of %s vertices, %d of %d edges cut (%.2f%%), balance %.2f",
+            this.sizes.length, Arrays.toString(this.sizes), this.crossing, this.total,
+            this.ratio() * Report.PERCENT, this.balance()
+        );
+    }
+}
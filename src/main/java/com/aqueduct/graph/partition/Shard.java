@@ -0,0 +1,189 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Vertex;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Part of a partitioned graph, to be processed by a worker. A shard is a local directed
+ * graph holding the vertices it owns and their outgoing edges. Edges leading to
+ * vertices owned by other shards are kept: these ghost vertices are not part of the
+ * shard vertices, but are listed with the shard owning them, so that a worker knows
+ * where to send what concerns them. The owned vertices having edges to ghost vertices
+ * form the shard boundary. As for {@link com.aqueduct.graph.Indexed}, an edge of an
+ * undirected graph is considered as leading from the owned vertex to its other extremity.
+ * Trying to modify a shard throws an {@link UnsupportedOperationException}.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Shard implements Graph {
+
+    /**
+     * Error message for modification attempts.
+     */
+    private static final String READ_ONLY = "Shard can not be modified";
+
+    /**
+     * Shard index.
+     */
+    private final int position;
+
+    /**
+     * Owned vertices and their outgoing edges.
+     */
+    private final Directed graph;
+
+    /**
+     * Owning shard of each ghost vertex.
+     */
+    private final Map<Vertex, Integer> remote;
+
+    /**
+     * Owned vertices having edges to ghost vertices.
+     */
+    private final Set<Vertex> border;
+
+    /**
+     * Constructor. Builds an empty shard.
+     * @param position Shard index
+     */
+    Shard(final int position) {
+        this.position = position;
+        this.graph = new Directed();
+        this.remote = new HashMap<>();
+        this.border = new HashSet<>();
+    }
+
+    /**
+     * Gives the index of the shard in its partition.
+     * @return Shard index
+     */
+    public int index() {
+        return this.position;
+    }
+
+    /**
+     * Checks if the shard owns a vertex.
+     * @param vtx Vertex
+     * @return True if the vertex is owned by this shard
+     */
+    public boolean owns(final Vertex vtx) {
+        return this.graph.vertices().contains(vtx);
+    }
+
+    /**
+     * Gives the ghost vertices: the vertices owned by other shards that the edges
+     * of this shard lead to.
+     * @return Owning shard index of each ghost vertex
+     */
+    public Map<Vertex, Integer> ghosts() {
+        return Collections.unmodifiableMap(this.remote);
+    }
+
+    /**
+     * Gives the boundary of the shard: the owned vertices having edges to ghost vertices.
+     * @return Boundary vertices
+     */
+    public Set<Vertex> boundary() {
+        return Collections.unmodifiableSet(this.border);
+    }
+
+    @Override
+    public void addVertices(final Vertex... vtx) {
+        throw new UnsupportedOperationException(Shard.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Edge edge) {
+        throw new UnsupportedOperationException(Shard.READ_ONLY);
+    }
+
+    @Override
+    public void addEdge(final Vertex start, final Vertex end, final double cost) {
+        throw new UnsupportedOperationException(Shard.READ_ONLY);
+    }
+
+    @Override
+    public Set<Vertex> vertices() {
+        return Collections.unmodifiableSet(this.graph.vertices());
+    }
+
+    @Override
+    public Set<Edge> edges() {
+        return Collections.unmodifiableSet(this.graph.edges());
+    }
+
+    @Override
+    public Set<Vertex> connected(final Vertex vtx) {
+        return Shard.readonly(this.graph.connected(vtx));
+    }
+
+    @Override
+    public Set<Edge> connectedEdges(final Vertex vtx) {
+        return Shard.readonly(this.graph.connectedEdges(vtx));
+    }
+
+    /**
+     * Adds an owned vertex.
+     * @param vtx Vertex
+     */
+    void own(final Vertex vtx) {
+        this.graph.addVertices(vtx);
+    }
+
+    /**
+     * Adds an edge starting from an owned vertex.
+     * @param edge Edge
+     * @param owner Index of the shard owning the edge end
+     */
+    void link(final Edge edge, final int owner) {
+        this.graph.addEdge(edge);
+        if (owner != this.position) {
+            this.remote.put(edge.end(), owner);
+            this.border.add(edge.start());
+        }
+    }
+
+    /**
+     * Wraps a set, if any, in a read only view.
+     * @param set Set, or null
+     * @param <T> Elements type
+     * @return Read only view, or null
+     */
+    private static <T> Set<T> readonly(final Set<T> set) {
+        Set<T> result = null;
+        if (set != null) {
+            result = Collections.unmodifiableSet(set);
+        }
+        return result;
+    }
+}
@@ -34,7 +34,8 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
- * Breadth First Search graph traversal algorithm.
+ * Breadth First Search graph traversal algorithm. See {@link Levels} for a level synchronous
+ * search giving the depth and the parent of every vertex.
  * @since 0.1
  */
 public final class Breadth implements Iterator<Vertex> {
@@ -81,8 +82,9 @@ public final class Breadth implements Iterator<Vertex> {
         this.visited.add(result);
         final Set<Vertex> connected = this.grp.connected(result);
         if (connected != null) {
-            connected.removeAll(this.visited);
-            this.queue.addAll(connected);
+            final Set<Vertex> unvisited = new HashSet<>(connected);
+            unvisited.removeAll(this.visited);
+            this.queue.addAll(unvisited);
         }
         return result;
     }
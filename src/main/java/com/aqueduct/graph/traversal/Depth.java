@@ -80,8 +80,9 @@ public final class Depth implements Iterator<Vertex> {
         this.visited.add(result);
         final Set<Vertex> connected = this.grp.connected(result);
         if (connected != null) {
-            connected.removeAll(this.visited);
-            this.stk.addAll(connected);
+            final Set<Vertex> unvisited = new HashSet<>(connected);
+            unvisited.removeAll(this.visited);
+            this.stk.addAll(unvisited);
         }
         return result;
     }
@@ -0,0 +1,353 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.traversal;
+
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Level synchronous Breadth First Search, switching between top-down and bottom-up steps.
+ * A top-down step expands every vertex of the frontier through its outgoing edges, while a
+ * bottom-up step looks for a parent in the frontier among the incoming edges of every
+ * unvisited vertex, stopping at the first one found. Bottom-up steps are chosen when the
+ * edges leaving the frontier outnumber a fraction of the edges left to check, which happens
+ * in the middle levels of low diameter graphs, and top-down steps come back once the
+ * frontier shrinks to a fraction of the vertices. Frontiers and visited vertices are kept
+ * in bitmaps, and incoming edges are read from a transposed {@link Indexed} snapshot.
+ * The search is run at construction, on a snapshot of the graph.
+ * @since 0.1
+ */
+public final class Levels {
+
+    /**
+     * Default fraction of the unchecked edges above which bottom-up steps are chosen.
+     */
+    private static final double ALPHA = 14;
+
+    /**
+     * Default fraction of the vertices below which top-down steps come back.
+     */
+    private static final double BETA = 24;
+
+    /**
+     * Searched graph.
+     */
+    private final Indexed graph;
+
+    /**
+     * Depth of each vertex, by vertex index.
+     */
+    private final int[] level;
+
+    /**
+     * Parent of each vertex, by vertex index.
+     */
+    private final int[] tree;
+
+    /**
+     * Count of levels expanded bottom-up.
+     */
+    private final int bottom;
+
+    /**
+     * Constructor. Searches a graph from a source vertex.
+     * @param graph Graph to search
+     * @param source Source vertex
+     */
+    public Levels(final Graph graph, final Vertex source) {
+        this(new Indexed(graph), source);
+    }
+
+    /**
+     * Constructor. Searches an indexed graph from a source vertex.
+     * @param graph Indexed graph to search
+     * @param source Source vertex
+     */
+    public Levels(final Indexed graph, final Vertex source) {
+        this(graph, source, Levels.ALPHA, Levels.BETA);
+    }
+
+    /**
+     * Constructor.
+     * @param graph Indexed graph to search
+     * @param source Source vertex
+     * @param alpha Fraction of the unchecked edges above which bottom-up steps are chosen
+     * @param beta Fraction of the vertices below which top-down steps come back
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Levels(final Indexed graph, final Vertex source, final double alpha, final double beta) {
+        this(graph, new Levels.Search(graph, alpha, beta).run(Levels.index(graph, source)));
+    }
+
+    /**
+     * Constructor.
+     * @param graph Searched graph
+     * @param search Completed search
+     */
+    private Levels(final Indexed graph, final Levels.Search search) {
+        this.graph = graph;
+        this.level = search.depth;
+        this.tree = search.parent;
+        this.bottom = search.upward;
+    }
+
+    /**
+     * Gives the depth of every vertex: the number of edges on a shortest path
+     * from the source.
+     * @return Depth by vertex index, -1 for vertices not reachable from the source
+     */
+    public int[] depths() {
+        return Arrays.copyOf(this.level, this.level.length);
+    }
+
+    /**
+     * Gives the parent of every vertex in the search tree.
+     * @return Parent index by vertex index, -1 for the source and the vertices not reachable
+     *  from it
+     */
+    public int[] parents() {
+        return Arrays.copyOf(this.tree, this.tree.length);
+    }
+
+    /**
+     * Gives the depth of a vertex.
+     * @param vtx Vertex
+     * @return Number of edges on a shortest path from the source, -1 if not reachable
+     */
+    public int depth(final Vertex vtx) {
+        return this.level[Levels.index(this.graph, vtx)];
+    }
+
+    /**
+     * Gives the parent of a vertex in the search tree.
+     * @param vtx Vertex
+     * @return Parent vertex, or null for the source and the vertices not reachable from it
+     */
+    public Vertex parent(final Vertex vtx) {
+        final int idx = this.tree[Levels.index(this.graph, vtx)];
+        Vertex result = null;
+        if (idx >= 0) {
+            result = this.graph.vertex(idx);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the number of levels expanded bottom-up.
+     * @return Bottom-up steps count
+     */
+    public int upward() {
+        return this.bottom;
+    }
+
+    /**
+     * Gives the index of a vertex, checking it is part of the graph.
+     * @param graph Indexed graph
+     * @param vtx Vertex
+     * @return Vertex index
+     */
+    private static int index(final Indexed graph, final Vertex vtx) {
+        final int idx = graph.index(vtx);
+        if (idx < 0) {
+            throw new IllegalArgumentException(
+                String.format("Vertex %s must be part of the searched graph", vtx)
+            );
+        }
+        return idx;
+    }
+
+    /**
+     * Search state.
+     * @since 0.1
+     */
+    private static final class Search {
+
+        /**
+         * Outgoing edges.
+         */
+        private final Indexed forward;
+
+        /**
+         * Incoming edges.
+         */
+        private final Indexed backward;
+
+        /**
+         * Fraction of the unchecked edges above which bottom-up steps are chosen.
+         */
+        private final double alpha;
+
+        /**
+         * Fraction of the vertices below which top-down steps come back.
+         */
+        private final double beta;
+
+        /**
+         * Depth of each vertex.
+         */
+        private final int[] depth;
+
+        /**
+         * Parent of each vertex.
+         */
+        private final int[] parent;
+
+        /**
+         * Visited vertices.
+         */
+        private final BitSet visited;
+
+        /**
+         * Count of levels expanded bottom-up.
+         */
+        private int upward;
+
+        /**
+         * Constructor.
+         * @param graph Graph to search
+         * @param alpha Fraction of the unchecked edges above which bottom-up steps are chosen
+         * @param beta Fraction of the vertices below which top-down steps come back
+         */
+        Search(final Indexed graph, final double alpha, final double beta) {
+            this(graph, graph.transposed(), alpha, beta);
+        }
+
+        /**
+         * Constructor.
+         * @param forward Outgoing edges
+         * @param backward Incoming edges
+         * @param alpha Fraction of the unchecked edges above which bottom-up steps are chosen
+         * @param beta Fraction of the vertices below which top-down steps come back
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Search(final Indexed forward, final Indexed backward,
+            final double alpha, final double beta) {
+            this.forward = forward;
+            this.backward = backward;
+            this.alpha = alpha;
+            this.beta = beta;
+            this.depth = new int[forward.size()];
+            this.parent = new int[forward.size()];
+            this.visited = new BitSet(forward.size());
+        }
+
+        /**
+         * Searches the graph.
+         * @param source Source vertex index
+         * @return This search, completed
+         */
+        Levels.Search run(final int source) {
+            Arrays.fill(this.depth, -1);
+            Arrays.fill(this.parent, -1);
+            this.depth[source] = 0;
+            this.visited.set(source);
+            BitSet frontier = new BitSet(this.depth.length);
+            frontier.set(source);
+            long unchecked = this.forward.offset(this.forward.size());
+            long outgoing = 0;
+            boolean bottomup = false;
+            for (int lvl = 0; !frontier.isEmpty(); ++lvl) {
+                outgoing = this.degrees(frontier);
+                unchecked -= outgoing;
+                if (outgoing > unchecked / this.alpha) {
+                    bottomup = true;
+                } else if (frontier.cardinality() < this.depth.length / this.beta) {
+                    bottomup = false;
+                }
+                if (bottomup) {
+                    frontier = this.upwards(frontier, lvl + 1);
+                    ++this.upward;
+                } else {
+                    frontier = this.downwards(frontier, lvl + 1);
+                }
+                this.visited.or(frontier);
+            }
+            return this;
+        }
+
+        /**
+         * Expands the frontier through the outgoing edges of its vertices.
+         * @param frontier Current frontier
+         * @param next Depth of the next frontier
+         * @return Next frontier
+         */
+        private BitSet downwards(final BitSet frontier, final int next) {
+            final BitSet result = new BitSet(this.depth.length);
+            for (int idx = frontier.nextSetBit(0); idx >= 0;
+                idx = frontier.nextSetBit(idx + 1)) {
+                final int last = this.forward.offset(idx + 1);
+                for (int pos = this.forward.offset(idx); pos < last; ++pos) {
+                    final int target = this.forward.target(pos);
+                    if (!this.visited.get(target) && !result.get(target)) {
+                        result.set(target);
+                        this.depth[target] = next;
+                        this.parent[target] = idx;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Looks for a parent in the frontier for every unvisited vertex.
+         * @param frontier Current frontier
+         * @param next Depth of the next frontier
+         * @return Next frontier
+         */
+        private BitSet upwards(final BitSet frontier, final int next) {
+            final BitSet result = new BitSet(this.depth.length);
+            for (int idx = this.visited.nextClearBit(0); idx < this.depth.length;
+                idx = this.visited.nextClearBit(idx + 1)) {
+                final int last = this.backward.offset(idx + 1);
+                for (int pos = this.backward.offset(idx); pos < last; ++pos) {
+                    final int source = this.backward.target(pos);
+                    if (frontier.get(source)) {
+                        result.set(idx);
+                        this.depth[idx] = next;
+                        this.parent[idx] = source;
+                        break;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Counts the outgoing edges of the vertices of a frontier.
+         * @param frontier Frontier
+         * @return Outgoing edges count
+         */
+        private long degrees(final BitSet frontier) {
+            long result = 0;
+            for (int idx = frontier.nextSetBit(0); idx >= 0;
+                idx = frontier.nextSetBit(idx + 1)) {
+                result += this.forward.offset(idx + 1) - this.forward.offset(idx);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.util;
+
+/**
+ * UTF-8 encoder writing characters into a reusable buffer, without any allocation once
+ * the buffer is large enough. Unpaired surrogates are encoded as they are.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.MethodReturnsInternalArray")
+final class Encoder {
+
+    /**
+     * Maximum count of bytes encoding a character.
+     */
+    private static final int WIDEST = 3;
+
+    /**
+     * Code points from which UTF-8 needs one, two and three continuation bytes.
+     */
+    private static final int[] LIMITS = {0x80, 0x800, 0x10000};
+
+    /**
+     * UTF-8 leading byte marks by continuation bytes count.
+     */
+    private static final int[] MARKS = {0, 0xC0, 0xE0, 0xF0};
+
+    /**
+     * UTF-8 continuation byte mark.
+     */
+    private static final int CONTINUATION = 0x80;
+
+    /**
+     * Mask giving the payload of a UTF-8 continuation byte.
+     */
+    private static final int PAYLOAD = 0x3F;
+
+    /**
+     * Payload bits count of a UTF-8 continuation byte.
+     */
+    private static final int SHIFT = 6;
+
+    /**
+     * Encoded bytes.
+     */
+    private byte[] buffer;
+
+    /**
+     * Constructor.
+     */
+    Encoder() {
+        this.buffer = new byte[Encoder.LIMITS[0]];
+    }
+
+    /**
+     * Gives the buffer holding the last encoded bytes.
+     * @return Encoded bytes buffer
+     */
+    public byte[] bytes() {
+        return this.buffer;
+    }
+
+    /**
+     * Encodes a range of characters into the buffer.
+     * @param text Characters
+     * @param from Range start (inclusive)
+     * @param until Range end (exclusive)
+     * @return Count of encoded bytes
+     */
+    public int encode(final CharSequence text, final int from, final int until) {
+        final int maximal = (until - from) * Encoder.WIDEST;
+        if (this.buffer.length < maximal) {
+            this.buffer = new byte[maximal];
+        }
+        int length = 0;
+        int idx = from;
+        while (idx < until) {
+            int code = text.charAt(idx);
+            if (Character.isHighSurrogate(text.charAt(idx)) && idx + 1 < until
+                && Character.isLowSurrogate(text.charAt(idx + 1))) {
+                code = Character.toCodePoint(text.charAt(idx), text.charAt(idx + 1));
+                ++idx;
+            }
+            length = this.put(length, code);
+            ++idx;
+        }
+        return length;
+    }
+
+    /**
+     * Writes a code point.
+     * @param pos Position to write at
+     * @param code Code point
+     * @return Position after the written bytes
+     */
+    private int put(final int pos, final int code) {
+        int extra = 0;
+        while (extra < Encoder.LIMITS.length && code >= Encoder.LIMITS[extra]) {
+            ++extra;
+        }
+        this.buffer[pos] = (byte) (Encoder.MARKS[extra] | code >>> Encoder.SHIFT * extra);
+        for (int idx = 1; idx <= extra; ++idx) {
+            final int payload = code >>> Encoder.SHIFT * (extra - idx) & Encoder.PAYLOAD;
+            this.buffer[pos + idx] = (byte) (Encoder.CONTINUATION | payload);
+        }
+        return pos + extra + 1;
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.util;
+
+import com.aqueduct.graph.Vertex;
+import java.util.Arrays;
+
+/**
+ * Dictionary interning vertex names to dense ids (from 0 to size - 1). Names are encoded
+ * in UTF-8 and copied once into a shared byte arena, and looked up in an open addressing
+ * hash table comparing bytes, so that interning a known name allocates nothing. Names made
+ * of at most 18 digits without leading zero are not copied at all: they are looked up by
+ * their numeric value in a second table. A canonical {@link Vertex} is built for each id
+ * the first time it is asked for, and shared afterwards.
+ * This class is not thread safe.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Interner {
+
+    /**
+     * Initial capacity.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Maximum digits count of a name interned by its numeric value.
+     */
+    private static final int DIGITS = 18;
+
+    /**
+     * Numeric names radix.
+     */
+    private static final int RADIX = 10;
+
+    /**
+     * Ids of the names interned by their numeric value.
+     */
+    private final Numbers numbers;
+
+    /**
+     * Names stored in the arena.
+     */
+    private final Names names;
+
+    /**
+     * Ids by number of the names stored in the arena.
+     */
+    private int[] named;
+
+    /**
+     * Numeric value by id, or minus one minus the name number for names stored
+     * in the arena.
+     */
+    private long[] values;
+
+    /**
+     * Canonical vertices by id, built when first asked for.
+     */
+    private Vertex[] vertices;
+
+    /**
+     * Encoder of the names to look up.
+     */
+    private final Encoder encoder;
+
+    /**
+     * Count of interned names.
+     */
+    private int count;
+
+    /**
+     * Constructor. Builds an empty dictionary.
+     */
+    public Interner() {
+        this.numbers = new Numbers();
+        this.names = new Names();
+        this.named = new int[Interner.CAPACITY];
+        this.values = new long[Interner.CAPACITY];
+        this.vertices = new Vertex[Interner.CAPACITY];
+        this.encoder = new Encoder();
+        this.count = 0;
+    }
+
+    /**
+     * Count of interned names.
+     * @return Dictionary size
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Interns a name.
+     * @param name Vertex name
+     * @return Name id
+     */
+    public int intern(final String name) {
+        return this.intern(name, 0, name.length());
+    }
+
+    /**
+     * Interns a name given as a range of characters, such as a token of a text line.
+     * @param text Characters
+     * @param from Range start (inclusive)
+     * @param until Range end (exclusive)
+     * @return Name id
+     */
+    public int intern(final CharSequence text, final int from, final int until) {
+        long number = -1;
+        if (until > from && until - from <= Interner.DIGITS
+            && Interner.leading(text.charAt(from), until - from)) {
+            number = 0;
+            for (int idx = from; idx < until && number >= 0; ++idx) {
+                number = Interner.append(number, text.charAt(idx));
+            }
+        }
+        final int result;
+        if (number >= 0) {
+            result = this.number(number);
+        } else {
+            final int length = this.encoder.encode(text, from, until);
+            result = this.name(this.encoder.bytes(), 0, length);
+        }
+        return result;
+    }
+
+    /**
+     * Interns a name given as a range of UTF-8 bytes, such as a token read from a file.
+     * @param bytes UTF-8 bytes
+     * @param from Range start (inclusive)
+     * @param until Range end (exclusive)
+     * @return Name id
+     */
+    public int intern(final byte[] bytes, final int from, final int until) {
+        long number = -1;
+        if (until > from && until - from <= Interner.DIGITS
+            && Interner.leading((char) bytes[from], until - from)) {
+            number = 0;
+            for (int idx = from; idx < until && number >= 0; ++idx) {
+                number = Interner.append(number, (char) bytes[idx]);
+            }
+        }
+        final int result;
+        if (number >= 0) {
+            result = this.number(number);
+        } else {
+            result = this.name(bytes, from, until);
+        }
+        return result;
+    }
+
+    /**
+     * Gives the canonical vertex of an id.
+     * @param idx Name id
+     * @return Vertex having the interned name
+     */
+    public Vertex vertex(final int idx) {
+        if (idx < 0 || idx >= this.count) {
+            throw new IllegalArgumentException(
+                String.format("Id %d must be part of the dictionary", idx)
+            );
+        }
+        if (this.vertices[idx] == null) {
+            String name = Long.toString(this.values[idx]);
+            if (this.values[idx] < 0) {
+                name = this.names.name((int) (-1 - this.values[idx]));
+            }
+            this.vertices[idx] = new Vertex(name);
+        }
+        return this.vertices[idx];
+    }
+
+    /**
+     * Interns a name and gives its canonical vertex.
+     * @param name Vertex name
+     * @return Vertex having the name
+     */
+    public Vertex vertex(final String name) {
+        return this.vertex(this.intern(name));
+    }
+
+    /**
+     * Looks up a numeric value, interning it if absent.
+     * @param number Numeric value
+     * @return Name id
+     */
+    private int number(final long number) {
+        int result = this.numbers.get(number);
+        if (result < 0) {
+            result = this.add(number);
+            this.numbers.put(number, result);
+        }
+        return result;
+    }
+
+    /**
+     * Looks up a UTF-8 encoded name, interning it if absent.
+     * @param bytes UTF-8 bytes
+     * @param from Range start (inclusive)
+     * @param until Range end (exclusive)
+     * @return Name id
+     */
+    private int name(final byte[] bytes, final int from, final int until) {
+        final int known = this.names.size();
+        final int idx = this.names.find(bytes, from, until);
+        if (idx == known) {
+            if (idx == this.named.length) {
+                this.named = Arrays.copyOf(this.named, idx * 2);
+            }
+            this.named[idx] = this.add(-1L - idx);
+        }
+        return this.named[idx];
+    }
+
+    /**
+     * Gives an id to a new name.
+     * @param value Numeric value, or minus one minus the name number
+     * @return Name id
+     */
+    private int add(final long value) {
+        if (this.count == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.count * 2);
+            this.vertices = Arrays.copyOf(this.vertices, this.count * 2);
+        }
+        this.values[this.count] = value;
+        ++this.count;
+        return this.count - 1;
+    }
+
+    /**
+     * Checks if the first character of a non empty name allows it to be interned
+     * by its numeric value.
+     * @param first First character
+     * @param length Name length
+     * @return True if the name may be a number without leading zero
+     */
+    private static boolean leading(final char first, final int length) {
+        return first >= '1' && first <= '9' || length == 1 && first == '0';
+    }
+
+    /**
+     * Appends a digit to a numeric value.
+     * @param number Numeric value
+     * @param digit Digit character
+     * @return New numeric value, or -1 if the character is not a digit
+     */
+    private static long append(final long number, final char digit) {
+        long result = -1;
+        if (digit >= '0' && digit <= '9') {
+            result = number * Interner.RADIX + digit - '0';
+        }
+        return result;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * UTF-8 encoded names copied into a shared byte arena, and found through an open addressing
+ * hash table with linear probing comparing bytes. Each name is numbered after its
+ * insertion order.
+ * @since 0.1
+ */
+final class Names {
+
+    /**
+     * Initial capacity.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * FNV-1a hash offset basis.
+     */
+    private static final int BASIS = 0x811C9DC5;
+
+    /**
+     * FNV-1a hash prime.
+     */
+    private static final int PRIME = 0x01000193;
+
+    /**
+     * Mask giving the unsigned value of a byte.
+     */
+    private static final int UNSIGNED = 0xFF;
+
+    /**
+     * Names numbers plus one by slot, or zero for empty slots.
+     */
+    private int[] table;
+
+    /**
+     * Hash by name number.
+     */
+    private int[] hashes;
+
+    /**
+     * Position of each name in the arena, followed by the arena length.
+     */
+    private int[] offsets;
+
+    /**
+     * UTF-8 encoded names.
+     */
+    private byte[] arena;
+
+    /**
+     * Count of names.
+     */
+    private int count;
+
+    /**
+     * Constructor. Builds an empty arena.
+     */
+    Names() {
+        this.table = new int[Names.CAPACITY * 2];
+        this.hashes = new int[Names.CAPACITY];
+        this.offsets = new int[Names.CAPACITY + 1];
+        this.arena = new byte[Names.CAPACITY * Names.CAPACITY];
+        this.count = 0;
+    }
+
+    /**
+     * Count of names.
+     * @return Names count
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Finds a name, inserting it if absent.
+     * @param bytes UTF-8 bytes
+     * @param from Range start (inclusive)
+     * @param until Range end (exclusive)
+     * @return Name number
+     */
+    public int find(final byte[] bytes, final int from, final int until) {
+        int hash = Names.BASIS;
+        for (int idx = from; idx < until; ++idx) {
+            hash = (hash ^ bytes[idx] & Names.UNSIGNED) * Names.PRIME;
+        }
+        final int mask = this.table.length - 1;
+        int slot = Numbers.spread(hash) & mask;
+        int result = -1;
+        while (this.table[slot] != 0) {
+            final int idx = this.table[slot] - 1;
+            if (this.hashes[idx] == hash && this.matches(idx, bytes, from, until)) {
+                result = idx;
+                break;
+            }
+            slot = slot + 1 & mask;
+        }
+        if (result < 0) {
+            result = this.store(bytes, from, until);
+            this.hashes[result] = hash;
+            this.table[slot] = result + 1;
+            this.rehash();
+        }
+        return result;
+    }
+
+    /**
+     * Decodes a name.
+     * @param idx Name number
+     * @return Name
+     */
+    public String name(final int idx) {
+        return new String(
+            this.arena, this.offsets[idx], this.offsets[idx + 1] - this.offsets[idx],
+            StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * Copies a new name into the arena.
+     * @param bytes UTF-8 bytes
+     * @param from Range start (inclusive)
+     * @param until Range end (exclusive)
+     * @return Name number
+     */
+    private int store(final byte[] bytes, final int from, final int until) {
+        final int length = until - from;
+        final int start = this.offsets[this.count];
+        if (start + length > this.arena.length) {
+            this.arena = Arrays.copyOf(this.arena, Math.max(this.arena.length, length) * 2);
+        }
+        System.arraycopy(bytes, from, this.arena, start, length);
+        if (this.count == this.hashes.length) {
+            this.hashes = Arrays.copyOf(this.hashes, this.count * 2);
+            this.offsets = Arrays.copyOf(this.offsets, this.count * 2 + 1);
+        }
+        this.offsets[this.count + 1] = start + length;
+        ++this.count;
+        return this.count - 1;
+    }
+
+    /**
+     * Doubles the table capacity once it is half full.
+     */
+    private void rehash() {
+        if (this.count * 2 > this.table.length) {
+            this.table = new int[this.table.length * 2];
+            final int mask = this.table.length - 1;
+            for (int idx = 0; idx < this.count; ++idx) {
+                int slot = Numbers.spread(this.hashes[idx]) & mask;
+                while (this.table[slot] != 0) {
+                    slot = slot + 1 & mask;
+                }
+                this.table[slot] = idx + 1;
+            }
+        }
+    }
+
+    /**
+     * Checks if a name has the given bytes.
+     * @param idx Name number
+     * @param bytes UTF-8 bytes
+     * @param from Range start (inclusive)
+     * @param until Range end (exclusive)
+     * @return True if the name has the same bytes
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private boolean matches(final int idx, final byte[] bytes, final int from, final int until) {
+        final int start = this.offsets[idx];
+        boolean result = this.offsets[idx + 1] - start == until - from;
+        for (int pos = 0; result && pos < until - from; ++pos) {
+            result = this.arena[start + pos] == bytes[from + pos];
+        }
+        return result;
+    }
+}
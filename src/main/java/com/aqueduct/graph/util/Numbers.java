@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.util;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table associating non negative numbers to ids, with linear probing.
+ * @since 0.1
+ */
+final class Numbers {
+
+    /**
+     * Initial capacity.
+     */
+    private static final int CAPACITY = 32;
+
+    /**
+     * Multiplier used to spread hashes.
+     */
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Bits count of an int.
+     */
+    private static final int BITS = 32;
+
+    /**
+     * Numbers by slot.
+     */
+    private long[] keys;
+
+    /**
+     * Ids by slot, or -1 for empty slots.
+     */
+    private int[] ids;
+
+    /**
+     * Count of numbers held.
+     */
+    private int count;
+
+    /**
+     * Constructor. Builds an empty table.
+     */
+    Numbers() {
+        this.keys = new long[Numbers.CAPACITY];
+        this.ids = Numbers.empty(Numbers.CAPACITY);
+        this.count = 0;
+    }
+
+    /**
+     * Gives the id of a number.
+     * @param number Number
+     * @return Id, or -1 if the number is not in the table
+     */
+    public int get(final long number) {
+        return this.ids[this.slot(number)];
+    }
+
+    /**
+     * Associates an id to a number that is not in the table.
+     * @param number Number
+     * @param idx Id
+     */
+    public void put(final long number, final int idx) {
+        if ((this.count + 1) * 2 > this.keys.length) {
+            final long[] numbers = this.keys;
+            final int[] previous = this.ids;
+            this.keys = new long[numbers.length * 2];
+            this.ids = Numbers.empty(numbers.length * 2);
+            for (int slot = 0; slot < numbers.length; ++slot) {
+                if (previous[slot] >= 0) {
+                    this.place(numbers[slot], previous[slot]);
+                }
+            }
+        }
+        this.place(number, idx);
+        ++this.count;
+    }
+
+    /**
+     * Spreads a hash over all the bits of an int.
+     * @param hash Hash or number
+     * @return Spread hash
+     */
+    static int spread(final long hash) {
+        return (int) (hash * Numbers.GOLDEN >>> Numbers.BITS);
+    }
+
+    /**
+     * Puts a number in its slot.
+     * @param number Number
+     * @param idx Id
+     */
+    private void place(final long number, final int idx) {
+        final int slot = this.slot(number);
+        this.keys[slot] = number;
+        this.ids[slot] = idx;
+    }
+
+    /**
+     * Finds the slot holding a number, or the empty slot where it would be put.
+     * @param number Number
+     * @return Slot
+     */
+    private int slot(final long number) {
+        final int mask = this.keys.length - 1;
+        int result = Numbers.spread(number) & mask;
+        while (this.ids[result] >= 0 && this.keys[result] != number) {
+            result = result + 1 & mask;
+        }
+        return result;
+    }
+
+    /**
+     * Builds an array of empty slots.
+     * @param size Slots count
+     * @return Empty slots
+     */
+    private static int[] empty(final int size) {
+        final int[] result = new int[size];
+        Arrays.fill(result, -1);
+        return result;
+    }
+}
@@ -24,7 +24,6 @@
 package com.aqueduct.graph.util;
 
 import com.aqueduct.graph.Graph;
-import com.aqueduct.graph.Vertex;
 import java.util.Iterator;
 import java.util.List;
 
@@ -40,6 +39,8 @@ import java.util.List;
  * For example, the line: <pre>5 18 -6</pre> means there is an edge
  * from the vertex "5" to the vertex "18" with weight (or cost) -6.</li>
  * </ul>
+ * Vertex names are interned, so that each vertex is built only once whatever the count
+ * of edges it is an extremity of, and lines are read without being split.
  * This class is mutable: it only has a reference to the passed graph to be populated.
  * @since 0.1
  */
@@ -50,12 +51,18 @@ public class TextToGraph {
      */
     private final Graph graph;
 
+    /**
+     * Vertices dictionary.
+     */
+    private final Interner names;
+
     /**
      * Constructor.
      * @param grph The graph to populate
      */
     public TextToGraph(final Graph grph) {
         this.graph = grph;
+        this.names = new Interner();
     }
 
     /**
@@ -66,15 +73,32 @@ public class TextToGraph {
         final Iterator<String> iterator = lines.iterator();
         final Long count = Long.parseLong(iterator.next());
         for (Long idx = 1L; idx <= count; ++idx) {
-            this.graph.addVertices(new Vertex(idx.toString()));
+            this.graph.addVertices(this.names.vertex(idx.toString()));
         }
         while (iterator.hasNext()) {
             final String line = iterator.next();
-            final String[] elts = line.split("\\s");
+            final int first = TextToGraph.space(line, 0);
+            final int second = TextToGraph.space(line, first + 1);
             this.graph.addEdge(
-                new Vertex(elts[0]), new Vertex(elts[1]), Double.parseDouble(elts[2])
+                this.names.vertex(this.names.intern(line, 0, first)),
+                this.names.vertex(this.names.intern(line, first + 1, second)),
+                Double.parseDouble(line.substring(second + 1, TextToGraph.space(line, second + 1)))
             );
         }
     }
 
+    /**
+     * Finds the next whitespace character of a line.
+     * @param line Line
+     * @param from Position to search from
+     * @return Position of the whitespace, or the line length if there is none
+     */
+    private static int space(final String line, final int from) {
+        int result = from;
+        while (result < line.length() && !Character.isWhitespace(line.charAt(result))) {
+            ++result;
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.util;
+
+import java.util.Arrays;
+
+/**
+ * Disjoint sets forest (union-find) over integer elements from 0 to a maximum (exclusive).
+ * Sets are merged by size, and paths are halved while looking for a representative,
+ * so that both operations run in nearly constant amortized time.
+ * This class is mutable and not thread safe.
+ * @since 0.1
+ */
+public final class UnionFind {
+
+    /**
+     * Parent by element. Representatives are their own parent.
+     */
+    private final int[] parent;
+
+    /**
+     * Set size by representative.
+     */
+    private final int[] sizes;
+
+    /**
+     * Count of disjoint sets.
+     */
+    private int sets;
+
+    /**
+     * Constructor. Builds a forest where each element is alone in its set.
+     * @param size Elements upper bound (exclusive)
+     */
+    public UnionFind(final int size) {
+        this.parent = UnionFind.identity(size);
+        this.sizes = UnionFind.ones(size);
+        this.sets = size;
+    }
+
+    /**
+     * Gives the representative of the set of an element.
+     * @param elt Element
+     * @return Representative element
+     */
+    public int find(final int elt) {
+        int current = elt;
+        while (this.parent[current] != current) {
+            this.parent[current] = this.parent[this.parent[current]];
+            current = this.parent[current];
+        }
+        return current;
+    }
+
+    /**
+     * Merges the sets of two elements.
+     * @param first First element
+     * @param second Second element
+     * @return True if the elements were in different sets
+     */
+    public boolean union(final int first, final int second) {
+        int big = this.find(first);
+        int small = this.find(second);
+        final boolean result = big != small;
+        if (result) {
+            if (this.sizes[big] < this.sizes[small]) {
+                final int swap = big;
+                big = small;
+                small = swap;
+            }
+            this.parent[small] = big;
+            this.sizes[big] += this.sizes[small];
+            this.sets -= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Checks if two elements are in the same set.
+     * @param first First element
+     * @param second Second element
+     * @return True if the elements are in the same set
+     */
+    public boolean same(final int first, final int second) {
+        return this.find(first) == this.find(second);
+    }
+
+    /**
+     * Gives the size of the set of an element.
+     * @param elt Element
+     * @return Count of elements in the set
+     */
+    public int size(final int elt) {
+        return this.sizes[this.find(elt)];
+    }
+
+    /**
+     * Gives the count of disjoint sets.
+     * @return Sets count
+     */
+    public int count() {
+        return this.sets;
+    }
+
+    /**
+     * Builds an array where each element is its own index.
+     * @param size Array size
+     * @return Identity array
+     */
+    private static int[] identity(final int size) {
+        final int[] result = new int[size];
+        for (int idx = 0; idx < size; ++idx) {
+            result[idx] = idx;
+        }
+        return result;
+    }
+
+    /**
+     * Builds an array filled with ones.
+     * @param size Array size
+     * @return Array of ones
+     */
+    private static int[] ones(final int size) {
+        final int[] result = new int[size];
+        Arrays.fill(result, 1);
+        return result;
+    }
+}
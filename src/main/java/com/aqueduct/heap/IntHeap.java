@@ -0,0 +1,234 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.heap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * MinHeap (priority queue) data structure holding integer elements from 0 to a maximum
+ * (exclusive), each associated to a value. The elements positions and values are held in
+ * primitive arrays, so that the value of an element can be read and updated
+ * in logarithmic time without any allocation.
+ * @since 0.1
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class IntHeap {
+
+    /**
+     * Elements by position in the tree. The root is at position 0.
+     */
+    private final int[] tree;
+
+    /**
+     * Positions in the tree by element, or -1 for elements that are not in the heap.
+     */
+    private final int[] positions;
+
+    /**
+     * Values by element.
+     */
+    private final double[] values;
+
+    /**
+     * Actual size of the heap.
+     */
+    private int count;
+
+    /**
+     * Constructor. Builds an empty heap.
+     * @param maximal Elements upper bound (exclusive)
+     */
+    public IntHeap(final int maximal) {
+        this.tree = new int[maximal];
+        this.positions = IntHeap.absent(maximal);
+        this.values = new double[maximal];
+        this.count = 0;
+    }
+
+    /**
+     * Checks if the heap is empty.
+     * @return True if the heap holds no element
+     */
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    /**
+     * Gives the count of elements in the heap.
+     * @return Heap size
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Checks if an element is in the heap.
+     * @param elt Element
+     * @return True if the element is in the heap
+     */
+    public boolean contains(final int elt) {
+        return this.positions[elt] >= 0;
+    }
+
+    /**
+     * Gives the value of an element in the heap.
+     * @param elt Element
+     * @return Element value
+     */
+    public double value(final int elt) {
+        return this.values[elt];
+    }
+
+    /**
+     * Inserts an element in the heap, or updates its value if it is already in the heap.
+     * @param elt Element
+     * @param value Element value
+     */
+    public void insert(final int elt, final double value) {
+        if (this.contains(elt)) {
+            this.update(elt, value);
+        } else {
+            this.values[elt] = value;
+            this.tree[this.count] = elt;
+            this.positions[elt] = this.count;
+            ++this.count;
+            this.bubble(this.count - 1);
+        }
+    }
+
+    /**
+     * Updates the value of an element in the heap and recalculates its position.
+     * @param elt Element
+     * @param value New element value
+     */
+    public void update(final int elt, final double value) {
+        final double previous = this.values[elt];
+        this.values[elt] = value;
+        if (value < previous) {
+            this.bubble(this.positions[elt]);
+        } else {
+            this.sink(this.positions[elt]);
+        }
+    }
+
+    /**
+     * Gives the element with the minimum value without removing it.
+     * @return The minimum element
+     */
+    public int peek() {
+        if (this.count == 0) {
+            throw new NoSuchElementException();
+        }
+        return this.tree[0];
+    }
+
+    /**
+     * Pops the element with the minimum value.
+     * @return The minimum element
+     */
+    public int pop() {
+        final int result = this.peek();
+        --this.count;
+        this.positions[result] = -1;
+        if (this.count > 0) {
+            this.tree[0] = this.tree[this.count];
+            this.positions[this.tree[0]] = 0;
+            this.sink(0);
+        }
+        return result;
+    }
+
+    /**
+     * Removes all the elements from the heap, in a time proportional to the heap size.
+     */
+    public void clear() {
+        for (int pos = 0; pos < this.count; ++pos) {
+            this.positions[this.tree[pos]] = -1;
+        }
+        this.count = 0;
+    }
+
+    /**
+     * Moves the element up as long as its value is lower than its parent's value.
+     * @param pos Element position
+     */
+    private void bubble(final int pos) {
+        final int elt = this.tree[pos];
+        int current = pos;
+        while (current > 0) {
+            final int parent = (current - 1) / 2;
+            if (this.values[this.tree[parent]] <= this.values[elt]) {
+                break;
+            }
+            this.place(this.tree[parent], current);
+            current = parent;
+        }
+        this.place(elt, current);
+    }
+
+    /**
+     * Moves the element down as long as its value is greater than one of its children's.
+     * @param pos Element position
+     */
+    private void sink(final int pos) {
+        final int elt = this.tree[pos];
+        int current = pos;
+        int child = 2 * current + 1;
+        while (child < this.count) {
+            if (child + 1 < this.count
+                && this.values[this.tree[child + 1]] < this.values[this.tree[child]]) {
+                ++child;
+            }
+            if (this.values[elt] <= this.values[this.tree[child]]) {
+                break;
+            }
+            this.place(this.tree[child], current);
+            current = child;
+            child = 2 * current + 1;
+        }
+        this.place(elt, current);
+    }
+
+    /**
+     * Puts an element at a position in the tree.
+     * @param elt Element
+     * @param pos Position
+     */
+    private void place(final int elt, final int pos) {
+        this.tree[pos] = elt;
+        this.positions[elt] = pos;
+    }
+
+    /**
+     * Builds an array of absent positions.
+     * @param size Array size
+     * @return Positions array
+     */
+    private static int[] absent(final int size) {
+        final int[] result = new int[size];
+        Arrays.fill(result, -1);
+        return result;
+    }
+}
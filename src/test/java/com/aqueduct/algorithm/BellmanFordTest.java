@@ -0,0 +1,203 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.DirectedText;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Vertex;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link BellmanFord}.
+ * @since 0.1
+ */
+@RunWith(JUnitParamsRunner.class)
+public final class BellmanFordTest {
+
+    /**
+     * Complex graph (200 verices, >3K edges) filename.
+     */
+    private static final String COMPLEX = "dijkstra-complex";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Calculates the same costs as Dijkstra algorithm for a complex graph.
+     * @param mode Relaxation mode
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    @Parameters({"QUEUE", "PARALLEL"})
+    public void matchesDijkstra(final BellmanFord.Mode mode)
+        throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(BellmanFordTest.COMPLEX).toURI())
+        );
+        final Vertex start = new Vertex("1");
+        final Shortest expected = new Dijkstra(graph, start);
+        final BellmanFord bellman = new BellmanFord(graph, start, mode);
+        MatcherAssert.assertThat(bellman.cycle(), Matchers.empty());
+        for (final Vertex vertex : graph.vertices()) {
+            MatcherAssert.assertThat(bellman.cost(vertex), Matchers.is(expected.cost(vertex)));
+        }
+    }
+
+    /**
+     * Calculates shortest paths with negative edge costs.
+     * @param mode Relaxation mode
+     */
+    @Test
+    @Parameters({"QUEUE", "PARALLEL"})
+    public void handlesNegativeCosts(final BellmanFord.Mode mode) {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex("c");
+        final Vertex fourth = new Vertex("d");
+        final double cost = 4.;
+        final double negative = -3.;
+        graph.addEdge(first, second, cost);
+        graph.addEdge(first, third, 2.);
+        graph.addEdge(second, third, negative);
+        graph.addEdge(third, fourth, 1.);
+        final BellmanFord bellman = new BellmanFord(graph, first, mode);
+        MatcherAssert.assertThat(bellman.cost(third), Matchers.is(1.));
+        MatcherAssert.assertThat(bellman.cost(fourth), Matchers.is(2.));
+        MatcherAssert.assertThat(
+            bellman.path(fourth), Matchers.contains(first, second, third, fourth)
+        );
+    }
+
+    /**
+     * Gives an infinite cost and an empty path for unreachable vertices.
+     * @param mode Relaxation mode
+     */
+    @Test
+    @Parameters({"QUEUE", "PARALLEL"})
+    public void handlesUnreachable(final BellmanFord.Mode mode) {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("first");
+        final Vertex second = new Vertex("second");
+        graph.addEdge(second, first, -1.);
+        final BellmanFord bellman = new BellmanFord(graph, first, mode);
+        MatcherAssert.assertThat(bellman.cost(second), Matchers.is(Double.POSITIVE_INFINITY));
+        MatcherAssert.assertThat(bellman.path(second), Matchers.empty());
+        MatcherAssert.assertThat(bellman.cost(first), Matchers.is(0.));
+    }
+
+    /**
+     * Detects a reachable negative cycle and gives its vertices.
+     * @param mode Relaxation mode
+     */
+    @Test
+    @Parameters({"QUEUE", "PARALLEL"})
+    public void detectsNegativeCycle(final BellmanFord.Mode mode) {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("s");
+        final Vertex second = new Vertex("t");
+        final Vertex third = new Vertex("u");
+        final Vertex fourth = new Vertex("v");
+        graph.addEdge(first, second, 1.);
+        graph.addEdge(second, third, 1.);
+        final double negative = -2.;
+        graph.addEdge(third, fourth, negative);
+        graph.addEdge(fourth, second, -1.);
+        final BellmanFord bellman = new BellmanFord(graph, first, mode);
+        MatcherAssert.assertThat(
+            bellman.cycle(), Matchers.containsInAnyOrder(second, third, fourth)
+        );
+        final int pos = bellman.cycle().indexOf(second);
+        MatcherAssert.assertThat(
+            bellman.cycle().get((pos + 1) % bellman.cycle().size()), Matchers.is(third)
+        );
+        this.thrown.expect(IllegalStateException.class);
+        bellman.cost(fourth);
+    }
+
+    /**
+     * Detects a negative self loop.
+     * @param mode Relaxation mode
+     */
+    @Test
+    @Parameters({"QUEUE", "PARALLEL"})
+    public void detectsNegativeLoop(final BellmanFord.Mode mode) {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("x");
+        graph.addEdge(first, first, -1.);
+        MatcherAssert.assertThat(
+            new BellmanFord(graph, first, mode).cycle(), Matchers.contains(first)
+        );
+    }
+
+    /**
+     * Keeps the negative cycle found in queue mode when the vertex closing it has other
+     * edges to relax after the edge closing the cycle.
+     */
+    @Test
+    public void keepsCycleClosedBeforeOtherEdges() {
+        final BellmanFord bellman = new BellmanFord(
+            new DirectedText(
+                Arrays.asList(
+                    "5",
+                "1 5 2",
+                "3 2 4",
+                "2 1 4",
+                "2 5 0",
+                "5 3 5",
+                "5 4 -2",
+                "3 5 -3",
+                "1 3 2",
+                "5 4 -4",
+                "3 3 3",
+                "2 2 -2",
+                "5 2 1",
+                "1 4 4",
+                "2 4 5"
+                )
+            ),
+            new Vertex("1"),
+            BellmanFord.Mode.QUEUE
+        );
+        MatcherAssert.assertThat(bellman.cycle(), Matchers.contains(new Vertex("2")));
+        this.thrown.expect(IllegalStateException.class);
+        bellman.cost(new Vertex("4"));
+    }
+}
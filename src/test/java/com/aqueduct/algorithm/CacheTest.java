@@ -0,0 +1,189 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.DirectedText;
+import com.aqueduct.graph.Versioned;
+import com.aqueduct.graph.Vertex;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Cache}.
+ * @since 0.1
+ */
+public final class CacheTest {
+
+    /**
+     * Simple graph (4 vertices, 5 edges) filename.
+     */
+    private static final String SIMPLE = "dijkstra-simple";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Calculates a route once, and then finds it in the cache.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void cachesRoutes() throws IOException, URISyntaxException {
+        final Cache cache = new Cache(CacheTest.graph(), Long.MAX_VALUE);
+        final Vertex start = new Vertex("1");
+        final Vertex end = new Vertex("4");
+        final double cost = 6;
+        cache.route(start, end);
+        final Route route = cache.route(start, end);
+        MatcherAssert.assertThat(
+            route.vertices(),
+            Matchers.contains(start, new Vertex("2"), new Vertex("3"), end)
+        );
+        MatcherAssert.assertThat(route.cost(), Matchers.is(cost));
+        MatcherAssert.assertThat(cache.misses(), Matchers.is(1L));
+        MatcherAssert.assertThat(cache.hits(), Matchers.is(1L));
+    }
+
+    /**
+     * Discards cached routes when the graph is modified.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void invalidatesOnModification() throws IOException, URISyntaxException {
+        final Versioned graph = CacheTest.graph();
+        final Cache cache = new Cache(graph, Long.MAX_VALUE);
+        final Vertex start = new Vertex("1");
+        final Vertex end = new Vertex("4");
+        cache.route(start, end);
+        graph.addEdge(start, end, 2.);
+        final Route route = cache.route(start, end);
+        MatcherAssert.assertThat(route.vertices(), Matchers.contains(start, end));
+        MatcherAssert.assertThat(route.cost(), Matchers.is(2.));
+        MatcherAssert.assertThat(cache.misses(), Matchers.is(2L));
+    }
+
+    /**
+     * Evicts the least recently used routes when the cache holds too many vertices.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void evictsLeastRecentlyUsed() throws IOException, URISyntaxException {
+        final long capacity = 5;
+        final Cache cache = new Cache(CacheTest.graph(), capacity);
+        final Vertex first = new Vertex("1");
+        final Vertex second = new Vertex("2");
+        final Vertex third = new Vertex("3");
+        cache.route(first, second);
+        cache.route(second, third);
+        cache.route(first, second);
+        cache.route(first, third);
+        MatcherAssert.assertThat(cache.size(), Matchers.is(2));
+        cache.route(first, second);
+        MatcherAssert.assertThat(cache.hits(), Matchers.is(2L));
+        cache.route(second, third);
+        MatcherAssert.assertThat(cache.hits(), Matchers.is(2L));
+    }
+
+    /**
+     * Reuses the indices of the vertices of evicted routes for the vertices of the routes
+     * cached afterwards.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void reusesEvictedIndices() throws IOException, URISyntaxException {
+        final Cache cache = new Cache(CacheTest.graph(), 2);
+        final Vertex first = new Vertex("1");
+        final Vertex second = new Vertex("2");
+        final Vertex third = new Vertex("3");
+        final Vertex fourth = new Vertex("4");
+        cache.route(first, second);
+        cache.route(third, fourth);
+        cache.route(second, third);
+        MatcherAssert.assertThat(cache.size(), Matchers.is(1));
+        MatcherAssert.assertThat(
+            cache.route(second, third).vertices(), Matchers.contains(second, third)
+        );
+        cache.route(third, fourth);
+        MatcherAssert.assertThat(
+            cache.route(third, fourth).vertices(), Matchers.contains(third, fourth)
+        );
+        final long hits = 2;
+        MatcherAssert.assertThat(cache.hits(), Matchers.is(hits));
+    }
+
+    /**
+     * Refuses a capacity that is not positive.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void refusesEmptyCapacity() throws IOException, URISyntaxException {
+        final Versioned graph = CacheTest.graph();
+        this.thrown.expect(IllegalArgumentException.class);
+        new Cache(graph, 0);
+    }
+
+    /**
+     * Calculates routes with a custom engine.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void usesEngine() throws IOException, URISyntaxException {
+        final Versioned graph = CacheTest.graph();
+        final Cache cache = new Cache(
+            graph, Long.MAX_VALUE, (start, end) -> new BellmanFord(graph, start)
+        );
+        final double cost = 3;
+        MatcherAssert.assertThat(
+            cache.route(new Vertex("1"), new Vertex("3")).cost(), Matchers.is(cost)
+        );
+    }
+
+    /**
+     * Builds a versioned simple graph.
+     * @return Graph
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    private static Versioned graph() throws IOException, URISyntaxException {
+        return new Versioned(
+            new DirectedText(
+                Paths.get(ClassLoader.getSystemResource(CacheTest.SIMPLE).toURI())
+            )
+        );
+    }
+}
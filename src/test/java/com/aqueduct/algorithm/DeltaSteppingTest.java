@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.DirectedText;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Undirected;
+import com.aqueduct.graph.Vertex;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link DeltaStepping}.
+ * @since 0.1
+ */
+@RunWith(JUnitParamsRunner.class)
+public final class DeltaSteppingTest {
+
+    /**
+     * Simple graph (4 vertices, 5 edges) filename.
+     */
+    private static final String SIMPLE = "dijkstra-simple";
+
+    /**
+     * Complex graph (200 verices, >3K edges) filename.
+     */
+    private static final String COMPLEX = "dijkstra-complex";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Calculates shortest paths for a simple graph where
+     * all vertices are reachable from starting vertex.
+     * @param dest Destination vertex
+     * @param cost Expected cost
+     * @param path Expected path size
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    @Parameters({
+        "1, 0, 1",
+        "2, 1, 2",
+        "3, 3, 3",
+        "4, 6, 4"
+    })
+    public void calculatesAllReachable(final String dest, final double cost, final int path)
+        throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(DeltaSteppingTest.SIMPLE).toURI())
+        );
+        final Shortest delta = new DeltaStepping(graph, new Vertex("1"));
+        final Vertex destination = new Vertex(dest);
+        MatcherAssert.assertThat(delta.cost(destination), Matchers.is(cost));
+        MatcherAssert.assertThat(delta.path(destination).size(), Matchers.is(path));
+    }
+
+    /**
+     * Calculates the same costs as Dijkstra algorithm for a complex graph,
+     * whatever the buckets width is.
+     * @param width Buckets width
+     * @throws Exception If error
+     */
+    @Test
+    @Parameters({"1", "100", "1000", "100000"})
+    public void matchesDijkstra(final double width) throws Exception {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(DeltaSteppingTest.COMPLEX).toURI())
+        );
+        final Vertex start = new Vertex("1");
+        final Shortest expected = new Dijkstra(graph, start);
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        final Shortest delta = pool.submit(() -> new DeltaStepping(graph, start, width)).get();
+        pool.shutdown();
+        MatcherAssert.assertThat(delta.costs(), Matchers.is(expected.costs()));
+        for (final Vertex vertex : graph.vertices()) {
+            MatcherAssert.assertThat(delta.cost(vertex), Matchers.is(expected.cost(vertex)));
+            MatcherAssert.assertThat(
+                delta.path(vertex).size(), Matchers.is(expected.path(vertex).size())
+            );
+        }
+    }
+
+    /**
+     * Calculates the same costs as Dijkstra algorithm for an undirected graph, whose edges
+     * are followed from either extremity.
+     */
+    @Test
+    public void matchesDijkstraOnUndirected() {
+        final Graph graph = new Undirected();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex("c");
+        final double cost = 3.;
+        graph.addEdge(second, first, 1.);
+        graph.addEdge(third, second, 2.);
+        final Shortest expected = new Dijkstra(graph, first);
+        final Shortest delta = new DeltaStepping(graph, first);
+        MatcherAssert.assertThat(expected.cost(third), Matchers.is(cost));
+        MatcherAssert.assertThat(delta.costs(), Matchers.is(expected.costs()));
+        MatcherAssert.assertThat(
+            delta.path(third), Matchers.contains(first, second, third)
+        );
+        MatcherAssert.assertThat(expected.path(third), Matchers.is(delta.path(third)));
+    }
+
+    /**
+     * Gives a cost of -1 and an empty path for unreachable vertices.
+     */
+    @Test
+    public void handlesUnreachable() {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("first");
+        final Vertex second = new Vertex("second");
+        graph.addVertices(first, second);
+        graph.addEdge(second, first, 1.);
+        final Shortest delta = new DeltaStepping(graph, first);
+        MatcherAssert.assertThat(delta.cost(second), Matchers.is(-1.));
+        MatcherAssert.assertThat(delta.path(second), Matchers.empty());
+        MatcherAssert.assertThat(delta.path(first), Matchers.contains(first));
+        MatcherAssert.assertThat(delta.costs().keySet(), Matchers.contains(first));
+    }
+
+    /**
+     * Refuses negative edge costs.
+     */
+    @Test
+    public void refusesNegativeCosts() {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("one");
+        graph.addEdge(first, new Vertex("two"), -1.);
+        this.thrown.expect(IllegalArgumentException.class);
+        new DeltaStepping(graph, first);
+    }
+}
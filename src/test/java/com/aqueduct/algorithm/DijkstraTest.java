@@ -29,6 +29,10 @@ import com.aqueduct.graph.Vertex;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.hamcrest.MatcherAssert;
@@ -132,4 +136,121 @@ public final class DijkstraTest {
         final Dijkstra djk = new Dijkstra(graph, new Vertex("1"), destination);
         MatcherAssert.assertThat(djk.cost(new Vertex("7")), Matchers.is(-1d));
     }
+
+    /**
+     * Dijkstra implementation can start from several vertices at once.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void startsFromSeveralVertices() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(DijkstraTest.SIMPLE).toURI())
+        );
+        final Vertex first = new Vertex("1");
+        final Vertex third = new Vertex("3");
+        final Vertex fourth = new Vertex("4");
+        final Dijkstra djk = new Dijkstra(graph, Arrays.asList(first, third));
+        final double cost = 3;
+        MatcherAssert.assertThat(djk.cost(third), Matchers.is(0.));
+        MatcherAssert.assertThat(djk.cost(fourth), Matchers.is(cost));
+        MatcherAssert.assertThat(djk.path(fourth), Matchers.contains(third, fourth));
+        MatcherAssert.assertThat(djk.path(first), Matchers.contains(first));
+    }
+
+    /**
+     * Dijkstra implementation does not settle vertices beyond a radius.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void stopsAtRadius() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(DijkstraTest.COMPLEX).toURI())
+        );
+        final double radius = 2100;
+        final Dijkstra djk = new Dijkstra(
+            graph, Collections.singleton(new Vertex("1")), new Limit().within(radius)
+        );
+        final int near = 82;
+        final int far = 99;
+        final double cost = 2052;
+        MatcherAssert.assertThat(djk.cost(new Vertex(String.valueOf(near))), Matchers.is(cost));
+        MatcherAssert.assertThat(djk.cost(new Vertex(String.valueOf(far))), Matchers.is(-1.));
+    }
+
+    /**
+     * Dijkstra implementation stops after settling a given count of vertices.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void stopsAfterSettledCount() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(DijkstraTest.SIMPLE).toURI())
+        );
+        final Dijkstra djk = new Dijkstra(
+            graph, Collections.singleton(new Vertex("1")), new Limit().atMost(2)
+        );
+        MatcherAssert.assertThat(djk.cost(new Vertex("2")), Matchers.is(1.));
+        MatcherAssert.assertThat(djk.cost(new Vertex("3")), Matchers.is(-1.));
+    }
+
+    /**
+     * Dijkstra implementation stops once all targets are settled.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void stopsAtTargets() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(DijkstraTest.SIMPLE).toURI())
+        );
+        final Dijkstra djk = new Dijkstra(
+            graph, Collections.singleton(new Vertex("1")),
+            new Limit().until(new Vertex("2"), new Vertex("3"))
+        );
+        final double cost = 3;
+        MatcherAssert.assertThat(djk.cost(new Vertex("3")), Matchers.is(cost));
+        MatcherAssert.assertThat(djk.cost(new Vertex("4")), Matchers.is(-1.));
+    }
+
+    /**
+     * Dijkstra implementation gives all the settled costs at once, in increasing order.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void givesAllCosts() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(DijkstraTest.SIMPLE).toURI())
+        );
+        final Map<Vertex, Double> costs = new Dijkstra(graph, new Vertex("1")).costs();
+        final double third = 3;
+        final double fourth = 6;
+        MatcherAssert.assertThat(
+            costs.keySet(),
+            Matchers.contains(new Vertex("1"), new Vertex("2"), new Vertex("3"), new Vertex("4"))
+        );
+        MatcherAssert.assertThat(costs.values(), Matchers.contains(0., 1., third, fourth));
+    }
+
+    /**
+     * Dijkstra implementation gives costs and paths consistent with each other.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void givesPathsMatchingCosts() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(DijkstraTest.COMPLEX).toURI())
+        );
+        final Dijkstra djk = new Dijkstra(graph, new Vertex("1"));
+        for (final Map.Entry<Vertex, Double> entry : djk.costs().entrySet()) {
+            final List<Vertex> path = djk.path(entry.getKey());
+            MatcherAssert.assertThat(path.get(0), Matchers.is(new Vertex("1")));
+            MatcherAssert.assertThat(path.get(path.size() - 1), Matchers.is(entry.getKey()));
+            MatcherAssert.assertThat(djk.cost(entry.getKey()), Matchers.is(entry.getValue()));
+        }
+    }
 }
@@ -0,0 +1,211 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.DirectedText;
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Undirected;
+import com.aqueduct.graph.Vertex;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Incremental}.
+ * @since 0.1
+ */
+public final class IncrementalTest {
+
+    /**
+     * Complex graph (200 verices, >3K edges) filename.
+     */
+    private static final String COMPLEX = "dijkstra-complex";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Gives the same costs as a full {@link Dijkstra} calculation after
+     * random edge costs changes.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void matchesDijkstraAfterUpdates() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(IncrementalTest.COMPLEX).toURI())
+        );
+        final List<Edge> edges = new ArrayList<>(graph.edges());
+        final Vertex start = new Vertex("1");
+        final Incremental incremental = new Incremental(graph, start);
+        final Random random = new Random(1);
+        final int rounds = 10;
+        final int changes = 20;
+        final int max = 1000;
+        for (int round = 0; round < rounds; ++round) {
+            for (int change = 0; change < changes; ++change) {
+                final int idx = random.nextInt(edges.size());
+                final Edge edge = edges.get(idx);
+                final Edge changed = new Edge(edge.start(), edge.end(), random.nextInt(max));
+                incremental.update(changed.start(), changed.end(), changed.cost());
+                IncrementalTest.replace(edges, changed);
+            }
+            final Graph current = new Directed();
+            current.addVertices(graph.vertices().toArray(new Vertex[0]));
+            edges.forEach(current::addEdge);
+            MatcherAssert.assertThat(
+                incremental.costs(), Matchers.is(new Dijkstra(current, start).costs())
+            );
+        }
+    }
+
+    /**
+     * Calculates again far fewer vertices on edge costs changes than a full calculation
+     * settles (one settled vertex per reachable vertex for each change).
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void repairsLocally() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(IncrementalTest.COMPLEX).toURI())
+        );
+        final List<Edge> edges = new ArrayList<>(graph.edges());
+        final Incremental incremental = new Incremental(graph, new Vertex("1"));
+        final Random random = new Random(2);
+        final int changes = 1000;
+        final int max = 1000;
+        long repaired = 0;
+        for (int change = 0; change < changes; ++change) {
+            final Edge edge = edges.get(random.nextInt(edges.size()));
+            repaired += incremental.update(edge.start(), edge.end(), random.nextInt(max));
+        }
+        final long full = (long) changes * incremental.costs().size();
+        final int ratio = 10;
+        MatcherAssert.assertThat(repaired * ratio, Matchers.lessThan(full));
+    }
+
+    /**
+     * Does not calculate anything when raising the cost of an edge out of
+     * the shortest paths tree.
+     */
+    @Test
+    public void ignoresRaiseOutOfTree() {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex("c");
+        graph.addEdge(first, second, 1.);
+        graph.addEdge(second, third, 1.);
+        graph.addEdge(first, third, 2 + 1.);
+        final Incremental incremental = new Incremental(graph, first);
+        final double cost = 5;
+        MatcherAssert.assertThat(incremental.update(first, third, cost), Matchers.is(0));
+        MatcherAssert.assertThat(incremental.update(first, second, cost), Matchers.is(2));
+        MatcherAssert.assertThat(incremental.cost(third), Matchers.is(cost));
+        MatcherAssert.assertThat(incremental.path(third), Matchers.contains(first, third));
+    }
+
+    /**
+     * Makes vertices unreachable when their only incoming edge gets an infinite cost,
+     * and reachable again when it is lowered.
+     */
+    @Test
+    public void handlesUnreachable() {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("x");
+        final Vertex second = new Vertex("y");
+        graph.addEdge(first, second, 1.);
+        final Incremental incremental = new Incremental(graph, first);
+        incremental.update(first, second, Double.POSITIVE_INFINITY);
+        MatcherAssert.assertThat(incremental.cost(second), Matchers.is(-1.));
+        MatcherAssert.assertThat(incremental.path(second), Matchers.empty());
+        incremental.update(first, second, 2.);
+        MatcherAssert.assertThat(incremental.cost(second), Matchers.is(2.));
+    }
+
+    /**
+     * Updates an undirected edge in both directions, whatever the extremity it is
+     * updated from.
+     */
+    @Test
+    public void updatesUndirectedEdges() {
+        final Graph graph = new Undirected();
+        final Vertex first = new Vertex("u");
+        final Vertex second = new Vertex("v");
+        final Vertex third = new Vertex("w");
+        graph.addEdge(first, second, 1.);
+        graph.addEdge(second, third, 1.);
+        final double far = 5;
+        graph.addEdge(first, third, far);
+        final Incremental incremental = new Incremental(graph, first);
+        MatcherAssert.assertThat(incremental.cost(third), Matchers.is(2.));
+        incremental.update(second, first, 2 * far);
+        MatcherAssert.assertThat(incremental.cost(second), Matchers.is(far + 1));
+        MatcherAssert.assertThat(incremental.cost(third), Matchers.is(far));
+        MatcherAssert.assertThat(incremental.path(second), Matchers.contains(first, third, second));
+        incremental.update(third, first, 1.);
+        MatcherAssert.assertThat(incremental.cost(second), Matchers.is(2.));
+    }
+
+    /**
+     * Refuses to update edges that are not part of the graph.
+     */
+    @Test
+    public void refusesUnknownEdge() {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("one");
+        final Vertex second = new Vertex("two");
+        graph.addEdge(first, second, 1.);
+        this.thrown.expect(IllegalArgumentException.class);
+        new Incremental(graph, first).update(second, first, 1.);
+    }
+
+    /**
+     * Replaces the edges having the same extremities as a changed edge.
+     * @param edges Edges
+     * @param changed Changed edge
+     */
+    private static void replace(final List<Edge> edges, final Edge changed) {
+        for (int idx = 0; idx < edges.size(); ++idx) {
+            final Edge edge = edges.get(idx);
+            if (edge.start().equals(changed.start()) && edge.end().equals(changed.end())) {
+                edges.set(idx, changed);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.DirectedText;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Vertex;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Johnson}.
+ * @since 0.1
+ */
+public final class JohnsonTest {
+
+    /**
+     * Complex graph (200 verices, >3K edges) filename.
+     */
+    private static final String COMPLEX = "dijkstra-complex";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Calculates the same costs as Dijkstra algorithm from every vertex of a complex graph.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void matchesDijkstra() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(JohnsonTest.COMPLEX).toURI())
+        );
+        final Map<Vertex, Shortest> all = new ConcurrentHashMap<>();
+        new Johnson(graph).each(all::put);
+        MatcherAssert.assertThat(all.size(), Matchers.is(graph.vertices().size()));
+        final int step = 37;
+        for (int idx = 1; idx <= all.size(); idx += step) {
+            final Vertex source = new Vertex(String.valueOf(idx));
+            final Shortest expected = new Dijkstra(graph, source);
+            for (final Vertex vertex : graph.vertices()) {
+                MatcherAssert.assertThat(
+                    all.get(source).cost(vertex), Matchers.is(expected.cost(vertex))
+                );
+            }
+        }
+    }
+
+    /**
+     * Calculates the same costs as Bellman-Ford algorithm with negative edge costs.
+     */
+    @Test
+    public void matchesBellmanFord() {
+        final Graph graph = JohnsonTest.negative();
+        final Johnson johnson = new Johnson(graph);
+        final Map<Vertex, Shortest> all = new ConcurrentHashMap<>();
+        johnson.each(all::put);
+        for (final Vertex source : graph.vertices()) {
+            final Shortest expected = new BellmanFord(graph, source);
+            for (final Vertex vertex : graph.vertices()) {
+                MatcherAssert.assertThat(
+                    all.get(source).cost(vertex), Matchers.is(expected.cost(vertex))
+                );
+            }
+        }
+        final Vertex first = new Vertex("a");
+        final Vertex third = new Vertex("c");
+        MatcherAssert.assertThat(johnson.from(first).cost(third), Matchers.is(-1.));
+        MatcherAssert.assertThat(
+            johnson.from(first).path(third),
+            Matchers.contains(first, new Vertex("b"), third)
+        );
+        MatcherAssert.assertThat(
+            johnson.from(third).cost(first), Matchers.is(Double.POSITIVE_INFINITY)
+        );
+    }
+
+    /**
+     * Refuses graphs with a negative cycle.
+     */
+    @Test
+    public void refusesNegativeCycle() {
+        final Graph graph = JohnsonTest.negative();
+        final double negative = -5.;
+        graph.addEdge(new Vertex("d"), new Vertex("b"), negative);
+        this.thrown.expect(IllegalArgumentException.class);
+        new Johnson(graph);
+    }
+
+    /**
+     * Builds a graph with negative edge costs and no negative cycle.
+     * @return Graph
+     */
+    private static Graph negative() {
+        final Graph result = new Directed();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex("c");
+        final Vertex fourth = new Vertex("d");
+        final double high = 3.;
+        final double low = -4.;
+        result.addEdge(first, second, high);
+        result.addEdge(second, third, low);
+        result.addEdge(first, third, 2.);
+        result.addEdge(third, fourth, 2.);
+        result.addEdge(fourth, second, 2.);
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Vertex;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Limit}.
+ * @since 0.1
+ */
+public final class LimitTest {
+
+    /**
+     * Default limits do not restrict the search.
+     */
+    @Test
+    public void restrictsNothingByDefault() {
+        final Limit limit = new Limit();
+        MatcherAssert.assertThat(limit.covers(Double.MAX_VALUE), Matchers.is(true));
+        MatcherAssert.assertThat(limit.allows(Integer.MAX_VALUE - 1), Matchers.is(true));
+        MatcherAssert.assertThat(limit.targets(), Matchers.is(0));
+    }
+
+    /**
+     * Builds new limits for each restriction.
+     */
+    @Test
+    public void restrictsSearch() {
+        final Limit origin = new Limit();
+        final double radius = 10;
+        final int count = 5;
+        final Vertex target = new Vertex("t");
+        final Limit limit = origin.within(radius).atMost(count).until(target, target);
+        MatcherAssert.assertThat(limit.covers(radius), Matchers.is(true));
+        MatcherAssert.assertThat(limit.covers(radius + 1), Matchers.is(false));
+        MatcherAssert.assertThat(limit.allows(count - 1), Matchers.is(true));
+        MatcherAssert.assertThat(limit.allows(count), Matchers.is(false));
+        MatcherAssert.assertThat(limit.targets(), Matchers.is(1));
+        MatcherAssert.assertThat(limit.target(target), Matchers.is(true));
+        MatcherAssert.assertThat(origin.targets(), Matchers.is(0));
+    }
+}
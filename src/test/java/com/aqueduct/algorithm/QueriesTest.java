@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.DirectedText;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Vertex;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Queries}.
+ * @since 0.1
+ */
+public final class QueriesTest {
+
+    /**
+     * Complex graph (200 verices, >3K edges) filename.
+     */
+    private static final String COMPLEX = "dijkstra-complex";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Answers successive queries from several sources with the same costs and paths
+     * as {@link Dijkstra}.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void matchesDijkstra() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(QueriesTest.COMPLEX).toURI())
+        );
+        final Queries queries = new Queries(graph);
+        final int sources = 5;
+        for (int idx = 1; idx <= sources; ++idx) {
+            final Vertex source = new Vertex(String.valueOf(idx));
+            final Dijkstra expected = new Dijkstra(graph, source);
+            for (final Vertex target : graph.vertices()) {
+                MatcherAssert.assertThat(
+                    queries.cost(source, target), Matchers.is(expected.cost(target))
+                );
+                MatcherAssert.assertThat(
+                    queries.path(source, target), Matchers.is(expected.path(target))
+                );
+            }
+        }
+    }
+
+    /**
+     * Answers queries concurrently from several threads.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void answersConcurrently() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(QueriesTest.COMPLEX).toURI())
+        );
+        final Queries queries = new Queries(graph);
+        final Vertex source = new Vertex("1");
+        final Dijkstra expected = new Dijkstra(graph, source);
+        final int count = 200;
+        final long matching = IntStream.rangeClosed(1, count).parallel().filter(
+            idx -> {
+                final Vertex target = new Vertex(String.valueOf(idx));
+                return Double.compare(
+                    queries.cost(source, target), expected.cost(target)
+                ) == 0;
+            }
+        ).count();
+        MatcherAssert.assertThat(matching, Matchers.is((long) count));
+    }
+
+    /**
+     * Gives a cost of -1 and an empty path for unreachable vertices.
+     */
+    @Test
+    public void handlesUnreachable() {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("first");
+        final Vertex second = new Vertex("second");
+        graph.addVertices(first, second);
+        graph.addEdge(second, first, 1.);
+        final Queries queries = new Queries(graph);
+        MatcherAssert.assertThat(queries.cost(first, second), Matchers.is(-1.));
+        MatcherAssert.assertThat(queries.path(first, second), Matchers.empty());
+        MatcherAssert.assertThat(queries.cost(second, first), Matchers.is(1.));
+        MatcherAssert.assertThat(queries.path(first, first), Matchers.contains(first));
+    }
+
+    /**
+     * Refuses vertices that are not part of the graph.
+     */
+    @Test
+    public void refusesUnknownVertex() {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("one");
+        graph.addEdge(first, new Vertex("two"), 1.);
+        this.thrown.expect(IllegalArgumentException.class);
+        new Queries(graph).cost(first, new Vertex("three"));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Vertex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Route}.
+ * @since 0.1
+ */
+public final class RouteTest {
+
+    /**
+     * Gives its vertices and cost.
+     */
+    @Test
+    public void givesVerticesAndCost() {
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final double cost = 2.5;
+        final Route route = new Route(Arrays.asList(first, second), cost);
+        MatcherAssert.assertThat(route.vertices(), Matchers.contains(first, second));
+        MatcherAssert.assertThat(route.cost(), Matchers.is(cost));
+    }
+
+    /**
+     * Is not affected by modifications of the passed list.
+     */
+    @Test
+    public void copiesVertices() {
+        final List<Vertex> vertices = new ArrayList<>(Arrays.asList(new Vertex("x")));
+        final Route route = new Route(vertices, 1);
+        vertices.add(new Vertex("y"));
+        MatcherAssert.assertThat(route.vertices(), Matchers.hasSize(1));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.algorithm;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.DirectedText;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Vertex;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Yen}.
+ * @since 0.1
+ */
+public final class YenTest {
+
+    /**
+     * Complex graph (200 verices, >3K edges) filename.
+     */
+    private static final String COMPLEX = "dijkstra-complex";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Calculates the k shortest paths, by increasing cost.
+     */
+    @Test
+    public void calculatesShortestPaths() {
+        final Graph graph = YenTest.graph();
+        final List<Route> routes = new Yen(graph).paths(new Vertex("C"), new Vertex("H"), 2);
+        final double first = 5;
+        final double second = 7;
+        MatcherAssert.assertThat(routes, Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            routes.get(0).vertices(),
+            Matchers.contains(new Vertex("C"), new Vertex("E"), new Vertex("F"), new Vertex("H"))
+        );
+        MatcherAssert.assertThat(routes.get(0).cost(), Matchers.is(first));
+        MatcherAssert.assertThat(
+            routes.get(1).vertices(),
+            Matchers.contains(new Vertex("C"), new Vertex("E"), new Vertex("G"), new Vertex("H"))
+        );
+        MatcherAssert.assertThat(routes.get(1).cost(), Matchers.is(second));
+    }
+
+    /**
+     * Gives all the loopless paths when fewer than requested exist.
+     */
+    @Test
+    public void givesAllLooplessPaths() {
+        final Graph graph = YenTest.graph();
+        final int count = 100;
+        final int paths = 7;
+        final List<Route> routes = new Yen(graph).paths(new Vertex("C"), new Vertex("H"), count);
+        MatcherAssert.assertThat(routes, Matchers.hasSize(paths));
+        for (final Route route : routes) {
+            MatcherAssert.assertThat(
+                route.vertices(),
+                Matchers.hasSize((int) route.vertices().stream().distinct().count())
+            );
+        }
+    }
+
+    /**
+     * Gives paths by non decreasing cost, the first one being the shortest.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void sortsPaths() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(YenTest.COMPLEX).toURI())
+        );
+        final Vertex source = new Vertex("1");
+        final Vertex target = new Vertex("197");
+        final int count = 20;
+        final List<Route> routes = new Yen(graph).paths(source, target, count);
+        MatcherAssert.assertThat(routes, Matchers.hasSize(count));
+        MatcherAssert.assertThat(
+            routes.get(0).cost(), Matchers.is(new Dijkstra(graph, source).cost(target))
+        );
+        for (int idx = 1; idx < count; ++idx) {
+            MatcherAssert.assertThat(
+                routes.get(idx).cost(),
+                Matchers.greaterThanOrEqualTo(routes.get(idx - 1).cost())
+            );
+            MatcherAssert.assertThat(
+                routes.get(idx).vertices(),
+                Matchers.not(Matchers.is(routes.get(idx - 1).vertices()))
+            );
+        }
+    }
+
+    /**
+     * Gives no path for unreachable vertices.
+     */
+    @Test
+    public void handlesUnreachable() {
+        final Graph graph = YenTest.graph();
+        MatcherAssert.assertThat(
+            new Yen(graph).paths(new Vertex("H"), new Vertex("C"), 2), Matchers.empty()
+        );
+    }
+
+    /**
+     * Refuses vertices that are not part of the graph.
+     */
+    @Test
+    public void refusesUnknownVertex() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Yen(YenTest.graph()).paths(new Vertex("C"), new Vertex("Z"), 2);
+    }
+
+    /**
+     * Refuses a count of paths that is not positive.
+     */
+    @Test
+    public void refusesEmptyCount() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Yen(YenTest.graph()).paths(new Vertex("C"), new Vertex("H"), 0);
+    }
+
+    /**
+     * Builds a graph having 7 loopless paths from C to H.
+     * @return Graph
+     */
+    private static Graph graph() {
+        final Graph graph = new Directed();
+        final String[] edges = {
+            "C D 3", "C E 2", "D F 4", "E D 1", "E F 2", "E G 3", "F G 2", "F H 1", "G H 2",
+        };
+        for (final String edge : edges) {
+            final String[] parts = edge.split(" ");
+            graph.addEdge(
+                new Vertex(parts[0]), new Vertex(parts[1]), Double.parseDouble(parts[2])
+            );
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import com.aqueduct.algorithm.Dijkstra;
+import com.aqueduct.algorithm.Queries;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Bulk}.
+ * @since 0.1
+ */
+public final class BulkTest {
+
+    /**
+     * Complex graph (200 verices, >3K edges) filename.
+     */
+    private static final String COMPLEX = "dijkstra-complex";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Loads a graph equivalent to the one built edge by edge.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void loadsEquivalentGraph() throws IOException, URISyntaxException {
+        final Path path = Paths.get(ClassLoader.getSystemResource(BulkTest.COMPLEX).toURI());
+        final List<String> lines = Files.readAllLines(path);
+        final Bulk bulk = new Bulk();
+        final int count = Integer.parseInt(lines.get(0));
+        for (int idx = 1; idx <= count; ++idx) {
+            bulk.vertex(new Vertex(String.valueOf(idx)));
+        }
+        for (final String line : lines.subList(1, lines.size())) {
+            final String[] elts = line.split("\\s");
+            bulk.edge(
+                Integer.parseInt(elts[0]) - 1, Integer.parseInt(elts[1]) - 1,
+                Double.parseDouble(elts[2])
+            );
+        }
+        final Graph origin = new DirectedText(path);
+        final Vertex start = new Vertex("1");
+        final Dijkstra expected = new Dijkstra(origin, start);
+        final Dijkstra frozen = new Dijkstra(bulk.frozen(), start);
+        final Queries queries = new Queries(bulk.indexed());
+        for (final Vertex vertex : origin.vertices()) {
+            MatcherAssert.assertThat(frozen.cost(vertex), Matchers.is(expected.cost(vertex)));
+            MatcherAssert.assertThat(
+                queries.cost(start, vertex), Matchers.is(expected.cost(vertex))
+            );
+        }
+    }
+
+    /**
+     * Keeps identical edges once, but keeps parallel edges having different costs.
+     */
+    @Test
+    public void removesDuplicates() {
+        final Bulk bulk = new Bulk();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex("c");
+        bulk.vertex(first);
+        bulk.vertex(second);
+        bulk.edge(first, third, 1.);
+        bulk.edge(first, second, 1.);
+        bulk.edge(first, third, 1.);
+        bulk.edge(first, third, 2.);
+        bulk.edge(second, first, 1.);
+        final Frozen graph = bulk.frozen();
+        final int edges = 4;
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(edges));
+        MatcherAssert.assertThat(graph.connectedEdges(first), Matchers.hasSize(edges - 1));
+        MatcherAssert.assertThat(graph.connected(first), Matchers.contains(second, third));
+        MatcherAssert.assertThat(graph.connected(third), Matchers.is(IsNull.nullValue()));
+        final Indexed indexed = bulk.indexed();
+        MatcherAssert.assertThat(indexed.offset(indexed.size()), Matchers.is(edges));
+        MatcherAssert.assertThat(indexed.target(0), Matchers.is(indexed.index(second)));
+    }
+
+    /**
+     * Merges parallel edges according to the loader policy.
+     */
+    @Test
+    public void mergesParallelEdges() {
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final double low = 1.;
+        final double high = 3.;
+        final double sum = 6.;
+        final Bulk summed = new Bulk(Multiedge.SUM);
+        final Bulk lowest = new Bulk(Multiedge.MIN);
+        for (final Bulk bulk : new Bulk[] {summed, lowest}) {
+            bulk.edge(first, second, high);
+            bulk.edge(first, second, 2.);
+            bulk.edge(first, second, low);
+            bulk.edge(second, first, low);
+        }
+        MatcherAssert.assertThat(
+            summed.frozen().connectedEdges(first),
+            Matchers.contains(new Edge(first, second, sum))
+        );
+        final Indexed indexed = lowest.indexed();
+        MatcherAssert.assertThat(indexed.offset(indexed.size()), Matchers.is(2));
+        MatcherAssert.assertThat(indexed.weight(0), Matchers.is(low));
+    }
+
+    /**
+     * Keeps an edge loaded several times once, whatever their order, when all the parallel
+     * edges are kept.
+     */
+    @Test
+    public void ignoresEqualEdges() {
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final double cost = 2.0;
+        final Bulk bulk = new Bulk();
+        bulk.edge(first, second, cost);
+        bulk.edge(first, second, cost);
+        MatcherAssert.assertThat(
+            bulk.frozen().edges(), Matchers.contains(new Edge(first, second, cost))
+        );
+        bulk.edge(first, second, 1.0);
+        bulk.edge(first, second, cost);
+        MatcherAssert.assertThat(
+            bulk.frozen().edges(),
+            Matchers.containsInAnyOrder(
+                new Edge(first, second, cost), new Edge(first, second, 1.0)
+            )
+        );
+    }
+
+    /**
+     * Loads many edges in parallel, keeping all the distinct ones.
+     */
+    @Test
+    public void loadsManyEdges() {
+        final Bulk bulk = new Bulk();
+        final int size = 1000;
+        final int edges = 200_000;
+        for (int idx = 0; idx < size; ++idx) {
+            bulk.vertex(new Vertex(String.valueOf(idx)));
+        }
+        final Random random = new Random(size);
+        for (int idx = 0; idx < edges; ++idx) {
+            bulk.edge(random.nextInt(size), random.nextInt(size), idx);
+        }
+        final Indexed indexed = bulk.indexed();
+        MatcherAssert.assertThat(indexed.offset(size), Matchers.is(edges));
+        for (int idx = 0; idx < size; ++idx) {
+            BulkTest.checkSorted(indexed, idx);
+        }
+    }
+
+    /**
+     * Refuses edges between unregistered vertices.
+     */
+    @Test
+    public void refusesUnknownVertices() {
+        final Bulk bulk = new Bulk();
+        bulk.vertex(new Vertex("x"));
+        this.thrown.expect(IllegalArgumentException.class);
+        bulk.edge(0, 1, 1.);
+    }
+
+    /**
+     * Checks that the outgoing edges of a vertex are ordered by ending vertex.
+     * @param indexed Indexed snapshot
+     * @param idx Vertex index
+     */
+    private static void checkSorted(final Indexed indexed, final int idx) {
+        for (int pos = indexed.offset(idx) + 1; pos < indexed.offset(idx + 1); ++pos) {
+            MatcherAssert.assertThat(
+                indexed.target(pos), Matchers.greaterThanOrEqualTo(indexed.target(pos - 1))
+            );
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.PrimitiveIterator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Compressed}.
+ * @since 0.1
+ */
+public final class CompressedTest {
+
+    /**
+     * Eight vertex, eleven edges graph filename.
+     */
+    private static final String ELEVEN_EDGE_FILE = "eight-v-eleven-e";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Gives the same vertices and edges as the compressed graph.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void compressesDirectedGraph() throws IOException, URISyntaxException {
+        final Graph origin = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(CompressedTest.ELEVEN_EDGE_FILE).toURI())
+        );
+        final Compressed graph = new Compressed(origin);
+        MatcherAssert.assertThat(graph.vertices(), Matchers.is(origin.vertices()));
+        MatcherAssert.assertThat(graph.edges(), Matchers.is(origin.edges()));
+        for (final Vertex vertex : origin.vertices()) {
+            MatcherAssert.assertThat(
+                graph.connected(vertex), Matchers.is(origin.connected(vertex))
+            );
+            MatcherAssert.assertThat(
+                graph.connectedEdges(vertex), Matchers.is(origin.connectedEdges(vertex))
+            );
+        }
+    }
+
+    /**
+     * Takes a few bits per edge when vertices lead to vertices having close indices.
+     */
+    @Test
+    public void compressesLocalEdges() {
+        final int size = 10_000;
+        final int span = 8;
+        final Bulk bulk = new Bulk();
+        for (int idx = 0; idx < size; ++idx) {
+            bulk.vertex(new Vertex(String.valueOf(idx)));
+        }
+        for (int idx = 0; idx < size; ++idx) {
+            for (int next = idx + 1; next <= idx + span && next < size; ++next) {
+                bulk.edge(idx, next, 1.);
+            }
+        }
+        final Compressed graph = new Compressed(bulk.indexed());
+        final int edges = bulk.indexed().offset(size);
+        final double most = 3.;
+        MatcherAssert.assertThat((double) graph.bits() / edges, Matchers.lessThan(most));
+        final int vertex = 42;
+        MatcherAssert.assertThat(graph.degree(vertex), Matchers.is(span));
+        final PrimitiveIterator.OfInt successors = graph.successors(vertex);
+        for (int next = vertex + 1; next <= vertex + span; ++next) {
+            MatcherAssert.assertThat(successors.nextInt(), Matchers.is(next));
+        }
+        MatcherAssert.assertThat(successors.hasNext(), Matchers.is(false));
+        MatcherAssert.assertThat(graph.degree(size - 1), Matchers.is(0));
+    }
+
+    /**
+     * Copies the targets shared with previous lists.
+     */
+    @Test
+    public void copiesSimilarLists() {
+        final int size = 1000;
+        final int step = 97;
+        final int shared = 10;
+        final Bulk bulk = new Bulk();
+        for (int idx = 0; idx < size; ++idx) {
+            bulk.vertex(new Vertex(String.valueOf(idx)));
+        }
+        for (int idx = 0; idx < size; ++idx) {
+            for (int target = 0; target < shared; ++target) {
+                bulk.edge(idx, target * step, 1.);
+            }
+            bulk.edge(idx, (idx + 1) % size, 1.);
+        }
+        final Indexed indexed = bulk.indexed();
+        final Compressed graph = new Compressed(indexed);
+        final double most = 4.;
+        MatcherAssert.assertThat(
+            (double) graph.bits() / indexed.offset(size), Matchers.lessThan(most)
+        );
+        for (int idx = 0; idx < size; ++idx) {
+            final PrimitiveIterator.OfInt successors = graph.successors(idx);
+            for (int pos = indexed.offset(idx); pos < indexed.offset(idx + 1); ++pos) {
+                MatcherAssert.assertThat(successors.nextInt(), Matchers.is(indexed.target(pos)));
+            }
+        }
+    }
+
+    /**
+     * Keeps parallel edges and their costs.
+     */
+    @Test
+    public void keepsParallelEdges() {
+        final Graph origin = new Directed();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex("c");
+        final double cost = 3.;
+        final int edges = 3;
+        origin.addEdge(first, second, 1.);
+        origin.addEdge(first, second, 2.);
+        origin.addEdge(first, third, cost);
+        origin.addEdge(third, first, cost);
+        final Compressed graph = new Compressed(origin);
+        MatcherAssert.assertThat(graph.degree(graph.index(first)), Matchers.is(edges));
+        MatcherAssert.assertThat(
+            graph.connected(first), Matchers.containsInAnyOrder(second, third)
+        );
+        MatcherAssert.assertThat(
+            graph.connectedEdges(first), Matchers.is(origin.connectedEdges(first))
+        );
+        MatcherAssert.assertThat(graph.edges(), Matchers.is(origin.edges()));
+        MatcherAssert.assertThat(graph.connected(second), Matchers.is(IsNull.nullValue()));
+        MatcherAssert.assertThat(graph.connected(first).contains(first), Matchers.is(false));
+        MatcherAssert.assertThat(
+            graph.connectedEdges(first).contains(new Edge(first, second, 2.)), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            graph.edges().contains(new Edge(first, second, cost)), Matchers.is(false)
+        );
+    }
+
+    /**
+     * Gives the same views as the original graph when lists copy targets from previous
+     * lists and have parallel edges.
+     */
+    @Test
+    public void decodesCopiedListsWithParallelEdges() {
+        final int size = 50;
+        final int step = 7;
+        final Graph origin = new Directed();
+        final Vertex[] vertices = new Vertex[size];
+        for (int idx = 0; idx < size; ++idx) {
+            vertices[idx] = new Vertex(String.valueOf(idx));
+        }
+        final Bulk bulk = new Bulk();
+        for (int idx = 0; idx < size; ++idx) {
+            bulk.vertex(vertices[idx]);
+        }
+        for (int idx = 0; idx < size; ++idx) {
+            for (int target = 0; target < size; target += step) {
+                bulk.edge(idx, target, 1.);
+                origin.addEdge(vertices[idx], vertices[target], 1.);
+                if (idx % 2 == 0) {
+                    bulk.edge(idx, target, 2.);
+                    origin.addEdge(vertices[idx], vertices[target], 2.);
+                }
+            }
+        }
+        final Compressed graph = new Compressed(bulk.indexed());
+        for (final Vertex vertex : vertices) {
+            MatcherAssert.assertThat(
+                graph.connected(vertex), Matchers.is(origin.connected(vertex))
+            );
+            MatcherAssert.assertThat(
+                graph.connectedEdges(vertex), Matchers.is(origin.connectedEdges(vertex))
+            );
+            MatcherAssert.assertThat(
+                graph.connected(vertex).contains(vertices[1]), Matchers.is(false)
+            );
+            MatcherAssert.assertThat(
+                graph.degree(graph.index(vertex)),
+                Matchers.is(origin.connectedEdges(vertex).size())
+            );
+        }
+    }
+
+    /**
+     * Can not be modified.
+     */
+    @Test
+    public void refusesModifications() {
+        final Graph graph = new Compressed(new Directed());
+        this.thrown.expect(UnsupportedOperationException.class);
+        graph.addVertices(new Vertex("a"));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
+import org.junit.Test;
+
+/**
+ * Test for {@link Concurrent}.
+ * @since 0.1
+ */
+public final class ConcurrentTest {
+
+    /**
+     * Keeps all the edges added concurrently by several threads.
+     */
+    @Test
+    public void addsEdgesConcurrently() {
+        final Concurrent graph = new Concurrent();
+        final int hubs = 10;
+        final int edges = 20_000;
+        IntStream.range(0, edges).parallel().forEach(
+            idx -> graph.addEdge(
+                new Vertex(String.valueOf(idx % hubs)), new Vertex(String.valueOf(idx)), 1.0
+            )
+        );
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(edges));
+        MatcherAssert.assertThat(graph.vertices(), Matchers.hasSize(edges));
+        MatcherAssert.assertThat(
+            graph.connectedEdges(new Vertex("0")), Matchers.hasSize(edges / hubs)
+        );
+        MatcherAssert.assertThat(
+            graph.incomingEdges(new Vertex(String.valueOf(edges - 1))), Matchers.hasSize(1)
+        );
+    }
+
+    /**
+     * Gives adjacency snapshots that are not affected by later additions.
+     */
+    @Test
+    public void givesSnapshots() {
+        final Concurrent graph = new Concurrent();
+        final Vertex first = new Vertex("1");
+        final Vertex second = new Vertex("2");
+        final Vertex third = new Vertex("3");
+        graph.addEdge(first, second, 1.);
+        final Set<Edge> edges = graph.connectedEdges(first);
+        final Set<Vertex> connected = graph.connected(first);
+        graph.addEdge(first, third, 1.);
+        MatcherAssert.assertThat(edges, Matchers.hasSize(1));
+        MatcherAssert.assertThat(connected, Matchers.contains(second));
+        MatcherAssert.assertThat(graph.connected(first), Matchers.contains(second, third));
+        MatcherAssert.assertThat(graph.predecessors(third), Matchers.contains(first));
+        MatcherAssert.assertThat(graph.connected(third), Matchers.is(IsNull.nullValue()));
+    }
+
+    /**
+     * Can be read backwards through a transposed view.
+     */
+    @Test
+    public void transposes() {
+        final Concurrent graph = new Concurrent();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        graph.addEdge(first, second, 1.);
+        MatcherAssert.assertThat(
+            new Transposed(graph).connected(second), Matchers.contains(first)
+        );
+    }
+}
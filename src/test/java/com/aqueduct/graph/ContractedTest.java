@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Contracted}.
+ * @since 0.1
+ */
+public final class ContractedTest {
+
+    /**
+     * First vertex name.
+     */
+    private static final String FIRST = "first";
+
+    /**
+     * Second vertex name.
+     */
+    private static final String SECOND = "second";
+
+    /**
+     * Third vertex name.
+     */
+    private static final String THIRD = "third";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Gives the same vertices and edges as a {@link Contraction} of the same vertices,
+     * the merged vertex being named after one of the contracted vertices. The edges linking
+     * the contracted vertices to the third one become equal, and are both kept.
+     */
+    @Test
+    public void contractsLikeContraction() {
+        final Graph origin = ContractedTest.graph();
+        final Vertex first = new Vertex(ContractedTest.FIRST);
+        final Vertex second = new Vertex(ContractedTest.SECOND);
+        final Contracted graph = new Contracted(origin);
+        final Vertex merged = graph.contract(first, second);
+        final Graph expected = new Contraction(origin, first, second);
+        MatcherAssert.assertThat(merged, Matchers.isOneOf(first, second));
+        MatcherAssert.assertThat(
+            graph.vertices().size(), Matchers.is(expected.vertices().size())
+        );
+        MatcherAssert.assertThat(graph.edges().size(), Matchers.is(expected.edges().size()));
+        MatcherAssert.assertThat(
+            graph.connected(merged), Matchers.contains(new Vertex(ContractedTest.THIRD))
+        );
+        MatcherAssert.assertThat(graph.connectedEdges(merged), Matchers.hasSize(2));
+    }
+
+    /**
+     * Keeps every edge becoming equal to another once contracted, in both directions.
+     */
+    @Test
+    public void keepsEdgesBecomingEqual() {
+        final Vertex first = new Vertex(ContractedTest.FIRST);
+        final Vertex third = new Vertex(ContractedTest.THIRD);
+        final Contracted graph = new Contracted(
+            ContractedTest.fan(new Undirected(), first, new Vertex(ContractedTest.SECOND), third)
+        );
+        final Vertex merged = graph.contract(first, new Vertex(ContractedTest.SECOND));
+        final Edge edge = new Edge(merged, third, 1.);
+        MatcherAssert.assertThat(
+            graph.connectedEdges(merged), Matchers.contains(edge, edge)
+        );
+        MatcherAssert.assertThat(graph.connectedEdges(third), Matchers.hasSize(2));
+        final int edges = 4;
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(edges));
+    }
+
+    /**
+     * Merges the edges becoming parallel once contracted under the policy of the original
+     * graph.
+     */
+    @Test
+    public void mergesUnderOriginalPolicy() {
+        final Vertex first = new Vertex(ContractedTest.FIRST);
+        final Vertex third = new Vertex(ContractedTest.THIRD);
+        final Contracted graph = new Contracted(
+            ContractedTest.fan(
+                new Undirected(Multiedge.SUM), first, new Vertex(ContractedTest.SECOND), third
+            )
+        );
+        final Vertex merged = graph.contract(first, new Vertex(ContractedTest.SECOND));
+        MatcherAssert.assertThat(
+            graph.connectedEdges(merged), Matchers.contains(new Edge(merged, third, 2.))
+        );
+        MatcherAssert.assertThat(
+            graph.connectedEdges(third), Matchers.contains(new Edge(third, merged, 2.))
+        );
+    }
+
+    /**
+     * Contracts vertices repeatedly, without keeping edges between merged vertices.
+     */
+    @Test
+    public void contractsRepeatedly() {
+        final Contracted graph = new Contracted(ContractedTest.graph());
+        final Vertex first = new Vertex(ContractedTest.FIRST);
+        final Vertex third = new Vertex(ContractedTest.THIRD);
+        graph.contract(first, new Vertex(ContractedTest.SECOND));
+        final Vertex merged = graph.contract(third, first);
+        final int vertices = 3;
+        MatcherAssert.assertThat(graph.vertices(), Matchers.hasSize(vertices));
+        MatcherAssert.assertThat(graph.representative(first), Matchers.is(merged));
+        MatcherAssert.assertThat(graph.representative(third), Matchers.is(merged));
+        MatcherAssert.assertThat(graph.connectedEdges(merged), Matchers.is(IsNull.nullValue()));
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(2));
+        MatcherAssert.assertThat(graph.contract(first, third), Matchers.is(merged));
+    }
+
+    /**
+     * Throws an exception if contracted vertex does not belong to the graph.
+     */
+    @Test
+    public void errorsIfVertexNotInGraph() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Contracted(ContractedTest.graph()).contract(
+            new Vertex(ContractedTest.FIRST), new Vertex("none")
+        );
+    }
+
+    /**
+     * Builds an undirected graph having 5 vertices and 4 edges, 3 of them forming
+     * a triangle.
+     * @return A graph containing 5 vertices and 4 edges
+     */
+    private static Graph graph() {
+        final Undirected result = new Undirected();
+        final Vertex start = new Vertex("start");
+        final Vertex end = new Vertex("end");
+        final Vertex first = new Vertex(ContractedTest.FIRST);
+        final Vertex second = new Vertex(ContractedTest.SECOND);
+        final Vertex third = new Vertex(ContractedTest.THIRD);
+        result.addVertices(start, end, first, second, third);
+        result.addEdge(start, end, 1.);
+        result.addEdge(first, second, 1.);
+        result.addEdge(second, third, 1.);
+        result.addEdge(first, third, 1.);
+        return result;
+    }
+
+    /**
+     * Links two vertices to a third one with edges having the same cost.
+     * @param graph Graph to add the edges to
+     * @param first First vertex
+     * @param second Second vertex
+     * @param third Vertex linked to both
+     * @return The graph
+     */
+    private static Graph fan(final Graph graph, final Vertex first, final Vertex second,
+        final Vertex third) {
+        graph.addVertices(first, second, third);
+        graph.addEdge(first, third, 1.);
+        graph.addEdge(second, third, 1.);
+        return graph;
+    }
+}
@@ -62,8 +62,9 @@ public final class ContractionTest {
     public void ensuresEdgesAreDirected() {
         final Graph graph = ContractionTest.graph();
         final int edges = 4;
-        graph.addEdge(ContractionTest.start(), ContractionTest.end(), 1.);
-        graph.addEdge(new Edge(ContractionTest.start(), ContractionTest.end(), 1.));
+        final double cost = 3.;
+        graph.addEdge(ContractionTest.start(), ContractionTest.end(), cost);
+        graph.addEdge(new Edge(ContractionTest.start(), ContractionTest.end(), cost + 1.));
         MatcherAssert.assertThat(
             graph.connected(ContractionTest.start()).size(), Matchers.equalTo(1)
         );
@@ -78,6 +79,45 @@ public final class ContractionTest {
         );
     }
 
+    /**
+     * Keeps both edges linking the contracted vertices to a third one with the same cost,
+     * though they become equal once contracted.
+     */
+    @Test
+    public void keepsEdgesBecomingEqual() {
+        final Vertex merged = ContractionTest.merged(new Vertex("first"), new Vertex("second"));
+        final Vertex third = new Vertex("third");
+        final Edge edge = new Edge(merged, third, 1.);
+        MatcherAssert.assertThat(
+            ContractionTest.graph().connectedEdges(merged), Matchers.contains(edge, edge)
+        );
+    }
+
+    /**
+     * Merges the edges becoming parallel once contracted under the policy of the original
+     * graph.
+     */
+    @Test
+    public void mergesUnderOriginalPolicy() {
+        final Undirected origin = new Undirected(Multiedge.SUM);
+        final Vertex first = new Vertex("first");
+        final Vertex second = new Vertex("second");
+        final Vertex third = new Vertex("third");
+        origin.addVertices(first, second, third);
+        origin.addEdge(first, third, 1.);
+        origin.addEdge(second, third, 1.);
+        final Graph graph = new Contraction(origin, first, second);
+        final Vertex merged = ContractionTest.merged(first, second);
+        MatcherAssert.assertThat(
+            graph.connectedEdges(merged), Matchers.contains(new Edge(merged, third, 2.))
+        );
+        graph.addEdge(merged, third, 1.);
+        final double cost = 3.;
+        MatcherAssert.assertThat(
+            graph.connectedEdges(merged), Matchers.contains(new Edge(merged, third, cost))
+        );
+    }
+
     /**
      * Throws an exception if contracted vertex does not belong to the graph.
      */
@@ -91,7 +131,8 @@ public final class ContractionTest {
 
     /**
      * Builds a graph after contracting 2 vertices from an undirected graph having 6 vertices
-     * and 5 (undirected) edges.
+     * and 5 (undirected) edges. Once contracted, the edges linking the contracted vertices
+     * to the third one become equal, and are both kept.
      * The resulting graph after contraction has 5 vertices and 8 (directed) edges.
      * @return A graph containing 5 vertices and 8 edges.
      */
@@ -105,13 +146,23 @@ public final class ContractionTest {
         final Vertex fourth = new Vertex("fourth");
         result.addVertices(start, end, first, second, third, fourth);
         result.addEdge(new Edge(start, end, 1.));
-        result.addEdge(start, end, 1.);
+        result.addEdge(start, end, 2.);
         result.addEdge(first, second, 1.);
         result.addEdge(second, third, 1.);
         result.addEdge(first, third, 1.);
         return new Contraction(result, first, second);
     }
 
+    /**
+     * Builds the vertex replacing two contracted vertices.
+     * @param first First contracted vertex
+     * @param second Second contracted vertex
+     * @return A vertex
+     */
+    private static Vertex merged(final Vertex first, final Vertex second) {
+        return new Vertex(String.format("%s -- %s", first, second));
+    }
+
     /**
      * Builds ending vertex with name "end".
      * @return A vertex
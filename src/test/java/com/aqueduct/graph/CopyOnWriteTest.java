@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link CopyOnWrite}.
+ * @since 0.1
+ */
+public final class CopyOnWriteTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Publishes a new version for each modification.
+     */
+    @Test
+    public void publishesVersions() {
+        final CopyOnWrite graph = new CopyOnWrite();
+        final Vertex first = new Vertex("1");
+        final Vertex second = new Vertex("2");
+        final Vertex third = new Vertex("3");
+        graph.addVertices(first);
+        graph.addEdge(first, second, 1.);
+        graph.addEdges(Arrays.asList(new Edge(second, third, 1.), new Edge(third, first, 1.)));
+        final int versions = 3;
+        MatcherAssert.assertThat(graph.version(), Matchers.is((long) versions));
+        MatcherAssert.assertThat(graph.vertices(), Matchers.hasSize(versions));
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(versions));
+        MatcherAssert.assertThat(graph.connected(third), Matchers.contains(first));
+    }
+
+    /**
+     * Keeps old versions unchanged while sharing the adjacency that did not change.
+     */
+    @Test
+    public void keepsOldVersions() {
+        final CopyOnWrite graph = new CopyOnWrite();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex("c");
+        graph.addEdge(first, second, 1.);
+        final Frozen old = graph.freeze();
+        graph.addEdge(second, third, 1.);
+        graph.addEdge(second, first, 1.);
+        MatcherAssert.assertThat(old.connected(second), Matchers.is(IsNull.nullValue()));
+        MatcherAssert.assertThat(old.vertices(), Matchers.hasSize(2));
+        MatcherAssert.assertThat(graph.connected(second), Matchers.contains(third, first));
+        MatcherAssert.assertThat(
+            graph.connectedEdges(first), Matchers.sameInstance(old.connectedEdges(first))
+        );
+    }
+
+    /**
+     * Ignores edges that are already part of the graph.
+     */
+    @Test
+    public void ignoresKnownEdges() {
+        final CopyOnWrite graph = new CopyOnWrite();
+        final Edge edge = new Edge(new Vertex("x"), new Vertex("y"), 1.);
+        graph.addEdge(edge);
+        graph.addEdge(edge);
+        MatcherAssert.assertThat(graph.edges(), Matchers.contains(edge));
+    }
+
+    /**
+     * Lets readers traverse a consistent version while writers publish new ones.
+     */
+    @Test
+    public void readsWhileWriting() {
+        final CopyOnWrite graph = new CopyOnWrite();
+        final int count = 2000;
+        final Vertex hub = new Vertex("hub");
+        final List<Integer> sizes = new ArrayList<>(count);
+        IntStream.range(0, count).parallel().forEach(
+            idx -> {
+                if (idx % 2 == 0) {
+                    graph.addEdge(hub, new Vertex(String.valueOf(idx)), 1.0);
+                } else {
+                    final Frozen snapshot = graph.freeze();
+                    final Set<Edge> edges = snapshot.connectedEdges(hub);
+                    if (edges != null) {
+                        synchronized (sizes) {
+                            sizes.add(edges.size() - snapshot.edges().size());
+                        }
+                    }
+                }
+            }
+        );
+        MatcherAssert.assertThat(sizes, Matchers.everyItem(Matchers.is(0)));
+        MatcherAssert.assertThat(graph.connectedEdges(hub), Matchers.hasSize(count / 2));
+    }
+
+    /**
+     * Keeps every vertex of an old version, including vertices whose names have the same
+     * hash, while later versions add vertices one at a time.
+     */
+    @Test
+    public void sharesUnchangedVertices() {
+        final CopyOnWrite graph = new CopyOnWrite();
+        final int count = 3000;
+        final Vertex first = new Vertex("Aa");
+        final Vertex second = new Vertex("BB");
+        graph.addEdge(first, second, 1.0);
+        for (int idx = 0; idx < count; ++idx) {
+            graph.addEdge(second, new Vertex(String.valueOf(idx)), 1.0);
+        }
+        final Frozen old = graph.freeze();
+        for (int idx = count; idx < 2 * count; ++idx) {
+            graph.addVertices(new Vertex(String.valueOf(idx)));
+        }
+        MatcherAssert.assertThat(old.vertices(), Matchers.hasSize(count + 2));
+        MatcherAssert.assertThat(graph.vertices(), Matchers.hasSize(2 * count + 2));
+        MatcherAssert.assertThat(old.vertices().contains(new Vertex("Aa")), Matchers.is(true));
+        MatcherAssert.assertThat(
+            old.vertices().contains(new Vertex(String.valueOf(count))), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(graph.connected(first), Matchers.contains(second));
+        MatcherAssert.assertThat(graph.connected(second), Matchers.hasSize(count));
+        MatcherAssert.assertThat(
+            graph.connected(second).contains(new Vertex(String.valueOf(count - 1))),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(graph.connected(second).contains(first), Matchers.is(false));
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(count + 1));
+    }
+
+    /**
+     * Starts from a directed graph, and refuses an undirected one whose edges could not be
+     * followed from their ending vertex once new edges are added.
+     */
+    @Test
+    public void refusesUndirectedGraph() {
+        final Vertex first = new Vertex("u");
+        final Vertex second = new Vertex("v");
+        final Graph directed = new Directed();
+        directed.addEdge(first, second, 1.);
+        final CopyOnWrite graph = new CopyOnWrite(directed);
+        graph.addEdge(second, first, 1.);
+        MatcherAssert.assertThat(graph.connected(second), Matchers.contains(first));
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(2));
+        final Graph undirected = new Undirected();
+        undirected.addEdge(first, second, 1.);
+        this.thrown.expect(IllegalArgumentException.class);
+        new CopyOnWrite(undirected);
+    }
+}
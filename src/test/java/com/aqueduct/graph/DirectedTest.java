@@ -39,7 +39,7 @@ public final class DirectedTest {
      */
     @Test
     public void buildsDirectedGraph() {
-        final Directed graph = DirectedTest.graph();
+        final Directed graph = DirectedTest.graph(false);
         MatcherAssert.assertThat(graph.edges().size(), Matchers.equalTo(2));
         MatcherAssert.assertThat(
             graph.vertices(),
@@ -56,7 +56,7 @@ public final class DirectedTest {
      */
     @Test
     public void ensuresEdgesAreDirected() {
-        final Directed graph = DirectedTest.graph();
+        final Directed graph = DirectedTest.graph(false);
         MatcherAssert.assertThat(graph.connected(DirectedTest.start()).size(), Matchers.equalTo(1));
         MatcherAssert.assertThat(
             graph.connected(DirectedTest.end()), Matchers.is(IsNull.nullValue())
@@ -70,17 +70,155 @@ public final class DirectedTest {
     }
 
     /**
-     * Builds a directed graph with 2 vertices. The graph has 2 edges that both start from the
-     * "start" vertex and end in the "end" vertex.
+     * Gives the incoming edges of each vertex, whether they are kept or found by scanning
+     * the edges.
+     */
+    @Test
+    public void givesIncomingEdges() {
+        MatcherAssert.assertThat(new Directed().backward(), Matchers.is(true));
+        for (final boolean backward : new boolean[] {false, true}) {
+            final Directed graph = DirectedTest.graph(backward);
+            MatcherAssert.assertThat(graph.backward(), Matchers.is(backward));
+            MatcherAssert.assertThat(
+                graph.predecessors(DirectedTest.end()), Matchers.contains(DirectedTest.start())
+            );
+            MatcherAssert.assertThat(
+                graph.incomingEdges(DirectedTest.end()).size(), Matchers.equalTo(2)
+            );
+            MatcherAssert.assertThat(
+                graph.predecessors(DirectedTest.start()), Matchers.is(IsNull.nullValue())
+            );
+        }
+    }
+
+    /**
+     * Removes edges, keeping the neighbors linked by a remaining parallel edge.
+     */
+    @Test
+    public void removesEdges() {
+        final Directed graph = DirectedTest.graph(false);
+        final Edge edge = graph.connectedEdges(DirectedTest.start()).iterator().next();
+        graph.removeEdge(edge);
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(1));
+        MatcherAssert.assertThat(
+            graph.connected(DirectedTest.start()), Matchers.contains(DirectedTest.end())
+        );
+        graph.removeEdge(graph.connectedEdges(DirectedTest.start()).iterator().next());
+        MatcherAssert.assertThat(graph.edges(), Matchers.empty());
+        MatcherAssert.assertThat(
+            graph.connected(DirectedTest.start()), Matchers.is(IsNull.nullValue())
+        );
+        MatcherAssert.assertThat(
+            graph.incomingEdges(DirectedTest.end()), Matchers.is(IsNull.nullValue())
+        );
+        MatcherAssert.assertThat(graph.vertices(), Matchers.hasSize(2));
+    }
+
+    /**
+     * Removes vertices with their incoming and outgoing edges.
+     */
+    @Test
+    public void removesVertices() {
+        for (final boolean backward : new boolean[] {false, true}) {
+            final Directed graph = DirectedTest.graph(backward);
+            final Vertex other = new Vertex("other");
+            graph.addEdge(other, DirectedTest.start(), 1.);
+            graph.removeVertex(DirectedTest.start());
+            MatcherAssert.assertThat(graph.edges(), Matchers.empty());
+            MatcherAssert.assertThat(
+                graph.vertices(), Matchers.containsInAnyOrder(DirectedTest.end(), other)
+            );
+            MatcherAssert.assertThat(graph.connected(other), Matchers.is(IsNull.nullValue()));
+            MatcherAssert.assertThat(
+                graph.predecessors(DirectedTest.end()), Matchers.is(IsNull.nullValue())
+            );
+        }
+    }
+
+    /**
+     * Removes a vertex from a graph built with the default constructor, through the incoming
+     * edges it keeps.
+     */
+    @Test
+    public void removesVerticesByDefault() {
+        final Directed graph = new Directed();
+        final Vertex first = new Vertex("first");
+        final Vertex middle = new Vertex("middle");
+        final Vertex last = new Vertex("last");
+        graph.addEdge(first, middle, 1.);
+        graph.addEdge(middle, last, 2.);
+        graph.addEdge(first, last, 3.);
+        graph.removeVertex(middle);
+        MatcherAssert.assertThat(graph.edges(), Matchers.contains(new Edge(first, last, 3.)));
+        MatcherAssert.assertThat(graph.vertices(), Matchers.containsInAnyOrder(first, last));
+        MatcherAssert.assertThat(graph.connected(first), Matchers.contains(last));
+        MatcherAssert.assertThat(graph.predecessors(last), Matchers.contains(first));
+        MatcherAssert.assertThat(graph.incomingEdges(last), Matchers.hasSize(1));
+        MatcherAssert.assertThat(graph.incomingEdges(middle), Matchers.is(IsNull.nullValue()));
+    }
+
+    /**
+     * Stays consistent while edges are repeatedly added and removed.
+     */
+    @Test
+    public void supportsChurn() {
+        final Directed graph = new Directed();
+        final Vertex hub = new Vertex("hub");
+        final int rounds = 5000;
+        final int kept = 10;
+        for (int idx = 0; idx < rounds; ++idx) {
+            final Edge edge = new Edge(hub, new Vertex(String.valueOf(idx)), 1.);
+            graph.addEdge(edge);
+            if (idx >= kept) {
+                graph.removeEdge(edge);
+            }
+        }
+        MatcherAssert.assertThat(graph.connectedEdges(hub), Matchers.hasSize(kept));
+        MatcherAssert.assertThat(graph.connected(hub), Matchers.hasSize(kept));
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(kept));
+    }
+
+    /**
+     * Merges parallel edges according to the graph policy, equal edges being merged too,
+     * and keeps all of them otherwise.
+     */
+    @Test
+    public void appliesMultiedgePolicy() {
+        final Vertex start = DirectedTest.start();
+        final Vertex end = DirectedTest.end();
+        final double sum = 3.;
+        final Directed graph = new Directed(Multiedge.SUM);
+        graph.addEdge(start, end, 1.);
+        graph.addEdge(start, end, 2.);
+        MatcherAssert.assertThat(graph.edges(), Matchers.contains(new Edge(start, end, sum)));
+        MatcherAssert.assertThat(
+            graph.connectedEdges(start), Matchers.contains(new Edge(start, end, sum))
+        );
+        MatcherAssert.assertThat(
+            graph.incomingEdges(end), Matchers.contains(new Edge(start, end, sum))
+        );
+        final Directed all = DirectedTest.graph(false);
+        all.addEdge(start, end, 1.);
+        MatcherAssert.assertThat(all.edges(), Matchers.hasSize(2));
+        final Directed twice = new Directed(Multiedge.SUM);
+        twice.addEdge(start, end, 1.0);
+        twice.addEdge(start, end, 1.0);
+        MatcherAssert.assertThat(twice.edges(), Matchers.contains(new Edge(start, end, 2.0)));
+    }
+
+    /**
+     * Builds a directed graph with 2 vertices. The graph has 2 edges of different costs that
+     * both start from the "start" vertex and end in the "end" vertex.
+     * @param backward Whether the graph keeps its incoming edges
      * @return A graph containing 2 vertices and 2 edges.
      */
-    private static Directed graph() {
-        final Directed result = new Directed();
+    private static Directed graph(final boolean backward) {
+        final Directed result = new Directed(Multiedge.ALL, backward);
         final Vertex start = DirectedTest.start();
         final Vertex end = DirectedTest.end();
         result.addVertices(start, end);
         result.addEdge(new Edge(start, end, 1.));
-        result.addEdge(start, end, 1.);
+        result.addEdge(start, end, 2.);
         return result;
     }
 
@@ -58,6 +58,25 @@ public final class EdgeTest {
         MatcherAssert.assertThat(result, Matchers.containsString(EdgeTest.end().toString()));
     }
 
+    /**
+     * Considers edges having the same extremities and cost as equal.
+     */
+    @Test
+    public void comparesByValue() {
+        final double cost = new Random().nextDouble();
+        final Edge edge = new Edge(EdgeTest.start(), EdgeTest.end(), cost);
+        final Edge same = new Edge(EdgeTest.start(), EdgeTest.end(), cost);
+        MatcherAssert.assertThat(edge, Matchers.equalTo(same));
+        MatcherAssert.assertThat(edge.hashCode(), Matchers.equalTo(same.hashCode()));
+        MatcherAssert.assertThat(
+            edge, Matchers.not(Matchers.equalTo(new Edge(EdgeTest.end(), EdgeTest.start(), cost)))
+        );
+        MatcherAssert.assertThat(
+            edge,
+            Matchers.not(Matchers.equalTo(new Edge(EdgeTest.start(), EdgeTest.end(), cost + 1.)))
+        );
+    }
+
     /**
      * Builds ending vertex with name "end".
      * @return A vertex
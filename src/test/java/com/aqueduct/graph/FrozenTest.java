@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Frozen}.
+ * @since 0.1
+ */
+public final class FrozenTest {
+
+    /**
+     * Eight vertex, eleven edges graph filename.
+     */
+    private static final String ELEVEN_EDGE_FILE = "eight-v-eleven-e";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Freezes a directed graph.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void freezesDirectedGraph() throws IOException, URISyntaxException {
+        final Graph origin = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(FrozenTest.ELEVEN_EDGE_FILE).toURI())
+        );
+        final Graph graph = origin.freeze();
+        MatcherAssert.assertThat(graph.vertices(), Matchers.is(origin.vertices()));
+        MatcherAssert.assertThat(graph.edges(), Matchers.is(origin.edges()));
+        for (final Vertex vertex : origin.vertices()) {
+            MatcherAssert.assertThat(
+                graph.connected(vertex), Matchers.is(origin.connected(vertex))
+            );
+            MatcherAssert.assertThat(
+                graph.connectedEdges(vertex), Matchers.is(origin.connectedEdges(vertex))
+            );
+        }
+    }
+
+    /**
+     * Freezes an undirected graph, giving each edge once.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void freezesUndirectedGraph() throws IOException, URISyntaxException {
+        final Graph origin = new UndirectedText(
+            Paths.get(ClassLoader.getSystemResource(FrozenTest.ELEVEN_EDGE_FILE).toURI())
+        );
+        final Graph graph = origin.freeze();
+        final int edges = 11;
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(edges));
+        for (final Vertex vertex : origin.vertices()) {
+            MatcherAssert.assertThat(
+                graph.connected(vertex), Matchers.is(origin.connected(vertex))
+            );
+        }
+    }
+
+    /**
+     * Is not affected by later modifications of the original graph.
+     */
+    @Test
+    public void ignoresLaterModifications() {
+        final Graph origin = new Directed();
+        final Vertex first = new Vertex("1");
+        final Vertex second = new Vertex("2");
+        origin.addEdge(first, second, 1.);
+        final Frozen graph = origin.freeze();
+        origin.addEdge(second, first, 1.);
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(1));
+        MatcherAssert.assertThat(graph.connected(second), Matchers.is(IsNull.nullValue()));
+        MatcherAssert.assertThat(graph.freeze(), Matchers.sameInstance(graph));
+    }
+
+    /**
+     * Can not be modified.
+     */
+    @Test
+    public void refusesModifications() {
+        final Graph graph = new Directed().freeze();
+        this.thrown.expect(UnsupportedOperationException.class);
+        graph.addVertices(new Vertex("a"));
+    }
+
+    /**
+     * Does not support removals.
+     */
+    @Test
+    public void refusesRemovals() {
+        final Graph origin = new Directed();
+        final Vertex first = new Vertex("r");
+        origin.addVertices(first);
+        final Graph graph = origin.freeze();
+        this.thrown.expect(UnsupportedOperationException.class);
+        graph.removeVertex(first);
+    }
+
+    /**
+     * Gives read only adjacency.
+     */
+    @Test
+    public void givesReadOnlyAdjacency() {
+        final Graph origin = new Directed();
+        final Vertex first = new Vertex("x");
+        origin.addEdge(first, new Vertex("y"), 1.);
+        final Graph graph = origin.freeze();
+        this.thrown.expect(UnsupportedOperationException.class);
+        graph.connected(first).clear();
+    }
+
+    /**
+     * Looks up the neighbours and the edges of a vertex having many of them.
+     */
+    @Test
+    public void looksUpLargeAdjacency() {
+        final Graph origin = new Directed();
+        final Vertex hub = new Vertex("hub");
+        final int count = 100;
+        for (int idx = 0; idx < count; ++idx) {
+            origin.addEdge(hub, new Vertex(String.valueOf(idx)), idx);
+        }
+        final Graph graph = origin.freeze();
+        for (final Edge edge : origin.connectedEdges(hub)) {
+            MatcherAssert.assertThat(
+                graph.connected(hub).contains(edge.end()), Matchers.is(true)
+            );
+            MatcherAssert.assertThat(graph.connectedEdges(hub).contains(edge), Matchers.is(true));
+            MatcherAssert.assertThat(
+                graph.edges().contains(new Edge(hub, edge.end(), count)), Matchers.is(false)
+            );
+        }
+        MatcherAssert.assertThat(graph.connected(hub).contains(hub), Matchers.is(false));
+        MatcherAssert.assertThat(graph.connected(hub).contains(null), Matchers.is(false));
+    }
+}
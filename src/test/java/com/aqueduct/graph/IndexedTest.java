@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Indexed}.
+ * @since 0.1
+ */
+public final class IndexedTest {
+
+    /**
+     * Eight vertex, eleven edges graph filename.
+     */
+    private static final String ELEVEN_EDGE_FILE = "eight-v-eleven-e";
+
+    /**
+     * Indexes every vertex and edge of a directed graph.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void indexesDirectedGraph() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(IndexedTest.ELEVEN_EDGE_FILE).toURI())
+        );
+        final Indexed csr = new Indexed(graph);
+        final int edges = 11;
+        MatcherAssert.assertThat(csr.size(), Matchers.equalTo(graph.vertices().size()));
+        MatcherAssert.assertThat(csr.offset(csr.size()), Matchers.equalTo(edges));
+        final Vertex five = new Vertex("5");
+        final int idx = csr.index(five);
+        MatcherAssert.assertThat(csr.vertex(idx), Matchers.equalTo(five));
+        final Set<Vertex> targets = new HashSet<>();
+        for (int pos = csr.offset(idx); pos < csr.offset(idx + 1); ++pos) {
+            targets.add(csr.vertex(csr.target(pos)));
+        }
+        MatcherAssert.assertThat(targets, Matchers.equalTo(graph.connected(five)));
+    }
+
+    /**
+     * Indexes vertices only known as edge extremities.
+     */
+    @Test
+    public void indexesEdgesExtremities() {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        graph.addVertices(first);
+        graph.addEdge(new Edge(first, second, 2.));
+        final Indexed csr = new Indexed(graph);
+        MatcherAssert.assertThat(csr.size(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(csr.index(new Vertex("c")), Matchers.equalTo(-1));
+        MatcherAssert.assertThat(
+            csr.vertex(csr.target(csr.offset(csr.index(first)))), Matchers.equalTo(second)
+        );
+        MatcherAssert.assertThat(csr.weight(0), Matchers.equalTo(2.));
+    }
+
+    /**
+     * Considers the edges of an undirected graph in both directions.
+     */
+    @Test
+    public void indexesUndirectedGraph() {
+        final Graph graph = new Undirected();
+        final Vertex first = new Vertex("x");
+        final Vertex second = new Vertex("y");
+        graph.addEdge(first, second, 1.);
+        final Indexed csr = new Indexed(graph);
+        final int idx = csr.index(second);
+        MatcherAssert.assertThat(csr.offset(idx + 1) - csr.offset(idx), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            csr.vertex(csr.target(csr.offset(idx))), Matchers.equalTo(first)
+        );
+    }
+
+    /**
+     * Transposes the indexed graph.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void transposes() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(IndexedTest.ELEVEN_EDGE_FILE).toURI())
+        );
+        final Indexed csr = new Indexed(graph).transposed();
+        final Graph reversed = new Reversed(graph);
+        for (final Vertex vertex : graph.vertices()) {
+            final int idx = csr.index(vertex);
+            final Set<Vertex> targets = new HashSet<>();
+            for (int pos = csr.offset(idx); pos < csr.offset(idx + 1); ++pos) {
+                targets.add(csr.vertex(csr.target(pos)));
+            }
+            Set<Vertex> expected = reversed.connected(vertex);
+            if (expected == null) {
+                expected = new HashSet<>();
+            }
+            MatcherAssert.assertThat(targets, Matchers.equalTo(expected));
+        }
+    }
+
+    /**
+     * Reweights edges with vertices potentials.
+     */
+    @Test
+    public void reweights() {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("p");
+        final Vertex second = new Vertex("q");
+        final double cost = 3.;
+        graph.addEdge(first, second, cost);
+        final Indexed csr = new Indexed(graph);
+        final double[] potential = new double[2];
+        potential[csr.index(first)] = 1.;
+        potential[csr.index(second)] = 2.;
+        final Indexed reweighted = csr.reweighted(potential);
+        MatcherAssert.assertThat(reweighted.weight(0), Matchers.is(2.));
+        MatcherAssert.assertThat(reweighted.index(second), Matchers.is(csr.index(second)));
+    }
+}
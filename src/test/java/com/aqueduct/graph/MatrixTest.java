@@ -88,6 +88,32 @@ public final class MatrixTest {
         graph.addVertices(new Vertex("three"));
     }
 
+    /**
+     * Removes edges and vertices, reusing the index of removed vertices. An edge having
+     * another cost than the stored one is not removed.
+     */
+    @Test
+    public void removesEdgesAndVertices() {
+        final Matrix graph = MatrixTest.graph();
+        graph.removeEdge(new Edge(MatrixTest.start(), MatrixTest.end(), 2.));
+        MatcherAssert.assertThat(
+            graph.connected(MatrixTest.start()),
+            Matchers.containsInAnyOrder(MatrixTest.end(), MatrixTest.another())
+        );
+        graph.removeEdge(new Edge(MatrixTest.start(), MatrixTest.end(), 1.));
+        MatcherAssert.assertThat(
+            graph.connected(MatrixTest.start()), Matchers.contains(MatrixTest.another())
+        );
+        graph.removeVertex(MatrixTest.another());
+        MatcherAssert.assertThat(graph.edges(), Matchers.empty());
+        final Vertex four = new Vertex("four");
+        graph.addEdge(MatrixTest.end(), four, 1.);
+        final int size = 3;
+        MatcherAssert.assertThat(graph.vertices(), Matchers.hasSize(size));
+        MatcherAssert.assertThat(graph.connected(MatrixTest.end()), Matchers.contains(four));
+        MatcherAssert.assertThat(graph.connected(four), Matchers.empty());
+    }
+
     /**
      * Builds a directed graph with 2 vertices. The graph has 2 edges that both start from the
      * "start" vertex and end in the "end" vertex.
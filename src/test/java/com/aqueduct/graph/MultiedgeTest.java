@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Multiedge}.
+ * @since 0.1
+ */
+public final class MultiedgeTest {
+
+    /**
+     * Merges parallel edge costs according to the policy.
+     */
+    @Test
+    public void mergesCosts() {
+        final double low = 1.;
+        final double high = 3.;
+        final double sum = 4.;
+        MatcherAssert.assertThat(Multiedge.MIN.merge(high, low), Matchers.is(low));
+        MatcherAssert.assertThat(Multiedge.MAX.merge(low, high), Matchers.is(high));
+        MatcherAssert.assertThat(Multiedge.SUM.merge(low, high), Matchers.is(sum));
+    }
+
+    /**
+     * Reuses one of the merged edges when its cost is the merged cost.
+     */
+    @Test
+    public void reusesMergedEdges() {
+        final Edge kept = new Edge(MultiedgeTest.start(), MultiedgeTest.end(), 1.);
+        final Edge added = new Edge(MultiedgeTest.start(), MultiedgeTest.end(), 2.);
+        MatcherAssert.assertThat(Multiedge.MIN.merge(kept, added), Matchers.sameInstance(kept));
+        MatcherAssert.assertThat(Multiedge.MAX.merge(kept, added), Matchers.sameInstance(added));
+    }
+
+    /**
+     * Builds a new edge holding the summed cost.
+     */
+    @Test
+    public void sumsEdges() {
+        final double sum = 3.;
+        MatcherAssert.assertThat(
+            Multiedge.SUM.merge(
+                new Edge(MultiedgeTest.start(), MultiedgeTest.end(), 1.),
+                new Edge(MultiedgeTest.start(), MultiedgeTest.end(), 2.)
+            ),
+            Matchers.equalTo(new Edge(MultiedgeTest.start(), MultiedgeTest.end(), sum))
+        );
+    }
+
+    /**
+     * Merges parallel edges the same way in directed and undirected graphs and in the bulk
+     * loader, whatever the order of the edges, equal edges being merged too.
+     */
+    @Test
+    public void mergesAlikeInGraphsAndLoader() {
+        final Vertex start = MultiedgeTest.start();
+        final Vertex end = MultiedgeTest.end();
+        final double[] costs = {1., 2., 1.};
+        final double sum = 4.;
+        for (final Multiedge policy : Multiedge.values()) {
+            final Directed directed = new Directed(policy);
+            final Undirected undirected = new Undirected(policy);
+            final Bulk bulk = new Bulk(policy);
+            for (final double cost : costs) {
+                directed.addEdge(start, end, cost);
+                undirected.addEdge(start, end, cost);
+                bulk.edge(start, end, cost);
+            }
+            final Set<Edge> expected = directed.edges();
+            MatcherAssert.assertThat(undirected.edges(), Matchers.is(expected));
+            MatcherAssert.assertThat(bulk.frozen().edges(), Matchers.is(expected));
+            if (policy == Multiedge.SUM) {
+                MatcherAssert.assertThat(
+                    expected, Matchers.contains(new Edge(start, end, sum))
+                );
+            }
+        }
+    }
+
+    /**
+     * Merges an added edge only with the edge kept between the same extremities in
+     * a directed graph, in the same direction, a removed edge being forgotten.
+     */
+    @Test
+    public void mergesWithKeptEdgeOnly() {
+        final Vertex start = MultiedgeTest.start();
+        final Vertex end = MultiedgeTest.end();
+        final double cost = 3.;
+        final Directed graph = new Directed(Multiedge.MIN);
+        graph.addEdge(start, end, 2.);
+        graph.addEdge(end, start, 1.);
+        graph.removeEdge(new Edge(start, end, 2.));
+        graph.addEdge(start, end, cost);
+        MatcherAssert.assertThat(
+            graph.edges(),
+            Matchers.containsInAnyOrder(new Edge(start, end, cost), new Edge(end, start, 1.))
+        );
+    }
+
+    /**
+     * Builds ending vertex with name "end".
+     * @return A vertex
+     */
+    private static Vertex end() {
+        return new Vertex("end");
+    }
+
+    /**
+     * Builds starting vertex with name "start".
+     * @return A vertex
+     */
+    private static Vertex start() {
+        return new Vertex("start");
+    }
+}
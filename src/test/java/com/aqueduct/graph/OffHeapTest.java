@@ -0,0 +1,242 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link OffHeap}.
+ * @since 0.1
+ */
+public final class OffHeapTest {
+
+    /**
+     * Eight vertex, eleven edges graph filename.
+     */
+    private static final String ELEVEN_EDGE_FILE = "eight-v-eleven-e";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Gives the same vertices and edges as the copied graph.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void copiesDirectedGraph() throws IOException, URISyntaxException {
+        final Graph origin = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(OffHeapTest.ELEVEN_EDGE_FILE).toURI())
+        );
+        try (OffHeap graph = new OffHeap(origin)) {
+            MatcherAssert.assertThat(graph.vertices(), Matchers.is(origin.vertices()));
+            MatcherAssert.assertThat(graph.edges(), Matchers.is(origin.edges()));
+            for (final Vertex vertex : origin.vertices()) {
+                MatcherAssert.assertThat(
+                    graph.connected(vertex), Matchers.is(origin.connected(vertex))
+                );
+                MatcherAssert.assertThat(
+                    graph.connectedEdges(vertex), Matchers.is(origin.connectedEdges(vertex))
+                );
+            }
+        }
+    }
+
+    /**
+     * Considers the edges of an undirected graph as leading to their other extremity.
+     */
+    @Test
+    public void copiesUndirectedGraph() {
+        final Graph origin = new Undirected();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        origin.addEdge(first, second, 2.);
+        try (OffHeap graph = new OffHeap(origin)) {
+            MatcherAssert.assertThat(graph.connected(second), Matchers.contains(first));
+            MatcherAssert.assertThat(
+                graph.connectedEdges(second), Matchers.contains(new Edge(second, first, 2.))
+            );
+            MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(2));
+        }
+    }
+
+    /**
+     * Lays out values over several chunks.
+     */
+    @Test
+    public void spansChunks() {
+        final int size = 100;
+        final Bulk bulk = new Bulk();
+        for (int idx = 0; idx < size; ++idx) {
+            bulk.edge(new Vertex(String.valueOf(idx)), new Vertex(String.valueOf(idx + 1)), idx);
+            bulk.edge(new Vertex(String.valueOf(idx)), new Vertex(String.valueOf(idx + 2)), idx);
+        }
+        final Indexed indexed = bulk.indexed();
+        try (OffHeap graph = new OffHeap(indexed, 2)) {
+            MatcherAssert.assertThat(graph.size(), Matchers.is(indexed.size()));
+            MatcherAssert.assertThat(
+                graph.offset(graph.size()), Matchers.is((long) indexed.offset(indexed.size()))
+            );
+            for (int pos = 0; pos < indexed.offset(indexed.size()); ++pos) {
+                MatcherAssert.assertThat(graph.target(pos), Matchers.is(indexed.target(pos)));
+                MatcherAssert.assertThat(graph.weight(pos), Matchers.is(indexed.weight(pos)));
+            }
+            MatcherAssert.assertThat(
+                graph.connected(new Vertex(String.valueOf(size + 1))),
+                Matchers.is(IsNull.nullValue())
+            );
+        }
+    }
+
+    /**
+     * Can not be used once closed.
+     */
+    @Test
+    public void failsOnceClosed() {
+        final OffHeap graph = new OffHeap(new Directed());
+        graph.close();
+        graph.close();
+        this.thrown.expect(IllegalStateException.class);
+        graph.edges();
+    }
+
+    /**
+     * Fails with the closed graph exception when reads race with closing, whether they
+     * read the buffers directly or through the views.
+     * @throws Exception If error
+     */
+    @Test
+    public void failsWhileClosing() throws Exception {
+        final Bulk bulk = new Bulk();
+        final int size = 1000;
+        for (int idx = 0; idx < size; ++idx) {
+            bulk.edge(new Vertex(String.valueOf(idx)), new Vertex(String.valueOf(idx + 1)), idx);
+        }
+        final OffHeap graph = new OffHeap(bulk.indexed());
+        final ExecutorService readers = Executors.newFixedThreadPool(2);
+        final Future<Throwable> first = readers.submit(() -> OffHeapTest.read(graph));
+        final Future<Throwable> second = readers.submit(() -> OffHeapTest.browse(graph));
+        graph.close();
+        MatcherAssert.assertThat(first.get(), Matchers.instanceOf(IllegalStateException.class));
+        MatcherAssert.assertThat(second.get(), Matchers.instanceOf(IllegalStateException.class));
+        readers.shutdown();
+    }
+
+    /**
+     * Can not be modified.
+     */
+    @Test
+    public void refusesModifications() {
+        try (OffHeap graph = new OffHeap(new Directed())) {
+            this.thrown.expect(UnsupportedOperationException.class);
+            graph.addEdge(new Vertex("x"), new Vertex("y"), 1.);
+        }
+    }
+
+    /**
+     * Looks up the neighbours and the edges of a vertex whatever the order they were
+     * added in.
+     */
+    @Test
+    public void looksUpUnsortedEdges() {
+        final Graph origin = new Directed();
+        final Vertex hub = new Vertex("hub");
+        final int count = 20;
+        for (int idx = count; idx > 0; --idx) {
+            origin.addEdge(hub, new Vertex(String.valueOf(idx)), idx);
+            origin.addEdge(hub, new Vertex(String.valueOf(idx)), -idx);
+        }
+        try (OffHeap graph = new OffHeap(origin)) {
+            for (int idx = 1; idx <= count; ++idx) {
+                final Vertex end = new Vertex(String.valueOf(idx));
+                MatcherAssert.assertThat(graph.connected(hub).contains(end), Matchers.is(true));
+                MatcherAssert.assertThat(
+                    graph.connectedEdges(hub).contains(new Edge(hub, end, -idx)),
+                    Matchers.is(true)
+                );
+                MatcherAssert.assertThat(
+                    graph.edges().contains(new Edge(hub, end, 0.0)), Matchers.is(false)
+                );
+            }
+            MatcherAssert.assertThat(graph.connected(hub), Matchers.hasSize(count));
+            MatcherAssert.assertThat(graph.connected(hub).contains(hub), Matchers.is(false));
+        }
+    }
+
+    /**
+     * Browses the views of a graph until it fails.
+     * @param graph Off-heap graph
+     * @return Failure
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private static Throwable browse(final OffHeap graph) {
+        Throwable result = null;
+        while (result == null) {
+            try {
+                for (final Edge edge : graph.edges()) {
+                    graph.connected(edge.start()).contains(edge.end());
+                    graph.connectedEdges(edge.start()).contains(edge);
+                }
+            } catch (final Throwable ex) {
+                result = ex;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the edges of a graph until it fails.
+     * @param graph Off-heap graph
+     * @return Failure
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private static Throwable read(final OffHeap graph) {
+        Throwable result = null;
+        while (result == null) {
+            try {
+                for (long pos = 0; pos < graph.offset(graph.size()); ++pos) {
+                    graph.target(pos);
+                    graph.weight(pos);
+                }
+            } catch (final Throwable ex) {
+                result = ex;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Symmetric}.
+ * @since 0.1
+ */
+public final class SymmetricTest {
+
+    /**
+     * Eight vertex, eleven edges graph filename.
+     */
+    private static final String ELEVEN_EDGE_FILE = "eight-v-eleven-e";
+
+    /**
+     * First vertex name.
+     */
+    private static final String FIRST = "a";
+
+    /**
+     * Second vertex name.
+     */
+    private static final String SECOND = "b";
+
+    /**
+     * Third vertex name.
+     */
+    private static final String THIRD = "c";
+
+    /**
+     * Name of the vertex without edges.
+     */
+    private static final String LONELY = "d";
+
+    /**
+     * Cost of the edge between the first and the third vertices.
+     */
+    private static final double COST = 3.;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Copies an undirected graph, giving the same neighbors and each edge once.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void copiesUndirectedGraph() throws IOException, URISyntaxException {
+        final Graph origin = new UndirectedText(
+            Paths.get(ClassLoader.getSystemResource(SymmetricTest.ELEVEN_EDGE_FILE).toURI())
+        );
+        final Symmetric graph = new Symmetric(origin);
+        MatcherAssert.assertThat(graph.vertices(), Matchers.is(origin.vertices()));
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(origin.edges().size()));
+        for (final Edge edge : origin.edges()) {
+            MatcherAssert.assertThat(
+                graph.edges().contains(edge)
+                    || graph.edges().contains(new Edge(edge.end(), edge.start(), edge.cost())),
+                Matchers.is(true)
+            );
+        }
+        for (final Vertex vertex : origin.vertices()) {
+            MatcherAssert.assertThat(
+                graph.connected(vertex), Matchers.is(origin.connected(vertex))
+            );
+            MatcherAssert.assertThat(
+                graph.predecessors(vertex), Matchers.is(origin.connected(vertex))
+            );
+            MatcherAssert.assertThat(
+                graph.connectedEdges(vertex).size(),
+                Matchers.is(origin.connectedEdges(vertex).size())
+            );
+        }
+    }
+
+    /**
+     * Keeps an edge and its reverse once, but keeps parallel edges.
+     */
+    @Test
+    public void keepsEachEdgeOnce() {
+        final Symmetric graph = SymmetricTest.graph();
+        final Vertex first = new Vertex(SymmetricTest.FIRST);
+        final Vertex second = new Vertex(SymmetricTest.SECOND);
+        final int edges = 4;
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(edges));
+        MatcherAssert.assertThat(
+            graph.edges(),
+            Matchers.hasItems(
+                new Edge(first, second, 2.),
+                new Edge(first, new Vertex(SymmetricTest.THIRD), SymmetricTest.COST)
+            )
+        );
+        MatcherAssert.assertThat(
+            graph.connected(first),
+            Matchers.contains(second, new Vertex(SymmetricTest.THIRD))
+        );
+        MatcherAssert.assertThat(graph.connected(second), Matchers.contains(first));
+        MatcherAssert.assertThat(
+            graph.connectedEdges(second),
+            Matchers.containsInAnyOrder(new Edge(first, second, 1.), new Edge(first, second, 2.))
+        );
+    }
+
+    /**
+     * Gives self loops once and null for vertices without edges.
+     */
+    @Test
+    public void keepsSelfLoops() {
+        final Symmetric graph = SymmetricTest.graph();
+        final Vertex first = new Vertex(SymmetricTest.FIRST);
+        final Vertex third = new Vertex(SymmetricTest.THIRD);
+        MatcherAssert.assertThat(
+            graph.connected(third), Matchers.containsInAnyOrder(first, third)
+        );
+        MatcherAssert.assertThat(
+            graph.incomingEdges(third),
+            Matchers.containsInAnyOrder(
+                new Edge(third, third, 1.), new Edge(first, third, SymmetricTest.COST)
+            )
+        );
+        MatcherAssert.assertThat(
+            graph.connected(new Vertex(SymmetricTest.LONELY)), Matchers.is(IsNull.nullValue())
+        );
+        MatcherAssert.assertThat(
+            graph.connectedEdges(new Vertex("none")), Matchers.is(IsNull.nullValue())
+        );
+    }
+
+    /**
+     * Can not be modified.
+     */
+    @Test
+    public void refusesModifications() {
+        final Graph graph = new Symmetric(new Undirected());
+        this.thrown.expect(UnsupportedOperationException.class);
+        graph.addEdge(new Vertex("x"), new Vertex("y"), 1.);
+    }
+
+    /**
+     * Loads an undirected graph having 4 vertices, one of them without edges, and 4 edges:
+     * two parallel edges, a self loop and an edge added in both directions.
+     * @return Graph
+     */
+    private static Symmetric graph() {
+        final Bulk bulk = new Bulk();
+        final Vertex first = new Vertex(SymmetricTest.FIRST);
+        final Vertex second = new Vertex(SymmetricTest.SECOND);
+        final Vertex third = new Vertex(SymmetricTest.THIRD);
+        bulk.vertex(first);
+        bulk.vertex(new Vertex(SymmetricTest.LONELY));
+        bulk.edge(first, second, 1.);
+        bulk.edge(second, first, 1.);
+        bulk.edge(second, first, 2.);
+        bulk.edge(third, third, 1.);
+        bulk.edge(third, first, SymmetricTest.COST);
+        return bulk.symmetric();
+    }
+}
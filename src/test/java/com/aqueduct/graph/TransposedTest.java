@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Transposed}.
+ * @since 0.1
+ */
+public final class TransposedTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Gives the reversed edges of the original graph.
+     */
+    @Test
+    public void reversesEdges() {
+        final Directed origin = new Directed();
+        final Vertex first = new Vertex("1");
+        final Vertex second = new Vertex("2");
+        final double cost = 3;
+        origin.addEdge(first, second, cost);
+        final Graph graph = new Transposed(origin);
+        MatcherAssert.assertThat(graph.connected(second), Matchers.contains(first));
+        MatcherAssert.assertThat(graph.connected(first), Matchers.is(IsNull.nullValue()));
+        final Set<Edge> edges = graph.connectedEdges(second);
+        MatcherAssert.assertThat(edges, Matchers.hasSize(1));
+        final Edge edge = edges.iterator().next();
+        MatcherAssert.assertThat(edge.start(), Matchers.is(second));
+        MatcherAssert.assertThat(edge.end(), Matchers.is(first));
+        MatcherAssert.assertThat(edge.cost(), Matchers.is(cost));
+        MatcherAssert.assertThat(graph.edges().iterator().next().start(), Matchers.is(second));
+    }
+
+    /**
+     * Reflects the modifications of the original graph, and applies its own modifications
+     * to the original graph.
+     */
+    @Test
+    public void sharesOriginalGraph() {
+        final Directed origin = new Directed();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Bidirectional graph = new Transposed(origin);
+        origin.addEdge(first, second, 1.);
+        graph.addEdge(first, second, 2.);
+        MatcherAssert.assertThat(graph.connected(second), Matchers.contains(first));
+        MatcherAssert.assertThat(graph.predecessors(second), Matchers.contains(first));
+        MatcherAssert.assertThat(origin.connected(second), Matchers.contains(first));
+        MatcherAssert.assertThat(graph.incomingEdges(first), Matchers.hasSize(1));
+        MatcherAssert.assertThat(graph.vertices(), Matchers.hasSize(2));
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(2));
+    }
+
+    /**
+     * Refuses an original graph that does not keep its incoming edges.
+     */
+    @Test
+    public void refusesGraphWithoutIncomingEdges() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Transposed(new Directed(Multiedge.ALL, false));
+    }
+}
@@ -25,6 +25,7 @@ package com.aqueduct.graph;
 
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
 import org.junit.Test;
 
 /**
@@ -70,6 +71,93 @@ public final class UndirectedTest {
         );
     }
 
+    /**
+     * Removes edges from both of their extremities.
+     */
+    @Test
+    public void removesEdges() {
+        final Undirected graph = UndirectedTest.graph();
+        final Edge edge = graph.connectedEdges(UndirectedTest.end()).iterator().next();
+        graph.removeEdge(edge);
+        MatcherAssert.assertThat(graph.connectedEdges(UndirectedTest.start()), Matchers.hasSize(1));
+        MatcherAssert.assertThat(
+            graph.connected(UndirectedTest.start()), Matchers.contains(UndirectedTest.end())
+        );
+        graph.removeEdge(graph.connectedEdges(UndirectedTest.start()).iterator().next());
+        MatcherAssert.assertThat(graph.edges(), Matchers.empty());
+        MatcherAssert.assertThat(
+            graph.connected(UndirectedTest.end()), Matchers.is(IsNull.nullValue())
+        );
+    }
+
+    /**
+     * Removes vertices with their edges.
+     */
+    @Test
+    public void removesVertices() {
+        final Undirected graph = UndirectedTest.graph();
+        graph.removeVertex(UndirectedTest.end());
+        MatcherAssert.assertThat(graph.edges(), Matchers.empty());
+        MatcherAssert.assertThat(graph.vertices(), Matchers.contains(UndirectedTest.start()));
+        MatcherAssert.assertThat(
+            graph.connectedEdges(UndirectedTest.start()), Matchers.is(IsNull.nullValue())
+        );
+    }
+
+    /**
+     * Considers an edge and its reverse having the same cost as the same edge, keeping it
+     * once when all the parallel edges are kept and merging it otherwise.
+     */
+    @Test
+    public void mergesReversedEqualEdges() {
+        final Vertex start = UndirectedTest.start();
+        final Vertex end = UndirectedTest.end();
+        final Undirected graph = new Undirected();
+        graph.addEdge(start, end, 1.);
+        graph.addEdge(end, start, 1.);
+        MatcherAssert.assertThat(graph.edges(), Matchers.contains(new Edge(start, end, 1.)));
+        MatcherAssert.assertThat(graph.connectedEdges(start), Matchers.hasSize(1));
+        MatcherAssert.assertThat(graph.connectedEdges(end), Matchers.hasSize(1));
+        graph.removeEdge(new Edge(end, start, 1.));
+        MatcherAssert.assertThat(graph.edges(), Matchers.empty());
+        MatcherAssert.assertThat(graph.connected(start), Matchers.is(IsNull.nullValue()));
+        final Undirected sum = new Undirected(Multiedge.SUM);
+        sum.addEdge(start, end, 1.);
+        sum.addEdge(end, start, 1.);
+        MatcherAssert.assertThat(sum.edges(), Matchers.hasSize(1));
+        MatcherAssert.assertThat(
+            sum.connectedEdges(start).iterator().next().cost(), Matchers.is(2.)
+        );
+    }
+
+    /**
+     * Merges parallel edges according to the graph policy, equal edges being merged too,
+     * and keeps all of them otherwise.
+     */
+    @Test
+    public void appliesMultiedgePolicy() {
+        final Vertex start = UndirectedTest.start();
+        final Vertex end = UndirectedTest.end();
+        final double sum = 3.;
+        final Undirected graph = new Undirected(Multiedge.SUM);
+        graph.addEdge(start, end, 1.);
+        graph.addEdge(start, end, 2.);
+        MatcherAssert.assertThat(graph.edges(), Matchers.contains(new Edge(start, end, sum)));
+        MatcherAssert.assertThat(
+            graph.connectedEdges(start), Matchers.contains(new Edge(start, end, sum))
+        );
+        MatcherAssert.assertThat(
+            graph.connectedEdges(end), Matchers.contains(new Edge(start, end, sum))
+        );
+        final Undirected all = UndirectedTest.graph();
+        all.addEdge(start, end, 1.);
+        MatcherAssert.assertThat(all.edges(), Matchers.hasSize(2));
+        final Undirected twice = new Undirected(Multiedge.SUM);
+        twice.addEdge(start, end, 1.0);
+        twice.addEdge(start, end, 1.0);
+        MatcherAssert.assertThat(twice.edges(), Matchers.contains(new Edge(start, end, 2.0)));
+    }
+
     /**
      * Builds an undirected graph with 2 vertices. The graph has 2 edges that connects the vertices.
      * @return A graph containing 2 vertices and 2 edges.
@@ -80,7 +168,7 @@ public final class UndirectedTest {
         final Vertex end = UndirectedTest.end();
         result.addVertices(start, end);
         result.addEdge(new Edge(start, end, 1.));
-        result.addEdge(start, end, 1.);
+        result.addEdge(start, end, 2.);
         return result;
     }
 
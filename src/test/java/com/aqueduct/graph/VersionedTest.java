@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Versioned}.
+ * @since 0.1
+ */
+public final class VersionedTest {
+
+    /**
+     * Increases its version on each modification.
+     */
+    @Test
+    public void countsModifications() {
+        final Versioned graph = new Versioned(new Directed());
+        final Vertex first = new Vertex("1");
+        final Vertex second = new Vertex("2");
+        final long edges = 3;
+        MatcherAssert.assertThat(graph.version(), Matchers.is(0L));
+        graph.addVertices(first, second);
+        MatcherAssert.assertThat(graph.version(), Matchers.is(1L));
+        graph.addEdge(first, second, 1.);
+        graph.addEdge(new Edge(second, first, 1.));
+        MatcherAssert.assertThat(graph.version(), Matchers.is(edges));
+    }
+
+    /**
+     * Increases its version on each removal.
+     */
+    @Test
+    public void countsRemovals() {
+        final Versioned graph = new Versioned(new Directed());
+        final Vertex first = new Vertex("x");
+        final Edge edge = new Edge(first, new Vertex("y"), 1.);
+        graph.addEdge(edge);
+        graph.removeEdge(edge);
+        graph.removeVertex(first);
+        final long versions = 3;
+        MatcherAssert.assertThat(graph.version(), Matchers.is(versions));
+        MatcherAssert.assertThat(graph.edges(), Matchers.empty());
+    }
+
+    /**
+     * Gives the decorated graph vertices and edges.
+     */
+    @Test
+    public void delegatesToGraph() {
+        final Graph origin = new Directed();
+        final Versioned graph = new Versioned(origin);
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        graph.addEdge(first, second, 2.);
+        MatcherAssert.assertThat(origin.vertices(), Matchers.containsInAnyOrder(first, second));
+        MatcherAssert.assertThat(graph.vertices(), Matchers.is(origin.vertices()));
+        MatcherAssert.assertThat(graph.edges(), Matchers.hasSize(1));
+        MatcherAssert.assertThat(graph.connected(first), Matchers.contains(second));
+        MatcherAssert.assertThat(graph.connectedEdges(first), Matchers.hasSize(1));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.analysis;
+
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Vertex;
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Cut}.
+ * @since 0.1
+ */
+public final class CutTest {
+
+    /**
+     * Gives its sides and crossing edges.
+     */
+    @Test
+    public void givesSidesAndEdges() {
+        final Vertex first = new Vertex("x");
+        final Vertex second = new Vertex("y");
+        final Vertex third = new Vertex("z");
+        final double cost = 2.5;
+        final Cut cut = new Cut(
+            Collections.singleton(first), Arrays.asList(second, third),
+            Arrays.asList(new Edge(first, second, 1.), new Edge(third, first, cost))
+        );
+        MatcherAssert.assertThat(cut.first(), Matchers.contains(first));
+        MatcherAssert.assertThat(cut.second(), Matchers.containsInAnyOrder(second, third));
+        MatcherAssert.assertThat(cut.size(), Matchers.is(2));
+        MatcherAssert.assertThat(cut.weight(), Matchers.is(cost + 1));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.analysis;
+
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Undirected;
+import com.aqueduct.graph.Vertex;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Karger}.
+ * @since 0.1
+ */
+public final class KargerTest {
+
+    /**
+     * Clique size of the tested graphs.
+     */
+    private static final int SIZE = 8;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Finds the two edges linking two cliques.
+     */
+    @Test
+    public void cutsBetweenCliques() {
+        final Graph graph = KargerTest.cliques();
+        graph.addEdge(new Vertex("a0"), new Vertex("b0"), 1.);
+        graph.addEdge(new Vertex("a1"), new Vertex("b1"), 1.);
+        final double confidence = 0.99;
+        final Cut cut = new Karger(graph, 1L).cut(confidence);
+        MatcherAssert.assertThat(cut.size(), Matchers.is(2));
+        MatcherAssert.assertThat(cut.first(), Matchers.hasSize(KargerTest.SIZE));
+        MatcherAssert.assertThat(cut.second(), Matchers.hasSize(KargerTest.SIZE));
+        MatcherAssert.assertThat(
+            cut.first().contains(new Vertex("a0")),
+            Matchers.not(cut.first().contains(new Vertex("b0")))
+        );
+    }
+
+    /**
+     * Gives a cut without crossing edges for disconnected graphs.
+     */
+    @Test
+    public void cutsDisconnectedGraph() {
+        final int trials = 100;
+        final Cut cut = new Karger(KargerTest.cliques(), 2L).attempt(trials);
+        MatcherAssert.assertThat(cut.edges(), Matchers.empty());
+        MatcherAssert.assertThat(
+            cut.first().size() + cut.second().size(), Matchers.is(KargerTest.SIZE * 2)
+        );
+    }
+
+    /**
+     * Gives the same cut with the same seed.
+     */
+    @Test
+    public void reproducesWithSeed() {
+        final Graph graph = KargerTest.cliques();
+        graph.addEdge(new Vertex("a2"), new Vertex("b2"), 1.);
+        final int trials = 20;
+        final long seed = 7;
+        MatcherAssert.assertThat(
+            new Karger(graph, seed).attempt(trials).first(),
+            Matchers.is(new Karger(graph, seed).attempt(trials).first())
+        );
+    }
+
+    /**
+     * Gives the same cut with the same seed when many trials find cuts of the same size,
+     * whatever the order in which parallel trials end.
+     */
+    @Test
+    public void reproducesTies() {
+        final int size = 30;
+        final int trials = 64;
+        final int runs = 10;
+        final Graph graph = new Undirected();
+        for (int idx = 0; idx < size; ++idx) {
+            graph.addEdge(
+                new Vertex(String.valueOf(idx)), new Vertex(String.valueOf((idx + 1) % size)),
+                1.0
+            );
+        }
+        final Cut expected = new Karger(graph, 1).attempt(trials);
+        for (int run = 0; run < runs; ++run) {
+            MatcherAssert.assertThat(
+                new Karger(graph, 1).attempt(trials).first(), Matchers.is(expected.first())
+            );
+        }
+    }
+
+    /**
+     * Refuses a confidence of 1.
+     */
+    @Test
+    public void refusesCertainty() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Karger(KargerTest.cliques(), 0L).cut(1);
+    }
+
+    /**
+     * Refuses graphs with less than two vertices.
+     */
+    @Test
+    public void refusesTinyGraph() {
+        final Graph graph = new Undirected();
+        graph.addVertices(new Vertex("alone"));
+        this.thrown.expect(IllegalArgumentException.class);
+        new Karger(graph, 0L);
+    }
+
+    /**
+     * Builds two disconnected cliques, of vertices named "a0", "a1"... and "b0", "b1"...
+     * @return Graph
+     */
+    private static Graph cliques() {
+        final Graph graph = new Undirected();
+        KargerTest.clique(graph, "a");
+        KargerTest.clique(graph, "b");
+        return graph;
+    }
+
+    /**
+     * Adds a clique to a graph.
+     * @param graph Graph
+     * @param name Clique vertices names prefix
+     */
+    private static void clique(final Graph graph, final String name) {
+        for (int first = 0; first < KargerTest.SIZE; ++first) {
+            for (int second = first + 1; second < KargerTest.SIZE; ++second) {
+                graph.addEdge(new Vertex(name + first), new Vertex(name + second), 1.);
+            }
+        }
+    }
+}
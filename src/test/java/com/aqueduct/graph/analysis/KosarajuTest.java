@@ -75,4 +75,22 @@ public final class KosarajuTest {
         MatcherAssert.assertThat(iterator.next(), Matchers.is(third));
         MatcherAssert.assertThat(iterator.hasNext(), Matchers.is(false));
     }
+
+    /**
+     * Does not modify the analyzed graph.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void leavesGraphUnchanged() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(KosarajuTest.KOSARAJU_CASE_ONE).toURI())
+        );
+        final int vertices = 9;
+        final Vertex vertex = new Vertex("1");
+        final Set<Vertex> connected = new HashSet<>(graph.connected(vertex));
+        new Kosaraju(graph);
+        MatcherAssert.assertThat(graph.vertices().size(), Matchers.is(vertices));
+        MatcherAssert.assertThat(graph.connected(vertex), Matchers.is(connected));
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.analysis;
+
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Matrix;
+import com.aqueduct.graph.Undirected;
+import com.aqueduct.graph.Vertex;
+import java.util.Set;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link StoerWagner}.
+ * @since 0.1
+ */
+@RunWith(JUnitParamsRunner.class)
+public final class StoerWagnerTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Calculates the minimum cut of the graph given as example by Stoer and Wagner.
+     * @param mode Ordering mode
+     */
+    @Test
+    @Parameters({"HEAP", "DENSE"})
+    public void cutsExample(final StoerWagner.Mode mode) {
+        final Graph graph = new Undirected();
+        final String[] edges = {
+            "1 2 2", "1 5 3", "2 3 3", "2 5 2", "2 6 2", "3 4 4",
+            "3 7 2", "4 7 2", "4 8 2", "5 6 3", "6 7 1", "7 8 3",
+        };
+        for (final String edge : edges) {
+            final String[] parts = edge.split(" ");
+            graph.addEdge(
+                new Vertex(parts[0]), new Vertex(parts[1]), Double.parseDouble(parts[2])
+            );
+        }
+        final Cut cut = new StoerWagner(graph, mode).cut();
+        final double weight = 4;
+        MatcherAssert.assertThat(cut.weight(), Matchers.is(weight));
+        MatcherAssert.assertThat(cut.size(), Matchers.is(2));
+        final Vertex three = new Vertex("3");
+        MatcherAssert.assertThat(
+            StoerWagnerTest.side(cut, three),
+            Matchers.containsInAnyOrder(three, new Vertex("4"), new Vertex("7"), new Vertex("8"))
+        );
+    }
+
+    /**
+     * Sums the costs of the edges linking two vertices in both directions.
+     */
+    @Test
+    public void cutsMatrix() {
+        final int size = 3;
+        final Graph graph = new Matrix(size);
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex("c");
+        final double heavy = 10;
+        graph.addEdge(first, second, heavy);
+        graph.addEdge(second, first, heavy);
+        graph.addEdge(second, third, 1.);
+        graph.addEdge(third, first, 2.);
+        graph.addEdge(first, third, 2.);
+        final Cut cut = new StoerWagner(graph).cut();
+        final double weight = 5;
+        MatcherAssert.assertThat(cut.weight(), Matchers.is(weight));
+        MatcherAssert.assertThat(
+            StoerWagnerTest.side(cut, third), Matchers.contains(third)
+        );
+    }
+
+    /**
+     * Cuts a long weighted ring at its two lightest edges.
+     * @param mode Ordering mode
+     */
+    @Test
+    @Parameters({"HEAP", "DENSE"})
+    public void cutsRing(final StoerWagner.Mode mode) {
+        final int size = 1000;
+        final int light = 500;
+        final Graph graph = new Undirected();
+        for (int idx = 0; idx < size; ++idx) {
+            double cost = 2;
+            if (idx == 0 || idx == light) {
+                cost = 1;
+            }
+            graph.addEdge(
+                new Vertex(String.valueOf(idx)), new Vertex(String.valueOf((idx + 1) % size)),
+                cost
+            );
+        }
+        final Cut cut = new StoerWagner(graph, mode).cut();
+        MatcherAssert.assertThat(cut.weight(), Matchers.is(2.));
+        MatcherAssert.assertThat(cut.first().size(), Matchers.is(light));
+    }
+
+    /**
+     * Refuses negative edge costs.
+     */
+    @Test
+    public void refusesNegativeCosts() {
+        final Graph graph = new Undirected();
+        graph.addEdge(new Vertex("x"), new Vertex("y"), -1.);
+        this.thrown.expect(IllegalArgumentException.class);
+        new StoerWagner(graph);
+    }
+
+    /**
+     * Gives the side of a cut containing a vertex.
+     * @param cut Cut
+     * @param vertex Vertex
+     * @return Side vertices
+     */
+    private static Set<Vertex> side(final Cut cut, final Vertex vertex) {
+        Set<Vertex> result = cut.second();
+        if (cut.first().contains(vertex)) {
+            result = cut.first();
+        }
+        return result;
+    }
+}
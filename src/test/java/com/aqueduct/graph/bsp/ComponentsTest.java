@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Undirected;
+import com.aqueduct.graph.Vertex;
+import com.aqueduct.graph.partition.Hash;
+import com.aqueduct.graph.partition.Partition;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Components}.
+ * @since 0.1
+ */
+public final class ComponentsTest {
+
+    /**
+     * Labels the vertices of a component with its vertex of smallest name.
+     */
+    @Test
+    public void labelsComponents() {
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex("c");
+        final Vertex fourth = new Vertex("d");
+        final Vertex fifth = new Vertex("e");
+        final Graph graph = new Undirected();
+        graph.addEdge(third, first, 1.0);
+        graph.addEdge(fifth, third, 1.0);
+        graph.addEdge(fourth, second, 1.0);
+        final int parts = 3;
+        final Map<Vertex, Vertex> labels = new Pregel<>(
+            new Partition(graph, new Hash(), parts), new Components(),
+            new Loopback<Vertex>(
+                parts, (left, right) -> ComponentsTest.smallest(left, right)
+            )
+        ).run(Integer.MAX_VALUE);
+        MatcherAssert.assertThat(labels.get(fifth), Matchers.is(first));
+        MatcherAssert.assertThat(labels.get(third), Matchers.is(first));
+        MatcherAssert.assertThat(labels.get(first), Matchers.is(first));
+        MatcherAssert.assertThat(labels.get(fourth), Matchers.is(second));
+        MatcherAssert.assertThat(labels.get(second), Matchers.is(second));
+    }
+
+    /**
+     * Gives the vertex of smallest name.
+     * @param left First vertex
+     * @param right Second vertex
+     * @return Vertex of smallest name
+     */
+    private static Vertex smallest(final Vertex left, final Vertex right) {
+        Vertex result = left;
+        if (right.name().compareTo(left.name()) < 0) {
+            result = right;
+        }
+        return result;
+    }
+}
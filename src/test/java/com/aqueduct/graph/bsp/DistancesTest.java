@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.DirectedText;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Vertex;
+import com.aqueduct.graph.partition.Hash;
+import com.aqueduct.graph.partition.Partition;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Distances}.
+ * @since 0.1
+ */
+public final class DistancesTest {
+
+    /**
+     * Eight vertex, eleven edges graph filename.
+     */
+    private static final String ELEVEN_EDGE_FILE = "eight-v-eleven-e";
+
+    /**
+     * Computes the distances from the source.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void computesDistances() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(DistancesTest.ELEVEN_EDGE_FILE).toURI())
+        );
+        final Vertex source = new Vertex("1");
+        final int parts = 3;
+        final Map<Vertex, Double> distances = new Pregel<>(
+            new Partition(graph, new Hash(), parts), new Distances(source)
+        ).run(Integer.MAX_VALUE);
+        final double[] expected = {0, 2, 1, 6, 2, 4, 9, 9};
+        for (int idx = 0; idx < expected.length; ++idx) {
+            MatcherAssert.assertThat(
+                distances.get(new Vertex(String.valueOf(idx + 1))), Matchers.is(expected[idx])
+            );
+        }
+    }
+
+    /**
+     * Handles negative costs.
+     */
+    @Test
+    public void handlesNegativeCosts() {
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex("c");
+        final double expensive = 5.0;
+        final double negative = -4.0;
+        final Graph graph = new DistancesTest.Triangle().graph(first, second, third);
+        final Map<Vertex, Double> distances = new Pregel<>(
+            new Partition(graph, new Hash(), 2), new Distances(first)
+        ).run(Integer.MAX_VALUE);
+        MatcherAssert.assertThat(distances.get(third), Matchers.is(expensive + negative));
+        MatcherAssert.assertThat(distances.get(second), Matchers.is(expensive));
+    }
+
+    /**
+     * Builds a graph where the shortest path to a vertex goes through a negative edge.
+     * @since 0.1
+     */
+    private static final class Triangle {
+
+        /**
+         * Builds the graph.
+         * @param first Source vertex
+         * @param second Vertex reached by an expensive edge
+         * @param third Vertex reached by the negative edge
+         * @return Graph
+         */
+        Graph graph(final Vertex first, final Vertex second, final Vertex third) {
+            final Graph graph = new Directed();
+            final double expensive = 5.0;
+            final double negative = -4.0;
+            graph.addEdge(first, second, expensive);
+            graph.addEdge(first, third, 2.0);
+            graph.addEdge(second, third, negative);
+            return graph;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.DirectedText;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Vertex;
+import com.aqueduct.graph.partition.Hash;
+import com.aqueduct.graph.partition.Partition;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Hops}.
+ * @since 0.1
+ */
+public final class HopsTest {
+
+    /**
+     * Eight vertex, eleven edges graph filename.
+     */
+    private static final String ELEVEN_EDGE_FILE = "eight-v-eleven-e";
+
+    /**
+     * Counts the edges on the shortest paths from the source.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void countsEdges() throws IOException, URISyntaxException {
+        final Graph graph = new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(HopsTest.ELEVEN_EDGE_FILE).toURI())
+        );
+        final Vertex isolated = new Vertex("9");
+        graph.addVertices(isolated);
+        final int parts = 3;
+        final Map<Vertex, Integer> hops = new Pregel<>(
+            new Partition(graph, new Hash(), parts), new Hops(new Vertex("1")),
+            new Loopback<>(parts, Math::min)
+        ).run(Integer.MAX_VALUE);
+        final int[] expected = {0, 1, 1, 2, 2, 3, 3, 3};
+        for (int idx = 0; idx < expected.length; ++idx) {
+            MatcherAssert.assertThat(
+                hops.get(new Vertex(String.valueOf(idx + 1))), Matchers.is(expected[idx])
+            );
+        }
+        MatcherAssert.assertThat(hops.get(isolated), Matchers.is(Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Vertex;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Loopback}.
+ * @since 0.1
+ */
+public final class LoopbackTest {
+
+    /**
+     * Delivers the sent messages to the shard of their receiving vertex, going on while
+     * messages are delivered or the process is active.
+     */
+    @Test
+    public void deliversMessages() {
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final int three = 3;
+        final Transport<Integer> transport = new Loopback<>(2);
+        transport.send(1, first, 1);
+        transport.send(1, first, 2);
+        transport.send(0, second, three);
+        MatcherAssert.assertThat(transport.receive(1).isEmpty(), Matchers.is(true));
+        MatcherAssert.assertThat(transport.deliver(false), Matchers.is(true));
+        MatcherAssert.assertThat(
+            transport.receive(1).get(first), Matchers.containsInAnyOrder(1, 2)
+        );
+        MatcherAssert.assertThat(transport.receive(0).get(second), Matchers.contains(three));
+        MatcherAssert.assertThat(transport.deliver(true), Matchers.is(true));
+        MatcherAssert.assertThat(transport.receive(1).isEmpty(), Matchers.is(true));
+        MatcherAssert.assertThat(transport.deliver(false), Matchers.is(false));
+    }
+
+    /**
+     * Combines the messages sent to the same vertex.
+     */
+    @Test
+    public void combinesMessages() {
+        final Vertex vertex = new Vertex("a");
+        final int count = 10;
+        final Transport<Integer> transport = new Loopback<>(1, Integer::sum);
+        for (int idx = 1; idx <= count; ++idx) {
+            transport.send(0, vertex, idx);
+        }
+        MatcherAssert.assertThat(transport.deliver(false), Matchers.is(true));
+        MatcherAssert.assertThat(
+            transport.receive(0).get(vertex), Matchers.contains(count * (count + 1) / 2)
+        );
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Vertex;
+import com.aqueduct.graph.partition.Partition;
+import com.aqueduct.graph.partition.Range;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Pregel}.
+ * @since 0.1
+ */
+public final class PregelTest {
+
+    /**
+     * Vertices count of the tested path.
+     */
+    private static final int LENGTH = 10;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Stops once every vertex halted and no message is sent, carrying messages through
+     * the given transport.
+     */
+    @Test
+    public void stopsWhenHalted() {
+        final Partition partition = new PregelTest.Path().partition(2);
+        final AtomicLong sent = new AtomicLong();
+        final Transport<Integer> loopback = new Loopback<>(2);
+        final Map<Vertex, Integer> hops = new Pregel<>(
+            partition, new Hops(PregelTest.vertex(0)),
+            new PregelTest.Counting(loopback, sent)
+        ).run(Integer.MAX_VALUE);
+        for (int idx = 0; idx < PregelTest.LENGTH; ++idx) {
+            MatcherAssert.assertThat(hops.get(PregelTest.vertex(idx)), Matchers.is(idx));
+        }
+        MatcherAssert.assertThat(sent.get(), Matchers.is((long) PregelTest.LENGTH - 1));
+    }
+
+    /**
+     * Stops at the supersteps limit.
+     */
+    @Test
+    public void stopsAtLimit() {
+        final int limit = 3;
+        final Map<Vertex, Integer> hops = new Pregel<>(
+            new PregelTest.Path().partition(2), new Hops(PregelTest.vertex(0))
+        ).run(limit);
+        MatcherAssert.assertThat(hops.get(PregelTest.vertex(limit - 1)), Matchers.is(limit - 1));
+        MatcherAssert.assertThat(
+            hops.get(PregelTest.vertex(limit)), Matchers.is(Integer.MAX_VALUE)
+        );
+        MatcherAssert.assertThat(
+            new Pregel<>(
+                new PregelTest.Path().partition(2), new Hops(PregelTest.vertex(0))
+            ).run(0).get(PregelTest.vertex(0)),
+            Matchers.is(0)
+        );
+    }
+
+    /**
+     * Runs the shards in separate processes sharing a transport, each process hosting one
+     * shard and going on while the other one is active.
+     * @throws Exception If error
+     */
+    @Test
+    public void runsHostedShards() throws Exception {
+        final Partition partition = new PregelTest.Path().partition(2);
+        final Pregel<Integer, Integer> engine = new Pregel<>(
+            partition, new Hops(PregelTest.vertex(0)),
+            new PregelTest.Cluster(new Loopback<>(2), 2)
+        );
+        final ExecutorService processes = Executors.newFixedThreadPool(2);
+        final Future<Map<Vertex, Integer>> first = processes.submit(
+            () -> engine.hosting(0).run(Integer.MAX_VALUE)
+        );
+        final Future<Map<Vertex, Integer>> second = processes.submit(
+            () -> engine.hosting(1).run(Integer.MAX_VALUE)
+        );
+        final Map<Vertex, Integer> hops = new HashMap<>(first.get());
+        MatcherAssert.assertThat(
+            hops.keySet(), Matchers.is(partition.shards().get(0).vertices())
+        );
+        hops.putAll(second.get());
+        processes.shutdown();
+        for (int idx = 0; idx < PregelTest.LENGTH; ++idx) {
+            MatcherAssert.assertThat(hops.get(PregelTest.vertex(idx)), Matchers.is(idx));
+        }
+    }
+
+    /**
+     * Refuses to host a shard out of the partition.
+     */
+    @Test
+    public void refusesUnknownShard() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Pregel<>(
+            new PregelTest.Path().partition(2), new Hops(PregelTest.vertex(0))
+        ).hosting(0, 2);
+    }
+
+    /**
+     * Refuses a negative supersteps count.
+     */
+    @Test
+    public void refusesNegativeLimit() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Pregel<>(
+            new PregelTest.Path().partition(1), new Hops(PregelTest.vertex(0))
+        ).run(-1);
+    }
+
+    /**
+     * Builds a vertex of the path.
+     * @param idx Position on the path
+     * @return Vertex
+     */
+    private static Vertex vertex(final int idx) {
+        return new PregelTest.Path().vertex(idx);
+    }
+
+    /**
+     * Directed path of vertices.
+     * @since 0.1
+     */
+    private static final class Path {
+
+        /**
+         * Partitions the path in contiguous shards.
+         * @param parts Shards count
+         * @return Partition
+         */
+        Partition partition(final int parts) {
+            final Graph graph = new Directed();
+            for (int idx = 1; idx < PregelTest.LENGTH; ++idx) {
+                graph.addEdge(this.vertex(idx - 1), this.vertex(idx), 1.0);
+            }
+            return new Partition(graph, new Range(), parts);
+        }
+
+        /**
+         * Builds a vertex of the path.
+         * @param idx Position on the path
+         * @return Vertex
+         */
+        Vertex vertex(final int idx) {
+            return new Vertex(String.valueOf(idx));
+        }
+    }
+
+    /**
+     * Transport counting the sent messages.
+     * @since 0.1
+     */
+    private static final class Counting implements Transport<Integer> {
+
+        /**
+         * Decorated transport.
+         */
+        private final Transport<Integer> origin;
+
+        /**
+         * Sent messages count.
+         */
+        private final AtomicLong count;
+
+        /**
+         * Constructor.
+         * @param origin Decorated transport
+         * @param count Sent messages count
+         */
+        Counting(final Transport<Integer> origin, final AtomicLong count) {
+            this.origin = origin;
+            this.count = count;
+        }
+
+        @Override
+        public void send(final int shard, final Vertex target, final Integer message) {
+            this.count.incrementAndGet();
+            this.origin.send(shard, target, message);
+        }
+
+        @Override
+        public boolean deliver(final boolean active) {
+            return this.origin.deliver(active);
+        }
+
+        @Override
+        public Map<Vertex, List<Integer>> receive(final int shard) {
+            return this.origin.receive(shard);
+        }
+    }
+
+    /**
+     * Transport shared by several processes, each ending the supersteps through a barrier
+     * where the messages are delivered once all of them arrived.
+     * @since 0.1
+     */
+    private static final class Cluster implements Transport<Integer> {
+
+        /**
+         * Decorated transport.
+         */
+        private final Transport<Integer> origin;
+
+        /**
+         * Whether a process is active in the ending superstep.
+         */
+        private final AtomicBoolean activity;
+
+        /**
+         * Whether the computation goes on after the last superstep.
+         */
+        private final AtomicBoolean going;
+
+        /**
+         * Superstep barrier, delivering the messages once all the processes arrived.
+         */
+        private final CyclicBarrier barrier;
+
+        /**
+         * Constructor.
+         * @param origin Decorated transport
+         * @param processes Processes count
+         */
+        Cluster(final Transport<Integer> origin, final int processes) {
+            this.origin = origin;
+            this.activity = new AtomicBoolean();
+            this.going = new AtomicBoolean();
+            this.barrier = new CyclicBarrier(
+                processes,
+                () -> this.going.set(this.origin.deliver(this.activity.getAndSet(false)))
+            );
+        }
+
+        @Override
+        public void send(final int shard, final Vertex target, final Integer message) {
+            this.origin.send(shard, target, message);
+        }
+
+        @Override
+        public boolean deliver(final boolean active) {
+            if (active) {
+                this.activity.set(true);
+            }
+            try {
+                this.barrier.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            } catch (final BrokenBarrierException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return this.going.get();
+        }
+
+        @Override
+        public Map<Vertex, List<Integer>> receive(final int shard) {
+            return this.origin.receive(shard);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.bsp;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Vertex;
+import com.aqueduct.graph.partition.Partition;
+import com.aqueduct.graph.partition.Range;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Rank}.
+ * @since 0.1
+ */
+public final class RankTest {
+
+    /**
+     * Tolerance on ranks.
+     */
+    private static final double ERROR = 1.0e-3;
+
+    /**
+     * Converges to the PageRank of the vertices.
+     */
+    @Test
+    public void ranksVertices() {
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex("c");
+        final Graph graph = new Directed();
+        graph.addEdge(first, second, 1.0);
+        graph.addEdge(first, third, 1.0);
+        graph.addEdge(second, third, 1.0);
+        graph.addEdge(third, first, 1.0);
+        final int iterations = 50;
+        final Map<Vertex, Double> ranks = new Pregel<>(
+            new Partition(graph, new Range(), 2), new Rank(iterations),
+            new Loopback<>(2, Double::sum)
+        ).run(Integer.MAX_VALUE);
+        final double expected = 0.3878;
+        final double low = 0.2148;
+        final double high = 0.3974;
+        MatcherAssert.assertThat(ranks.get(first), Matchers.closeTo(expected, RankTest.ERROR));
+        MatcherAssert.assertThat(ranks.get(second), Matchers.closeTo(low, RankTest.ERROR));
+        MatcherAssert.assertThat(ranks.get(third), Matchers.closeTo(high, RankTest.ERROR));
+    }
+
+    /**
+     * Gives every vertex the same rank without damping on a cycle.
+     */
+    @Test
+    public void ranksCycle() {
+        final int size = 4;
+        final Graph graph = new Directed();
+        for (int idx = 0; idx < size; ++idx) {
+            graph.addEdge(
+                new Vertex(String.valueOf(idx)), new Vertex(String.valueOf((idx + 1) % size)),
+                1.0
+            );
+        }
+        final Map<Vertex, Double> ranks = new Pregel<>(
+            new Partition(graph, new Range(), 2), new Rank(size, 1.0)
+        ).run(Integer.MAX_VALUE);
+        for (final double rank : ranks.values()) {
+            MatcherAssert.assertThat(rank, Matchers.closeTo(1.0 / size, RankTest.ERROR));
+        }
+    }
+}
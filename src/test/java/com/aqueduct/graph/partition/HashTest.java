@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Hash}.
+ * @since 0.1
+ */
+public final class HashTest {
+
+    /**
+     * Assigns a vertex to the same shard, whatever the graph it is part of.
+     */
+    @Test
+    public void assignsByVertex() {
+        final int size = 100;
+        final int parts = 7;
+        final Graph graph = new Directed();
+        final Graph other = new Directed();
+        for (int idx = 0; idx < size; ++idx) {
+            graph.addVertices(new Vertex(String.valueOf(idx)));
+            other.addVertices(new Vertex(String.valueOf(size - idx)));
+        }
+        final Indexed indexed = new Indexed(graph);
+        final Indexed reindexed = new Indexed(other);
+        final int[] owners = new Hash().assign(indexed, parts);
+        final int[] reowners = new Hash().assign(reindexed, parts);
+        for (int idx = 0; idx < owners.length; ++idx) {
+            MatcherAssert.assertThat(
+                owners[idx], Matchers.both(Matchers.greaterThanOrEqualTo(0))
+                    .and(Matchers.lessThan(parts))
+            );
+            final int same = reindexed.index(indexed.vertex(idx));
+            if (same >= 0) {
+                MatcherAssert.assertThat(reowners[same], Matchers.is(owners[idx]));
+            }
+        }
+    }
+}
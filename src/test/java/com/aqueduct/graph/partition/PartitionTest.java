@@ -0,0 +1,211 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import com.aqueduct.graph.DirectedText;
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Vertex;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Partition}.
+ * @since 0.1
+ */
+public final class PartitionTest {
+
+    /**
+     * Eight vertex, eleven edges graph filename.
+     */
+    private static final String ELEVEN_EDGE_FILE = "eight-v-eleven-e";
+
+    /**
+     * Shards count.
+     */
+    private static final int PARTS = 3;
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Spreads every vertex and edge in exactly one shard, and reports the cut edges.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void coversGraph() throws IOException, URISyntaxException {
+        final Graph graph = PartitionTest.graph();
+        final Partition partition = new Partition(graph, new Hash(), PartitionTest.PARTS);
+        final Set<Vertex> vertices = new HashSet<>();
+        final Set<Edge> edges = new HashSet<>();
+        long cut = 0;
+        for (final Shard shard : partition.shards()) {
+            for (final Vertex vertex : shard.vertices()) {
+                MatcherAssert.assertThat(vertices.add(vertex), Matchers.is(true));
+                MatcherAssert.assertThat(partition.owner(vertex), Matchers.is(shard.index()));
+            }
+            for (final Map.Entry<Vertex, Integer> ghost : shard.ghosts().entrySet()) {
+                MatcherAssert.assertThat(
+                    partition.owner(ghost.getKey()), Matchers.is(ghost.getValue())
+                );
+            }
+            edges.addAll(shard.edges());
+            cut += shard.edges().stream().filter(edge -> !shard.owns(edge.end())).count();
+        }
+        MatcherAssert.assertThat(vertices, Matchers.is(graph.vertices()));
+        MatcherAssert.assertThat(edges, Matchers.is(graph.edges()));
+        MatcherAssert.assertThat(partition.report().cut(), Matchers.is(cut));
+        MatcherAssert.assertThat(
+            partition.report().edges(), Matchers.is((long) graph.edges().size())
+        );
+    }
+
+    /**
+     * Lets in-process workers compute the in-degree of every vertex, each worker
+     * processing its own shard and sending the edges leading to ghost vertices
+     * to the workers owning them.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     * @throws InterruptedException If interrupted
+     * @throws ExecutionException If a worker fails
+     */
+    @Test
+    public void feedsLocalWorkers() throws IOException, URISyntaxException,
+        InterruptedException, ExecutionException {
+        final Graph graph = PartitionTest.graph();
+        final Partition partition = new Partition(
+            graph, new Propagation(), PartitionTest.PARTS
+        );
+        final List<Queue<Vertex>> inboxes = new ArrayList<>(PartitionTest.PARTS);
+        for (int part = 0; part < PartitionTest.PARTS; ++part) {
+            inboxes.add(new ConcurrentLinkedQueue<>());
+        }
+        final Map<Vertex, Integer> degrees = new ConcurrentHashMap<>();
+        final ExecutorService workers = Executors.newFixedThreadPool(PartitionTest.PARTS);
+        try {
+            final List<Future<?>> sending = new ArrayList<>(PartitionTest.PARTS);
+            for (final Shard shard : partition.shards()) {
+                sending.add(workers.submit(() -> PartitionTest.send(shard, inboxes, degrees)));
+            }
+            for (final Future<?> future : sending) {
+                future.get();
+            }
+            final List<Future<?>> receiving = new ArrayList<>(PartitionTest.PARTS);
+            for (final Shard shard : partition.shards()) {
+                final Queue<Vertex> inbox = inboxes.get(shard.index());
+                receiving.add(workers.submit(() -> PartitionTest.count(inbox, degrees)));
+            }
+            for (final Future<?> future : receiving) {
+                future.get();
+            }
+        } finally {
+            workers.shutdown();
+        }
+        for (final Vertex vertex : graph.vertices()) {
+            MatcherAssert.assertThat(
+                degrees.getOrDefault(vertex, 0),
+                Matchers.is(
+                    (int) graph.edges().stream().filter(
+                        edge -> edge.end().equals(vertex)
+                    ).count()
+                )
+            );
+        }
+    }
+
+    /**
+     * Refuses a non positive shards count.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void refusesNoShards() throws IOException, URISyntaxException {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Partition(PartitionTest.graph(), new Range(), 0);
+    }
+
+    /**
+     * Counts the incoming edges of the vertices of a shard, and sends the edges leading
+     * to ghost vertices to the inbox of the shard owning them.
+     * @param shard Shard
+     * @param inboxes Inbox of each shard
+     * @param degrees Counted in-degrees
+     */
+    private static void send(final Shard shard, final List<Queue<Vertex>> inboxes,
+        final Map<Vertex, Integer> degrees) {
+        for (final Edge edge : shard.edges()) {
+            final Integer owner = shard.ghosts().get(edge.end());
+            if (owner == null) {
+                degrees.merge(edge.end(), 1, Integer::sum);
+            } else {
+                inboxes.get(owner).add(edge.end());
+            }
+        }
+    }
+
+    /**
+     * Counts the incoming edges received by a shard.
+     * @param inbox Shard inbox
+     * @param degrees Counted in-degrees
+     */
+    private static void count(final Queue<Vertex> inbox, final Map<Vertex, Integer> degrees) {
+        for (final Vertex vertex : inbox) {
+            degrees.merge(vertex, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Reads the eight vertices, eleven edges directed graph.
+     * @return Graph
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    private static Graph graph() throws IOException, URISyntaxException {
+        return new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(PartitionTest.ELEVEN_EDGE_FILE).toURI())
+        );
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Undirected;
+import com.aqueduct.graph.Vertex;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Propagation}.
+ * @since 0.1
+ */
+public final class PropagationTest {
+
+    /**
+     * Separates densely connected groups of vertices, keeping shards balanced.
+     */
+    @Test
+    public void separatesClusters() {
+        final int clusters = 4;
+        final int size = 8;
+        final Graph graph = new Undirected();
+        for (int cluster = 0; cluster < clusters; ++cluster) {
+            for (int idx = 0; idx < size; ++idx) {
+                PropagationTest.clique(graph, cluster, idx, size);
+            }
+            graph.addEdge(
+                PropagationTest.vertex(cluster, 0),
+                PropagationTest.vertex((cluster + 1) % clusters, 1), 1.0
+            );
+        }
+        final Report report = new Partition(graph, new Propagation(), clusters).report();
+        final double balance = 1.2;
+        MatcherAssert.assertThat(report.cut(), Matchers.is(2L * clusters));
+        MatcherAssert.assertThat(report.balance(), Matchers.lessThanOrEqualTo(balance));
+        MatcherAssert.assertThat(
+            report.cut(),
+            Matchers.lessThan(new Partition(graph, new Hash(), clusters).report().cut())
+        );
+    }
+
+    /**
+     * Links a vertex of a cluster to the next vertices of the same cluster.
+     * @param graph Graph
+     * @param cluster Cluster index
+     * @param idx Vertex index in the cluster
+     * @param size Vertices count of a cluster
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static void clique(final Graph graph, final int cluster, final int idx,
+        final int size) {
+        for (int next = idx + 1; next < size; ++next) {
+            graph.addEdge(
+                PropagationTest.vertex(cluster, idx), PropagationTest.vertex(cluster, next), 1.0
+            );
+        }
+    }
+
+    /**
+     * Builds a vertex of a cluster.
+     * @param cluster Cluster index
+     * @param idx Vertex index in the cluster
+     * @return Vertex
+     */
+    private static Vertex vertex(final int cluster, final int idx) {
+        return new Vertex(String.format("%d-%d", cluster, idx));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Vertex;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Range}.
+ * @since 0.1
+ */
+public final class RangeTest {
+
+    /**
+     * Assigns consecutive indices to the same shard, with balanced shards.
+     */
+    @Test
+    public void assignsConsecutiveIndices() {
+        final int size = 10;
+        final int parts = 3;
+        final Graph graph = new Directed();
+        for (int idx = 0; idx < size; ++idx) {
+            graph.addVertices(new Vertex(String.valueOf(idx)));
+        }
+        final int[] owners = new Range().assign(new Indexed(graph), parts);
+        final int[] sizes = new int[parts];
+        for (int idx = 0; idx < owners.length; ++idx) {
+            ++sizes[owners[idx]];
+            if (idx > 0) {
+                MatcherAssert.assertThat(
+                    owners[idx] - owners[idx - 1], Matchers.isOneOf(0, 1)
+                );
+            }
+        }
+        for (final int count : sizes) {
+            MatcherAssert.assertThat(count, Matchers.isOneOf(size / parts, size / parts + 1));
+        }
+    }
+}
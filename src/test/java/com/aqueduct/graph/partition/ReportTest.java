@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link Report}.
+ * @since 0.1
+ */
+public final class ReportTest {
+
+    /**
+     * Gives the cut ratio and the balance of the shards.
+     */
+    @Test
+    public void givesCutAndBalance() {
+        final int large = 6;
+        final long cut = 5;
+        final long edges = 20;
+        final Report report = new Report(new int[] {large, 2}, cut, edges);
+        final double ratio = 0.25;
+        final double balance = 1.5;
+        MatcherAssert.assertThat(report.parts(), Matchers.is(2));
+        MatcherAssert.assertThat(report.size(0), Matchers.is(large));
+        MatcherAssert.assertThat(report.ratio(), Matchers.is(ratio));
+        MatcherAssert.assertThat(report.balance(), Matchers.is(balance));
+        MatcherAssert.assertThat(report.toString(), Matchers.containsString("5 of 20 edges"));
+    }
+
+    /**
+     * Considers an empty partition as balanced and not cut.
+     */
+    @Test
+    public void handlesEmptyPartition() {
+        final Report report = new Report(new int[2], 0, 0);
+        MatcherAssert.assertThat(report.ratio(), Matchers.is(0.0));
+        MatcherAssert.assertThat(report.balance(), Matchers.is(1.0));
+    }
+}
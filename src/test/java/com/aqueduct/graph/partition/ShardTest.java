@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.partition;
+
+import com.aqueduct.graph.Directed;
+import com.aqueduct.graph.Edge;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Vertex;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Shard}.
+ * @since 0.1
+ */
+public final class ShardTest {
+
+    /**
+     * Name of the vertex put in the second shard.
+     */
+    private static final String REMOTE = "c";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Keeps the edges of owned vertices, with the ghost vertices they lead to.
+     */
+    @Test
+    public void keepsGhostVertices() {
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        final Vertex third = new Vertex(ShardTest.REMOTE);
+        final Shard shard = ShardTest.partition().shards().get(0);
+        MatcherAssert.assertThat(shard.index(), Matchers.is(0));
+        MatcherAssert.assertThat(shard.vertices(), Matchers.containsInAnyOrder(first, second));
+        MatcherAssert.assertThat(shard.owns(third), Matchers.is(false));
+        MatcherAssert.assertThat(shard.ghosts(), Matchers.hasEntry(third, 1));
+        MatcherAssert.assertThat(shard.boundary(), Matchers.contains(second));
+        MatcherAssert.assertThat(
+            shard.connectedEdges(second), Matchers.contains(new Edge(second, third, 1.))
+        );
+        MatcherAssert.assertThat(shard.edges(), Matchers.hasSize(2));
+        MatcherAssert.assertThat(shard.connected(third), Matchers.is(IsNull.nullValue()));
+    }
+
+    /**
+     * Can not be modified.
+     */
+    @Test
+    public void refusesModifications() {
+        final Shard shard = ShardTest.partition().shards().get(1);
+        this.thrown.expect(UnsupportedOperationException.class);
+        shard.addVertices(new Vertex("d"));
+    }
+
+    /**
+     * Partitions a path of three vertices, putting the last one alone in the second shard.
+     * @return Partition
+     */
+    private static Partition partition() {
+        final Graph graph = new Directed();
+        final Vertex first = new Vertex("a");
+        final Vertex second = new Vertex("b");
+        graph.addEdge(first, second, 1.);
+        graph.addEdge(second, new Vertex(ShardTest.REMOTE), 1.);
+        return new Partition(
+            graph,
+            (indexed, parts) -> new int[] {
+                ShardTest.owner(indexed.vertex(0)),
+                ShardTest.owner(indexed.vertex(1)),
+                ShardTest.owner(indexed.vertex(2)),
+            },
+            2
+        );
+    }
+
+    /**
+     * Gives the shard of a vertex.
+     * @param vtx Vertex
+     * @return Shard index
+     */
+    private static int owner(final Vertex vtx) {
+        int result = 0;
+        if (vtx.equals(new Vertex(ShardTest.REMOTE))) {
+            result = 1;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.traversal;
+
+import com.aqueduct.graph.DirectedText;
+import com.aqueduct.graph.Graph;
+import com.aqueduct.graph.Indexed;
+import com.aqueduct.graph.Undirected;
+import com.aqueduct.graph.Vertex;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Levels}.
+ * @since 0.1
+ */
+public final class LevelsTest {
+
+    /**
+     * Eight vertex, eleven edges graph filename.
+     */
+    private static final String ELEVEN_EDGE_FILE = "eight-v-eleven-e";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Gives the depth and the parent of every vertex.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void givesDepthsAndParents() throws IOException, URISyntaxException {
+        final Graph graph = LevelsTest.eleven();
+        final Vertex isolated = new Vertex("9");
+        graph.addVertices(isolated);
+        final Levels levels = new Levels(graph, new Vertex("1"));
+        final int[] expected = {0, 1, 1, 2, 2, 3, 3, 3};
+        for (int idx = 0; idx < expected.length; ++idx) {
+            MatcherAssert.assertThat(
+                levels.depth(new Vertex(String.valueOf(idx + 1))), Matchers.is(expected[idx])
+            );
+        }
+        MatcherAssert.assertThat(levels.depth(isolated), Matchers.is(-1));
+        MatcherAssert.assertThat(levels.parent(isolated), Matchers.is(IsNull.nullValue()));
+        MatcherAssert.assertThat(levels.parent(new Vertex("1")), Matchers.is(IsNull.nullValue()));
+        MatcherAssert.assertThat(levels.parent(new Vertex("4")), Matchers.is(new Vertex("2")));
+    }
+
+    /**
+     * Finds the same depths whatever the direction of the steps, switching to bottom-up
+     * steps on a low diameter graph.
+     */
+    @Test
+    public void switchesDirection() {
+        final Indexed graph = new Indexed(LevelsTest.scalefree());
+        final Vertex source = graph.vertex(0);
+        final Levels optimized = new Levels(graph, source);
+        final Levels topdown = new Levels(graph, source, 0, 1);
+        final Levels bottomup = new Levels(graph, source, Double.MAX_VALUE, Double.MAX_VALUE);
+        MatcherAssert.assertThat(optimized.upward(), Matchers.greaterThan(0));
+        MatcherAssert.assertThat(topdown.upward(), Matchers.is(0));
+        MatcherAssert.assertThat(topdown.depths(), Matchers.is(optimized.depths()));
+        MatcherAssert.assertThat(bottomup.depths(), Matchers.is(optimized.depths()));
+        LevelsTest.assertTree(graph, optimized);
+        LevelsTest.assertTree(graph, bottomup);
+    }
+
+    /**
+     * Refuses a source out of the graph.
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    @Test
+    public void refusesUnknownSource() throws IOException, URISyntaxException {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Levels(LevelsTest.eleven(), new Vertex("unknown"));
+    }
+
+    /**
+     * Checks that every reached vertex but the source is one level below its parent,
+     * to which it is linked.
+     * @param graph Searched graph
+     * @param levels Search result
+     */
+    private static void assertTree(final Indexed graph, final Levels levels) {
+        final int[] depths = levels.depths();
+        final int[] parents = levels.parents();
+        for (int idx = 0; idx < graph.size(); ++idx) {
+            if (depths[idx] > 0) {
+                MatcherAssert.assertThat(depths[parents[idx]], Matchers.is(depths[idx] - 1));
+                MatcherAssert.assertThat(
+                    LevelsTest.linked(graph, parents[idx], idx), Matchers.is(true)
+                );
+            }
+        }
+    }
+
+    /**
+     * Checks if an edge links two vertices.
+     * @param graph Graph
+     * @param start Start vertex index
+     * @param end End vertex index
+     * @return True if an edge leads from the start vertex to the end vertex
+     */
+    private static boolean linked(final Indexed graph, final int start, final int end) {
+        boolean result = false;
+        for (int pos = graph.offset(start); pos < graph.offset(start + 1); ++pos) {
+            result = result || graph.target(pos) == end;
+        }
+        return result;
+    }
+
+    /**
+     * Builds a low diameter graph by preferential attachment: every new vertex is linked
+     * to vertices chosen with a probability proportional to their degree.
+     * @return Graph
+     */
+    private static Graph scalefree() {
+        final int size = 3000;
+        final int links = 3;
+        final Random random = new Random(size);
+        final Graph graph = new Undirected();
+        final int[] ends = new int[2 * links * size];
+        int count = 0;
+        graph.addEdge(LevelsTest.vertex(0), LevelsTest.vertex(1), 1.0);
+        ends[count] = 0;
+        ends[count + 1] = 1;
+        count += 2;
+        for (int idx = 2; idx < size; ++idx) {
+            for (int link = 0; link < links; ++link) {
+                final int target = ends[random.nextInt(count)];
+                graph.addEdge(LevelsTest.vertex(idx), LevelsTest.vertex(target), 1.0);
+                ends[count] = idx;
+                ends[count + 1] = target;
+                count += 2;
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Builds a vertex of the low diameter graph.
+     * @param idx Vertex number
+     * @return Vertex
+     */
+    private static Vertex vertex(final int idx) {
+        return new Vertex(String.valueOf(idx));
+    }
+
+    /**
+     * Reads the eight vertices, eleven edges directed graph.
+     * @return Graph
+     * @throws URISyntaxException If error
+     * @throws IOException If error
+     */
+    private static Graph eleven() throws IOException, URISyntaxException {
+        return new DirectedText(
+            Paths.get(ClassLoader.getSystemResource(LevelsTest.ELEVEN_EDGE_FILE).toURI())
+        );
+    }
+}
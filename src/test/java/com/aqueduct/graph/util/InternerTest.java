@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.util;
+
+import com.aqueduct.graph.Vertex;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link Interner}.
+ * @since 0.1
+ */
+public final class InternerTest {
+
+    /**
+     * Name having non ASCII characters.
+     */
+    private static final String ACCENTED = "sommet-\u00e9-\ud83d\ude00";
+
+    /**
+     * Name having leading zeros.
+     */
+    private static final String PADDED = "007";
+
+    /**
+     * Format of the generated names.
+     */
+    private static final String FORMAT = "v%d";
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Gives dense ids, the same for the same name.
+     */
+    @Test
+    public void givesDenseIds() {
+        final Interner names = new Interner();
+        MatcherAssert.assertThat(names.intern("a"), Matchers.is(0));
+        MatcherAssert.assertThat(names.intern("42"), Matchers.is(1));
+        MatcherAssert.assertThat(names.intern("b"), Matchers.is(2));
+        MatcherAssert.assertThat(names.intern("a"), Matchers.is(0));
+        MatcherAssert.assertThat(names.intern("42"), Matchers.is(1));
+        MatcherAssert.assertThat(names.size(), Matchers.is(2 + 1));
+    }
+
+    /**
+     * Gives canonical vertices.
+     */
+    @Test
+    public void givesCanonicalVertices() {
+        final Interner names = new Interner();
+        final Vertex vertex = names.vertex("17");
+        MatcherAssert.assertThat(vertex, Matchers.is(new Vertex("17")));
+        MatcherAssert.assertThat(names.vertex("17"), Matchers.sameInstance(vertex));
+        MatcherAssert.assertThat(
+            names.vertex(InternerTest.ACCENTED), Matchers.is(new Vertex(InternerTest.ACCENTED))
+        );
+    }
+
+    /**
+     * Does not confuse numeric names having leading zeros.
+     */
+    @Test
+    public void keepsLeadingZeros() {
+        final Interner names = new Interner();
+        final int first = names.intern("7");
+        final int second = names.intern(InternerTest.PADDED);
+        MatcherAssert.assertThat(first, Matchers.not(second));
+        MatcherAssert.assertThat(
+            names.vertex(second), Matchers.is(new Vertex(InternerTest.PADDED))
+        );
+        MatcherAssert.assertThat(names.vertex(names.intern("0")), Matchers.is(new Vertex("0")));
+        MatcherAssert.assertThat(names.vertex(names.intern("")), Matchers.is(new Vertex("")));
+    }
+
+    /**
+     * Gives the same ids for characters and UTF-8 bytes.
+     */
+    @Test
+    public void matchesCharactersAndBytes() {
+        final Interner names = new Interner();
+        final String line = String.format("12 %s 3", InternerTest.ACCENTED);
+        final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        final int numeric = names.intern(line, 0, 2);
+        final int named = names.intern(line, 2 + 1, line.length() - 2);
+        MatcherAssert.assertThat(names.intern(bytes, 0, 2), Matchers.is(numeric));
+        MatcherAssert.assertThat(
+            names.intern(bytes, 2 + 1, bytes.length - 2), Matchers.is(named)
+        );
+        MatcherAssert.assertThat(
+            names.vertex(named), Matchers.is(new Vertex(InternerTest.ACCENTED))
+        );
+    }
+
+    /**
+     * Interns many names.
+     */
+    @Test
+    public void internsManyNames() {
+        final Interner names = new Interner();
+        final int count = 100_000;
+        for (int idx = 0; idx < count; ++idx) {
+            names.intern(String.valueOf(idx));
+            names.intern(String.format(InternerTest.FORMAT, idx));
+        }
+        MatcherAssert.assertThat(names.size(), Matchers.is(count * 2));
+        for (int idx = 0; idx < count; ++idx) {
+            MatcherAssert.assertThat(names.intern(String.valueOf(idx)), Matchers.is(idx * 2));
+            MatcherAssert.assertThat(
+                names.vertex(names.intern(String.format(InternerTest.FORMAT, idx))),
+                Matchers.is(new Vertex(String.format(InternerTest.FORMAT, idx)))
+            );
+        }
+    }
+
+    /**
+     * Refuses unknown ids.
+     */
+    @Test
+    public void refusesUnknownIds() {
+        this.thrown.expect(IllegalArgumentException.class);
+        new Interner().vertex(0);
+    }
+}
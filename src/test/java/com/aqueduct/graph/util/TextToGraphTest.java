@@ -29,6 +29,7 @@ import com.aqueduct.graph.Graph;
 import com.aqueduct.graph.Vertex;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import org.hamcrest.MatcherAssert;
@@ -74,7 +75,10 @@ public final class TextToGraphTest {
             input.add(TextToGraphTest.edge(random, count));
         }
         populate.process(input);
-        MatcherAssert.assertThat(graph.edges().size(), Matchers.equalTo(count));
+        MatcherAssert.assertThat(
+            graph.edges().size(),
+            Matchers.equalTo(new HashSet<>(input.subList(1, input.size())).size())
+        );
         MatcherAssert.assertThat(graph.vertices().size(), Matchers.equalTo(count));
     }
 
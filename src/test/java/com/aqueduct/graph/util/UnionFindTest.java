@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.graph.util;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test for {@link UnionFind}.
+ * @since 0.1
+ */
+public final class UnionFindTest {
+
+    /**
+     * Merges sets and finds common representatives.
+     */
+    @Test
+    public void mergesSets() {
+        final int size = 6;
+        final int four = 4;
+        final int five = 5;
+        final UnionFind forest = new UnionFind(size);
+        MatcherAssert.assertThat(forest.union(0, 1), Matchers.is(true));
+        MatcherAssert.assertThat(forest.union(2, 1), Matchers.is(true));
+        MatcherAssert.assertThat(forest.union(four, five), Matchers.is(true));
+        MatcherAssert.assertThat(forest.union(0, 2), Matchers.is(false));
+        MatcherAssert.assertThat(forest.same(0, 2), Matchers.is(true));
+        MatcherAssert.assertThat(forest.same(0, four), Matchers.is(false));
+        MatcherAssert.assertThat(forest.find(2), Matchers.is(forest.find(0)));
+        MatcherAssert.assertThat(forest.size(1), Matchers.is(2 + 1));
+        MatcherAssert.assertThat(forest.count(), Matchers.is(2 + 1));
+    }
+
+    /**
+     * Starts with each element alone in its set.
+     */
+    @Test
+    public void startsWithSingletons() {
+        final int size = 3;
+        final UnionFind forest = new UnionFind(size);
+        MatcherAssert.assertThat(forest.count(), Matchers.is(size));
+        MatcherAssert.assertThat(forest.find(2), Matchers.is(2));
+        MatcherAssert.assertThat(forest.size(2), Matchers.is(1));
+    }
+
+    /**
+     * Merges a long chain of elements into a single set.
+     */
+    @Test
+    public void mergesChains() {
+        final int size = 10_000;
+        final UnionFind forest = new UnionFind(size);
+        for (int idx = 1; idx < size; ++idx) {
+            forest.union(idx - 1, idx);
+        }
+        MatcherAssert.assertThat(forest.count(), Matchers.is(1));
+        MatcherAssert.assertThat(forest.size(0), Matchers.is(size));
+        MatcherAssert.assertThat(forest.same(0, size - 1), Matchers.is(true));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021-2022, Hamdi Douss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom
+ * the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES
+ * OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE,
+ * ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.aqueduct.heap;
+
+import java.util.NoSuchElementException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for {@link IntHeap}.
+ * @since 0.1
+ */
+public final class IntHeapTest {
+
+    /**
+     * Junit rule for expected exceptions.
+     */
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Pops elements in order.
+     */
+    @Test
+    public void popsElementsInOrder() {
+        final IntHeap heap = IntHeapTest.heap();
+        final int size = 5;
+        MatcherAssert.assertThat(heap.size(), Matchers.is(size));
+        for (int elt = 0; elt < size; ++elt) {
+            MatcherAssert.assertThat(heap.pop(), Matchers.is(elt));
+        }
+        MatcherAssert.assertThat(heap.isEmpty(), Matchers.is(true));
+    }
+
+    /**
+     * Updates element position when its value decreases or increases.
+     */
+    @Test
+    public void updatesElementPosition() {
+        final IntHeap heap = IntHeapTest.heap();
+        final double high = 15;
+        final int last = 4;
+        heap.update(1, high);
+        heap.insert(last, -1);
+        MatcherAssert.assertThat(heap.value(1), Matchers.is(high));
+        MatcherAssert.assertThat(heap.pop(), Matchers.is(last));
+        MatcherAssert.assertThat(heap.pop(), Matchers.is(0));
+        MatcherAssert.assertThat(heap.pop(), Matchers.is(2));
+        MatcherAssert.assertThat(heap.peek(), Matchers.is(2 + 1));
+        heap.pop();
+        MatcherAssert.assertThat(heap.pop(), Matchers.is(1));
+    }
+
+    /**
+     * Tells which elements are in the heap.
+     */
+    @Test
+    public void tellsContainedElements() {
+        final IntHeap heap = IntHeapTest.heap();
+        MatcherAssert.assertThat(heap.contains(0), Matchers.is(true));
+        heap.pop();
+        MatcherAssert.assertThat(heap.contains(0), Matchers.is(false));
+        heap.clear();
+        MatcherAssert.assertThat(heap.contains(1), Matchers.is(false));
+        MatcherAssert.assertThat(heap.isEmpty(), Matchers.is(true));
+        heap.insert(1, 1);
+        MatcherAssert.assertThat(heap.pop(), Matchers.is(1));
+    }
+
+    /**
+     * Refuses to pop an empty heap.
+     */
+    @Test
+    public void refusesToPopEmptyHeap() {
+        this.thrown.expect(NoSuchElementException.class);
+        new IntHeap(1).pop();
+    }
+
+    /**
+     * Builds a heap holding elements from 0 to 4 with respective values from 1 to 5.
+     * The elements are inserted in disorder.
+     * @return Heap
+     */
+    private static IntHeap heap() {
+        final int[] elts = {0, 4, 1, 3, 2};
+        final IntHeap result = new IntHeap(elts.length);
+        for (final int elt : elts) {
+            result.insert(elt, elt + 1);
+        }
+        return result;
+    }
+}